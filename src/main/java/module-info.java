@@ -32,6 +32,9 @@ module org.joda.beans {
     // optional dependency on Joda-Collect
     requires static org.joda.collect;
 
+    // meta-bean indexes generated by the code generator
+    uses org.joda.beans.MetaBeanIndex;
+
     // export all packages
     exports org.joda.beans;
     exports org.joda.beans.gen;
@@ -43,6 +46,7 @@ module org.joda.beans {
     exports org.joda.beans.impl.reflection;
     exports org.joda.beans.ser;
     exports org.joda.beans.ser.bin;
+    exports org.joda.beans.ser.column;
     exports org.joda.beans.ser.json;
     exports org.joda.beans.ser.map;
     exports org.joda.beans.ser.xml;
@@ -15,6 +15,7 @@
  */
 package org.joda.beans;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
@@ -329,14 +330,29 @@ public final class JodaBeanUtils {
      * @return true if equal
      */
     public static boolean propertiesEqual(Bean bean1, Bean bean2) {
-        var names = bean1.propertyNames();
-        if (!names.equals(bean2.propertyNames())) {
+        if (bean1 instanceof DynamicBean || bean2 instanceof DynamicBean) {
+            var names = bean1.propertyNames();
+            if (!names.equals(bean2.propertyNames())) {
+                return false;
+            }
+            for (var name : names) {
+                var value1 = bean1.property(name).get();
+                var value2 = bean2.property(name).get();
+                if (!equal(value1, value2)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // access the meta-properties directly to avoid creating Property instances
+        var metaBean1 = bean1.metaBean();
+        var metaBean2 = bean2.metaBean();
+        if (metaBean1 != metaBean2 && !bean1.propertyNames().equals(bean2.propertyNames())) {
             return false;
         }
-        for (var name : names) {
-            var value1 = bean1.property(name).get();
-            var value2 = bean2.property(name).get();
-            if (!equal(value1, value2)) {
+        for (var metaProperty1 : metaBean1.metaPropertyIterable()) {
+            var metaProperty2 = metaBean1 == metaBean2 ? metaProperty1 : metaBean2.metaProperty(metaProperty1.name());
+            if (!equal(metaProperty1.get(bean1), metaProperty2.get(bean2))) {
                 return false;
             }
         }
@@ -355,10 +371,14 @@ public final class JodaBeanUtils {
      */
     public static int propertiesHashCode(Bean bean) {
         var hash = 7;
-        var names = bean.propertyNames();
-        for (var name : names) {
-            var value = bean.property(name).get();
-            hash += hashCode(value);
+        if (bean instanceof DynamicBean) {
+            for (var name : bean.propertyNames()) {
+                hash += hashCode(bean.property(name).get());
+            }
+            return hash;
+        }
+        for (var metaProperty : bean.metaBean().metaPropertyIterable()) {
+            hash += hashCode(metaProperty.get(bean));
         }
         return hash;
     }
@@ -377,14 +397,21 @@ public final class JodaBeanUtils {
         if (prefix == null) {
             return propertiesToString(bean, "");
         }
-        var names = bean.propertyNames();
-        var buf = new StringBuilder((names.size()) * 32 + prefix.length()).append(prefix);
+        var buf = new StringBuilder(bean.propertyNames().size() * 32 + prefix.length()).append(prefix);
         buf.append('{');
-        if (!names.isEmpty()) {
-            for (var name : names) {
+        if (bean instanceof DynamicBean) {
+            for (var name : bean.propertyNames()) {
                 var value = bean.property(name).get();
                 buf.append(name).append('=').append(value).append(',').append(' ');
             }
+        } else {
+            // access the meta-properties directly to avoid creating Property instances
+            for (var metaProperty : bean.metaBean().metaPropertyIterable()) {
+                var value = metaProperty.get(bean);
+                buf.append(metaProperty.name()).append('=').append(value).append(',').append(' ');
+            }
+        }
+        if (buf.charAt(buf.length() - 1) == ' ') {
             buf.setLength(buf.length() - 2);
         }
         buf.append('}');
@@ -798,6 +825,19 @@ public final class JodaBeanUtils {
         }
     };
 
+    // cache the annotations by Class
+    private static final ClassValue<List<Annotation>> CLASS_ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected List<Annotation> computeValue(Class<?> type) {
+            return List.of(type.getAnnotations());
+        }
+    };
+
+    // gets the annotations of a class, cached
+    static List<Annotation> classAnnotations(Class<?> type) {
+        return CLASS_ANNOTATIONS.get(type);
+    }
+
     // resolve generic type variables
     // if a subclass is defined as 'extends Foo<String>' and the superclass is 'Foo<T>'
     // then we know that 'T = String' in the context of the subclass
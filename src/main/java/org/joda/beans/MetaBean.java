@@ -16,6 +16,7 @@
 package org.joda.beans;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -45,6 +46,49 @@ public interface MetaBean {
         return MetaBeans.lookup(cls);
     }
 
+    /**
+     * Finds a meta-bean by class name using the registered indexes.
+     * <p>
+     * This finds the meta-bean from a {@link MetaBeanIndex}, without loading the class reflectively.
+     * Indexes are located using {@link java.util.ServiceLoader} or registered using {@link #registerIndex(MetaBeanIndex)}.
+     * 
+     * @param className  the class name, as returned by {@link Class#getName()}, not null
+     * @return the meta-bean, empty if the class name is not indexed
+     * @since 3.0.0
+     */
+    public static Optional<MetaBean> findIndexed(String className) {
+        JodaBeanUtils.notNull(className, "className");
+        return Optional.ofNullable(MetaBeans.findIndexed(className));
+    }
+
+    /**
+     * Registers an index of meta-beans.
+     * <p>
+     * Indexes are normally located using {@link java.util.ServiceLoader}.
+     * This method allows an index to be registered manually.
+     * 
+     * @param index  the index, not null
+     * @since 3.0.0
+     */
+    public static void registerIndex(MetaBeanIndex index) {
+        MetaBeans.registerIndex(index);
+    }
+
+    /**
+     * Preloads the meta-beans for a collection of classes.
+     * <p>
+     * This is intended to be called at application startup to avoid the cost of finding
+     * meta-beans on first use. The classes are initialized, and their meta-beans obtained, in parallel.
+     * As such, the static initializers of the classes must not depend on one another in a cycle.
+     * 
+     * @param classes  the classes to preload, not null
+     * @throws IllegalArgumentException if unable to obtain a meta-bean
+     * @since 3.0.0
+     */
+    public static void preload(Collection<? extends Class<?>> classes) {
+        MetaBeans.preload(classes);
+    }
+
     /**
      * Registers a meta-bean.
      * <p>
@@ -156,6 +200,36 @@ public interface MetaBean {
         return (MetaProperty<R>) mp;
     }
 
+    /**
+     * Gets a meta-property by index.
+     * <p>
+     * Each meta-bean manages a single bean with a known set of properties.
+     * The index of a property is its position in {@link #metaPropertyIterable()}, from zero.
+     * Where the property is known in advance, looking it up by index avoids the cost of a name lookup.
+     * <p>
+     * The default implementation iterates over the meta-properties.
+     * Most implementations override this to provide a constant time lookup.
+     * 
+     * @param <R>  the property type, optional, enabling auto-casting
+     * @param index  the index of the property, from zero
+     * @return the meta property, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @since 3.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public default <R> MetaProperty<R> metaProperty(int index) {
+        if (index >= 0) {
+            var i = 0;
+            for (var mp : metaPropertyIterable()) {
+                if (i == index) {
+                    return (MetaProperty<R>) mp;
+                }
+                i++;
+            }
+        }
+        throw new IndexOutOfBoundsException("Invalid property index: " + index);
+    }
+
     /**
      * Gets an iterator of meta-properties.
      * <p>
@@ -178,6 +252,87 @@ public interface MetaBean {
      */
     public abstract Map<String, MetaProperty<?>> metaPropertyMap();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the values of all the properties of the specified bean.
+     * <p>
+     * The values are copied into the array in index order, as defined by {@link #metaProperty(int)}.
+     * This allows a single array to be reused when extracting the values of many beans.
+     * Implementations may be able to optimise this, avoiding a call to each meta-property.
+     * 
+     * @param bean  the bean to query, not null
+     * @param values  the array to populate, with a length of at least {@link #metaPropertyCount()}, not null
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @throws UnsupportedOperationException if a property is write-only
+     * @since 3.0.0
+     */
+    public default void getPropertyValues(Bean bean, Object[] values) {
+        var index = 0;
+        for (var metaProperty : metaPropertyIterable()) {
+            values[index++] = metaProperty.get(bean);
+        }
+    }
+
+    /**
+     * Gets the values of the selected properties of the specified bean.
+     * <p>
+     * The value of the property at {@code propertyIndices[i]} is copied into {@code values[i]}.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndices  the indices of the properties to query, as defined by {@link #metaProperty(int)}, not null
+     * @param values  the array to populate, with a length of at least that of the indices, not null
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws IndexOutOfBoundsException if a property index is invalid or the array is too small
+     * @throws UnsupportedOperationException if a property is write-only
+     * @since 3.0.0
+     */
+    public default void getPropertyValues(Bean bean, int[] propertyIndices, Object[] values) {
+        for (var i = 0; i < propertyIndices.length; i++) {
+            values[i] = metaProperty(propertyIndices[i]).get(bean);
+        }
+    }
+
+    /**
+     * Gets the values of the selected {@code double} properties of the specified bean.
+     * <p>
+     * The value of the property at {@code propertyIndices[i]} is copied into {@code values[i]}.
+     * Each value is obtained using {@link MetaProperty#getDouble(Bean)}, avoiding boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndices  the indices of the properties to query, as defined by {@link #metaProperty(int)}, not null
+     * @param values  the array to populate, with a length of at least that of the indices, not null
+     * @throws ClassCastException if the bean is of an incorrect type, or a property is not of type {@code double}
+     * @throws IndexOutOfBoundsException if a property index is invalid or the array is too small
+     * @throws UnsupportedOperationException if a property is write-only
+     * @since 3.0.0
+     */
+    public default void getPropertyValues(Bean bean, int[] propertyIndices, double[] values) {
+        for (var i = 0; i < propertyIndices.length; i++) {
+            values[i] = metaProperty(propertyIndices[i]).getDouble(bean);
+        }
+    }
+
+    /**
+     * Gets the values of the selected {@code long} properties of the specified bean.
+     * <p>
+     * The value of the property at {@code propertyIndices[i]} is copied into {@code values[i]}.
+     * Each value is obtained using {@link MetaProperty#getLong(Bean)}, avoiding boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndices  the indices of the properties to query, as defined by {@link #metaProperty(int)}, not null
+     * @param values  the array to populate, with a length of at least that of the indices, not null
+     * @throws ClassCastException if the bean is of an incorrect type, or a property is not of type {@code long}
+     * @throws IndexOutOfBoundsException if a property index is invalid or the array is too small
+     * @throws UnsupportedOperationException if a property is write-only
+     * @since 3.0.0
+     */
+    public default void getPropertyValues(Bean bean, int[] propertyIndices, long[] values) {
+        for (var i = 0; i < propertyIndices.length; i++) {
+            values[i] = metaProperty(propertyIndices[i]).getLong(bean);
+        }
+    }
+
     /**
      * Gets the annotations associated with this bean.
      * <p>
@@ -189,12 +344,12 @@ public interface MetaBean {
      * this method must stream over those annotations in existence when this method
      * is called to avoid concurrency issues.
      * <p>
-     * The default implementation uses the annotations from {@link #beanType()}.
+     * The default implementation uses the annotations from {@link #beanType()}, which are cached.
      * 
      * @return the annotations, unmodifiable, not null
      */
     public default List<Annotation> annotations() {
-        return List.of(beanType().getAnnotations());
+        return JodaBeanUtils.classAnnotations(beanType());
     }
 
     /**
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+/**
+ * An index of {@link MetaBean} instances by bean class name.
+ * <p>
+ * An index allows a meta-bean to be found from the name of the bean class
+ * without loading the class reflectively.
+ * The index is typically generated by {@code BeanCodeGen} using the {@code -index} option.
+ * <p>
+ * Implementations are located using {@link java.util.ServiceLoader}, or can be registered
+ * using {@link MetaBean#registerIndex(MetaBeanIndex)}.
+ * Implementations must be thread-safe.
+ *
+ * @since 3.0.0
+ */
+public interface MetaBeanIndex {
+
+    /**
+     * Returns the meta bean for the class name or null if the class is not in the index.
+     * <p>
+     * The class name is the binary name, as returned by {@link Class#getName()}.
+     *
+     * @param className  the class name for which the meta bean is required, not null
+     * @return the meta bean for the class or null if the class is not in the index
+     */
+    public abstract MetaBean findMetaBean(String className);
+
+}
@@ -17,9 +17,12 @@ package org.joda.beans;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.joda.beans.impl.RecordBean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -37,10 +40,27 @@ final class MetaBeans {
     // not a ClassValue, as entries are registered manually
 
     /**
-     * The cache of meta-bean providers; access is guarded by a lock on {@code MetaBeans.class}.
+     * The cache of meta-bean providers, keyed by provider class.
      */
-    private static final Map<Class<?>, MetaBeanProvider> META_BEAN_PROVIDERS = new HashMap<>();
-    // not a ClassValue, as it is not on the fast path
+    private static final ClassValue<MetaBeanProvider> META_BEAN_PROVIDERS = new ClassValue<>() {
+        @Override
+        protected MetaBeanProvider computeValue(Class<?> providerClass) {
+            try {
+                return (MetaBeanProvider) providerClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Unable to create instance of " + providerClass.getName(), ex);
+            }
+        }
+    };
+    // a ClassValue may create a provider more than once when racing, but only one instance is retained
+
+    /**
+     * The meta-bean indexes, loaded on first use.
+     */
+    private static final class Indexes {
+        private static final List<MetaBeanIndex> INDEXES = new CopyOnWriteArrayList<>(
+                ServiceLoader.load(MetaBeanIndex.class).stream().map(ServiceLoader.Provider::get).toList());
+    }
 
     /**
      * Restricted constructor.
@@ -84,6 +104,11 @@ final class MetaBeans {
                 throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
             }
         }
+        // an indexed meta-bean is obtained directly, which also initializes the class
+        var indexed = findIndexed(cls.getName());
+        if (indexed != null && indexed.beanType() == cls) {
+            return indexed;
+        }
         // a Class can be loaded without being initialized
         // in this state, the static initializers have not run, and thus the metabean not registered
         // here initialization is forced to handle that scenario
@@ -97,39 +122,37 @@ final class MetaBeans {
         if (meta != null) {
             return meta;
         }
-        // Synchronization is necessary to prevent a race condition where the same meta-bean is registered twice
-        synchronized (MetaBeans.class) {
-            // Re-check in case the meta-bean has been added by another thread since we checked above
-            meta = META_BEANS.get(cls);
-            if (meta != null) {
-                return meta;
-            }
-            // handle records
-            if (cls.isRecord() && ImmutableBean.class.isAssignableFrom(cls)) {
+        // no lock is held here, so two threads may race to create the meta-bean
+        // registration uses putIfAbsent, so the first meta-bean to be registered wins
+        // handle records
+        if (cls.isRecord() && ImmutableBean.class.isAssignableFrom(cls)) {
+            try {
                 @SuppressWarnings({"rawtypes", "unchecked"})
                 var metaBean = RecordBean.register((Class) cls, MethodHandles.lookup());
                 return metaBean;
-            }
-            // handle provider annotations
-            var providerAnnotation = findProviderAnnotation(cls);
-            if (providerAnnotation != null) {
-                var providerClass = providerAnnotation.value();
-                try {
-                    var provider = META_BEAN_PROVIDERS.get(providerClass);
-                    if (provider == null) {
-                        provider = providerClass.getDeclaredConstructor().newInstance();
-                        META_BEAN_PROVIDERS.put(providerClass, provider);
-                    }
-                    meta = provider.findMetaBean(cls);
-                    if (meta == null) {
-                        throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
-                    }
-                    register(meta);
+            } catch (IllegalArgumentException ex) {
+                // another thread registered the record first
+                meta = META_BEANS.get(cls);
+                if (meta != null) {
                     return meta;
-                } catch (Exception e) {
-                    throw new IllegalStateException("Unable to create instance of " + providerClass.getName() +
-                        " to provide meta bean for " + cls.getName(), e);
                 }
+                throw ex;
+            }
+        }
+        // handle provider annotations
+        var providerAnnotation = findProviderAnnotation(cls);
+        if (providerAnnotation != null) {
+            var providerClass = providerAnnotation.value();
+            try {
+                var provider = META_BEAN_PROVIDERS.get(providerClass);
+                meta = provider.findMetaBean(cls);
+                if (meta == null) {
+                    throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
+                }
+                return registerIfAbsent(meta);
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to create instance of " + providerClass.getName() +
+                    " to provide meta bean for " + cls.getName(), e);
             }
         }
         throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
@@ -172,4 +195,60 @@ final class MetaBeans {
         }
     }
 
+    // registers the meta-bean unless one is already registered, returning the registered meta-bean
+    private static MetaBean registerIfAbsent(MetaBean metaBean) {
+        var existing = META_BEANS.putIfAbsent(metaBean.beanType(), metaBean);
+        return existing != null ? existing : metaBean;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Registers a meta-bean index.
+     * 
+     * @param index  the index, not null
+     */
+    static void registerIndex(MetaBeanIndex index) {
+        Objects.requireNonNull(index, "index must not be null");
+        Indexes.INDEXES.add(index);
+    }
+
+    /**
+     * Removes a registered meta-bean index.
+     * 
+     * @param index  the index, not null
+     */
+    static void removeIndex(MetaBeanIndex index) {
+        Objects.requireNonNull(index, "index must not be null");
+        Indexes.INDEXES.remove(index);
+    }
+
+    /**
+     * Finds a meta-bean by class name using the indexes.
+     * 
+     * @param className  the class name, not null
+     * @return the meta-bean, null if not indexed
+     */
+    static MetaBean findIndexed(String className) {
+        for (var index : Indexes.INDEXES) {
+            var metaBean = index.findMetaBean(className);
+            if (metaBean != null) {
+                return metaBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Preloads the meta-beans for a collection of classes.
+     * <p>
+     * The classes are initialized and their meta-beans obtained in parallel.
+     * 
+     * @param classes  the classes to preload, not null
+     * @throws IllegalArgumentException if unable to obtain a meta-bean
+     */
+    static void preload(Collection<? extends Class<?>> classes) {
+        Objects.requireNonNull(classes, "classes must not be null");
+        classes.parallelStream().forEach(MetaBeans::lookup);
+    }
+
 }
@@ -55,6 +55,31 @@ public interface MetaProperty<P> {
      */
     public abstract MetaBean metaBean();
 
+    /**
+     * Gets the index of the property within the meta-bean.
+     * <p>
+     * The index is the position of this property in {@link MetaBean#metaPropertyIterable()}, from zero,
+     * such that {@code metaBean().metaProperty(index())} returns this property.
+     * A meta-property that is not part of the fixed set of properties of its meta-bean,
+     * such as one created on demand by a dynamic bean, returns -1.
+     * <p>
+     * The default implementation searches the meta-properties of the meta-bean.
+     * Most implementations override this to return a stored value.
+     * 
+     * @return the index of the property, -1 if not known
+     * @since 3.0.0
+     */
+    public default int index() {
+        var i = 0;
+        for (var mp : metaBean().metaPropertyIterable()) {
+            if (mp.equals(this)) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
     /**
      * Gets the property name.
      * <p>
@@ -225,6 +250,151 @@ public interface MetaProperty<P> {
         return old;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of the property for the specified bean as a {@code double}.
+     * <p>
+     * This is intended for properties of type {@code double}, avoiding the need to box the value.
+     * The default implementation unboxes the result of {@link #get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code double}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     * @since 3.0.0
+     */
+    public default double getDouble(Bean bean) {
+        return (Double) get(bean);
+    }
+
+    /**
+     * Gets the value of the property for the specified bean as a {@code long}.
+     * <p>
+     * This is intended for properties of type {@code long}, avoiding the need to box the value.
+     * The default implementation unboxes the result of {@link #get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code long}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     * @since 3.0.0
+     */
+    public default long getLong(Bean bean) {
+        return (Long) get(bean);
+    }
+
+    /**
+     * Gets the value of the property for the specified bean as an {@code int}.
+     * <p>
+     * This is intended for properties of type {@code int}, avoiding the need to box the value.
+     * The default implementation unboxes the result of {@link #get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code int}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     * @since 3.0.0
+     */
+    public default int getInt(Bean bean) {
+        return (Integer) get(bean);
+    }
+
+    /**
+     * Gets the value of the property for the specified bean as a {@code boolean}.
+     * <p>
+     * This is intended for properties of type {@code boolean}, avoiding the need to box the value.
+     * The default implementation unboxes the result of {@link #get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     * @since 3.0.0
+     */
+    public default boolean getBoolean(Bean bean) {
+        return (Boolean) get(bean);
+    }
+
+    /**
+     * Sets the value of the property on the specified bean from a {@code double}.
+     * <p>
+     * This is intended for properties of type {@code double}, avoiding the need to box the value.
+     * The default implementation boxes the value and calls {@link #set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code double}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     * @since 3.0.0
+     */
+    public default void setDouble(Bean bean, double value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of the property on the specified bean from a {@code long}.
+     * <p>
+     * This is intended for properties of type {@code long}, avoiding the need to box the value.
+     * The default implementation boxes the value and calls {@link #set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code long}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     * @since 3.0.0
+     */
+    public default void setLong(Bean bean, long value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of the property on the specified bean from an {@code int}.
+     * <p>
+     * This is intended for properties of type {@code int}, avoiding the need to box the value.
+     * The default implementation boxes the value and calls {@link #set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code int}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     * @since 3.0.0
+     */
+    public default void setInt(Bean bean, int value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of the property on the specified bean from a {@code boolean}.
+     * <p>
+     * This is intended for properties of type {@code boolean}, avoiding the need to box the value.
+     * The default implementation boxes the value and calls {@link #set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     * @since 3.0.0
+     */
+    public default void setBoolean(Bean bean, boolean value) {
+        set(bean, value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the value of the property for the specified bean converted to a string.
@@ -25,6 +25,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 
 import org.joda.beans.JodaBeanUtils;
@@ -37,6 +39,14 @@ import org.joda.beans.JodaBeanUtils;
 public class BeanCodeGen {
 
     private static final Pattern PATTERN_OVERRIDE = Pattern.compile(" *[@]Override");
+    /**
+     * The pattern to match the index class name.
+     */
+    private static final Pattern INDEX_CLASS_NAME = Pattern.compile("([a-z][a-z0-9_]*[.])+[A-Z][A-Za-z0-9_]*");
+    /**
+     * The pattern to find the package.
+     */
+    private static final Pattern PATTERN_PACKAGE = Pattern.compile("package +([A-Za-z0-9_.]+) *;.*");
 
     /**
      * Main method.
@@ -65,6 +75,7 @@ public class BeanCodeGen {
             System.out.println("    -style=[s]        default bean style: 'light'/'minimal'/'full', default smart");
             System.out.println("    -verbose=[v]      output logging with verbosity from 0 to 3, default 1");
             System.out.println("    -nowrite          output messages rather than writing, default is to write");
+            System.out.println("    -index=[c]        generate a meta-bean index class with fully qualified name c");
             System.exit(0);
             throw new InternalError("Unreachable");
         }
@@ -101,6 +112,7 @@ public class BeanCodeGen {
         var verbosity = 1;
         var write = true;
         var config = (BeanGenConfig) null;
+        var indexClassName = (String) null;
         if (args.length == 0) {
             throw new IllegalArgumentException("No arguments specified");
         }
@@ -144,6 +156,14 @@ public class BeanCodeGen {
                 verbosity = Integer.parseInt(arg.substring(9));
             } else if (arg.equals("-nowrite")) {
                 write = false;
+            } else if (arg.startsWith("-index=")) {
+                if (indexClassName != null) {
+                    throw new IllegalArgumentException("Argument 'index' must not be specified twice: " + Arrays.toString(args));
+                }
+                indexClassName = arg.substring(7);
+                if (!INDEX_CLASS_NAME.matcher(indexClassName).matches()) {
+                    throw new IllegalArgumentException("Value of 'index' must be a fully qualified class name: " + indexClassName);
+                }
             } else {
                 throw new IllegalArgumentException("Unknown argument: " + arg);
             }
@@ -161,6 +181,7 @@ public class BeanCodeGen {
             config.setDefaultStyle(defaultStyle);
         }
         config.setGeneratedAnno(generatedAnno);
+        config.setIndexClassName(indexClassName);
         return new BeanCodeGen(files, config, verbosity, write);
     }
 
@@ -191,6 +212,8 @@ public class BeanCodeGen {
     private final int verbosity;
     /** Whether to write or not. */
     private final boolean write;
+    /** The beans to index, keyed by class name, with the file defining the bean. */
+    private final Map<String, File> indexedBeans = new TreeMap<>();
 
     /**
      * Creates the generator for a single bean.
@@ -228,6 +251,7 @@ public class BeanCodeGen {
         for (var file : files) {
             changed += (processFile(file) != null ? 1 : 0);
         }
+        changed += (processIndex() != null ? 1 : 0);
         return changed;
     }
 
@@ -247,6 +271,10 @@ public class BeanCodeGen {
                 changed.add(processedFile);
             }
         }
+        var indexFile = processIndex();
+        if (indexFile != null) {
+            changed.add(indexFile);
+        }
         return changed;
     }
 
@@ -266,6 +294,7 @@ public class BeanCodeGen {
                 System.out.print(file + "  [processing]");
             }
             gen.process();
+            addToIndex(file, content, gen.getData());
             if (contentDiffers(content, original)) {
                 return writeFileWithLogging(file, content);
             } else if (verbosity >= 2) {
@@ -282,6 +311,91 @@ public class BeanCodeGen {
         return null;
     }
 
+    // adds the bean to the index if it is public and top-level
+    private void addToIndex(File file, List<String> content, BeanData data) {
+        if (config.getIndexClassName() == null ||
+                !"public".equals(data.getTypeScope()) ||
+                !file.getName().equals(data.getTypeRaw() + ".java")) {
+            return;
+        }
+        var packageName = "";
+        for (var line : content) {
+            var matcher = PATTERN_PACKAGE.matcher(line);
+            if (matcher.matches()) {
+                packageName = matcher.group(1) + ".";
+                break;
+            }
+        }
+        indexedBeans.put(packageName + data.getTypeRaw(), file);
+    }
+
+    /**
+     * Generates the meta-bean index, if requested.
+     * <p>
+     * The index class is written relative to the source root of the first indexed bean.
+     * 
+     * @return not-null if changed
+     * @throws IOException if an error occurs
+     */
+    private File processIndex() throws IOException {
+        var indexClassName = config.getIndexClassName();
+        if (indexClassName == null || indexedBeans.isEmpty()) {
+            return null;
+        }
+        // find the source root
+        var first = indexedBeans.entrySet().iterator().next();
+        var root = first.getValue().getAbsoluteFile().getParentFile();
+        for (var i = 0; i < first.getKey().length(); i++) {
+            if (first.getKey().charAt(i) == '.') {
+                root = root.getParentFile();
+            }
+        }
+        var lastDot = indexClassName.lastIndexOf('.');
+        var packageName = indexClassName.substring(0, lastDot);
+        var simpleName = indexClassName.substring(lastDot + 1);
+        var file = new File(new File(root, packageName.replace('.', File.separatorChar)), simpleName + ".java");
+        // generate
+        var indent = config.getIndent();
+        var content = new ArrayList<String>();
+        content.add("/*");
+        content.add(" * Autogenerated by Joda-Beans, do not edit.");
+        content.add(" */");
+        content.add("package " + packageName + ";");
+        content.add("");
+        content.add("import org.joda.beans.MetaBean;");
+        content.add("import org.joda.beans.MetaBeanIndex;");
+        content.add("");
+        content.add("/**");
+        content.add(" * The index of meta-beans, generated by Joda-Beans.");
+        content.add(" * <p>");
+        content.add(" * To use the index, register this class as a {@code MetaBeanIndex} service.");
+        content.add(" */");
+        content.add("public final class " + simpleName + " implements MetaBeanIndex {");
+        content.add("");
+        content.add(indent + "@Override");
+        content.add(indent + "public MetaBean findMetaBean(String className) {");
+        content.add(indent + indent + "return switch (className) {");
+        for (var beanClassName : indexedBeans.keySet()) {
+            content.add(indent + indent + indent + "case \"" + beanClassName + "\" -> " + beanClassName + ".meta();");
+        }
+        content.add(indent + indent + indent + "default -> null;");
+        content.add(indent + indent + "};");
+        content.add(indent + "}");
+        content.add("");
+        content.add("}");
+        var original = file.exists() ? Files.readAllLines(file.toPath()) : List.<String>of();
+        if (contentDiffers(content, original)) {
+            if (verbosity >= 2) {
+                System.out.print(file + "  [index]");
+            }
+            if (write) {
+                Files.createDirectories(file.getParentFile().toPath());
+            }
+            return writeFileWithLogging(file, content);
+        }
+        return null;
+    }
+
     // parses the file
     private BeanGen parse(File file, ArrayList<String> content) {
         try {
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -1014,6 +1015,11 @@ class BeanGen {
         generateMetaPropertyMethods();
         generateIndentedSeparator();
         generateMetaGetPropertyValue();
+        generateMetaGetPrimitivePropertyValue("double");
+        generateMetaGetPrimitivePropertyValue("long");
+        generateMetaGetPrimitivePropertyValue("int");
+        generateMetaGetPrimitivePropertyValue("boolean");
+        generateMetaGetAllPropertyValues();
         generateMetaSetPropertyValue();
         generateMetaValidate();
         addLine(1, "}");
@@ -1021,8 +1027,10 @@ class BeanGen {
     }
 
     private void generateMetaPropertyConstants() {
-        for (var prop : properties) {
-            addLines(prop.generateMetaPropertyConstant());
+        // the index includes the properties of any superclass, which are first in the meta-property map
+        for (var i = 0; i < properties.size(); i++) {
+            var index = data.isSubClass() ? "super.metaPropertyMap().size()" + (i > 0 ? " + " + i : "") : Integer.toString(i);
+            addLines(properties.get(i).generateMetaPropertyConstant(index));
         }
     }
 
@@ -1148,6 +1156,51 @@ class BeanGen {
         addBlankLine();
     }
 
+    // generates a method to get the value of primitive properties without boxing
+    private void generateMetaGetPrimitivePropertyValue(String primitiveType) {
+        var matched = new ArrayList<PropertyGen>();
+        for (var prop : properties) {
+            if (prop.getData().getType().equals(primitiveType) && prop.getData().getStyle().isReadable()) {
+                matched.add(prop);
+            }
+        }
+        if (matched.isEmpty()) {
+            return;
+        }
+        var methodName = "propertyGet" + primitiveType.substring(0, 1).toUpperCase(Locale.ENGLISH) + primitiveType.substring(1);
+        addLine(2, "@Override");
+        addLine(2, "protected " + primitiveType + " " + methodName + "(Bean bean, String propertyName) {");
+        addLine(3, "switch (propertyName.hashCode()) {");
+        for (var prop : matched) {
+            addLines(prop.generatePropertyGetCase());
+        }
+        addLine(3, "}");
+        addLine(3, "return super." + methodName + "(bean, propertyName);");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
+    // generates a method to get the values of all properties in one call
+    private void generateMetaGetAllPropertyValues() {
+        if (properties.isEmpty()) {
+            return;
+        }
+        for (var prop : properties) {
+            if (!prop.getData().getStyle().isReadable()) {
+                return;
+            }
+        }
+        addLine(2, "@Override");
+        addLine(2, "protected int propertyGetAll(Bean bean, Object[] values) {");
+        addLine(3, "int index = super.propertyGetAll(bean, values);");
+        for (var prop : properties) {
+            addLine(3, "values[index++] = " + prop.generatePropertyGetValue() + ";");
+        }
+        addLine(3, "return index;");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
     private void generateMetaSetPropertyValue() {
         if (properties.isEmpty()) {
             return;
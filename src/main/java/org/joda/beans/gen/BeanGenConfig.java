@@ -75,6 +75,10 @@ public final class BeanGenConfig {
      * Whether to add the generated annotation.
      */
     private boolean generatedAnno;
+    /**
+     * The fully qualified name of the meta-bean index class to generate, null if none.
+     */
+    private String indexClassName;
 
     /**
      * Parses the configuration file.
@@ -381,4 +385,24 @@ public final class BeanGenConfig {
         this.generatedAnno = generatedAnno;
     }
 
+    /**
+     * Gets the fully qualified name of the meta-bean index class to generate.
+     * 
+     * @return the index class name, null if no index is to be generated
+     * @since 3.0.0
+     */
+    public String getIndexClassName() {
+        return indexClassName;
+    }
+
+    /**
+     * Sets the fully qualified name of the meta-bean index class to generate.
+     * 
+     * @param indexClassName  the index class name, null if no index is to be generated
+     * @since 3.0.0
+     */
+    public void setIndexClassName(String indexClassName) {
+        this.indexClassName = indexClassName;
+    }
+
 }
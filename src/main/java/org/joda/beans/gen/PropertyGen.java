@@ -45,7 +45,7 @@ class PropertyGen {
     }
 
     //-----------------------------------------------------------------------
-    List<String> generateMetaPropertyConstant() {
+    List<String> generateMetaPropertyConstant(String index) {
         data.getBean().ensureImport(MetaProperty.class);
         data.getBean().ensureImport(DirectMetaProperty.class);
         var list = new ArrayList<String>();
@@ -57,7 +57,7 @@ class PropertyGen {
             list.add("\t\tprivate final MetaProperty<" + propertyType() + "> " + data.getMetaFieldName() +
                 " = (DirectMetaProperty) DirectMetaProperty.of" + readWrite() + "(");
             list.add("\t\t\t\tthis, \"" + data.getPropertyName() + "\", " +
-                data.getBean().getTypeRaw() + ".class, " + actualType() + ");");
+                data.getBean().getTypeRaw() + ".class, " + actualType() + ", " + index + ");");
         } else {
             var propertyType = propertyType();
             if (propertyType.length() == 1) {
@@ -69,7 +69,7 @@ class PropertyGen {
             list.add("\t\tprivate final MetaProperty<" + propertyType + "> " + data.getMetaFieldName() +
                 " = DirectMetaProperty.of" + readWrite() + "(");
             list.add("\t\t\t\tthis, \"" + data.getPropertyName() + "\", " +
-                data.getBean().getTypeRaw() + ".class, " + actualType() + ");");
+                data.getBean().getTypeRaw() + ".class, " + actualType() + ", " + index + ");");
         }
         return list;
     }
@@ -142,7 +142,7 @@ class PropertyGen {
             list.add("\t\t\t\tcase " + data.getAlias().hashCode() + ":  // " + data.getAlias() + " (alias)");
         }
         if (data.getStyle().isReadable()) {
-            list.add("\t\t\t\t\treturn ((" + data.getBean().getTypeWildcard() + ") bean)." + data.getGetterGen().generateGetInvoke(data) + ";");
+            list.add("\t\t\t\t\treturn " + generatePropertyGetValue() + ";");
         } else {
             list.add("\t\t\t\t\tif (quiet) {");
             list.add("\t\t\t\t\t\treturn null;");
@@ -152,6 +152,10 @@ class PropertyGen {
         return list;
     }
 
+    String generatePropertyGetValue() {
+        return "((" + data.getBean().getTypeWildcard() + ") bean)." + data.getGetterGen().generateGetInvoke(data);
+    }
+
     List<String> generatePropertySetCase() {
         var list = new ArrayList<String>();
         list.add("\t\t\t\tcase " + data.getPropertyName().hashCode() + ":  // " + data.getPropertyName());
@@ -0,0 +1,241 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.joda.beans.MetaProperty;
+
+/**
+ * An immutable lookup table of meta-properties by name, including aliases.
+ * <p>
+ * This is used by meta-bean implementations to find a meta-property by name quickly.
+ * The table uses open addressing, with the hash function chosen when the table is created
+ * to avoid collisions where possible. As such, a typical lookup is a single probe,
+ * using the cached hash code of the name and an identity check where the name is a constant.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @since 3.0.0
+ */
+public final class MetaPropertyTable {
+
+    /** The number of hash multipliers to try at each table size. */
+    private static final int SEED_ATTEMPTS = 32;
+    /** The initial hash multiplier. */
+    private static final int INITIAL_SEED = 0x9E3779B9;
+
+    /** The names, null if the slot is empty. */
+    private final String[] names;
+    /** The hash codes of the names. */
+    private final int[] hashes;
+    /** The meta-properties. */
+    private final MetaProperty<?>[] metaProperties;
+    /** Whether the name is an alias. */
+    private final boolean[] aliases;
+    /** The hash multiplier. */
+    private final int seed;
+    /** The shift applied to the hash. */
+    private final int shift;
+    /** The map of alias to real name, retained to allow the table to be extended. */
+    private final Map<String, String> aliasMap;
+    /** The meta-properties, keyed by real name. */
+    private final Map<String, MetaProperty<?>> metaPropertyMap;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance from a map of meta-properties.
+     * 
+     * @param metaPropertyMap  the meta-properties keyed by name, not null
+     * @return the table, not null
+     */
+    public static MetaPropertyTable of(Map<String, MetaProperty<?>> metaPropertyMap) {
+        return new MetaPropertyTable(metaPropertyMap, Map.of());
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param metaPropertyMap  the meta-properties keyed by name, not null
+     * @param aliasMap  the map of alias to real name, not null
+     */
+    private MetaPropertyTable(Map<String, MetaProperty<?>> metaPropertyMap, Map<String, String> aliasMap) {
+        Objects.requireNonNull(metaPropertyMap, "metaPropertyMap must not be null");
+        this.metaPropertyMap = metaPropertyMap;
+        this.aliasMap = aliasMap;
+        // an alias that is the same as a property name shares the slot of the property
+        var size = metaPropertyMap.size();
+        for (var alias : aliasMap.keySet()) {
+            if (!metaPropertyMap.containsKey(alias)) {
+                size++;
+            }
+        }
+        var keys = new String[size];
+        var keyHashes = new int[size];
+        var i = 0;
+        for (var name : metaPropertyMap.keySet()) {
+            keys[i] = name;
+            keyHashes[i++] = name.hashCode();
+        }
+        for (var alias : aliasMap.keySet()) {
+            if (!metaPropertyMap.containsKey(alias)) {
+                keys[i] = alias;
+                keyHashes[i++] = alias.hashCode();
+            }
+        }
+        // find a table size and multiplier without collisions, falling back to linear probing
+        var capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        var seed = findSeed(keyHashes, capacity);
+        if (seed == 0) {
+            seed = findSeed(keyHashes, capacity * 2);
+            if (seed == 0) {
+                seed = INITIAL_SEED;
+            } else {
+                capacity *= 2;
+            }
+        }
+        this.seed = seed;
+        this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        this.names = new String[capacity];
+        this.hashes = new int[capacity];
+        this.metaProperties = new MetaProperty<?>[capacity];
+        this.aliases = new boolean[capacity];
+        for (var j = 0; j < size; j++) {
+            var isAlias = j >= metaPropertyMap.size();
+            var realName = aliasMap.getOrDefault(keys[j], keys[j]);
+            var metaProperty = metaPropertyMap.get(realName);
+            var mask = capacity - 1;
+            var slot = (keyHashes[j] * seed) >>> shift;
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = keys[j];
+            hashes[slot] = keyHashes[j];
+            metaProperties[slot] = metaProperty;
+            aliases[slot] = isAlias;
+        }
+    }
+
+    // finds a multiplier that maps each hash to a different slot, zero if not found
+    private static int findSeed(int[] keyHashes, int capacity) {
+        var shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        var used = new boolean[capacity];
+        var seed = INITIAL_SEED;
+        for (var attempt = 0; attempt < SEED_ATTEMPTS; attempt++) {
+            var perfect = true;
+            for (var hash : keyHashes) {
+                var slot = (hash * seed) >>> shift;
+                if (used[slot]) {
+                    perfect = false;
+                    break;
+                }
+                used[slot] = true;
+            }
+            if (perfect) {
+                return seed;
+            }
+            Arrays.fill(used, false);
+            seed = (seed * 0x2545F491 + 0x6A09E667) | 1;
+        }
+        return 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a new table with an additional alias.
+     * <p>
+     * The alias takes precedence over a property of the same name.
+     * Looking up that name returns the meta-property of the real name,
+     * but the name is still reported as a property by {@link #containsProperty(String)}.
+     * 
+     * @param alias  the alias, not null
+     * @param realName  the real name, not null
+     * @return the new table, not null
+     * @throws IllegalArgumentException if the real name is invalid
+     */
+    public MetaPropertyTable withAlias(String alias, String realName) {
+        Objects.requireNonNull(alias, "alias must not be null");
+        if (!metaPropertyMap.containsKey(realName)) {
+            throw new IllegalArgumentException("Invalid property name: " + realName);
+        }
+        var aliasMap = new LinkedHashMap<>(this.aliasMap);
+        aliasMap.put(alias, realName);
+        return new MetaPropertyTable(metaPropertyMap, aliasMap);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the meta-property for a name or alias.
+     * 
+     * @param name  the property name or alias, null returns null
+     * @return the meta-property, null if not found
+     */
+    public MetaProperty<?> get(String name) {
+        var slot = find(name);
+        return slot < 0 ? null : metaProperties[slot];
+    }
+
+    /**
+     * Checks if the name is the real name of a meta-property.
+     * <p>
+     * Aliases are not matched by this method.
+     * 
+     * @param name  the property name, null returns false
+     * @return true if the name is a property name
+     */
+    public boolean containsProperty(String name) {
+        var slot = find(name);
+        return slot >= 0 && !aliases[slot];
+    }
+
+    // finds the slot of the name, -1 if not found
+    private int find(String name) {
+        if (name == null) {
+            return -1;
+        }
+        var hash = name.hashCode();
+        var mask = names.length - 1;
+        var slot = (hash * seed) >>> shift;
+        while (true) {
+            var key = names[slot];
+            if (key == null) {
+                return -1;
+            }
+            if (key == name || (hashes[slot] == hash && key.equals(name))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string that summarises the table.
+     * 
+     * @return a summary string, not null
+     */
+    @Override
+    public String toString() {
+        return "MetaPropertyTable" + metaPropertyMap.keySet();
+    }
+
+}
@@ -27,7 +27,6 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
-import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
@@ -41,10 +40,9 @@ import org.joda.beans.TypedMetaBean;
  */
 final class RecordMetaBean<T extends ImmutableBean> extends BasicMetaBean implements TypedMetaBean<T> {
 
-    private static final MethodType GETTER_METHOD_TYPE = MethodType.methodType(Object.class, Bean.class);
-
     private final Class<T> beanType;
     private final Map<String, RecordMetaProperty<?>> metaPropertyMap;
+    private final MetaProperty<?>[] metaProperties;
     private final MethodHandle constructorHandle;
 
     RecordMetaBean(Class<T> beanType, MethodHandles.Lookup lookup) {
@@ -57,8 +55,8 @@ final class RecordMetaBean<T extends ImmutableBean> extends BasicMetaBean implem
         for (int i = 0; i < recordComponents.length; i++) {
             var name = recordComponents[i].getName();
             paramTypes[i] = recordComponents[i].getType();
-            var getterHandle = findGetterHandle(recordComponents[i], lookup);
-            properties.put(name, new RecordMetaProperty<Object>(this, recordComponents[i], getterHandle, i));
+            var accessor = findAccessor(recordComponents[i], lookup);
+            properties.put(name, new RecordMetaProperty<Object>(this, recordComponents[i], lookup, accessor, i));
         }
         try {
             var constructor = beanType.getDeclaredConstructor(paramTypes);
@@ -67,13 +65,13 @@ final class RecordMetaBean<T extends ImmutableBean> extends BasicMetaBean implem
             throw new IllegalArgumentException("Invalid record", ex);
         }
         this.metaPropertyMap = Collections.unmodifiableMap(properties);
+        this.metaProperties = properties.values().toArray(new MetaProperty<?>[0]);
     }
 
-    // finds the getter handle
-    private MethodHandle findGetterHandle(RecordComponent recordComponent, Lookup lookup) {
+    // finds the accessor method, which the meta-property spins into getter classes
+    private MethodHandle findAccessor(RecordComponent recordComponent, Lookup lookup) {
         try {
-            var handle = lookup.unreflect(recordComponent.getAccessor());
-            return handle.asType(GETTER_METHOD_TYPE);
+            return lookup.unreflect(recordComponent.getAccessor());
         } catch (IllegalAccessException ex) {
             throw new IllegalArgumentException("Invalid record, method cannot be accessed: " + recordComponent.getName(), ex);
         }
@@ -138,6 +136,15 @@ final class RecordMetaBean<T extends ImmutableBean> extends BasicMetaBean implem
         return beanType;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int index) {
+        if (index < 0 || index >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return (MetaProperty<R>) metaProperties[index];
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Map<String, MetaProperty<?>> metaPropertyMap() {
@@ -17,16 +17,20 @@ package org.joda.beans.impl;
 
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.RecordComponent;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.PropertyStyle;
-
-import com.google.common.collect.ImmutableList;
+import org.joda.beans.impl.light.PropertyGetter;
 
 /**
  * The RecordBean meta-property.
@@ -37,19 +41,45 @@ final class RecordMetaProperty<P> implements MetaProperty<P> {
 
     private final MetaBean metaBean;
     private final RecordComponent recordComponent;
-    private final MethodHandle getterHandle;
+    private final PropertyGetter getter;
+    private final ToDoubleFunction<Bean> doubleGetter;
+    private final ToLongFunction<Bean> longGetter;
+    private final ToIntFunction<Bean> intGetter;
+    private final Predicate<Bean> booleanGetter;
     private final int constructorIndex;
+    private final List<Annotation> annotations;
 
     RecordMetaProperty(
             MetaBean metaBean,
             RecordComponent recordComponent,
-            MethodHandle getterHandle,
+            MethodHandles.Lookup lookup,
+            MethodHandle accessor,
             int constructorIndex) {
 
         this.metaBean = metaBean;
         this.recordComponent = recordComponent;
-        this.getterHandle = getterHandle;
+        var type = recordComponent.getType();
+        this.doubleGetter = type == double.class ? PropertyGetter.ofDouble(lookup, accessor) : null;
+        this.longGetter = type == long.class ? PropertyGetter.ofLong(lookup, accessor) : null;
+        this.intGetter = type == int.class ? PropertyGetter.ofInt(lookup, accessor) : null;
+        this.booleanGetter = type == boolean.class ? PropertyGetter.ofBoolean(lookup, accessor) : null;
+        this.getter = createGetter(lookup, accessor);
         this.constructorIndex = constructorIndex;
+        this.annotations = List.of(recordComponent.getAnnotations());
+    }
+
+    // only one class is spun per component, so a primitive component derives its boxed getter
+    private PropertyGetter createGetter(MethodHandles.Lookup lookup, MethodHandle accessor) {
+        if (doubleGetter != null) {
+            return doubleGetter::applyAsDouble;
+        } else if (longGetter != null) {
+            return longGetter::applyAsLong;
+        } else if (intGetter != null) {
+            return intGetter::applyAsInt;
+        } else if (booleanGetter != null) {
+            return booleanGetter::test;
+        }
+        return PropertyGetter.of(lookup, accessor);
     }
 
     //-------------------------------------------------------------------------
@@ -58,6 +88,11 @@ final class RecordMetaProperty<P> implements MetaProperty<P> {
         return metaBean;
     }
 
+    @Override
+    public int index() {
+        return constructorIndex;
+    }
+
     @Override
     public String name() {
         return recordComponent.getName();
@@ -86,14 +121,62 @@ final class RecordMetaProperty<P> implements MetaProperty<P> {
 
     @Override
     public List<Annotation> annotations() {
-        return ImmutableList.copyOf(recordComponent.getAnnotations());
+        return annotations;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public P get(Bean bean) {
         try {
-            return (P) getterHandle.invokeExact(bean);
+            return (P) getter.get(bean);
+        } catch (Throwable ex) {
+            throw new RuntimeException("Property cannot be read: " + name(), ex);
+        }
+    }
+
+    @Override
+    public double getDouble(Bean bean) {
+        if (doubleGetter == null) {
+            return MetaProperty.super.getDouble(bean);
+        }
+        try {
+            return doubleGetter.applyAsDouble(bean);
+        } catch (Throwable ex) {
+            throw new RuntimeException("Property cannot be read: " + name(), ex);
+        }
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        if (longGetter == null) {
+            return MetaProperty.super.getLong(bean);
+        }
+        try {
+            return longGetter.applyAsLong(bean);
+        } catch (Throwable ex) {
+            throw new RuntimeException("Property cannot be read: " + name(), ex);
+        }
+    }
+
+    @Override
+    public int getInt(Bean bean) {
+        if (intGetter == null) {
+            return MetaProperty.super.getInt(bean);
+        }
+        try {
+            return intGetter.applyAsInt(bean);
+        } catch (Throwable ex) {
+            throw new RuntimeException("Property cannot be read: " + name(), ex);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        if (booleanGetter == null) {
+            return MetaProperty.super.getBoolean(bean);
+        }
+        try {
+            return booleanGetter.test(bean);
         } catch (Throwable ex) {
             throw new RuntimeException("Property cannot be read: " + name(), ex);
         }
@@ -49,6 +49,23 @@ public abstract class DirectMetaBean implements MetaBean {
         return (MetaProperty<R>) mp;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> MetaProperty<R> metaProperty(int index) {
+        if (metaPropertyMap() instanceof DirectMetaPropertyMap map) {
+            return (MetaProperty<R>) map.metaProperty(index);
+        }
+        return MetaBean.super.metaProperty(index);
+    }
+
+    @Override
+    public void getPropertyValues(Bean bean, Object[] values) {
+        // generated code populates the values directly, otherwise query each meta-property
+        if (propertyGetAll(bean, values) != metaPropertyCount()) {
+            MetaBean.super.getPropertyValues(bean, values);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <R> MetaProperty<R> metaPropertyNotFound(String propertyName) {
         if (propertyName == JodaBeanTests.TEST_COVERAGE_PROPERTY) {
@@ -88,6 +105,86 @@ public abstract class DirectMetaBean implements MetaBean {
         throw new NoSuchElementException("Unknown property: " + propertyName);
     }
 
+    /**
+     * Gets the value of a property of type {@code double}.
+     * <p>
+     * Generated code overrides this method to avoid boxing.
+     * The default implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @since 3.0.0
+     */
+    protected double propertyGetDouble(Bean bean, String propertyName) {
+        return (Double) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the value of a property of type {@code long}.
+     * <p>
+     * Generated code overrides this method to avoid boxing.
+     * The default implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @since 3.0.0
+     */
+    protected long propertyGetLong(Bean bean, String propertyName) {
+        return (Long) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the value of a property of type {@code int}.
+     * <p>
+     * Generated code overrides this method to avoid boxing.
+     * The default implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @since 3.0.0
+     */
+    protected int propertyGetInt(Bean bean, String propertyName) {
+        return (Integer) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the value of a property of type {@code boolean}.
+     * <p>
+     * Generated code overrides this method to avoid boxing.
+     * The default implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @since 3.0.0
+     */
+    protected boolean propertyGetBoolean(Bean bean, String propertyName) {
+        return (Boolean) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the values of all the properties.
+     * <p>
+     * Generated code overrides this method, calling the superclass and then
+     * populating the values of the properties it declares, in index order.
+     * The default implementation populates nothing and returns zero.
+     * 
+     * @param bean  the bean to query, not null
+     * @param values  the array to populate, not null
+     * @return the number of values populated
+     * @since 3.0.0
+     */
+    protected int propertyGetAll(Bean bean, Object[] values) {
+        return 0;
+    }
+
     /**
      * Sets the value of the property.
      * 
@@ -21,13 +21,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.joda.beans.Bean;
@@ -59,6 +58,10 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
     private final AccessibleObject fieldOrMethod;
     /** The style. */
     private final PropertyStyle style;
+    /** The annotations, lazily initialized. */
+    private List<Annotation> annotations;
+    /** The index of the property, negative if unknown. */
+    private final int index;
 
     /**
      * Factory to create a read-write meta-property avoiding duplicate generics.
@@ -72,8 +75,26 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofReadWrite(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofReadWrite(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a read-write meta-property with a known index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property in the meta-bean, including superclass properties, negative if unknown
+     * @return the property, not null
+     * @since 3.0.0
+     */
+    public static <P> DirectMetaProperty<P> ofReadWrite(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         var field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_WRITE, field);
+        return new DirectMetaProperty<>(
+                metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_WRITE, field, index);
     }
 
     /**
@@ -88,8 +109,26 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofReadOnly(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofReadOnly(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a read-only meta-property with a known index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property in the meta-bean, including superclass properties, negative if unknown
+     * @return the property, not null
+     * @since 3.0.0
+     */
+    public static <P> DirectMetaProperty<P> ofReadOnly(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         var field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY, field);
+        return new DirectMetaProperty<>(
+                metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY, field, index);
     }
 
     /**
@@ -104,8 +143,26 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofWriteOnly(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofWriteOnly(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a write-only meta-property with a known index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property in the meta-bean, including superclass properties, negative if unknown
+     * @return the property, not null
+     * @since 3.0.0
+     */
+    public static <P> DirectMetaProperty<P> ofWriteOnly(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         var field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.WRITE_ONLY, field);
+        return new DirectMetaProperty<>(
+                metaBean, propertyName, declaringType, propertyType, PropertyStyle.WRITE_ONLY, field, index);
     }
 
     /**
@@ -120,8 +177,26 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofReadOnlyBuildable(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofReadOnlyBuildable(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a buildable read-only meta-property with a known index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property in the meta-bean, including superclass properties, negative if unknown
+     * @return the property, not null
+     * @since 3.0.0
+     */
+    public static <P> DirectMetaProperty<P> ofReadOnlyBuildable(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         var field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY_BUILDABLE, field);
+        return new DirectMetaProperty<>(
+                metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY_BUILDABLE, field, index);
     }
 
     /**
@@ -136,8 +211,26 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofDerived(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofDerived(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a derived read-only meta-property with a known index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property in the meta-bean, including superclass properties, negative if unknown
+     * @return the property, not null
+     * @since 3.0.0
+     */
+    public static <P> DirectMetaProperty<P> ofDerived(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         var method = findMethod(metaBean, propertyName);
-        return new DirectMetaProperty<>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.DERIVED, method);
+        return new DirectMetaProperty<>(
+                metaBean, propertyName, declaringType, propertyType, PropertyStyle.DERIVED, method, index);
     }
 
     /**
@@ -152,8 +245,26 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofImmutable(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofImmutable(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create an immutable meta-property with a known index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property in the meta-bean, including superclass properties, negative if unknown
+     * @return the property, not null
+     * @since 3.0.0
+     */
+    public static <P> DirectMetaProperty<P> ofImmutable(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         var field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.IMMUTABLE, field);
+        return new DirectMetaProperty<>(
+                metaBean, propertyName, declaringType, propertyType, PropertyStyle.IMMUTABLE, field, index);
     }
 
     private static Field findField(MetaBean metaBean, String propertyName) {
@@ -194,9 +305,10 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      * @param propertyType  the property type, not null
      * @param style  the style, not null
      * @param fieldOrMethod  the reflected field or method, not null
+     * @param index  the index of the property, negative if unknown
      */
     private DirectMetaProperty(MetaBean metaBean, String propertyName, Class<?> declaringType,
-            Class<P> propertyType, PropertyStyle style, AccessibleObject fieldOrMethod) {
+            Class<P> propertyType, PropertyStyle style, AccessibleObject fieldOrMethod, int index) {
         super(propertyName);
         this.metaBean = Objects.requireNonNull(metaBean, "metaBean must not be null");
         this.propertyType = Objects.requireNonNull(propertyType, "propertyType must not be null");
@@ -208,11 +320,27 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         this.declaringType = Objects.requireNonNull(declaringType, "declaringType must not be null");
         this.style = Objects.requireNonNull(style, "style must not be null");
         this.fieldOrMethod = fieldOrMethod;  // may be null
+        this.index = index;
         var beanType = metaBean.beanType();
         var resolvedType = ResolvedType.from(propertyGenericType, beanType);
         this.propertyResolvedTypeFn = !resolvedType.isParameterized() || Modifier.isFinal(beanType.getModifiers()) ?
                 contextClass -> resolvedType :
-                contextClass -> contextClass == beanType ? resolvedType : ResolvedType.from(propertyGenericType, contextClass);
+                createSubclassResolvedTypeFunction(beanType, resolvedType);
+    }
+
+    // caches the resolved type for subclasses in the same class loader as the bean
+    // classes from other loaders are resolved each time, so they are not retained by this property
+    private Function<Class<?>, ResolvedType> createSubclassResolvedTypeFunction(Class<?> beanType, ResolvedType resolvedType) {
+        var resolvedTypes = new ConcurrentHashMap<Class<?>, ResolvedType>();
+        return contextClass -> {
+            if (contextClass == beanType) {
+                return resolvedType;
+            }
+            if (contextClass.getClassLoader() != beanType.getClassLoader()) {
+                return super.propertyResolvedType(contextClass);
+            }
+            return resolvedTypes.computeIfAbsent(contextClass, super::propertyResolvedType);
+        };
     }
 
     //-----------------------------------------------------------------------
@@ -221,6 +349,11 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         return metaBean;
     }
 
+    @Override
+    public int index() {
+        return index >= 0 ? index : super.index();
+    }
+
     @Override
     public Class<?> declaringType() {
         return declaringType;
@@ -267,10 +400,13 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
 
     @Override
     public List<Annotation> annotations() {
-        if (fieldOrMethod == null) {
-            return Collections.emptyList();
+        // racy single-check is safe as the list is immutable
+        var annotations = this.annotations;
+        if (annotations == null) {
+            annotations = fieldOrMethod == null ? List.of() : List.of(fieldOrMethod.getDeclaredAnnotations());
+            this.annotations = annotations;
         }
-        return Arrays.asList(fieldOrMethod.getDeclaredAnnotations());
+        return annotations;
     }
 
     //-----------------------------------------------------------------------
@@ -287,4 +423,28 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         meta.propertySet(bean, name(), value, false);
     }
 
+    @Override
+    public double getDouble(Bean bean) {
+        var meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetDouble(bean, name());
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        var meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetLong(bean, name());
+    }
+
+    @Override
+    public int getInt(Bean bean) {
+        var meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetInt(bean, name());
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        var meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetBoolean(bean, name());
+    }
+
 }
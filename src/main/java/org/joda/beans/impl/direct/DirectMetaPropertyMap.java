@@ -105,6 +105,21 @@ public final class DirectMetaPropertyMap implements Map<String, MetaProperty<?>>
                 metaBean.metaPropertyGet(mp.name()) != null;
     }
 
+    /**
+     * Gets a meta-property by index.
+     * 
+     * @param index  the index of the property
+     * @return the meta-property, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    MetaProperty<?> metaProperty(int index) {
+        var metaProperties = ((Entries) entries).metaProperties;
+        if (index < 0 || index >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return metaProperties[index].getValue();
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public MetaProperty<?> put(String key, MetaProperty<?> value) {
@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +34,7 @@ import org.joda.beans.MetaProperty;
 import org.joda.beans.TypedMetaBean;
 import org.joda.beans.gen.DerivedProperty;
 import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.MetaPropertyTable;
 
 /**
  * A meta-bean implementation designed for use by the code generator.
@@ -49,8 +49,10 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private final Supplier<BeanBuilder<T>> builderSupplier;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
-    /** The aliases. */
-    private final Map<String, String> aliasMap;
+    /** The meta-property instances of the bean, by index. */
+    private final MetaProperty<?>[] metaProperties;
+    /** The lookup table of meta-properties by name, including aliases. */
+    private final MetaPropertyTable metaPropertyTable;
 
     /**
      * Obtains an instance of the meta-bean for immutable beans.
@@ -149,7 +151,7 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
                 throw new IllegalArgumentException("Field must have PropertyDefinition annotation");
             }
             map.put(fieldName, new MinimalMetaProperty<>(
-                    this, fieldName, field, getters.get(i), setters != null ? setters.get(i) : null));
+                    this, fieldName, i, field, getters.get(i), setters != null ? setters.get(i) : null));
         }
         // derived
         var methods = beanType.getDeclaredMethods();
@@ -163,24 +165,27 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
                     method.getParameterTypes().length == 0) {
                 var methodName = method.getName();
                 var propertyName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
-                var mp = new MinimalMetaProperty<>(this, method, propertyName);
+                var mp = new MinimalMetaProperty<>(this, method, propertyName, map.size());
                 map.put(propertyName, mp);
             }
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
-        this.aliasMap = new HashMap<>();
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[0]);
+        this.metaPropertyTable = MetaPropertyTable.of(metaPropertyMap);
     }
 
     private MinimalMetaBean(
             Class<T> beanType,
             Supplier<BeanBuilder<T>> builderSupplier,
             Map<String, MetaProperty<?>> metaPropertyMap,
-            Map<String, String> aliasMap) {
+            MetaProperty<?>[] metaProperties,
+            MetaPropertyTable metaPropertyTable) {
 
         this.beanType = beanType;
         this.builderSupplier = builderSupplier;
         this.metaPropertyMap = metaPropertyMap;
-        this.aliasMap = aliasMap;
+        this.metaProperties = metaProperties;
+        this.metaPropertyTable = metaPropertyTable;
     }
 
     //-----------------------------------------------------------------------
@@ -196,12 +201,8 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
      * @throws IllegalArgumentException if the realName is invalid
      */
     public MinimalMetaBean<T> withAlias(String alias, String realName) {
-        if (!metaPropertyMap.containsKey(realName)) {
-            throw new IllegalArgumentException("Invalid property name: " + realName);
-        }
-        var aliasMap = new HashMap<>(this.aliasMap);
-        aliasMap.put(alias, realName);
-        return new MinimalMetaBean<>(beanType, builderSupplier, metaPropertyMap, aliasMap);
+        var metaPropertyTable = this.metaPropertyTable.withAlias(alias, realName);
+        return new MinimalMetaBean<>(beanType, builderSupplier, metaPropertyMap, metaProperties, metaPropertyTable);
     }
 
     //-----------------------------------------------------------------------
@@ -220,16 +221,30 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
         return beanType;
     }
 
+    @Override
+    public boolean metaPropertyExists(String propertyName) {
+        return metaPropertyTable.containsProperty(propertyName);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <R> MetaProperty<R> metaProperty(String propertyName) {
-        var mp = metaPropertyMap().get(aliasMap.getOrDefault(propertyName, propertyName));
+        var mp = metaPropertyTable.get(propertyName);
         if (mp == null) {
             throw new NoSuchElementException("Unknown property: " + propertyName);
         }
         return (MetaProperty<R>) mp;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int index) {
+        if (index < 0 || index >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return (MetaProperty<R>) metaProperties[index];
+    }
+
     @Override
     public Map<String, MetaProperty<?>> metaPropertyMap() {
         return metaPropertyMap;
@@ -23,6 +23,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.joda.beans.Bean;
@@ -55,6 +56,8 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
     private final BiConsumer<Bean, Object> setter;
     /** The property style. */
     private final PropertyStyle style;
+    /** The index of the property. */
+    private final int index;
 
     //-----------------------------------------------------------------------
     /**
@@ -62,6 +65,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
      * 
      * @param metaBean  the meta bean, not null
      * @param propertyName  the property name, not empty
+     * @param index  the index of the property
      * @param field  the field, not null
      * @param getter  the property getter, not null
      * @param setter  the property setter, null if read only
@@ -70,6 +74,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
     MinimalMetaProperty(
             MetaBean metaBean,
             String propertyName,
+            int index,
             Field field,
             Function<? extends Bean, Object> getter,
             BiConsumer<? extends Bean, Object> setter) {
@@ -87,6 +92,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
             this.style = setter != null ? PropertyStyle.READ_WRITE : PropertyStyle.READ_ONLY;
         }
         this.propertyResolvedTypeFn = createResolvedTypeFunction();
+        this.index = index;
     }
 
     /**
@@ -95,12 +101,14 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
      * @param metaBean  the meta bean, not null
      * @param method  the method, not null
      * @param propertyName  the property name, not empty
+     * @param index  the index of the property
      */
     @SuppressWarnings("unchecked")
     MinimalMetaProperty(
             MetaBean metaBean,
             Method method,
-            String propertyName) {
+            String propertyName,
+            int index) {
         
         super(propertyName);
         this.metaBean = metaBean;
@@ -119,6 +127,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
         this.setter = null;
         this.style = PropertyStyle.DERIVED;
         this.propertyResolvedTypeFn = createResolvedTypeFunction();
+        this.index = index;
     }
 
     private Function<Class<?>, ResolvedType> createResolvedTypeFunction() {
@@ -126,7 +135,22 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
         var resolvedType = ResolvedType.from(propertyGenericType, beanType);
         return !resolvedType.isParameterized() || Modifier.isFinal(beanType.getModifiers()) ?
                 contextClass -> resolvedType :
-                contextClass -> contextClass == beanType ? resolvedType : ResolvedType.from(propertyGenericType, contextClass);
+                createSubclassResolvedTypeFunction(beanType, resolvedType);
+    }
+
+    // caches the resolved type for subclasses in the same class loader as the bean
+    // classes from other loaders are resolved each time, so they are not retained by this property
+    private Function<Class<?>, ResolvedType> createSubclassResolvedTypeFunction(Class<?> beanType, ResolvedType resolvedType) {
+        var resolvedTypes = new ConcurrentHashMap<Class<?>, ResolvedType>();
+        return contextClass -> {
+            if (contextClass == beanType) {
+                return resolvedType;
+            }
+            if (contextClass.getClassLoader() != beanType.getClassLoader()) {
+                return super.propertyResolvedType(contextClass);
+            }
+            return resolvedTypes.computeIfAbsent(contextClass, super::propertyResolvedType);
+        };
     }
 
     //-----------------------------------------------------------------------
@@ -135,6 +159,11 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
         return metaBean;
     }
 
+    @Override
+    public int index() {
+        return index;
+    }
+
     @Override
     public Class<?> declaringType() {
         return metaBean.beanType();
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.light;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Spins classes implementing accessor interfaces using {@link LambdaMetafactory}.
+ */
+final class AccessorSpinner {
+
+    /**
+     * Restricted constructor.
+     */
+    private AccessorSpinner() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Spins a class implementing the functional interface that invokes the handle directly.
+     * <p>
+     * This only succeeds if the handle is a direct handle to a method,
+     * and the lookup has full privilege access.
+     *
+     * @param <T>  the interface type
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param interfaceType  the functional interface to implement, not null
+     * @param methodName  the name of the interface method, not null
+     * @param methodType  the erased type of the interface method, not null
+     * @param handle  the handle to invoke, not null
+     * @param instantiatedType  the type of the interface method as implemented, not null
+     * @return the implementation, null if a class cannot be spun
+     */
+    static <T> T spin(
+            MethodHandles.Lookup lookup,
+            Class<T> interfaceType,
+            String methodName,
+            MethodType methodType,
+            MethodHandle handle,
+            MethodType instantiatedType) {
+
+        CallSite site;
+        try {
+            site = LambdaMetafactory.metafactory(
+                    lookup,
+                    methodName,
+                    MethodType.methodType(interfaceType),
+                    methodType,
+                    handle,
+                    instantiatedType);
+        } catch (LambdaConversionException | IllegalArgumentException | LinkageError ex) {
+            return null;
+        }
+        try {
+            return interfaceType.cast(site.getTarget().invoke());
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+}
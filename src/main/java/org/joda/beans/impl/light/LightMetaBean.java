@@ -27,7 +27,6 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -44,6 +43,7 @@ import org.joda.beans.MetaProperty;
 import org.joda.beans.TypedMetaBean;
 import org.joda.beans.gen.DerivedProperty;
 import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.MetaPropertyTable;
 
 /**
  * A meta-bean implementation that operates using method handles.
@@ -66,8 +66,10 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
-    /** The aliases. */
-    private final Map<String, String> aliasMap;
+    /** The meta-property instances of the bean, by index. */
+    private final MetaProperty<?>[] metaProperties;
+    /** The lookup table of meta-properties by name, including aliases. */
+    private final MetaPropertyTable metaPropertyTable;
     /** The constructor to use. */
     private final Function<Object[], T> constructorFn;
     /** The construction data array. */
@@ -215,12 +217,13 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
                     method.getParameterTypes().length == 0) {
                 var methodName = method.getName();
                 var propertyName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
-                var mp = LightMetaProperty.of(this, method, lookup, propertyName, -1);
+                var mp = LightMetaProperty.of(this, method, lookup, propertyName, map.size());
                 map.put(propertyName, mp);
             }
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
-        this.aliasMap = new HashMap<>();
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[0]);
+        this.metaPropertyTable = MetaPropertyTable.of(metaPropertyMap);
         this.constructionData = constructionData;
         var handle = findConstructorHandle(beanType, lookup, constructor);
         this.constructorFn = args -> build(handle, args);
@@ -232,13 +235,15 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private LightMetaBean(
             Class<T> beanType,
             Map<String, MetaProperty<?>> metaPropertyMap,
-            Map<String, String> aliasMap,
+            MetaProperty<?>[] metaProperties,
+            MetaPropertyTable metaPropertyTable,
             Function<Object[], T> constructorFn,
             Object[] constructionData) {
         
         this.beanType = beanType;
         this.metaPropertyMap = metaPropertyMap;
-        this.aliasMap = aliasMap;
+        this.metaProperties = metaProperties;
+        this.metaPropertyTable = metaPropertyTable;
         this.constructorFn = constructorFn;
         this.constructionData = constructionData;
     }
@@ -398,12 +403,8 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
      * @throws IllegalArgumentException if the realName is invalid
      */
     public LightMetaBean<T> withAlias(String alias, String realName) {
-        if (!metaPropertyMap.containsKey(realName)) {
-            throw new IllegalArgumentException("Invalid property name: " + realName);
-        }
-        var aliasMap = new HashMap<>(this.aliasMap);
-        aliasMap.put(alias, realName);
-        return new LightMetaBean<>(beanType, metaPropertyMap, aliasMap, constructorFn, constructionData);
+        var metaPropertyTable = this.metaPropertyTable.withAlias(alias, realName);
+        return new LightMetaBean<>(beanType, metaPropertyMap, metaProperties, metaPropertyTable, constructorFn, constructionData);
     }
 
     //-----------------------------------------------------------------------
@@ -422,16 +423,30 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         return beanType;
     }
 
+    @Override
+    public boolean metaPropertyExists(String propertyName) {
+        return metaPropertyTable.containsProperty(propertyName);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <R> MetaProperty<R> metaProperty(String propertyName) {
-        var mp = metaPropertyMap().get(aliasMap.getOrDefault(propertyName, propertyName));
+        var mp = metaPropertyTable.get(propertyName);
         if (mp == null) {
             throw new NoSuchElementException("Unknown property: " + propertyName);
         }
         return (MetaProperty<R>) mp;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int index) {
+        if (index < 0 || index >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return (MetaProperty<R>) metaProperties[index];
+    }
+
     @Override
     public Map<String, MetaProperty<?>> metaPropertyMap() {
         return metaPropertyMap;
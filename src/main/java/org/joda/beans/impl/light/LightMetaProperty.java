@@ -25,7 +25,15 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
@@ -52,13 +60,29 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
     /** The annotations. */
     private final List<Annotation> annotations;
     /** The read method. */
-    private final MethodHandle getter;
+    private final PropertyGetter getter;
     /** The optional write method. */
-    private final MethodHandle setter;
+    private final PropertySetter setter;
+    /** The read method for a {@code double}, null if not that type. */
+    private final ToDoubleFunction<Bean> doubleGetter;
+    /** The read method for a {@code long}, null if not that type. */
+    private final ToLongFunction<Bean> longGetter;
+    /** The read method for an {@code int}, null if not that type. */
+    private final ToIntFunction<Bean> intGetter;
+    /** The read method for a {@code boolean}, null if not that type. */
+    private final Predicate<Bean> booleanGetter;
+    /** The optional write method for a {@code double}, null if not that type. */
+    private final ObjDoubleConsumer<Bean> doubleSetter;
+    /** The optional write method for a {@code long}, null if not that type. */
+    private final ObjLongConsumer<Bean> longSetter;
+    /** The optional write method for an {@code int}, null if not that type. */
+    private final ObjIntConsumer<Bean> intSetter;
     /** The index of the property in the constructor. */
     private final int constructorIndex;
     /** The property style. */
     private final PropertyStyle style;
+    /** The index of the property. */
+    private final int index;
 
     //-----------------------------------------------------------------------
     /**
@@ -98,9 +122,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
+                lookup,
                 getter,
                 setter,
                 constructorIndex,
+                constructorIndex,
                 calculateStyle(metaBean, setter));
     }
 
@@ -146,9 +172,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
+                lookup,
                 getter,
                 setter,
                 constructorIndex,
+                constructorIndex,
                 calculateStyle(metaBean, setter));
     }
 
@@ -165,7 +193,7 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
      * @param <P>  the property type
      * @param metaBean  the meta bean, not null
      * @param getMethod  the get method, not null
-     * @param constructorIndex  the index of the property
+     * @param index  the index of the property
      * @return the property, not null
      */
     @SuppressWarnings("unchecked")
@@ -174,7 +202,7 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             final Method getMethod,
             MethodHandles.Lookup lookup,
             final String propertyName,
-            int constructorIndex) {
+            int index) {
         
         MethodHandle getter;
         try {
@@ -188,9 +216,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) getMethod.getReturnType(), 
                 getMethod.getGenericReturnType(), 
                 Arrays.asList(getMethod.getAnnotations()), 
+                lookup,
                 getter,
                 null,
-                constructorIndex,
+                -1,
+                index,
                 PropertyStyle.DERIVED);
     }
 
@@ -202,9 +232,12 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
      * @param propertyType  the property type
      * @param propertyGenericType  the property generic type
      * @param annotations  the annotations
+     * @param lookup  the lookup
      * @param getter  the property getter
-     * @param setter  the property setter
-     * @param constructorIndex  the index of the property in the constructor
+     * @param setter  the property setter, null if read-only
+     * @param constructorIndex  the index of the property in the constructor, -1 if derived
+     * @param index  the index of the property
+     * @param style  the property style
      */
     LightMetaProperty(
             MetaBean metaBean, 
@@ -212,9 +245,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             Class<P> propertyType,
             Type propertyGenericType,
             List<Annotation> annotations,
+            MethodHandles.Lookup lookup,
             MethodHandle getter,
             MethodHandle setter,
             int constructorIndex,
+            int index,
             PropertyStyle style) {
         
         super(propertyName);
@@ -222,15 +257,67 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = propertyType;
         this.propertyGenericType = propertyGenericType;
         this.annotations = annotations;
-        this.getter = getter.asType(MethodType.methodType(Object.class, Bean.class));
-        this.setter = setter != null ? setter.asType(MethodType.methodType(void.class, Bean.class, Object.class)) : null;
+        this.doubleGetter = propertyType == double.class ? PropertyGetter.ofDouble(lookup, getter) : null;
+        this.longGetter = propertyType == long.class ? PropertyGetter.ofLong(lookup, getter) : null;
+        this.intGetter = propertyType == int.class ? PropertyGetter.ofInt(lookup, getter) : null;
+        this.booleanGetter = propertyType == boolean.class ? PropertyGetter.ofBoolean(lookup, getter) : null;
+        this.doubleSetter = propertyType == double.class && setter != null ? PropertySetter.ofDouble(lookup, setter) : null;
+        this.longSetter = propertyType == long.class && setter != null ? PropertySetter.ofLong(lookup, setter) : null;
+        this.intSetter = propertyType == int.class && setter != null ? PropertySetter.ofInt(lookup, setter) : null;
+        this.getter = createGetter(lookup, getter);
+        this.setter = setter != null ? createSetter(lookup, setter) : null;
         this.constructorIndex = constructorIndex;
+        this.index = index;
         this.style = style;
         var beanType = metaBean.beanType();
         var resolvedType = ResolvedType.from(propertyGenericType, beanType);
         this.propertyResolvedTypeFn = !resolvedType.isParameterized() || Modifier.isFinal(beanType.getModifiers()) ?
                 contextClass -> resolvedType :
-                contextClass -> contextClass == beanType ? resolvedType : ResolvedType.from(propertyGenericType, contextClass);
+                createSubclassResolvedTypeFunction(beanType, resolvedType);
+    }
+
+    // only one class is spun per accessor, so a primitive property derives its boxed getter
+    private PropertyGetter createGetter(MethodHandles.Lookup lookup, MethodHandle getter) {
+        if (doubleGetter != null) {
+            return doubleGetter::applyAsDouble;
+        } else if (longGetter != null) {
+            return longGetter::applyAsLong;
+        } else if (intGetter != null) {
+            return intGetter::applyAsInt;
+        } else if (booleanGetter != null) {
+            return booleanGetter::test;
+        }
+        return PropertyGetter.of(lookup, getter);
+    }
+
+    // only one class is spun per accessor, so a primitive property derives its boxed setter
+    private PropertySetter createSetter(MethodHandles.Lookup lookup, MethodHandle setter) {
+        var doubleSetter = this.doubleSetter;
+        var longSetter = this.longSetter;
+        var intSetter = this.intSetter;
+        if (doubleSetter != null) {
+            return (bean, value) -> doubleSetter.accept(bean, (Double) value);
+        } else if (longSetter != null) {
+            return (bean, value) -> longSetter.accept(bean, (Long) value);
+        } else if (intSetter != null) {
+            return (bean, value) -> intSetter.accept(bean, (Integer) value);
+        }
+        return PropertySetter.of(lookup, setter);
+    }
+
+    // caches the resolved type for subclasses in the same class loader as the bean
+    // classes from other loaders are resolved each time, so they are not retained by this property
+    private Function<Class<?>, ResolvedType> createSubclassResolvedTypeFunction(Class<?> beanType, ResolvedType resolvedType) {
+        var resolvedTypes = new ConcurrentHashMap<Class<?>, ResolvedType>();
+        return contextClass -> {
+            if (contextClass == beanType) {
+                return resolvedType;
+            }
+            if (contextClass.getClassLoader() != beanType.getClassLoader()) {
+                return super.propertyResolvedType(contextClass);
+            }
+            return resolvedTypes.computeIfAbsent(contextClass, super::propertyResolvedType);
+        };
     }
 
     //-----------------------------------------------------------------------
@@ -239,6 +326,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         return metaBean;
     }
 
+    @Override
+    public int index() {
+        return index;
+    }
+
     @Override
     public Class<?> declaringType() {
         return metaBean.beanType();
@@ -271,14 +363,9 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
 
     //-----------------------------------------------------------------------
     @Override
+    @SuppressWarnings("unchecked")
     public P get(Bean bean) {
-        try {
-            return (P) getter.invokeExact(bean);
-        } catch (RuntimeException | Error ex) {
-            throw ex;
-        } catch (Throwable ex) {
-            throw new RuntimeException(ex);
-        }
+        return (P) getter.get(bean);
     }
 
     @Override
@@ -286,13 +373,66 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         if (setter == null) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
-        try {
-            setter.invokeExact(bean, value);
-        } catch (RuntimeException | Error ex) {
-            throw ex;
-        } catch (Throwable ex) {
-            throw new RuntimeException(ex);
+        setter.set(bean, value);
+    }
+
+    @Override
+    public double getDouble(Bean bean) {
+        if (doubleGetter == null) {
+            return super.getDouble(bean);
+        }
+        return doubleGetter.applyAsDouble(bean);
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        if (longGetter == null) {
+            return super.getLong(bean);
+        }
+        return longGetter.applyAsLong(bean);
+    }
+
+    @Override
+    public int getInt(Bean bean) {
+        if (intGetter == null) {
+            return super.getInt(bean);
+        }
+        return intGetter.applyAsInt(bean);
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        if (booleanGetter == null) {
+            return super.getBoolean(bean);
+        }
+        return booleanGetter.test(bean);
+    }
+
+    @Override
+    public void setDouble(Bean bean, double value) {
+        if (doubleSetter == null) {
+            super.setDouble(bean, value);
+            return;
+        }
+        doubleSetter.accept(bean, value);
+    }
+
+    @Override
+    public void setLong(Bean bean, long value) {
+        if (longSetter == null) {
+            super.setLong(bean, value);
+            return;
+        }
+        longSetter.accept(bean, value);
+    }
+
+    @Override
+    public void setInt(Bean bean, int value) {
+        if (intSetter == null) {
+            super.setInt(bean, value);
+            return;
         }
+        intSetter.accept(bean, value);
     }
 
     int getConstructorIndex() {
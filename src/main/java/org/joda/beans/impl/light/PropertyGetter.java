@@ -15,19 +15,204 @@
  */
 package org.joda.beans.impl.light;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 import org.joda.beans.Bean;
 
 /**
  * Functional interface providing the ability to get a property from a bean.
+ * <p>
+ * Instances are normally obtained from {@link #of(MethodHandles.Lookup, MethodHandle)}.
+ * Where possible, this spins a real class implementing this interface that invokes
+ * the getter method directly, which the JIT can inline like hand-written code.
+ * 
+ * @since 3.0.0
  */
-interface PropertyGetter {
+@FunctionalInterface
+public interface PropertyGetter {
+
+    /**
+     * Obtains a getter for the specified method handle.
+     * <p>
+     * If the handle is a direct handle to a method, and the lookup has full privilege access,
+     * an implementation class is spun using {@link LambdaMetafactory}.
+     * Otherwise, such as for a field, the getter invokes the method handle.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and returning the property value, not null
+     * @return the getter, not null
+     */
+    public static PropertyGetter of(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                PropertyGetter.class,
+                "get",
+                MethodType.methodType(Object.class, Bean.class),
+                handle,
+                handle.type().wrap());
+        return spun != null ? spun : ofHandle(handle);
+    }
+
+    /**
+     * Obtains a getter for a {@code double} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and returning the property value, not null
+     * @return the getter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static ToDoubleFunction<Bean> ofDouble(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                ToDoubleFunction.class,
+                "applyAsDouble",
+                MethodType.methodType(double.class, Object.class),
+                handle,
+                handle.type());
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(double.class, Bean.class));
+        return bean -> {
+            try {
+                return (double) adapted.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    /**
+     * Obtains a getter for a {@code long} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and returning the property value, not null
+     * @return the getter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static ToLongFunction<Bean> ofLong(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                ToLongFunction.class,
+                "applyAsLong",
+                MethodType.methodType(long.class, Object.class),
+                handle,
+                handle.type());
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(long.class, Bean.class));
+        return bean -> {
+            try {
+                return (long) adapted.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    /**
+     * Obtains a getter for an {@code int} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and returning the property value, not null
+     * @return the getter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static ToIntFunction<Bean> ofInt(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                ToIntFunction.class,
+                "applyAsInt",
+                MethodType.methodType(int.class, Object.class),
+                handle,
+                handle.type());
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(int.class, Bean.class));
+        return bean -> {
+            try {
+                return (int) adapted.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    /**
+     * Obtains a getter for a {@code boolean} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and returning the property value, not null
+     * @return the getter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static Predicate<Bean> ofBoolean(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                Predicate.class,
+                "test",
+                MethodType.methodType(boolean.class, Object.class),
+                handle,
+                handle.type());
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(boolean.class, Bean.class));
+        return bean -> {
+            try {
+                return (boolean) adapted.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    // invokes the method handle, which the JIT cannot treat as a constant
+    private static PropertyGetter ofHandle(MethodHandle handle) {
+        var adapted = handle.asType(MethodType.methodType(Object.class, Bean.class));
+        return bean -> {
+            try {
+                return adapted.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
 
+    //-----------------------------------------------------------------------
     /**
      * Queries the property.
      * 
      * @param bean  the bean to query
      * @return the property value
      */
-    Object get(Bean bean);
+    public abstract Object get(Bean bean);
 
 }
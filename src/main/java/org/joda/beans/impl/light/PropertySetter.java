@@ -15,19 +15,170 @@
  */
 package org.joda.beans.impl.light;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+
 import org.joda.beans.Bean;
 
 /**
  * Functional interface providing the ability to set a property in a bean.
+ * <p>
+ * Instances are normally obtained from {@link #of(MethodHandles.Lookup, MethodHandle)}.
+ * Where possible, this spins a real class implementing this interface that invokes
+ * the setter method directly, which the JIT can inline like hand-written code.
+ * 
+ * @since 3.0.0
  */
-interface PropertySetter {
+@FunctionalInterface
+public interface PropertySetter {
+
+    /**
+     * Obtains a setter for the specified method handle.
+     * <p>
+     * If the handle is a direct handle to a method, and the lookup has full privilege access,
+     * an implementation class is spun using {@link LambdaMetafactory}.
+     * Otherwise, such as for a field, the setter invokes the method handle.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and the property value, not null
+     * @return the setter, not null
+     */
+    public static PropertySetter of(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                PropertySetter.class,
+                "set",
+                MethodType.methodType(void.class, Bean.class, Object.class),
+                handle,
+                handle.type().wrap().changeReturnType(void.class));
+        return spun != null ? spun : ofHandle(handle);
+    }
+
+    /**
+     * Obtains a setter for a {@code double} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and the property value, not null
+     * @return the setter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjDoubleConsumer<Bean> ofDouble(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                ObjDoubleConsumer.class,
+                "accept",
+                MethodType.methodType(void.class, Object.class, double.class),
+                handle,
+                handle.type().changeReturnType(void.class));
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(void.class, Bean.class, double.class));
+        return (bean, value) -> {
+            try {
+                adapted.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    /**
+     * Obtains a setter for a {@code long} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and the property value, not null
+     * @return the setter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjLongConsumer<Bean> ofLong(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                ObjLongConsumer.class,
+                "accept",
+                MethodType.methodType(void.class, Object.class, long.class),
+                handle,
+                handle.type().changeReturnType(void.class));
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(void.class, Bean.class, long.class));
+        return (bean, value) -> {
+            try {
+                adapted.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    /**
+     * Obtains a setter for an {@code int} property that avoids boxing.
+     * <p>
+     * The spinning approach is the same as {@link #of(MethodHandles.Lookup, MethodHandle)}.
+     * 
+     * @param lookup  the lookup, typically from the bean class, not null
+     * @param handle  the handle taking the bean and the property value, not null
+     * @return the setter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjIntConsumer<Bean> ofInt(MethodHandles.Lookup lookup, MethodHandle handle) {
+        var spun = AccessorSpinner.spin(
+                lookup,
+                ObjIntConsumer.class,
+                "accept",
+                MethodType.methodType(void.class, Object.class, int.class),
+                handle,
+                handle.type().changeReturnType(void.class));
+        if (spun != null) {
+            return spun;
+        }
+        var adapted = handle.asType(MethodType.methodType(void.class, Bean.class, int.class));
+        return (bean, value) -> {
+            try {
+                adapted.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    // invokes the method handle, which the JIT cannot treat as a constant
+    private static PropertySetter ofHandle(MethodHandle handle) {
+        var adapted = handle.asType(MethodType.methodType(void.class, Bean.class, Object.class));
+        return (bean, value) -> {
+            try {
+                adapted.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
 
+    //-----------------------------------------------------------------------
     /**
      * Sets the property.
      * 
      * @param bean  the bean to change
      * @param value  the value to set
      */
-    void set(Bean bean, Object value);
+    public abstract void set(Bean bean, Object value);
 
 }
@@ -15,11 +15,18 @@
  */
 package org.joda.beans.impl.reflection;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -36,6 +43,9 @@ import org.joda.beans.impl.BasicBeanBuilder;
  * <p>
  * Typically, the meta-bean will be created as a public static final constant.
  * Only one method from {@link Bean} needs to be implemented, which simply returns the meta-bean.
+ * <p>
+ * If a {@link MethodHandles.Lookup} is passed in, classes are generated at runtime for the
+ * getters, setters and constructor, avoiding the cost of reflection on each call.
  * 
  * @param <T>  the type of the bean
  */
@@ -45,6 +55,10 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-properties, by index. */
+    private final MetaProperty<?>[] metaProperties;
+    /** The generated constructor, null if using reflection. */
+    private final Supplier<T> constructor;
 
     /**
      * Create a meta-bean and meta properties.
@@ -57,29 +71,100 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
      * @return the meta-bean, not null
      */
     public static <B extends Bean> ReflectiveMetaBean<B> of(Class<B> beanClass, String... propertyNames) {
-        return new ReflectiveMetaBean<>(beanClass, propertyNames);
+        return new ReflectiveMetaBean<>(beanClass, null, propertyNames);
+    }
+
+    /**
+     * Create a meta-bean and meta properties, generating classes to access the bean.
+     * <p>
+     * The meta-properties will be created from the property names by searching for a getter and setter.
+     * The lookup is used to generate classes that call the getters, setters and no-arguments constructor directly.
+     * Call this method with {@code MethodHandles.lookup()} from the bean class.
+     * 
+     * @param <B>  the type of the bean
+     * @param beanClass  the bean class, not null
+     * @param lookup  the method handle lookup, not null
+     * @param propertyNames  the property names, not null
+     * @return the meta-bean, not null
+     * @since 3.0.0
+     */
+    public static <B extends Bean> ReflectiveMetaBean<B> of(
+            Class<B> beanClass,
+            MethodHandles.Lookup lookup,
+            String... propertyNames) {
+
+        Objects.requireNonNull(lookup, "lookup must not be null");
+        return new ReflectiveMetaBean<>(beanClass, lookup, propertyNames);
     }
 
     /**
      * Constructor.
      * 
      * @param beanType  the bean type, not null
+     * @param lookup  the lookup, null to use reflection
      * @param propertyNames  the property names, not null
      */
-    private ReflectiveMetaBean(Class<T> beanType, String[] propertyNames) {
+    private ReflectiveMetaBean(Class<T> beanType, MethodHandles.Lookup lookup, String[] propertyNames) {
         Objects.requireNonNull(beanType, "beanType must not be null");
         Objects.requireNonNull(propertyNames, "propertyNames must not be null");
         this.beanType = beanType;
         var map = new LinkedHashMap<String, MetaProperty<?>>();
         for (var name : propertyNames) {
-            map.put(name, new ReflectiveMetaProperty<>(this, beanType, name));
+            map.put(name, new ReflectiveMetaProperty<>(this, beanType, name, map.size(), lookup));
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[0]);
+        this.constructor = lookup != null ? findConstructor(beanType, lookup) : null;
+    }
+
+    // generates a supplier calling the no-arguments constructor, null if there is no such constructor
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> findConstructor(Class<T> beanType, MethodHandles.Lookup lookup) {
+        MethodHandle handle;
+        try {
+            handle = lookup.findConstructor(beanType, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+        CallSite site;
+        try {
+            site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle,
+                    handle.type());
+        } catch (LambdaConversionException | IllegalArgumentException | LinkageError ex) {
+            return ofHandle(handle);
+        }
+        try {
+            return (Supplier<T>) site.getTarget().invokeExact();
+        } catch (Throwable ex) {
+            return ofHandle(handle);
+        }
+    }
+
+    // invokes the method handle
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> ofHandle(MethodHandle handle) {
+        return () -> {
+            try {
+                return (T) handle.invoke();
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
     }
 
     //-----------------------------------------------------------------------
     @Override
     public boolean isBuildable() {
+        if (constructor != null) {
+            return true;
+        }
         try {
             beanType.getDeclaredConstructor().newInstance();
             return true;
@@ -90,6 +175,9 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
 
     @Override
     public BeanBuilder<T> builder() {
+        if (constructor != null) {
+            return new BasicBeanBuilder<>(constructor.get());
+        }
         try {
             var bean = beanType.getDeclaredConstructor().newInstance();
             return new BasicBeanBuilder<>(bean);
@@ -103,6 +191,15 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
         return beanType;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int index) {
+        if (index < 0 || index >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return (MetaProperty<R>) metaProperties[index];
+    }
+
     @Override
     public Map<String, MetaProperty<?>> metaPropertyMap() {
         return metaPropertyMap;
@@ -16,11 +16,12 @@
 package org.joda.beans.impl.reflection;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -29,6 +30,8 @@ import org.joda.beans.ImmutableBean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.PropertyStyle;
 import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.beans.impl.light.PropertyGetter;
+import org.joda.beans.impl.light.PropertySetter;
 
 /**
  * A meta-property implemented using a {@code PropertyDescriptor}.
@@ -53,6 +56,16 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
     private final Method getMethod;
     /** The setter. */
     private final Method setMethod;
+    /** The generated getter, null if using reflection. */
+    private final PropertyGetter getter;
+    /** The generated setter, null if using reflection or read-only. */
+    private final PropertySetter setter;
+    /** The boxed type accepted by the setter. */
+    private final Class<?> setterType;
+    /** The index of the property. */
+    private final int index;
+    /** The annotations. */
+    private final List<Annotation> annotations;
 
     /**
      * Constructor using {@code PropertyDescriptor} to find the get and set methods.
@@ -60,9 +73,17 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
      * @param metaBean  the meta-bean
      * @param beanType  the bean type, not null
      * @param propertyName  the property name, not empty
+     * @param index  the index of the property
+     * @param lookup  the lookup used to generate the getter and setter, null to use reflection
      */
     @SuppressWarnings({"unchecked", "null"})
-    ReflectiveMetaProperty(MetaBean metaBean, Class<? extends Bean> beanType, String propertyName) {
+    ReflectiveMetaProperty(
+            MetaBean metaBean,
+            Class<? extends Bean> beanType,
+            String propertyName,
+            int index,
+            MethodHandles.Lookup lookup) {
+
         super(propertyName);
         var getterName = "get" + propertyName.substring(0, 1).toUpperCase(Locale.ENGLISH) + propertyName.substring(1);
         var isserName = "is" + propertyName.substring(0, 1).toUpperCase(Locale.ENGLISH) + propertyName.substring(1);
@@ -87,6 +108,20 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = (Class<P>) getMethod.getReturnType();
         this.getMethod = getMethod;
         this.setMethod = setMethod;
+        this.index = index;
+        this.annotations = List.of(getMethod.getDeclaredAnnotations());
+        this.setterType = setMethod != null ? MethodType.methodType(setMethod.getParameterTypes()[0]).wrap().returnType() : null;
+        if (lookup != null) {
+            try {
+                this.getter = PropertyGetter.of(lookup, lookup.unreflect(getMethod));
+                this.setter = setMethod != null ? PropertySetter.of(lookup, lookup.unreflect(setMethod)) : null;
+            } catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException("Unable to access property: " + beanType.getSimpleName() + "." + propertyName, ex);
+            }
+        } else {
+            this.getter = null;
+            this.setter = null;
+        }
     }
 
     // finds a method on class or public method on super-type
@@ -140,6 +175,11 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         return metaBean;
     }
 
+    @Override
+    public int index() {
+        return index;
+    }
+
     @Override
     public Class<?> declaringType() {
         return declaringType;
@@ -166,10 +206,7 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
 
     @Override
     public List<Annotation> annotations() {
-        if (getMethod != null) {
-            return Arrays.asList(getMethod.getDeclaredAnnotations());
-        }
-        return Arrays.asList(setMethod.getDeclaredAnnotations());
+        return annotations;
     }
 
     //-----------------------------------------------------------------------
@@ -179,6 +216,20 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (!style().isReadable()) {
             throw new UnsupportedOperationException("Property cannot be read: " + name());
         }
+        if (getter != null) {
+            // match the exceptions thrown by Method.invoke
+            if (!declaringType.isInstance(bean)) {
+                throw new UnsupportedOperationException("Property cannot be read: " + name(),
+                        new IllegalArgumentException("Object is not an instance of declaring class"));
+            }
+            try {
+                return (P) getter.get(bean);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(new InvocationTargetException(ex));
+            }
+        }
         try {
             return (P) getMethod.invoke(bean, (Object[]) null);
         } catch (IllegalArgumentException | IllegalAccessException ex) {
@@ -197,6 +248,26 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (!style().isWritable()) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
+        if (setter != null) {
+            if (value == null && setMethod.getParameterTypes()[0].isPrimitive()) {
+                throw new NullPointerException("Property cannot be written: " + name() + ": Cannot store null in primitive");
+            }
+            if (value != null && !setterType.isInstance(value)) {
+                throw new ClassCastException("Property cannot be written: " + name() + ": Invalid type: " + value.getClass().getName());
+            }
+            if (!declaringType.isInstance(bean)) {
+                throw new UnsupportedOperationException("Property cannot be written: " + name(),
+                        new IllegalArgumentException("Object is not an instance of declaring class"));
+            }
+            try {
+                setter.set(bean, value);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(new InvocationTargetException(ex));
+            }
+            return;
+        }
         try {
             setMethod.invoke(bean, value);
         } catch (IllegalArgumentException ex) {
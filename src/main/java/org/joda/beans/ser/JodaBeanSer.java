@@ -23,7 +23,14 @@ import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.bin.JodaBeanBinFormat;
 import org.joda.beans.ser.bin.JodaBeanBinReader;
 import org.joda.beans.ser.bin.JodaBeanBinWriter;
+import org.joda.beans.ser.bin.JodaBeanColumnBinReader;
+import org.joda.beans.ser.bin.JodaBeanColumnBinWriter;
+import org.joda.beans.ser.column.JodaBeanColumnReader;
+import org.joda.beans.ser.column.JodaBeanColumnWriter;
+import org.joda.beans.ser.json.JodaBeanJsonLinesReader;
+import org.joda.beans.ser.json.JodaBeanJsonLinesWriter;
 import org.joda.beans.ser.json.JodaBeanJsonNumberFormat;
+import org.joda.beans.ser.json.JodaBeanJsonPushReader;
 import org.joda.beans.ser.json.JodaBeanJsonReader;
 import org.joda.beans.ser.json.JodaBeanJsonWriter;
 import org.joda.beans.ser.json.JodaBeanSimpleJsonReader;
@@ -463,6 +470,47 @@ public final class JodaBeanSer {
         return new JodaBeanJsonReader(this);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a JSON Lines writer, also known as NDJSON.
+     * <p>
+     * The writer outputs one bean per line in compact JSON, ignoring the indent and new line settings.
+     * A single instance of the writer may be used for all the beans in one output.
+     * 
+     * @return the JSON Lines writer, not null
+     * @since 3.0.0
+     */
+    public JodaBeanJsonLinesWriter jsonLinesWriter() {
+        return new JodaBeanJsonLinesWriter(this);
+    }
+
+    /**
+     * Creates a JSON Lines reader, also known as NDJSON.
+     * <p>
+     * The reader parses the input to a stream of beans.
+     * A new instance of the reader must be created for each input.
+     * 
+     * @return the JSON Lines reader, not null
+     * @since 3.0.0
+     */
+    public JodaBeanJsonLinesReader jsonLinesReader() {
+        return new JodaBeanJsonLinesReader(this);
+    }
+
+    /**
+     * Creates a push-based JSON reader, that accepts the input in chunks without blocking.
+     * <p>
+     * A new instance of the reader must be created for each input.
+     * 
+     * @param <T>  the root type
+     * @param rootType  the root type, not null
+     * @return the push-based JSON reader, not null
+     * @since 3.0.0
+     */
+    public <T> JodaBeanJsonPushReader<T> jsonPushReader(Class<T> rootType) {
+        return new JodaBeanJsonPushReader<>(this, rootType);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a simple JSON writer.
@@ -512,7 +560,7 @@ public final class JodaBeanSer {
     /**
      * Creates a simple in-memory {@code Map} reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader may be reused for many messages, which is more efficient than creating a new instance.
      * 
      * @return the simple map reader, not null
      */
@@ -520,6 +568,47 @@ public final class JodaBeanSer {
         return new JodaBeanSimpleMapReader(this);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a writer that converts a list of beans to in-memory columns.
+     * 
+     * @return the column writer, not null
+     * @since 3.0.0
+     */
+    public JodaBeanColumnWriter columnWriter() {
+        return new JodaBeanColumnWriter(this);
+    }
+
+    /**
+     * Creates a reader that converts in-memory columns to a list of beans.
+     * 
+     * @return the column reader, not null
+     * @since 3.0.0
+     */
+    public JodaBeanColumnReader columnReader() {
+        return new JodaBeanColumnReader(this);
+    }
+
+    /**
+     * Creates a writer that converts a list of beans to a column-wise binary format.
+     * 
+     * @return the column binary writer, not null
+     * @since 3.0.0
+     */
+    public JodaBeanColumnBinWriter columnBinWriter() {
+        return new JodaBeanColumnBinWriter(this);
+    }
+
+    /**
+     * Creates a reader that converts a column-wise binary format to a list of beans or columns.
+     * 
+     * @return the column binary reader, not null
+     * @since 3.0.0
+     */
+    public JodaBeanColumnBinReader columnBinReader() {
+        return new JodaBeanColumnBinReader(this);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public String toString() {
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 /**
  * The Joda-Beans serialization format.
@@ -46,6 +47,10 @@ enum JodaBeanSerFormat {
      * The XML format.
      */
     XML_UTF8,
+    /**
+     * One of the other formats, compressed using GZIP.
+     */
+    GZIP,
     /**
      * The format is unknown.
      */
@@ -74,6 +79,13 @@ enum JodaBeanSerFormat {
                 var reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
                 yield rootType.cast(settings.xmlReader().read(reader, rootType));
             }
+            case GZIP -> {
+                try {
+                    yield settings.smartReader().read(new GZIPInputStream(stream), rootType);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
             case UNKNOWN -> throw new IllegalArgumentException("File is not a recognised Joda-Beans format");
             default -> throw new IllegalArgumentException("File is not a recognised Joda-Beans format");
         };
@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
@@ -31,6 +32,11 @@ import org.joda.beans.JodaBeanUtils;
  */
 public class JodaBeanSmartReader {
 
+    /**
+     * The maximum number of bytes examined to determine the format.
+     */
+    private static final int SNIFF_LENGTH = 128;
+
     /**
      * The settings.
      */
@@ -50,9 +56,11 @@ public class JodaBeanSmartReader {
      * Checks if the input is a serialized Joda-Bean.
      * <p>
      * XML and JSON files may be prefixed by the UTF-8 Unicode BOM.
+     * Any of the formats may be compressed using GZIP.
      * <p>
      * Callers may pass in part of the file, rather than the whole file.
      * Up to 128 bytes are needed to determine the format (XML requires the most, others far less).
+     * Bytes beyond the first 128 are never examined, thus the cost is independent of the size of the input.
      * 
      * @param input  the input bytes to check, which need only consist of the first 128 bytes of the file, not null
      * @return true if it is a known format
@@ -65,6 +73,7 @@ public class JodaBeanSmartReader {
      * Checks if the input is a serialized Joda-Bean.
      * <p>
      * XML and JSON files may be prefixed by the UTF-8 Unicode BOM.
+     * Any of the formats may be compressed using GZIP.
      * <p>
      * The input stream will be marked and reset, thus these operations must be supported.
      * As such, the same stream can then be for parsing.
@@ -79,40 +88,55 @@ public class JodaBeanSmartReader {
     }
 
     //-----------------------------------------------------------------------
-    // determines the format of a serialized Joda-Bean
+    // determines the format of a serialized Joda-Bean, examining no more than the first 128 bytes
     private JodaBeanSerFormat determineFormat(byte[] input) {
-        if (input.length < 2) {
+        var length = Math.min(input.length, SNIFF_LENGTH);
+        if (length < 2) {
             return JodaBeanSerFormat.UNKNOWN;
         }
         // parse each known format. including possible UTF BOM prefix
-        if (input.length >= 4 && input[0] == (byte) 0xef && input[1] == (byte) 0xbb && input[2] == (byte) 0xbf) {
-            if (input[3] == '<' && isXml(input, 3)) {
+        if (length >= 4 && input[0] == (byte) 0xef && input[1] == (byte) 0xbb && input[2] == (byte) 0xbf) {
+            if (input[3] == '<' && isXml(input, 3, length)) {
                 return JodaBeanSerFormat.XML_UTF8;
-            } else if (input[3] == '{' && isJson(input, 3)) {
+            } else if (input[3] == '{' && isJson(input, 3, length)) {
                 return JodaBeanSerFormat.JSON_UTF8;
             } else {
                 return JodaBeanSerFormat.UNKNOWN;
             }
-        } else if (input[0] == '<' && isXml(input, 0)) {
+        } else if (input[0] == '<' && isXml(input, 0, length)) {
             return JodaBeanSerFormat.XML;
-        } else if (input[0] == '{' && isJson(input, 0)) {
+        } else if (input[0] == '{' && isJson(input, 0, length)) {
             return JodaBeanSerFormat.JSON;
+        } else if (input[0] == (byte) 0x92 && input[1] == (byte) 0x01) {
+            return JodaBeanSerFormat.BIN;
         } else if (input[0] == (byte) 0x94 && input[1] == (byte) 0x02) {
             return JodaBeanSerFormat.BIN;
-        } else if (input[0] == (byte) 0x92 && input[1] == (byte) 0x01) {
+        } else if (input[0] == (byte) 0x93 && input[1] == (byte) 0x03) {
             return JodaBeanSerFormat.BIN;
+        } else if (input[0] == (byte) 0x1f && input[1] == (byte) 0x8b && isGzip(input, length)) {
+            return JodaBeanSerFormat.GZIP;
         } else {
             return JodaBeanSerFormat.UNKNOWN;
         }
     }
 
-    private boolean isXml(byte[] bytes, int pos) {
-        var str = new String(bytes, pos, bytes.length - pos, StandardCharsets.UTF_8);
-        return str.contains("<bean ") || str.contains("<bean>");
+    // searches for '<bean ' or '<bean>' without decoding the bytes
+    private boolean isXml(byte[] bytes, int pos, int length) {
+        for (var i = pos; i < length - 5; i++) {
+            if (bytes[i] == '<' &&
+                    bytes[i + 1] == 'b' &&
+                    bytes[i + 2] == 'e' &&
+                    bytes[i + 3] == 'a' &&
+                    bytes[i + 4] == 'n' &&
+                    (bytes[i + 5] == ' ' || bytes[i + 5] == '>')) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean isJson(byte[] bytes, int pos) {
-        for (var i = pos + 1; i < bytes.length; i++) {
+    private boolean isJson(byte[] bytes, int pos, int length) {
+        for (var i = pos + 1; i < length; i++) {
             var b = bytes[i];
             if (b == '}' || b == '"') {
                 return true;
@@ -123,15 +147,33 @@ public class JodaBeanSmartReader {
         return false;
     }
 
+    // decompresses the start of the GZIP data, checking the content is a known format
+    private boolean isGzip(byte[] bytes, int length) {
+        var buf = new byte[SNIFF_LENGTH];
+        var pos = 0;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes, 0, length))) {
+            while (pos < SNIFF_LENGTH) {
+                var result = in.read(buf, pos, SNIFF_LENGTH - pos);
+                if (result == -1) {
+                    break;
+                }
+                pos += result;
+            }
+        } catch (IOException ex) {
+            // the prefix ends part way through the compressed data, so use what has been decompressed
+        }
+        return determineFormat(Arrays.copyOf(buf, pos)) != JodaBeanSerFormat.UNKNOWN;
+    }
+
     // determines the format of a serialized Joda-Bean
     private JodaBeanSerFormat determineFormat(InputStream input) {
         if (!input.markSupported()) {
             throw new IllegalArgumentException("Input stream does not support mark/reset");
         }
-        var buf = new byte[128];
+        var buf = new byte[SNIFF_LENGTH];
         try {
-            input.mark(128);
-            var readCount = read(input, buf, 128);
+            input.mark(SNIFF_LENGTH);
+            var readCount = read(input, buf, SNIFF_LENGTH);
             buf = Arrays.copyOf(buf, readCount);
             input.reset();
         } catch (IOException ex) {
@@ -182,7 +224,10 @@ public class JodaBeanSmartReader {
      */
     public <T> T read(byte[] input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
-        return read(new ByteArrayInputStream(input), rootType);
+        JodaBeanUtils.notNull(rootType, "rootType");
+        // no need to buffer, as the whole input is already in memory
+        var format = determineFormat(input);
+        return format.read(new ByteArrayInputStream(input), rootType, settings);
     }
 
     /**
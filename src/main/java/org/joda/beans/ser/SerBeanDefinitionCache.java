@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.function.BiFunction;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+
+/**
+ * Caches a definition of each bean type for use by a serializer.
+ * <p>
+ * A serializer can use this to precompute information about the properties of a bean type,
+ * such as resolved types or encoded names, rather than deriving it each time a bean is written.
+ * <p>
+ * Definitions are only cached for bean types where the meta-bean is fixed for the type.
+ * Dynamic beans, and beans whose meta-bean differs from {@link MetaBean#of(Class)}, have no definition.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <D>  the type of the definition
+ * @since 3.0.0
+ */
+public final class SerBeanDefinitionCache<D> {
+
+    /**
+     * The factory to create a definition from the meta-bean and bean type.
+     */
+    private final BiFunction<MetaBean, Class<?>, ? extends D> factory;
+    /**
+     * The cache, using ClassValue which is fast to query and does not prevent classes being unloaded.
+     */
+    private final ClassValue<Entry<D>> cache = new ClassValue<>() {
+
+        @Override
+        protected Entry<D> computeValue(Class<?> type) {
+            if (!Bean.class.isAssignableFrom(type) || DynamicBean.class.isAssignableFrom(type)) {
+                return null;
+            }
+            try {
+                var metaBean = MetaBean.of(type);
+                return new Entry<>(metaBean, factory.apply(metaBean, type));
+            } catch (RuntimeException ex) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * Creates an instance.
+     *
+     * @param factory  the factory to create a definition from the meta-bean and bean type, not null
+     */
+    public SerBeanDefinitionCache(BiFunction<MetaBean, Class<?>, ? extends D> factory) {
+        JodaBeanUtils.notNull(factory, "factory");
+        this.factory = factory;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the definition of the bean type.
+     *
+     * @param beanType  the bean type, not null
+     * @return the definition, null if the type has no fixed meta-bean
+     */
+    public D find(Class<?> beanType) {
+        var entry = cache.get(beanType);
+        return entry != null ? entry.definition : null;
+    }
+
+    /**
+     * Finds the definition of the bean.
+     * <p>
+     * The definition is only returned if the meta-bean of the bean matches the cached one.
+     *
+     * @param bean  the bean, not null
+     * @return the definition, null if the bean is dynamic or has a different meta-bean
+     */
+    public D find(Bean bean) {
+        var entry = cache.get(bean.getClass());
+        return entry != null && entry.metaBean == bean.metaBean() ? entry.definition : null;
+    }
+
+    //-----------------------------------------------------------------------
+    // a cached definition with the meta-bean it was created from
+    private static final class Entry<D> {
+        private final MetaBean metaBean;
+        private final D definition;
+
+        private Entry(MetaBean metaBean, D definition) {
+            this.metaBean = metaBean;
+            this.definition = definition;
+        }
+    }
+
+}
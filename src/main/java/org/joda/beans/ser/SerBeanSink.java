@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.io.IOException;
+
+import org.joda.beans.MetaProperty;
+
+/**
+ * Receives the structure of a bean as a sequence of events, allowing data to be transcoded between formats.
+ * <p>
+ * A reader that supports transcoding parses the input and calls the sink, without building the beans.
+ * The meta-beans are only used to resolve the types of the properties.
+ * A sink is obtained from a writer and outputs the events in its format.
+ * For example, {@code JodaBeanXmlReader.transcode()} can be connected to {@code JodaBeanJsonWriter.sink()}.
+ * <p>
+ * Methods are called in order as follows:
+ * <ol>
+ * <li>{@code startBean} - for the root bean, with a null meta-property
+ * <li>{@code property} - once per property, or {@code startBean}, {@code property} and {@code endBean}
+ *  where the value of the property is itself streamed as a bean
+ * <li>{@code endBean} - for the root bean, after which the sink has completed the output
+ * </ol>
+ * <p>
+ * Before streaming the value of a property as a bean, the reader calls {@code isStreamable}.
+ * Beans that the sink cannot stream, beans without the default deserializer, and beans within collections,
+ * are built and passed to {@code property}.
+ * The methods {@code setValue} and {@code build} of {@link SerDeserializer} are not called for streamed beans.
+ *
+ * @since 3.0.0
+ */
+public interface SerBeanSink {
+
+    /**
+     * Checks if a bean of the specified type can be received as a sequence of events.
+     * <p>
+     * If false, the bean is built and passed to {@link #property(MetaProperty, Object)}.
+     * 
+     * @param beanType  the type of the bean, not null
+     * @return true if the bean can be streamed
+     */
+    public abstract boolean isStreamable(Class<?> beanType);
+
+    /**
+     * Starts a bean.
+     * 
+     * @param metaProperty  the meta-property that the bean is the value of, null for the root bean
+     * @param beanType  the type of the bean, not null
+     * @throws IOException if an error occurs
+     */
+    public abstract void startBean(MetaProperty<?> metaProperty, Class<?> beanType) throws IOException;
+
+    /**
+     * Receives the value of a property of the current bean.
+     * <p>
+     * The value is in serialized form, thus the value of an optional property is not wrapped in an {@code Optional}.
+     * 
+     * @param metaProperty  the meta-property, not null
+     * @param value  the value of the property, null if not present
+     * @throws IOException if an error occurs
+     */
+    public abstract void property(MetaProperty<?> metaProperty, Object value) throws IOException;
+
+    /**
+     * Ends the current bean.
+     * 
+     * @throws IOException if an error occurs
+     */
+    public abstract void endBean() throws IOException;
+
+}
@@ -179,6 +179,19 @@ public final class SerDeserializers {
         return defaultDeserializer;
     }
 
+    /**
+     * Checks if the default deserializer is used for the specified type.
+     * <p>
+     * This returns false if a deserializer has been registered or provided for the type.
+     * 
+     * @param type  the type, not null
+     * @return true if the default deserializer is used
+     * @since 3.0.0
+     */
+    public boolean isDefaultDeserializer(Class<?> type) {
+        return findDeserializer(type) == defaultDeserializer;
+    }
+
     /**
      * Decodes the type
      * 
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
 
+import org.joda.beans.MetaBean;
 import org.joda.convert.RenameHandler;
 
 /**
@@ -217,7 +218,12 @@ public final class SerTypeMapper {
             expanded = true;
         }
         try {
-            result = RenameHandler.INSTANCE.lookupType(fullName);
+            // an indexed bean avoids loading the class reflectively
+            // the index is only trusted if it returns the class that was named
+            var indexed = MetaBean.findIndexed(fullName).map(MetaBean::beanType).orElse(null);
+            result = indexed != null && indexed.getName().equals(fullName) ?
+                    indexed :
+                    RenameHandler.INSTANCE.lookupType(fullName);
             if (knownTypes != null) {
                 // cache full name
                 knownTypes.put(fullName, result);
@@ -0,0 +1,217 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Reads Joda-Beans from a file written by {@link JodaBeanBinFileWriter}.
+ * <p>
+ * The file is read using a {@link FileChannel}.
+ * Records can be read in sequence using {@link #readAll(Class)}, or individually by position.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @since 3.0.0
+ */
+public final class JodaBeanBinFileReader implements Closeable {
+
+    /**
+     * The initial size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The reader.
+     */
+    private final JodaBeanBinReader reader;
+    /**
+     * The channel.
+     */
+    private final FileChannel channel;
+    /**
+     * The buffer for the length of each record.
+     */
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+    /**
+     * The buffer for the data of each record, reused and grown as necessary.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    //-----------------------------------------------------------------------
+    /**
+     * Opens a file for reading.
+     * <p>
+     * This is normally called via {@link JodaBeanBinReader#fileReader(Path)}.
+     * 
+     * @param reader  the binary reader, not null
+     * @param file  the file to read, not null
+     * @return the file reader, not null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JodaBeanBinFileReader open(JodaBeanBinReader reader, Path file) throws IOException {
+        JodaBeanUtils.notNull(reader, "reader");
+        JodaBeanUtils.notNull(file, "file");
+        return new JodaBeanBinFileReader(reader, FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param reader  the binary reader, not null
+     * @param channel  the channel, not null
+     */
+    private JodaBeanBinFileReader(JodaBeanBinReader reader, FileChannel channel) {
+        this.reader = reader;
+        this.channel = channel;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the record at the specified position.
+     * <p>
+     * The position is that returned by {@link JodaBeanBinFileWriter#write(org.joda.beans.Bean)}.
+     * 
+     * @param <T>  the root type
+     * @param position  the position of the record in the file
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     * @throws IllegalArgumentException if the file does not contain a valid record at the position
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public <T> T read(long position, Class<T> rootType) {
+        JodaBeanUtils.notNull(rootType, "rootType");
+        var length = readLength(position);
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid binary data: End of file");
+        }
+        return readRecord(position, length, rootType);
+    }
+
+    /**
+     * Reads all the records in the file, in order.
+     * <p>
+     * The records are read lazily as the stream is consumed.
+     * 
+     * @param <T>  the root type
+     * @param rootType  the root type, not null
+     * @return the stream of beans, not null
+     * @throws IllegalArgumentException if the file contains an invalid record
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public <T> Stream<T> readAll(Class<T> rootType) {
+        JodaBeanUtils.notNull(rootType, "rootType");
+        var spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private long position;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                var length = readLength(position);
+                if (length < 0) {
+                    return false;
+                }
+                action.accept(readRecord(position, length, rootType));
+                position += 4 + length;
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Closes the file.
+     * 
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    //-----------------------------------------------------------------------
+    // reads the length of the record, -1 if at the end of the file
+    private int readLength(long position) {
+        lengthBuffer.clear();
+        if (!readFully(lengthBuffer, position)) {
+            if (lengthBuffer.position() == 0) {
+                return -1;
+            }
+            throw new IllegalArgumentException("Invalid binary data: End of file");
+        }
+        var length = lengthBuffer.getInt(0);
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid binary data: Record length was negative");
+        }
+        // check against the file size before the length is used to allocate a buffer
+        if (length > fileSize() - position - 4) {
+            throw new IllegalArgumentException("Invalid binary data: Record length exceeds the end of the file");
+        }
+        return length;
+    }
+
+    // the current size of the file
+    private long fileSize() {
+        try {
+            return channel.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // reads the record data and parses the bean
+    private <T> T readRecord(long position, int length, Class<T> rootType) {
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+        }
+        buffer.clear().limit(length);
+        if (!readFully(buffer, position + 4)) {
+            throw new IllegalArgumentException("Invalid binary data: End of file");
+        }
+        return reader.read(new ByteArrayInputStream(buffer.array(), 0, length), rootType);
+    }
+
+    // reads until the buffer is full, returning false if the end of file is reached first
+    private boolean readFully(ByteBuffer target, long position) {
+        try {
+            var readPosition = position;
+            while (target.hasRemaining()) {
+                var count = channel.read(target, readPosition);
+                if (count < 0) {
+                    return false;
+                }
+                readPosition += count;
+            }
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,369 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Writes Joda-Beans to a file in a binary format, with the I/O performed asynchronously.
+ * <p>
+ * The file consists of a sequence of records, each of which is a 4 byte big-endian length followed
+ * by the binary form of a single bean, as written by {@link JodaBeanBinWriter}.
+ * The file is opened for appending, creating it if necessary.
+ * Use {@link JodaBeanBinFileReader} to read the file.
+ * <p>
+ * Each call to {@link #write(Bean)} serializes the bean on the calling thread into a pooled buffer,
+ * then queues the buffer to be written using an {@link AsynchronousFileChannel}.
+ * This allows the next bean to be serialized while the previous one is being written.
+ * The records are written in the order that {@code write} is called.
+ * <p>
+ * The file is forced to the storage device once for each batch of records, as defined by the sync batch size.
+ * The future returned by {@code write} completes when the record has been forced, thus it is durable.
+ * Calling {@link #flush()} forces a partial batch.
+ * If a write fails, the futures of that record and all subsequent records complete exceptionally.
+ * Once a write has failed, the writer does not attempt to write any further records.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 3.0.0
+ */
+public final class JodaBeanBinFileWriter implements Closeable {
+
+    /**
+     * The size of each pooled buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * The maximum number of pooled buffers.
+     */
+    private static final int POOL_SIZE = 16;
+
+    /**
+     * The writer.
+     */
+    private final JodaBeanBinWriter writer;
+    /**
+     * The channel.
+     */
+    private final AsynchronousFileChannel channel;
+    /**
+     * The number of records in each sync batch.
+     */
+    private final int syncBatchSize;
+    /**
+     * The pool of buffers.
+     */
+    private final ArrayBlockingQueue<ByteBuffer> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+    /**
+     * The lock guarding the mutable state.
+     */
+    private final Object lock = new Object();
+    /**
+     * The position in the file of the next record.
+     */
+    private long position;
+    /**
+     * The stage that completes when all queued records have been written.
+     */
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+    /**
+     * The records written since the last sync.
+     */
+    private List<PendingRecord> unsynced = new ArrayList<>();
+    /**
+     * Whether the writer has been closed.
+     */
+    private boolean closed;
+    /**
+     * The first failure to write, null if none.
+     */
+    private Throwable failure;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Opens a file for writing.
+     * <p>
+     * This is normally called via {@link JodaBeanBinWriter#fileWriter(Path, int)}.
+     * 
+     * @param writer  the binary writer, not null
+     * @param file  the file to append to, not null
+     * @param syncBatchSize  the number of records to write before forcing the file to the storage device, one or more
+     * @return the file writer, not null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JodaBeanBinFileWriter open(JodaBeanBinWriter writer, Path file, int syncBatchSize) throws IOException {
+        JodaBeanUtils.notNull(writer, "writer");
+        JodaBeanUtils.notNull(file, "file");
+        if (syncBatchSize < 1) {
+            throw new IllegalArgumentException("Sync batch size must be one or more");
+        }
+        var channel = AsynchronousFileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        return new JodaBeanBinFileWriter(writer, channel, syncBatchSize);
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param writer  the binary writer, not null
+     * @param channel  the channel, not null
+     * @param syncBatchSize  the sync batch size
+     * @throws IOException if an error occurs
+     */
+    private JodaBeanBinFileWriter(JodaBeanBinWriter writer, AsynchronousFileChannel channel, int syncBatchSize)
+            throws IOException {
+        this.writer = writer;
+        this.channel = channel;
+        this.syncBatchSize = syncBatchSize;
+        this.position = channel.size();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a bean to the file.
+     * <p>
+     * The bean is serialized before this method returns, thus it may be mutated afterwards.
+     * The returned future completes with the position of the record in the file once it is durable.
+     * The position can be passed to {@link JodaBeanBinFileReader#read(long, Class)}.
+     * 
+     * @param bean  the bean to write, not null
+     * @return the future position of the record, not null
+     * @throws IllegalStateException if the writer has been closed
+     */
+    public CompletableFuture<Long> write(Bean bean) {
+        JodaBeanUtils.notNull(bean, "bean");
+        var buffer = serialize(bean);
+        var result = new CompletableFuture<Long>();
+        synchronized (lock) {
+            if (closed) {
+                release(buffer);
+                throw new IllegalStateException("File writer has been closed");
+            }
+            if (failure != null) {
+                release(buffer);
+                return CompletableFuture.failedFuture(failure);
+            }
+            var recordPosition = position;
+            position += buffer.remaining();
+            // the buffer is released whether or not it was written, as a failure skips the write
+            tail = tail
+                    .thenCompose(ignored -> writeFully(buffer, recordPosition))
+                    .whenComplete((ignored, ex) -> {
+                        release(buffer);
+                        if (ex != null) {
+                            fail(ex);
+                        }
+                    });
+            unsynced.add(new PendingRecord(recordPosition, result));
+            if (unsynced.size() >= syncBatchSize) {
+                syncBatch();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forces all records written so far to the storage device.
+     * <p>
+     * The returned future completes once the futures of all previously written records have completed.
+     * 
+     * @return the future, not null
+     */
+    public CompletableFuture<Void> flush() {
+        synchronized (lock) {
+            syncBatch();
+            return tail;
+        }
+    }
+
+    /**
+     * Closes the file, waiting for all records to be written and forced.
+     * 
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        CompletableFuture<Void> last;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            syncBatch();
+            last = tail;
+        }
+        try {
+            last.join();
+        } catch (CompletionException ex) {
+            channel.close();
+            throw ex.getCause() instanceof IOException ioEx ? ioEx : new IOException(ex.getCause());
+        }
+        channel.close();
+    }
+
+    //-----------------------------------------------------------------------
+    // queues a force of the file after the pending writes, completing the futures of the batch
+    // must be called while holding the lock
+    private void syncBatch() {
+        if (unsynced.isEmpty()) {
+            return;
+        }
+        var batch = unsynced;
+        unsynced = new ArrayList<>();
+        tail = tail
+                .thenRun(() -> {
+                    try {
+                        channel.force(false);
+                    } catch (IOException ex) {
+                        throw new CompletionException(ex);
+                    }
+                })
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        fail(ex);
+                    }
+                    for (var record : batch) {
+                        if (ex == null) {
+                            record.future.complete(record.position);
+                        } else {
+                            record.future.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+                        }
+                    }
+                });
+    }
+
+    // records the first failure, after which no more records are written
+    private void fail(Throwable ex) {
+        synchronized (lock) {
+            if (failure == null) {
+                failure = ex instanceof CompletionException ? ex.getCause() : ex;
+            }
+        }
+    }
+
+    // writes the whole buffer, which may require several calls to the channel
+    private CompletableFuture<Void> writeFully(ByteBuffer buffer, long recordPosition) {
+        var result = new CompletableFuture<Void>();
+        channel.write(buffer, recordPosition, recordPosition, new CompletionHandler<Integer, Long>() {
+
+            @Override
+            public void completed(Integer count, Long writePosition) {
+                if (buffer.hasRemaining()) {
+                    var nextPosition = writePosition + count;
+                    channel.write(buffer, nextPosition, nextPosition, this);
+                } else {
+                    result.complete(null);
+                }
+            }
+
+            @Override
+            public void failed(Throwable ex, Long writePosition) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    // serializes the bean to a buffer, prefixed by the length
+    private ByteBuffer serialize(Bean bean) {
+        var buffer = pool.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        var out = new BufferOutputStream(buffer);
+        try {
+            out.buffer.putInt(0);
+            writer.write(bean, out);
+        } catch (IOException ex) {
+            release(buffer);
+            throw new IllegalStateException(ex);
+        } catch (RuntimeException ex) {
+            release(buffer);
+            throw ex;
+        }
+        var result = out.buffer;
+        if (result != buffer) {
+            release(buffer);
+        }
+        result.putInt(0, result.position() - 4);
+        return result.flip();
+    }
+
+    // returns a buffer to the pool, if it is one of the standard size
+    private void release(ByteBuffer buffer) {
+        if (buffer.capacity() == BUFFER_SIZE && buffer.isDirect()) {
+            pool.offer(buffer.clear());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // a record that has not yet been forced
+    private static final class PendingRecord {
+        private final long position;
+        private final CompletableFuture<Long> future;
+
+        private PendingRecord(long position, CompletableFuture<Long> future) {
+            this.position = position;
+            this.future = future;
+        }
+    }
+
+    // an output stream writing to a buffer, replacing the buffer with a larger one when full
+    private static final class BufferOutputStream extends OutputStream {
+        private ByteBuffer buffer;
+
+        private BufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            buffer.put(bytes, offset, length);
+        }
+
+        private void ensureCapacity(int length) {
+            if (buffer.remaining() < length) {
+                var newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+                var expanded = ByteBuffer.allocate(newCapacity);
+                expanded.put(buffer.flip());
+                buffer = expanded;
+            }
+        }
+    }
+
+}
@@ -17,7 +17,9 @@ package org.joda.beans.ser.bin;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import org.joda.beans.Bean;
@@ -122,6 +124,18 @@ public class JodaBeanBinReader extends MsgPack {
         }
     }
 
+    /**
+     * Opens a file of beans written by {@link JodaBeanBinFileWriter}.
+     * 
+     * @param file  the file to read, not null
+     * @return the file reader, not null
+     * @throws IOException if the file cannot be opened
+     * @since 3.0.0
+     */
+    public JodaBeanBinFileReader fileReader(Path file) throws IOException {
+        return JodaBeanBinFileReader.open(this, file);
+    }
+
     //-----------------------------------------------------------------------
     // parses the version
     private <T> T parseVersion(DataInputStream input, Class<T> declaredType) throws Exception {
@@ -20,11 +20,13 @@ import static org.joda.beans.ser.bin.JodaBeanBinFormat.STANDARD;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.LinkedByteArrayOutputStream;
+import org.joda.beans.ser.SerBeanSink;
 
 /**
  * Provides the ability for a Joda-Bean to be written to a binary format.
@@ -141,4 +143,40 @@ public class JodaBeanBinWriter {
         }
     }
 
+    /**
+     * Opens a file to write beans to, with the I/O performed asynchronously.
+     * <p>
+     * See {@link JodaBeanBinFileWriter} for details.
+     * 
+     * @param file  the file to append to, not null
+     * @param syncBatchSize  the number of records to write before forcing the file to the storage device, one or more
+     * @return the file writer, not null
+     * @throws IOException if the file cannot be opened
+     * @since 3.0.0
+     */
+    public JodaBeanBinFileWriter fileWriter(Path file, int syncBatchSize) throws IOException {
+        return JodaBeanBinFileWriter.open(this, file, syncBatchSize);
+    }
+
+    /**
+     * Creates a sink that writes a bean to the {@code OutputStream} as it is transcoded from another format.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The bytes are the same as those written by {@link #write(Bean, OutputStream)}, and are written as the events are received.
+     * Only the {@link JodaBeanBinFormat#PACKED packed} format is supported.
+     * A new sink must be created for each message.
+     * 
+     * @param output  the output stream, not null
+     * @return the sink, not null
+     * @throws IllegalArgumentException if the format is not packed
+     * @since 3.0.0
+     */
+    public SerBeanSink sink(OutputStream output) {
+        Objects.requireNonNull(output, "output must not be null");
+        if (format != JodaBeanBinFormat.PACKED) {
+            throw new IllegalArgumentException("Invalid bin format, transcoding is only supported by the Packed format");
+        }
+        return new JodaBeanPackedBinWriter(settings, output).sink();
+    }
+
 }
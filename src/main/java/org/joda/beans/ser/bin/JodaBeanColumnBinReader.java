@@ -0,0 +1,462 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.joda.beans.ser.bin.BeanPack.ARRAY_16;
+import static org.joda.beans.ser.bin.BeanPack.ARRAY_32;
+import static org.joda.beans.ser.bin.BeanPack.ARRAY_8;
+import static org.joda.beans.ser.bin.BeanPack.DOUBLE_64;
+import static org.joda.beans.ser.bin.BeanPack.DOUBLE_ARRAY_16;
+import static org.joda.beans.ser.bin.BeanPack.DOUBLE_ARRAY_32;
+import static org.joda.beans.ser.bin.BeanPack.DOUBLE_ARRAY_8;
+import static org.joda.beans.ser.bin.BeanPack.DOUBLE_INT_8;
+import static org.joda.beans.ser.bin.BeanPack.INT_16;
+import static org.joda.beans.ser.bin.BeanPack.INT_32;
+import static org.joda.beans.ser.bin.BeanPack.LONG_16;
+import static org.joda.beans.ser.bin.BeanPack.LONG_32;
+import static org.joda.beans.ser.bin.BeanPack.LONG_64;
+import static org.joda.beans.ser.bin.BeanPack.LONG_8;
+import static org.joda.beans.ser.bin.BeanPack.MAX_FIX_ARRAY;
+import static org.joda.beans.ser.bin.BeanPack.MAX_FIX_STR;
+import static org.joda.beans.ser.bin.BeanPack.MIN_FIX_ARRAY;
+import static org.joda.beans.ser.bin.BeanPack.MIN_FIX_INT;
+import static org.joda.beans.ser.bin.BeanPack.MIN_FIX_STR;
+import static org.joda.beans.ser.bin.BeanPack.STR_16;
+import static org.joda.beans.ser.bin.BeanPack.STR_32;
+import static org.joda.beans.ser.bin.BeanPack.STR_8;
+import static org.joda.beans.ser.bin.BeanPack.UTF_8;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.ENCODING_DELTA;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.ENCODING_PLAIN;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.ENCODING_RLE;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.HEADER;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.TYPE_DICTIONARY;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.TYPE_DOUBLE;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.TYPE_INT;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.TYPE_LONG;
+import static org.joda.beans.ser.bin.JodaBeanColumnBinWriter.VERSION;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.column.BeanColumn;
+import org.joda.beans.ser.column.BeanColumns;
+
+/**
+ * Provides the ability for a list of Joda-Beans of one type to be read from a column-wise binary format.
+ * <p>
+ * The format is defined by {@link JodaBeanColumnBinWriter}.
+ * The footer index is read first, allowing a subset of the columns to be read.
+ * When reading from a {@link SeekableByteChannel}, such as a {@code FileChannel},
+ * the blocks of the columns that are not requested are not read at all.
+ * <p>
+ * This class is immutable and may be used from multiple threads.
+ *
+ * @since 3.0.0
+ */
+public class JodaBeanColumnBinReader {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings to use, not null
+     */
+    public JodaBeanColumnBinReader(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.settings = settings;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads a list of beans from a byte array.
+     * 
+     * @param <T>  the bean type
+     * @param input  the input bytes, not null
+     * @param beanType  the type of the beans, not null
+     * @return the list of beans, not null
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public <T> List<T> read(byte[] input, Class<T> beanType) {
+        return settings.columnReader().read(readColumns(input), beanType);
+    }
+
+    /**
+     * Reads all the columns from a byte array.
+     * 
+     * @param input  the input bytes, not null
+     * @return the columns, not null
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public BeanColumns readColumns(byte[] input) {
+        return readColumns(input, null);
+    }
+
+    /**
+     * Reads the specified columns from a byte array.
+     * <p>
+     * Only the blocks of the specified columns are decoded.
+     * The columns are returned in the order they were written.
+     * 
+     * @param input  the input bytes, not null
+     * @param columnNames  the names of the columns to read, null to read all columns
+     * @return the columns, not null
+     * @throws IllegalArgumentException if the input is invalid or a column is not found
+     */
+    public BeanColumns readColumns(byte[] input, Collection<String> columnNames) {
+        JodaBeanUtils.notNull(input, "input");
+        try {
+            return readColumns(input.length, columnNames, (offset, length) -> {
+                if (offset < 0 || length < 0 || offset + length > input.length) {
+                    throw new IllegalArgumentException("Invalid binary data: Block outside input");
+                }
+                return new DataInputStream(new ByteArrayInputStream(input, (int) offset, (int) length));
+            });
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Invalid binary data: End of file", ex);
+        }
+    }
+
+    /**
+     * Reads the specified columns from a channel, such as a {@code FileChannel}.
+     * <p>
+     * Only the header, footer index and the blocks of the specified columns are read.
+     * The position of the channel is changed by this method, and the channel is not closed.
+     * The columns are returned in the order they were written.
+     * 
+     * @param channel  the channel to read from, not null
+     * @param columnNames  the names of the columns to read, null to read all columns
+     * @return the columns, not null
+     * @throws IllegalArgumentException if the input is invalid or a column is not found
+     * @throws IOException if an error occurs
+     */
+    public BeanColumns readColumns(SeekableByteChannel channel, Collection<String> columnNames) throws IOException {
+        JodaBeanUtils.notNull(channel, "channel");
+        return readColumns(channel.size(), columnNames, (offset, length) -> {
+            if (offset < 0 || length < 0 || offset + length > channel.size() || length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid binary data: Block outside input");
+            }
+            var buf = ByteBuffer.allocate((int) length);
+            channel.position(offset);
+            while (buf.hasRemaining()) {
+                if (channel.read(buf) < 0) {
+                    throw new IllegalArgumentException("Invalid binary data: End of file");
+                }
+            }
+            return new DataInputStream(new ByteArrayInputStream(buf.array()));
+        });
+    }
+
+    //-----------------------------------------------------------------------
+    // reads the columns using the footer index
+    private static BeanColumns readColumns(long size, Collection<String> columnNames, BlockSource source) throws IOException {
+        var headerSize = HEADER.length() + 2;
+        if (size < headerSize + 4) {
+            throw new IllegalArgumentException("Invalid binary data: Too short for column format");
+        }
+        var header = source.open(0, headerSize);
+        if (!HEADER.equals(readString(header)) || readInt(header) != VERSION) {
+            throw new IllegalArgumentException("Invalid binary data: Expected column format header");
+        }
+        var footerLength = source.open(size - 4, 4).readInt();
+        var footer = source.open(size - 4 - footerLength, footerLength);
+        if (readArrayHeader(footer) != 2) {
+            throw new IllegalArgumentException("Invalid binary data: Expected footer index");
+        }
+        var rowCount = checkNotNegative(readInt(footer));
+        var columnCount = readArrayHeader(footer);
+        var remaining = columnNames != null ? new LinkedHashSet<>(columnNames) : null;
+        List<BeanColumn> columns = new ArrayList<>();
+        for (var i = 0; i < columnCount; i++) {
+            if (readArrayHeader(footer) != 4) {
+                throw new IllegalArgumentException("Invalid binary data: Expected footer index entry");
+            }
+            var name = readString(footer);
+            var type = readInt(footer);
+            var offset = readLong(footer);
+            var length = readLong(footer);
+            if (remaining == null || remaining.remove(name)) {
+                columns.add(readColumn(name, type, rowCount, source.open(offset, length)));
+            }
+        }
+        if (remaining != null && !remaining.isEmpty()) {
+            throw new IllegalArgumentException("Invalid column names, not found: " + remaining);
+        }
+        return BeanColumns.of(rowCount, columns);
+    }
+
+    // reads a single column block
+    private static BeanColumn readColumn(String name, int type, int rowCount, DataInputStream in) throws IOException {
+        return switch (type) {
+            case TYPE_DOUBLE -> BeanColumn.ofDoubles(name, readDoubles(rowCount, in));
+            case TYPE_LONG -> BeanColumn.ofLongs(name, readLongs(rowCount, in));
+            case TYPE_INT -> BeanColumn.ofInts(name, readInts(rowCount, in));
+            case TYPE_DICTIONARY -> {
+                var dictionarySize = readArrayHeader(in);
+                checkAvailable(dictionarySize, in);
+                var dictionary = new String[dictionarySize];
+                for (var i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = readString(in);
+                }
+                yield BeanColumn.ofDictionary(name, dictionary, readInts(rowCount, in));
+            }
+            default -> throw new IllegalArgumentException("Invalid binary data: Unknown column type: " + type);
+        };
+    }
+
+    // reads doubles
+    private static double[] readDoubles(int rowCount, DataInputStream in) throws IOException {
+        var encoding = readInt(in);
+        if (encoding == ENCODING_PLAIN) {
+            var typeByte = in.readByte();
+            var size = switch (typeByte) {
+                case DOUBLE_ARRAY_8 -> in.readUnsignedByte();
+                case DOUBLE_ARRAY_16 -> in.readUnsignedShort();
+                case DOUBLE_ARRAY_32 -> in.readInt();
+                default -> throw new IllegalArgumentException("Invalid binary data: Expected double[], but was " + typeByte);
+            };
+            checkSize(size, rowCount);
+            checkAvailable(rowCount * 8L, in);
+            var values = new double[rowCount];
+            for (var i = 0; i < rowCount; i++) {
+                values[i] = in.readDouble();
+            }
+            return values;
+
+        } else if (encoding == ENCODING_RLE) {
+            var runEnds = new int[readRunCount(in)];
+            var runValues = new double[runEnds.length];
+            var pos = 0;
+            for (var i = 0; i < runEnds.length; i++) {
+                pos = runEnds[i] = checkRun(pos, readInt(in), rowCount);
+                runValues[i] = readDouble(in);
+            }
+            checkSize(pos, rowCount);
+            var values = new double[rowCount];
+            pos = 0;
+            for (var i = 0; i < runEnds.length; i++) {
+                Arrays.fill(values, pos, runEnds[i], runValues[i]);
+                pos = runEnds[i];
+            }
+            return values;
+
+        } else {
+            throw new IllegalArgumentException("Invalid binary data: Unknown encoding: " + encoding);
+        }
+    }
+
+    // reads longs
+    private static long[] readLongs(int rowCount, DataInputStream in) throws IOException {
+        var encoding = readInt(in);
+        if (encoding == ENCODING_PLAIN || encoding == ENCODING_DELTA) {
+            checkAvailable(rowCount, in);
+            var values = new long[rowCount];
+            var previous = 0L;
+            for (var i = 0; i < rowCount; i++) {
+                var value = readLong(in);
+                previous = encoding == ENCODING_DELTA ? previous + value : value;
+                values[i] = previous;
+            }
+            return values;
+
+        } else if (encoding == ENCODING_RLE) {
+            var runEnds = new int[readRunCount(in)];
+            var runValues = new long[runEnds.length];
+            var pos = 0;
+            for (var i = 0; i < runEnds.length; i++) {
+                pos = runEnds[i] = checkRun(pos, readInt(in), rowCount);
+                runValues[i] = readLong(in);
+            }
+            checkSize(pos, rowCount);
+            var values = new long[rowCount];
+            pos = 0;
+            for (var i = 0; i < runEnds.length; i++) {
+                Arrays.fill(values, pos, runEnds[i], runValues[i]);
+                pos = runEnds[i];
+            }
+            return values;
+
+        } else {
+            throw new IllegalArgumentException("Invalid binary data: Unknown encoding: " + encoding);
+        }
+    }
+
+    // reads ints
+    private static int[] readInts(int rowCount, DataInputStream in) throws IOException {
+        var encoding = readInt(in);
+        if (encoding == ENCODING_PLAIN || encoding == ENCODING_DELTA) {
+            checkAvailable(rowCount, in);
+            var values = new int[rowCount];
+            var previous = 0;
+            for (var i = 0; i < rowCount; i++) {
+                var value = readInt(in);
+                previous = encoding == ENCODING_DELTA ? previous + value : value;
+                values[i] = previous;
+            }
+            return values;
+
+        } else if (encoding == ENCODING_RLE) {
+            var runEnds = new int[readRunCount(in)];
+            var runValues = new int[runEnds.length];
+            var pos = 0;
+            for (var i = 0; i < runEnds.length; i++) {
+                pos = runEnds[i] = checkRun(pos, readInt(in), rowCount);
+                runValues[i] = readInt(in);
+            }
+            checkSize(pos, rowCount);
+            var values = new int[rowCount];
+            pos = 0;
+            for (var i = 0; i < runEnds.length; i++) {
+                Arrays.fill(values, pos, runEnds[i], runValues[i]);
+                pos = runEnds[i];
+            }
+            return values;
+
+        } else {
+            throw new IllegalArgumentException("Invalid binary data: Unknown encoding: " + encoding);
+        }
+    }
+
+    // reads the number of runs, each of which is at least two bytes
+    private static int readRunCount(DataInputStream in) throws IOException {
+        var runs = checkNotNegative(readInt(in));
+        checkAvailable(runs * 2L, in);
+        return runs;
+    }
+
+    // checks the block has enough bytes left, as each block is held in memory this is known exactly
+    // this ensures that a corrupt size cannot cause a large allocation
+    private static void checkAvailable(long requiredBytes, DataInputStream in) throws IOException {
+        if (requiredBytes > in.available()) {
+            throw new IllegalArgumentException("Invalid binary data: Size exceeds column block: " + requiredBytes);
+        }
+    }
+
+    // checks a run fits in the column
+    private static int checkRun(int pos, int runLength, int rowCount) {
+        if (runLength <= 0 || runLength > rowCount - pos) {
+            throw new IllegalArgumentException("Invalid binary data: Run length does not match row count");
+        }
+        return pos + runLength;
+    }
+
+    // checks the size matches the row count
+    private static void checkSize(int size, int rowCount) {
+        if (size != rowCount) {
+            throw new IllegalArgumentException("Invalid binary data: Column size does not match row count");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // reads a BeanPack int
+    private static int readInt(DataInputStream in) throws IOException {
+        var typeByte = in.readByte();
+        if (typeByte >= MIN_FIX_INT) {
+            return typeByte;
+        }
+        return switch (typeByte) {
+            case INT_16 -> in.readShort();
+            case INT_32 -> in.readInt();
+            default -> throw new IllegalArgumentException("Invalid binary data: Expected int, but was " + typeByte);
+        };
+    }
+
+    // reads a BeanPack long
+    private static long readLong(DataInputStream in) throws IOException {
+        var typeByte = in.readByte();
+        return switch (typeByte) {
+            case LONG_8 -> in.readByte();
+            case LONG_16 -> in.readShort();
+            case LONG_32 -> in.readInt();
+            case LONG_64 -> in.readLong();
+            default -> throw new IllegalArgumentException("Invalid binary data: Expected long, but was " + typeByte);
+        };
+    }
+
+    // reads a BeanPack double
+    private static double readDouble(DataInputStream in) throws IOException {
+        var typeByte = in.readByte();
+        return switch (typeByte) {
+            case DOUBLE_INT_8 -> in.readByte();
+            case DOUBLE_64 -> in.readDouble();
+            default -> throw new IllegalArgumentException("Invalid binary data: Expected double, but was " + typeByte);
+        };
+    }
+
+    // reads a BeanPack string
+    private static String readString(DataInputStream in) throws IOException {
+        var typeByte = in.readByte();
+        int size;
+        if (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) {
+            size = typeByte - MIN_FIX_STR;
+        } else {
+            size = switch (typeByte) {
+                case STR_8 -> in.readUnsignedByte();
+                case STR_16 -> in.readUnsignedShort();
+                case STR_32 -> checkNotNegative(in.readInt());
+                default -> throw new IllegalArgumentException("Invalid binary data: Expected string, but was " + typeByte);
+            };
+        }
+        var bytes = new byte[size];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    // reads a BeanPack array header
+    private static int readArrayHeader(DataInputStream in) throws IOException {
+        var typeByte = in.readByte();
+        if (typeByte >= MIN_FIX_ARRAY && typeByte <= MAX_FIX_ARRAY) {
+            return typeByte - MIN_FIX_ARRAY;
+        }
+        return switch (typeByte) {
+            case ARRAY_8 -> in.readUnsignedByte();
+            case ARRAY_16 -> in.readUnsignedShort();
+            case ARRAY_32 -> checkNotNegative(in.readInt());
+            default -> throw new IllegalArgumentException("Invalid binary data: Expected array, but was " + typeByte);
+        };
+    }
+
+    // checks a 32-bit size is not negative
+    private static int checkNotNegative(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid binary data: Negative size: " + size);
+        }
+        return size;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Provides access to a block of the input.
+     */
+    @FunctionalInterface
+    private interface BlockSource {
+        DataInputStream open(long offset, long length) throws IOException;
+    }
+
+}
@@ -0,0 +1,363 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.column.BeanColumn;
+import org.joda.beans.ser.column.BeanColumns;
+
+/**
+ * Provides the ability for a list of Joda-Beans of one type to be written to a column-wise binary format.
+ * <p>
+ * The beans are first converted to {@link BeanColumns} using {@link JodaBeanSer#columnWriter()}.
+ * Each column is then written as a separate block using the BeanPack primitives.
+ * The encoding of each block is chosen to minimize the size of the column:
+ * <ul>
+ * <li>{@code double} columns are stored raw or run-length encoded
+ * <li>{@code long} and {@code int} columns are stored as packed values, delta encoded or run-length encoded
+ * <li>dictionary columns are stored as the dictionary followed by the codes, encoded as an {@code int} column
+ * </ul>
+ * The blocks are followed by a footer index recording the name, type, offset and length of each column.
+ * The last four bytes of the file are the length of the footer.
+ * This allows {@link JodaBeanColumnBinReader} to read a subset of the columns without touching the others.
+ * <p>
+ * This class is immutable and may be used from multiple threads.
+ *
+ * @since 3.0.0
+ */
+public class JodaBeanColumnBinWriter {
+
+    /**
+     * The header string, written as a BeanPack string.
+     */
+    static final String HEADER = "JodaBeanColumns";
+    /**
+     * The format version, written as a BeanPack int.
+     */
+    static final int VERSION = 1;
+    /**
+     * The column type code for {@code double}.
+     */
+    static final int TYPE_DOUBLE = 0;
+    /**
+     * The column type code for {@code long}.
+     */
+    static final int TYPE_LONG = 1;
+    /**
+     * The column type code for {@code int}.
+     */
+    static final int TYPE_INT = 2;
+    /**
+     * The column type code for a dictionary.
+     */
+    static final int TYPE_DICTIONARY = 3;
+    /**
+     * The encoding where each value is stored.
+     */
+    static final int ENCODING_PLAIN = 0;
+    /**
+     * The encoding where the difference to the previous value is stored.
+     */
+    static final int ENCODING_DELTA = 1;
+    /**
+     * The encoding where each run of equal values is stored as a length and a value.
+     */
+    static final int ENCODING_RLE = 2;
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings to use, not null
+     */
+    public JodaBeanColumnBinWriter(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.settings = settings;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the list of beans to a byte array.
+     * 
+     * @param metaBean  the meta-bean of the beans, not null
+     * @param beans  the beans to output, which must all be of the type of the meta-bean, not null
+     * @return the binary data, not null
+     * @throws IllegalArgumentException if a bean is of the wrong type or a property is not a simple type
+     */
+    public byte[] write(MetaBean metaBean, List<? extends Bean> beans) {
+        return write(settings.columnWriter().write(metaBean, beans));
+    }
+
+    /**
+     * Writes the columns to a byte array.
+     * 
+     * @param columns  the columns to output, not null
+     * @return the binary data, not null
+     */
+    public byte[] write(BeanColumns columns) {
+        var baos = new ByteArrayOutputStream(1024);
+        try {
+            write(columns, baos);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Writes the columns to an output stream.
+     * <p>
+     * The output stream is not closed.
+     * 
+     * @param columns  the columns to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(BeanColumns columns, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(columns, "columns");
+        JodaBeanUtils.notNull(output, "output");
+        var buf = new ByteArrayOutputStream(1024);
+        var out = new BeanPackOutput(buf);
+        out.writeString(HEADER);
+        out.writeInt(VERSION);
+        long offset = buf.size();
+        buf.writeTo(output);
+
+        var columnList = columns.columns();
+        var offsets = new long[columnList.size()];
+        var lengths = new long[columnList.size()];
+        for (var i = 0; i < columnList.size(); i++) {
+            buf.reset();
+            writeColumn(columnList.get(i), out);
+            offsets[i] = offset;
+            lengths[i] = buf.size();
+            offset += buf.size();
+            buf.writeTo(output);
+        }
+
+        // footer index
+        buf.reset();
+        out.writeArrayHeader(2);
+        out.writeInt(columns.rowCount());
+        out.writeArrayHeader(columnList.size());
+        for (var i = 0; i < columnList.size(); i++) {
+            var column = columnList.get(i);
+            out.writeArrayHeader(4);
+            out.writeString(column.name());
+            out.writeInt(typeCode(column));
+            out.writeLong(offsets[i]);
+            out.writeLong(lengths[i]);
+        }
+        var footerLength = buf.size();
+        buf.write(footerLength >>> 24);
+        buf.write(footerLength >>> 16);
+        buf.write(footerLength >>> 8);
+        buf.write(footerLength);
+        buf.writeTo(output);
+    }
+
+    //-----------------------------------------------------------------------
+    // the type code
+    private static int typeCode(BeanColumn column) {
+        return switch (column.type()) {
+            case DOUBLE -> TYPE_DOUBLE;
+            case LONG -> TYPE_LONG;
+            case INT -> TYPE_INT;
+            case DICTIONARY -> TYPE_DICTIONARY;
+        };
+    }
+
+    // writes a single column block
+    private static void writeColumn(BeanColumn column, BeanPackOutput out) throws IOException {
+        switch (column.type()) {
+            case DOUBLE -> writeDoubles(column.doubles(), out);
+            case LONG -> writeLongs(column.longs(), out);
+            case INT -> writeInts(column.ints(), out);
+            case DICTIONARY -> {
+                var dictionary = column.dictionary();
+                out.writeArrayHeader(dictionary.length);
+                for (var str : dictionary) {
+                    out.writeString(str);
+                }
+                writeInts(column.codes(), out);
+            }
+        }
+    }
+
+    // writes doubles, either raw or run-length encoded
+    private static void writeDoubles(double[] values, BeanPackOutput out) throws IOException {
+        var runs = 0;
+        var rleSize = 0L;
+        for (var i = 0; i < values.length; i++) {
+            var start = i;
+            while (i + 1 < values.length && Double.compare(values[i + 1], values[start]) == 0) {
+                i++;
+            }
+            runs++;
+            rleSize += sizeOfInt(i - start + 1) + sizeOfDouble(values[start]);
+        }
+        if (rleSize < values.length * 8L) {
+            out.writeInt(ENCODING_RLE);
+            out.writeInt(runs);
+            for (var i = 0; i < values.length; i++) {
+                var start = i;
+                while (i + 1 < values.length && Double.compare(values[i + 1], values[start]) == 0) {
+                    i++;
+                }
+                out.writeInt(i - start + 1);
+                out.writeDouble(values[start]);
+            }
+        } else {
+            out.writeInt(ENCODING_PLAIN);
+            out.writeDoubles(values);
+        }
+    }
+
+    // writes longs, choosing the smallest of plain, delta and run-length encoding
+    private static void writeLongs(long[] values, BeanPackOutput out) throws IOException {
+        var plainSize = 0L;
+        var deltaSize = 0L;
+        var runs = 0;
+        var rleSize = 0L;
+        var previous = 0L;
+        for (var i = 0; i < values.length; i++) {
+            plainSize += sizeOfLong(values[i]);
+            deltaSize += sizeOfLong(values[i] - previous);
+            previous = values[i];
+            if (i == 0 || values[i] != values[i - 1]) {
+                var end = i;
+                while (end + 1 < values.length && values[end + 1] == values[i]) {
+                    end++;
+                }
+                runs++;
+                rleSize += sizeOfInt(end - i + 1) + sizeOfLong(values[i]);
+            }
+        }
+        if (rleSize < plainSize && rleSize < deltaSize) {
+            out.writeInt(ENCODING_RLE);
+            out.writeInt(runs);
+            for (var i = 0; i < values.length; i++) {
+                var start = i;
+                while (i + 1 < values.length && values[i + 1] == values[start]) {
+                    i++;
+                }
+                out.writeInt(i - start + 1);
+                out.writeLong(values[start]);
+            }
+        } else if (deltaSize < plainSize) {
+            out.writeInt(ENCODING_DELTA);
+            previous = 0L;
+            for (var value : values) {
+                out.writeLong(value - previous);
+                previous = value;
+            }
+        } else {
+            out.writeInt(ENCODING_PLAIN);
+            for (var value : values) {
+                out.writeLong(value);
+            }
+        }
+    }
+
+    // writes ints, choosing the smallest of plain, delta and run-length encoding
+    private static void writeInts(int[] values, BeanPackOutput out) throws IOException {
+        var plainSize = 0L;
+        var deltaSize = 0L;
+        var runs = 0;
+        var rleSize = 0L;
+        var previous = 0;
+        for (var i = 0; i < values.length; i++) {
+            plainSize += sizeOfInt(values[i]);
+            deltaSize += sizeOfInt(values[i] - previous);
+            previous = values[i];
+            if (i == 0 || values[i] != values[i - 1]) {
+                var end = i;
+                while (end + 1 < values.length && values[end + 1] == values[i]) {
+                    end++;
+                }
+                runs++;
+                rleSize += sizeOfInt(end - i + 1) + sizeOfInt(values[i]);
+            }
+        }
+        if (rleSize < plainSize && rleSize < deltaSize) {
+            out.writeInt(ENCODING_RLE);
+            out.writeInt(runs);
+            for (var i = 0; i < values.length; i++) {
+                var start = i;
+                while (i + 1 < values.length && values[i + 1] == values[start]) {
+                    i++;
+                }
+                out.writeInt(i - start + 1);
+                out.writeInt(values[start]);
+            }
+        } else if (deltaSize < plainSize) {
+            out.writeInt(ENCODING_DELTA);
+            previous = 0;
+            for (var value : values) {
+                out.writeInt(value - previous);
+                previous = value;
+            }
+        } else {
+            out.writeInt(ENCODING_PLAIN);
+            for (var value : values) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // the size of an int as written by BeanPackOutput
+    private static int sizeOfInt(int value) {
+        if (value >= BeanPack.MIN_FIX_INT && value <= BeanPack.MAX_FIX_INT) {
+            return 1;
+        }
+        return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE ? 3 : 5;
+    }
+
+    // the size of a long as written by BeanPackOutput
+    private static int sizeOfLong(long value) {
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            return 2;
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            return 3;
+        } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return 5;
+        }
+        return 9;
+    }
+
+    // the size of a double as written by BeanPackOutput
+    private static int sizeOfDouble(double value) {
+        var intValue = (int) value;
+        if (value == intValue && intValue <= Byte.MAX_VALUE && intValue >= Byte.MIN_VALUE && Double.compare(value, -0d) != 0) {
+            return 2;
+        }
+        return 9;
+    }
+
+}
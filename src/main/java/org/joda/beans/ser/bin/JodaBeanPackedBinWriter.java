@@ -22,6 +22,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -36,11 +37,14 @@ import java.util.stream.StreamSupport;
 
 import org.joda.beans.Bean;
 import org.joda.beans.DynamicBean;
+import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ResolvedType;
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanSink;
+import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.collect.grid.Grid;
 import org.joda.collect.grid.ImmutableGrid;
@@ -176,6 +180,25 @@ final class JodaBeanPackedBinWriter {
      */
     void write(Bean bean, boolean includeRootType) throws IOException {
         var beanClass = bean.getClass();
+        writeHeader(beanClass, includeRootType);
+        // root always outputs the bean, not Joda-Convert form
+        writeBean(ResolvedType.of(beanClass), bean, includeRootType);
+        checkReferenceLimits();
+    }
+
+    /**
+     * Creates a sink that writes a single bean to the {@code OutputStream} as it is transcoded.
+     * <p>
+     * The bytes are the same as those written by {@link #write(Bean, boolean)} with the root type.
+     * 
+     * @return the sink, not null
+     */
+    SerBeanSink sink() {
+        return new PackedSink();
+    }
+
+    // writes the message header
+    private void writeHeader(Class<?> beanClass, boolean includeRootType) throws IOException {
         // these first two bytes in BeanPack are compatible with MsgPack!
         output.writeArrayHeader(3);
         output.writeInt(3);  // version 3
@@ -187,9 +210,10 @@ final class JodaBeanPackedBinWriter {
             basePackage = null;
             output.writeNull();
         }
+    }
 
-        // root always outputs the bean, not Joda-Convert form
-        writeBean(ResolvedType.of(beanClass), bean, includeRootType);
+    // checks the references are within the limits of the format
+    private void checkReferenceLimits() {
         if (typeDefinitionIndex > 0xFFFF) {
             throw new IllegalArgumentException("Invalid bindary data: Too many type references");
         }
@@ -298,7 +322,7 @@ final class JodaBeanPackedBinWriter {
     // writes the bean definition structure
     private void writeBeanWithDefinition(Bean bean) throws IOException {
         // note that the declared type is not used to refine the output, creating separation of types in the binary form
-        var metaProperties = findSerializedMetaProperties(bean);
+        var metaProperties = findSerializedMetaProperties(bean.metaBean());
         if (metaProperties.size() > 255) {
             writeDynamicBean(bean);
         } else {
@@ -309,17 +333,13 @@ final class JodaBeanPackedBinWriter {
                 writeString(metaProperty.name());
             }
             for (var metaProperty : metaProperties) {
-                var resolvedType = metaProperty.propertyResolvedType(beanClass);
-                var childPropertyName = metaProperty.name();
-                var value = metaProperty.get(bean);
-                writeObject(resolvedType, childPropertyName, value);
+                writeProperty(bean, beanClass, metaProperty);
             }
         }
     }
 
     // find the list of meta properties that will be serialized
-    private ArrayList<MetaProperty<?>> findSerializedMetaProperties(Bean bean) {
-        var metaBean = bean.metaBean();
+    private ArrayList<MetaProperty<?>> findSerializedMetaProperties(MetaBean metaBean) {
         var metaProperties = new ArrayList<MetaProperty<?>>(metaBean.metaPropertyCount());
         for (var metaProperty : metaBean.metaPropertyIterable()) {
             if (settings.isSerialized(metaProperty)) {
@@ -336,14 +356,29 @@ final class JodaBeanPackedBinWriter {
         output.writeArrayHeader(metaProperties.size());
         for (var metaProperty : metaProperties) {
             if (settings.isSerialized(metaProperty)) {
-                var resolvedType = metaProperty.propertyResolvedType(beanClass);
-                var childPropertyName = metaProperty.name();
-                var value = metaProperty.get(bean);
-                writeObject(resolvedType, childPropertyName, value);
+                writeProperty(bean, beanClass, metaProperty);
             }
         }
     }
 
+    // writes the value of a property, avoiding boxing for primitive properties
+    private void writeProperty(Bean bean, Class<?> beanClass, MetaProperty<?> metaProperty) throws IOException {
+        var propertyType = metaProperty.propertyType();
+        if (propertyType == double.class) {
+            output.writeDouble(metaProperty.getDouble(bean));
+        } else if (propertyType == long.class) {
+            output.writeLong(metaProperty.getLong(bean));
+        } else if (propertyType == int.class) {
+            output.writeInt(metaProperty.getInt(bean));
+        } else if (propertyType == boolean.class) {
+            output.writeBoolean(metaProperty.getBoolean(bean));
+        } else {
+            var resolvedType = metaProperty.propertyResolvedType(beanClass);
+            var value = metaProperty.get(bean);
+            writeObject(resolvedType, metaProperty.name(), value);
+        }
+    }
+
     //-----------------------------------------------------------------------
     // writes a string
     private void writeString(String str) throws IOException {
@@ -415,6 +450,108 @@ final class JodaBeanPackedBinWriter {
         }
     }
 
+    //-------------------------------------------------------------------------
+    // the sink, writing the bean definitions and positional values as the events are received
+    private final class PackedSink implements SerBeanSink {
+        private final ArrayDeque<SinkFrame> frames = new ArrayDeque<>();
+        private int skipDepth;
+
+        @Override
+        public boolean isStreamable(Class<?> beanType) {
+            // beans that would be written as a map or a cached value cannot be streamed
+            return !DynamicBean.class.isAssignableFrom(beanType) &&
+                    !settings.getConverter().isConvertible(beanType) &&
+                    !settings.getBeanValueClasses().contains(beanType) &&
+                    MetaBean.of(beanType).metaPropertyCount() <= 255;
+        }
+
+        @Override
+        public void startBean(MetaProperty<?> metaProperty, Class<?> beanType) throws IOException {
+            if (frames.isEmpty()) {
+                writeHeader(beanType, true);
+                writeTypeNameOrReference(beanType);
+            } else if (skipDepth > 0 || !settings.isSerialized(metaProperty)) {
+                skipDepth++;
+                return;
+            } else {
+                var parent = frames.peek();
+                parent.advanceTo(metaProperty);
+                if (beanDefinitions.containsKey(beanType)) {
+                    if (beanType != metaProperty.propertyResolvedType(parent.beanType).getRawType()) {
+                        writeTypeNameOrReference(beanType);
+                    }
+                } else {
+                    // always write the type, as it could be read while skipping where the type is not known
+                    writeTypeNameOrReference(beanType);
+                }
+            }
+            var metaProperties = beanDefinitions.get(beanType);
+            if (metaProperties == null) {
+                metaProperties = findSerializedMetaProperties(MetaBean.of(beanType));
+                beanDefinitions.put(beanType, metaProperties);
+                output.writeBeanDefinitionHeader(metaProperties.size());
+                for (var mp : metaProperties) {
+                    writeString(mp.name());
+                }
+            } else {
+                output.writeArrayHeader(metaProperties.size());
+            }
+            frames.push(new SinkFrame(beanType, metaProperties));
+        }
+
+        @Override
+        public void property(MetaProperty<?> metaProperty, Object value) throws IOException {
+            if (skipDepth == 0 && settings.isSerialized(metaProperty)) {
+                var frame = frames.peek();
+                frame.advanceTo(metaProperty);
+                writeObject(
+                        metaProperty.propertyResolvedType(frame.beanType),
+                        metaProperty.name(),
+                        SerOptional.wrapValue(metaProperty, frame.beanType, value));
+            }
+        }
+
+        @Override
+        public void endBean() throws IOException {
+            if (skipDepth > 0) {
+                skipDepth--;
+                return;
+            }
+            var frame = frames.pop();
+            frame.advanceTo(null);
+            if (frames.isEmpty()) {
+                checkReferenceLimits();
+            }
+        }
+
+        // the state of a bean being written by the sink
+        private final class SinkFrame {
+            private final Class<?> beanType;
+            private final List<MetaProperty<?>> metaProperties;
+            private int index;
+
+            private SinkFrame(Class<?> beanType, List<MetaProperty<?>> metaProperties) {
+                this.beanType = beanType;
+                this.metaProperties = metaProperties;
+            }
+
+            // writes the values of any missing properties, moving to the position of the property, null for the end
+            private void advanceTo(MetaProperty<?> metaProperty) throws IOException {
+                while (index < metaProperties.size()) {
+                    var mp = metaProperties.get(index++);
+                    if (metaProperty != null && mp.name().equals(metaProperty.name())) {
+                        return;
+                    }
+                    writeObject(mp.propertyResolvedType(beanType), mp.name(), SerOptional.wrapValue(mp, beanType, null));
+                }
+                if (metaProperty != null) {
+                    throw new IllegalArgumentException(
+                            "Unable to transcode property '" + metaProperty.name() + "', properties must be in definition order");
+                }
+            }
+        }
+    }
+
     //-------------------------------------------------------------------------
     private static interface BinHandler<T> {
         public abstract void handle(
@@ -28,6 +28,7 @@ import java.util.Spliterator;
 import java.util.stream.StreamSupport;
 
 import org.joda.beans.Bean;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.ResolvedType;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerTypeMapper;
@@ -151,10 +152,15 @@ final class JodaBeanStandardBinWriter {
     private void writeBean(ResolvedType declaredType, String propertyName, Bean bean, boolean isRootAndInclRootType) throws IOException {
         // have to determine the number of properties being output before starting to write
         var count = bean.metaBean().metaPropertyCount();
-        var propHandlers = new PropertyHandler[count];
+        // each entry is a PropertyHandler, or a MetaProperty for a primitive written without boxing
+        var propHandlers = new Object[count];
         var size = 0;
         for (var metaProperty : bean.metaBean().metaPropertyIterable()) {
             if (settings.isSerialized(metaProperty)) {
+                if (isPrimitiveProperty(metaProperty)) {
+                    propHandlers[size++] = metaProperty;
+                    continue;
+                }
                 var value = metaProperty.get(bean);
                 if (value != null) {
                     var resolvedType = metaProperty.propertyResolvedType(bean.getClass());
@@ -181,7 +187,31 @@ final class JodaBeanStandardBinWriter {
         }
         // write each property
         for (int i = 0; i < size; i++) {
-            propHandlers[i].handle();
+            if (propHandlers[i] instanceof PropertyHandler propHandler) {
+                propHandler.handle();
+            } else {
+                writePrimitiveProperty((MetaProperty<?>) propHandlers[i], bean);
+            }
+        }
+    }
+
+    // checks if the property is a primitive that can be written without boxing
+    // long is not handled, as it may require type metadata
+    private static boolean isPrimitiveProperty(MetaProperty<?> metaProperty) {
+        var propertyType = metaProperty.propertyType();
+        return propertyType == double.class || propertyType == int.class || propertyType == boolean.class;
+    }
+
+    // writes a primitive property, avoiding boxing
+    private void writePrimitiveProperty(MetaProperty<?> metaProperty, Bean bean) throws IOException {
+        output.writeString(metaProperty.name());
+        var propertyType = metaProperty.propertyType();
+        if (propertyType == double.class) {
+            output.writeDouble(metaProperty.getDouble(bean));
+        } else if (propertyType == int.class) {
+            output.writeInt(metaProperty.getInt(bean));
+        } else {
+            output.writeBoolean(metaProperty.getBoolean(bean));
         }
     }
 
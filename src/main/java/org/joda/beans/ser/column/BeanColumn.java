@@ -0,0 +1,228 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.column;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * A single column of data, holding the values of one property for a list of beans.
+ * <p>
+ * The data is held in a primitive array, suitable for direct use by vectorized code.
+ * For performance, the arrays are not cloned, either when the column is created or when they are queried.
+ * Callers must not alter the arrays once the column has been created.
+ * <p>
+ * This class is immutable and thread-safe, provided the arrays are not altered.
+ *
+ * @since 3.0.0
+ */
+public final class BeanColumn {
+
+    /**
+     * The property name.
+     */
+    private final String name;
+    /**
+     * The type of data.
+     */
+    private final BeanColumnType type;
+    /**
+     * The number of values.
+     */
+    private final int size;
+    /**
+     * The array of data, which is a double[], long[] or int[].
+     */
+    private final Object values;
+    /**
+     * The dictionary, null unless the type is dictionary.
+     */
+    private final String[] dictionary;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a column of {@code double} values.
+     * 
+     * @param name  the property name, not null
+     * @param values  the values, not null
+     * @return the column, not null
+     */
+    public static BeanColumn ofDoubles(String name, double[] values) {
+        JodaBeanUtils.notNull(values, "values");
+        return new BeanColumn(name, BeanColumnType.DOUBLE, values.length, values, null);
+    }
+
+    /**
+     * Obtains a column of {@code long} values.
+     * 
+     * @param name  the property name, not null
+     * @param values  the values, not null
+     * @return the column, not null
+     */
+    public static BeanColumn ofLongs(String name, long[] values) {
+        JodaBeanUtils.notNull(values, "values");
+        return new BeanColumn(name, BeanColumnType.LONG, values.length, values, null);
+    }
+
+    /**
+     * Obtains a column of {@code int} values.
+     * 
+     * @param name  the property name, not null
+     * @param values  the values, not null
+     * @return the column, not null
+     */
+    public static BeanColumn ofInts(String name, int[] values) {
+        JodaBeanUtils.notNull(values, "values");
+        return new BeanColumn(name, BeanColumnType.INT, values.length, values, null);
+    }
+
+    /**
+     * Obtains a dictionary-encoded column of strings.
+     * <p>
+     * Each code is an index into the dictionary, or -1 for null.
+     * 
+     * @param name  the property name, not null
+     * @param dictionary  the distinct strings, not null
+     * @param codes  the codes, not null
+     * @return the column, not null
+     * @throws IllegalArgumentException if a code is invalid
+     */
+    public static BeanColumn ofDictionary(String name, String[] dictionary, int[] codes) {
+        JodaBeanUtils.notNull(dictionary, "dictionary");
+        JodaBeanUtils.notNull(codes, "codes");
+        for (var code : codes) {
+            if (code < -1 || code >= dictionary.length) {
+                throw new IllegalArgumentException("Invalid dictionary code: " + code);
+            }
+        }
+        return new BeanColumn(name, BeanColumnType.DICTIONARY, codes.length, codes, dictionary);
+    }
+
+    // creates an instance
+    private BeanColumn(String name, BeanColumnType type, int size, Object values, String[] dictionary) {
+        JodaBeanUtils.notEmpty(name, "name");
+        this.name = name;
+        this.type = type;
+        this.size = size;
+        this.values = values;
+        this.dictionary = dictionary;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the property name.
+     * 
+     * @return the name, not null
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Gets the type of data in the column.
+     * 
+     * @return the type, not null
+     */
+    public BeanColumnType type() {
+        return type;
+    }
+
+    /**
+     * Gets the number of values in the column.
+     * 
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the {@code double} values.
+     * <p>
+     * The array is not cloned and must not be altered.
+     * 
+     * @return the values, not null
+     * @throws IllegalStateException if the column is not of type {@code DOUBLE}
+     */
+    public double[] doubles() {
+        checkType(BeanColumnType.DOUBLE);
+        return (double[]) values;
+    }
+
+    /**
+     * Gets the {@code long} values.
+     * <p>
+     * The array is not cloned and must not be altered.
+     * 
+     * @return the values, not null
+     * @throws IllegalStateException if the column is not of type {@code LONG}
+     */
+    public long[] longs() {
+        checkType(BeanColumnType.LONG);
+        return (long[]) values;
+    }
+
+    /**
+     * Gets the {@code int} values.
+     * <p>
+     * The array is not cloned and must not be altered.
+     * 
+     * @return the values, not null
+     * @throws IllegalStateException if the column is not of type {@code INT}
+     */
+    public int[] ints() {
+        checkType(BeanColumnType.INT);
+        return (int[]) values;
+    }
+
+    /**
+     * Gets the dictionary codes, where -1 represents null.
+     * <p>
+     * The array is not cloned and must not be altered.
+     * 
+     * @return the codes, not null
+     * @throws IllegalStateException if the column is not of type {@code DICTIONARY}
+     */
+    public int[] codes() {
+        checkType(BeanColumnType.DICTIONARY);
+        return (int[]) values;
+    }
+
+    /**
+     * Gets the dictionary of distinct strings.
+     * <p>
+     * The array is not cloned and must not be altered.
+     * 
+     * @return the dictionary, not null
+     * @throws IllegalStateException if the column is not of type {@code DICTIONARY}
+     */
+    public String[] dictionary() {
+        checkType(BeanColumnType.DICTIONARY);
+        return dictionary;
+    }
+
+    private void checkType(BeanColumnType expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Column '" + name + "' is of type " + type + ", not " + expected);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BeanColumn[" + name + ", " + type + ", size=" + size + "]";
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.column;
+
+/**
+ * The type of data held in a {@link BeanColumn}.
+ *
+ * @since 3.0.0
+ */
+public enum BeanColumnType {
+
+    /**
+     * The column holds a {@code double[]}, used for {@code double} and {@code float} properties.
+     */
+    DOUBLE,
+    /**
+     * The column holds a {@code long[]}, used for {@code long} properties.
+     */
+    LONG,
+    /**
+     * The column holds an {@code int[]}, used for {@code int}, {@code short}, {@code byte},
+     * {@code char} and {@code boolean} properties.
+     * A {@code boolean} is stored as 1 for true and 0 for false.
+     */
+    INT,
+    /**
+     * The column holds a dictionary of distinct strings and an {@code int[]} of codes indexing into the dictionary.
+     * A code of -1 represents null.
+     * This is used for all properties that are not primitive, converting the value using Joda-Convert.
+     */
+    DICTIONARY;
+
+}
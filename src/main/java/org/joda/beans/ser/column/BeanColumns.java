@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.column;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * A set of columns, holding the property values of a list of beans.
+ * <p>
+ * Each column holds the values of one property, with one value for each bean.
+ * All the columns have the same size, the row count.
+ * <p>
+ * This class is immutable and thread-safe, provided the arrays of the columns are not altered.
+ *
+ * @since 3.0.0
+ */
+public final class BeanColumns {
+
+    /**
+     * The number of rows.
+     */
+    private final int rowCount;
+    /**
+     * The columns keyed by name.
+     */
+    private final Map<String, BeanColumn> columns;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance from a list of columns.
+     * 
+     * @param rowCount  the number of rows, which is the size of each column
+     * @param columns  the columns, not null
+     * @return the columns, not null
+     * @throws IllegalArgumentException if the columns have the wrong size or duplicate names
+     */
+    public static BeanColumns of(int rowCount, List<BeanColumn> columns) {
+        JodaBeanUtils.notNull(columns, "columns");
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row count must not be negative");
+        }
+        Map<String, BeanColumn> map = new LinkedHashMap<>();
+        for (var column : columns) {
+            if (column.size() != rowCount) {
+                throw new IllegalArgumentException(
+                        "Column '" + column.name() + "' has size " + column.size() + " but expected " + rowCount);
+            }
+            if (map.put(column.name(), column) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + column.name());
+            }
+        }
+        return new BeanColumns(rowCount, map);
+    }
+
+    // creates an instance
+    private BeanColumns(int rowCount, Map<String, BeanColumn> columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of rows, which is the size of each column.
+     * 
+     * @return the row count
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the columns, in the order of the properties of the bean.
+     * 
+     * @return the columns, not null
+     */
+    public List<BeanColumn> columns() {
+        return List.copyOf(columns.values());
+    }
+
+    /**
+     * Checks if a column exists.
+     * 
+     * @param name  the column name, not null
+     * @return true if the column exists
+     */
+    public boolean columnExists(String name) {
+        return columns.containsKey(name);
+    }
+
+    /**
+     * Gets a column by name.
+     * 
+     * @param name  the column name, not null
+     * @return the column, not null
+     * @throws NoSuchElementException if the column does not exist
+     */
+    public BeanColumn column(String name) {
+        var column = columns.get(name);
+        if (column == null) {
+            throw new NoSuchElementException("Unknown column: " + name);
+        }
+        return column;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BeanColumns[rowCount=" + rowCount + ", columns=" + columns.keySet() + "]";
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.column;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ResolvedType;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerOptional;
+
+/**
+ * Provides the ability for a list of Joda-Beans to be read from in-memory columns.
+ * <p>
+ * The format is defined by {@link JodaBeanColumnWriter}.
+ * Columns that do not match a property are handled by the deserializer, which by default throws an exception.
+ * Each distinct string in a dictionary column is converted only once.
+ * <p>
+ * This class is immutable and may be used from multiple threads.
+ *
+ * @since 3.0.0
+ */
+public class JodaBeanColumnReader {
+
+    /**
+     * Settings.
+     */
+    private final JodaBeanSer settings;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings, not null
+     */
+    public JodaBeanColumnReader(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.settings = settings;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the columns to a list of beans.
+     * 
+     * @param <T>  the bean type
+     * @param columns  the columns, not null
+     * @param beanType  the bean type, not null
+     * @return the list of beans, one for each row, not null
+     * @throws IllegalArgumentException if unable to read the columns
+     */
+    public <T> List<T> read(BeanColumns columns, Class<T> beanType) {
+        JodaBeanUtils.notNull(columns, "columns");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        var deser = settings.getDeserializers().findDeserializer(beanType);
+        var metaBean = deser.findMetaBean(beanType);
+        // resolve each column once
+        var columnList = columns.columns();
+        var readers = new ColumnReader[columnList.size()];
+        for (var i = 0; i < readers.length; i++) {
+            var column = columnList.get(i);
+            try {
+                var metaProp = deser.findMetaProperty(beanType, metaBean, column.name());
+                if (metaProp != null && !metaProp.style().isDerived()) {
+                    readers[i] = new ColumnReader(column, metaProp, SerOptional.extractType(metaProp, beanType));
+                }
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException(
+                        "Error reading column: " + beanType.getName() + "::" + column.name() + ", " + ex.getMessage(), ex);
+            }
+        }
+        // build each bean
+        var rowCount = columns.rowCount();
+        List<T> result = new ArrayList<>(rowCount);
+        for (var row = 0; row < rowCount; row++) {
+            var builder = deser.createBuilder(beanType, metaBean);
+            for (var reader : readers) {
+                if (reader != null) {
+                    var value = reader.value(row);
+                    deser.setValue(builder, reader.metaProperty, SerOptional.wrapValue(reader.metaProperty, beanType, value));
+                }
+            }
+            result.add(beanType.cast(deser.build(beanType, builder)));
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    // reads the values of a single column
+    private final class ColumnReader {
+        private final BeanColumn column;
+        private final MetaProperty<?> metaProperty;
+        private final Class<?> type;
+        // the converted dictionary, null unless a dictionary column
+        private final Object[] dictionary;
+
+        private ColumnReader(BeanColumn column, MetaProperty<?> metaProperty, Class<?> type) {
+            this.column = column;
+            this.metaProperty = metaProperty;
+            this.type = type;
+            checkType(column.type(), type);
+            if (column.type() == BeanColumnType.DICTIONARY) {
+                var strs = column.dictionary();
+                this.dictionary = new Object[strs.length];
+                for (var i = 0; i < strs.length; i++) {
+                    dictionary[i] = type == String.class || type == Object.class ?
+                            strs[i] :
+                            settings.getConverter().convertFromString(type, strs[i]);
+                }
+            } else {
+                this.dictionary = null;
+            }
+        }
+
+        // checks that the values of the column can be assigned to the property
+        private static void checkType(BeanColumnType columnType, Class<?> type) {
+            var boxedType = ResolvedType.of(type).toBoxed().getRawType();
+            var valueType = switch (columnType) {
+                case DOUBLE -> boxedType == Float.class ? Float.class : Double.class;
+                case LONG -> Long.class;
+                case INT -> boxedType == Boolean.class || boxedType == Character.class ||
+                        boxedType == Short.class || boxedType == Byte.class ? boxedType : Integer.class;
+                case DICTIONARY -> boxedType;
+            };
+            if (!boxedType.isAssignableFrom(valueType)) {
+                throw new IllegalArgumentException(
+                        "Column type " + columnType + " is incompatible with property type " + type.getName());
+            }
+        }
+
+        private Object value(int row) {
+            return switch (column.type()) {
+                case DOUBLE -> {
+                    var value = column.doubles()[row];
+                    yield (type == float.class || type == Float.class) ? (Object) (float) value : (Object) value;
+                }
+                case LONG -> column.longs()[row];
+                case INT -> {
+                    var value = column.ints()[row];
+                    if (type == boolean.class || type == Boolean.class) {
+                        yield value != 0;
+                    } else if (type == char.class || type == Character.class) {
+                        yield (char) value;
+                    } else if (type == short.class || type == Short.class) {
+                        yield (short) value;
+                    } else if (type == byte.class || type == Byte.class) {
+                        yield (byte) value;
+                    } else {
+                        yield value;
+                    }
+                }
+                case DICTIONARY -> {
+                    var code = column.codes()[row];
+                    yield code < 0 ? null : dictionary[code];
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.column;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerOptional;
+
+/**
+ * Provides the ability for a list of Joda-Beans to be written to in-memory columns.
+ * <p>
+ * The result is a {@link BeanColumns}, with one {@link BeanColumn} for each serialized property.
+ * Primitive properties are written to primitive arrays, with {@code double} and {@code float} as {@code double[]},
+ * {@code long} as {@code long[]} and the other primitive types as {@code int[]}.
+ * All other properties are written as dictionary-encoded strings, converted using Joda-Convert.
+ * Optional properties are written as the value of the optional, with empty written as null.
+ * <p>
+ * Only beans where every serialized property is a primitive or Joda-Convert type can be written.
+ * This layout is intended for direct use by vectorized code.
+ * <p>
+ * This class is immutable and may be used from multiple threads.
+ *
+ * @since 3.0.0
+ */
+public class JodaBeanColumnWriter {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings to use, not null
+     */
+    public JodaBeanColumnWriter(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.settings = settings;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the list of beans to columns.
+     * 
+     * @param metaBean  the meta-bean of the beans, not null
+     * @param beans  the beans to output, which must all be of the type of the meta-bean, not null
+     * @return the columns, not null
+     * @throws IllegalArgumentException if a bean is of the wrong type or a property is not a simple type
+     */
+    public BeanColumns write(MetaBean metaBean, List<? extends Bean> beans) {
+        JodaBeanUtils.notNull(metaBean, "metaBean");
+        JodaBeanUtils.notNull(beans, "beans");
+        var beanType = metaBean.beanType();
+        var beanArray = beans.toArray(new Bean[0]);
+        for (var bean : beanArray) {
+            if (!beanType.isInstance(bean)) {
+                throw new IllegalArgumentException(
+                        "Unable to write bean as it is not of the expected type: " + beanType.getName() + " but was " +
+                                (bean == null ? "null" : bean.getClass().getName()));
+            }
+        }
+        List<BeanColumn> columns = new ArrayList<>();
+        for (MetaProperty<?> prop : metaBean.metaPropertyIterable()) {
+            if (settings.isSerialized(prop)) {
+                columns.add(writeColumn(prop, beanType, beanArray));
+            }
+        }
+        return BeanColumns.of(beanArray.length, columns);
+    }
+
+    //-----------------------------------------------------------------------
+    // writes a single column
+    private BeanColumn writeColumn(MetaProperty<?> prop, Class<?> beanType, Bean[] beans) {
+        var type = prop.propertyType();
+        var size = beans.length;
+        if (type == double.class) {
+            var values = new double[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = prop.getDouble(beans[i]);
+            }
+            return BeanColumn.ofDoubles(prop.name(), values);
+
+        } else if (type == float.class) {
+            var values = new double[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = (Float) prop.get(beans[i]);
+            }
+            return BeanColumn.ofDoubles(prop.name(), values);
+
+        } else if (type == long.class) {
+            var values = new long[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = prop.getLong(beans[i]);
+            }
+            return BeanColumn.ofLongs(prop.name(), values);
+
+        } else if (type == int.class) {
+            var values = new int[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = prop.getInt(beans[i]);
+            }
+            return BeanColumn.ofInts(prop.name(), values);
+
+        } else if (type == short.class || type == byte.class) {
+            var values = new int[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = ((Number) prop.get(beans[i])).intValue();
+            }
+            return BeanColumn.ofInts(prop.name(), values);
+
+        } else if (type == char.class) {
+            var values = new int[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = (Character) prop.get(beans[i]);
+            }
+            return BeanColumn.ofInts(prop.name(), values);
+
+        } else if (type == boolean.class) {
+            var values = new int[size];
+            for (var i = 0; i < size; i++) {
+                values[i] = prop.getBoolean(beans[i]) ? 1 : 0;
+            }
+            return BeanColumn.ofInts(prop.name(), values);
+
+        } else {
+            return writeDictionary(prop, beanType, beans);
+        }
+    }
+
+    // writes a column of strings, encoded using a dictionary
+    private BeanColumn writeDictionary(MetaProperty<?> prop, Class<?> beanType, Bean[] beans) {
+        Class<?> valueType = SerOptional.extractType(prop, beanType);
+        if (!settings.getConverter().isConvertible(valueType)) {
+            throw new IllegalArgumentException(
+                    "Unable to write property '" + prop.name() + "' as a column as it is not a simple type: " +
+                            valueType.getName());
+        }
+        Map<String, Integer> lookup = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        var codes = new int[beans.length];
+        for (var i = 0; i < beans.length; i++) {
+            var value = SerOptional.extractValue(prop, beans[i]);
+            if (value == null) {
+                codes[i] = -1;
+            } else {
+                var str = settings.getConverter().convertToString(valueType, value);
+                if (str == null) {
+                    throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
+                }
+                var code = lookup.get(str);
+                if (code == null) {
+                    code = dictionary.size();
+                    lookup.put(str, code);
+                    dictionary.add(str);
+                }
+                codes[i] = code;
+            }
+        }
+        return BeanColumn.ofDictionary(prop.name(), dictionary.toArray(new String[0]), codes);
+    }
+
+}
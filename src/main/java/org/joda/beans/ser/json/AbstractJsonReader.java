@@ -22,6 +22,8 @@ import static org.joda.beans.ser.json.JodaBeanJsonWriter.VALUE;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +33,7 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ResolvedType;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanSink;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerIteratorFactory;
@@ -87,6 +90,8 @@ abstract class AbstractJsonReader {
     <T> T parseRoot(JsonInput input, Class<T> declaredType) {
         try {
             this.input = input;
+            this.basePackage = null;
+            this.knownTypes.clear();
             var parsed = parseObject(input.acceptEvent(JsonEvent.OBJECT), declaredType, null, null, null, true);
             return declaredType.cast(parsed);
         } catch (ClassNotFoundException | ClassCastException ex) {
@@ -96,6 +101,129 @@ abstract class AbstractJsonReader {
         }
     }
 
+    /**
+     * Transcodes the root bean to the sink.
+     * 
+     * @param input  the JSON input
+     * @param declaredType  the declared type, not null
+     * @param sink  the sink to receive the bean, not null
+     * @throws UncheckedIOException if unable to read the stream or write to the sink
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    void transcodeRoot(JsonInput input, Class<?> declaredType, SerBeanSink sink) {
+        try {
+            this.input = input;
+            this.basePackage = null;
+            this.knownTypes.clear();
+            input.acceptEvent(JsonEvent.OBJECT);
+            var event = input.readEvent();
+            Class<?> effectiveType = declaredType;
+            if (event == JsonEvent.STRING) {
+                var key = input.parseObjectKey();
+                if (key.equals(BEAN)) {
+                    effectiveType = parseBeanType(declaredType, true);
+                    event = readBeanStartEvent();
+                } else {
+                    input.pushBack('"');
+                    input.pushBackObjectKey(key);
+                    event = input.readEvent();
+                }
+            }
+            if (!isStreamable(effectiveType, sink)) {
+                throw new IllegalArgumentException("Root type cannot be transcoded: " + effectiveType.getName());
+            }
+            sink.startBean(null, effectiveType);
+            transcodeBean(event, effectiveType, sink);
+            sink.endBean();
+        } catch (ClassNotFoundException | ClassCastException ex) {
+            throw new IllegalArgumentException(ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // transcode a bean, event after object start passed in
+    private void transcodeBean(JsonEvent event, Class<?> beanType, SerBeanSink sink) throws IOException {
+        var propName = "";
+        try {
+            var deser = settings.getDeserializers().findDeserializer(beanType);
+            var metaBean = deser.findMetaBean(beanType);
+            while (event != JsonEvent.OBJECT_END) {
+                // property name
+                propName = input.acceptObjectKey(event);
+                var metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                // ignore unknown properties
+                if (metaProp == null || metaProp.style().isDerived()) {
+                    input.skipData();
+                } else {
+                    transcodeProperty(metaProp, beanType, sink);
+                }
+                propName = "";
+                event = input.acceptObjectSeparator();
+            }
+        } catch (IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(
+                    "Error parsing bean: " + beanType.getName() + "::" + propName + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    // transcode the value of a property, streaming a bean to the sink where possible
+    private void transcodeProperty(MetaProperty<?> metaProp, Class<?> beanType, SerBeanSink sink)
+            throws IOException, ClassNotFoundException {
+
+        var declaredType = SerOptional.extractType(metaProp, beanType);
+        var event = input.readEvent();
+        // optional beans are parsed, as the bean must be wrapped
+        if (event == JsonEvent.OBJECT && declaredType == metaProp.propertyType()) {
+            event = input.readEvent();
+            if (event == JsonEvent.STRING) {
+                var key = input.parseObjectKey();
+                if (key.equals(BEAN)) {
+                    var effectiveType = parseBeanType(declaredType, false);
+                    event = readBeanStartEvent();
+                    if (isStreamable(effectiveType, sink)) {
+                        sink.startBean(metaProp, effectiveType);
+                        transcodeBean(event, effectiveType, sink);
+                        sink.endBean();
+                    } else {
+                        sink.property(metaProp, parseBean(event, effectiveType));
+                    }
+                    return;
+                }
+                input.pushBack('"');
+                input.pushBackObjectKey(key);
+                if (!key.equals(TYPE) && !key.equals(META) && isStreamable(declaredType, sink)) {
+                    sink.startBean(metaProp, declaredType);
+                    transcodeBean(input.readEvent(), declaredType, sink);
+                    sink.endBean();
+                    return;
+                }
+            } else if (event == JsonEvent.OBJECT_END) {
+                input.pushBack('}');
+                if (isStreamable(declaredType, sink)) {
+                    sink.startBean(metaProp, declaredType);
+                    transcodeBean(input.readEvent(), declaredType, sink);
+                    sink.endBean();
+                    return;
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid JSON data: Expected JSON object end but found " + event);
+            }
+            event = JsonEvent.OBJECT;
+        }
+        sink.property(metaProp, parseObject(event, declaredType, metaProp, beanType, null, false));
+    }
+
+    // checks if the bean can be streamed, which requires the default deserializer
+    private boolean isStreamable(Class<?> type, SerBeanSink sink) {
+        return Bean.class.isAssignableFrom(type) &&
+                settings.getDeserializers().isDefaultDeserializer(type) &&
+                sink.isStreamable(type);
+    }
+
+    //-----------------------------------------------------------------------
     // parse a bean, event after object start passed in
     private Object parseBean(JsonEvent event, Class<?> beanType) throws IOException {
         var propName = "";
@@ -169,6 +297,12 @@ abstract class AbstractJsonReader {
                 return parseSimple(event, declaredType);
             }
         } else {
+            if (event == JsonEvent.ARRAY && declaredType.isArray()) {
+                var array = parseNumericArray(declaredType);
+                if (array != null) {
+                    return array;
+                }
+            }
             if (event == JsonEvent.OBJECT || event == JsonEvent.ARRAY) {
                 SerIterable childIterable = null;
                 if (metaProp != null) {
@@ -190,6 +324,98 @@ abstract class AbstractJsonReader {
         }
     }
 
+    // parse common numeric arrays without boxing, array start passed in, null if not a suitable type
+    private Object parseNumericArray(Class<?> declaredType) throws IOException {
+        if (declaredType == double[].class) {
+            return parseDoubleArray();
+        } else if (declaredType == double[][].class) {
+            return parseDoubleMatrix();
+        } else if (declaredType == int[].class) {
+            return parseIntArray();
+        } else if (declaredType == long[].class) {
+            return parseLongArray();
+        }
+        return null;
+    }
+
+    private int[] parseIntArray() throws IOException {
+        var array = new int[16];
+        var size = 0;
+        var event = input.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            if (event == JsonEvent.NUMBER_INTEGRAL) {
+                var value = input.parseNumberIntegral();
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Invalid JSON data: Expected int, but was " + value);
+                }
+                array[size++] = (int) value;
+            } else if (event == JsonEvent.NULL) {
+                throw new IllegalArgumentException("Invalid JSON data: Expected int, but was null");
+            } else {
+                array[size++] = (Integer) parseSimple(event, int.class);
+            }
+            event = input.acceptArraySeparator();
+        }
+        return Arrays.copyOf(array, size);
+    }
+
+    private long[] parseLongArray() throws IOException {
+        var array = new long[16];
+        var size = 0;
+        var event = input.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            if (event == JsonEvent.NUMBER_INTEGRAL) {
+                array[size++] = input.parseNumberIntegral();
+            } else if (event == JsonEvent.NULL) {
+                throw new IllegalArgumentException("Invalid JSON data: Expected long, but was null");
+            } else {
+                array[size++] = (Long) parseSimple(event, long.class);
+            }
+            event = input.acceptArraySeparator();
+        }
+        return Arrays.copyOf(array, size);
+    }
+
+    private double[] parseDoubleArray() throws IOException {
+        var array = new double[16];
+        var size = 0;
+        var event = input.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            if (event == JsonEvent.NUMBER_FLOATING) {
+                array[size++] = input.parseNumberFloating();
+            } else {
+                // handles integers, and NaN/Infinity in string or null form
+                array[size++] = (Double) parseSimple(event, double.class);
+            }
+            event = input.acceptArraySeparator();
+        }
+        return Arrays.copyOf(array, size);
+    }
+
+    private double[][] parseDoubleMatrix() throws IOException {
+        var rows = new ArrayList<double[]>();
+        var event = input.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            if (event == JsonEvent.ARRAY) {
+                rows.add(parseDoubleArray());
+            } else {
+                // handles null and the old Joda-Convert string format
+                rows.add((double[]) parseSimple(event, double[].class));
+            }
+            event = input.acceptArraySeparator();
+        }
+        return rows.toArray(new double[rows.size()][]);
+    }
+
     // leniently assume it is am array/List (previously only the simple JSON parser made this assumption)
     SerIterable parseUnknownArray(Class<?> declaredType) {
         if (declaredType.isArray()) {
@@ -205,6 +431,12 @@ abstract class AbstractJsonReader {
     }
 
     private Object parseTypedBean(Class<?> declaredType, boolean rootType) throws IOException, ClassNotFoundException {
+        var effectiveType = parseBeanType(declaredType, rootType);
+        return parseBean(readBeanStartEvent(), effectiveType);
+    }
+
+    // parse the type of a bean, after the '@bean' key
+    private Class<?> parseBeanType(Class<?> declaredType, boolean rootType) throws IOException, ClassNotFoundException {
         var typeStr = input.acceptString();
         Class<?> effectiveType = SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
         if (rootType) {
@@ -217,11 +449,16 @@ abstract class AbstractJsonReader {
             throw new IllegalArgumentException("Specified type is incompatible with declared type: " +
                 declaredType.getName() + " and " + effectiveType.getName());
         }
+        return effectiveType;
+    }
+
+    // reads the first event of the bean properties, after the bean type
+    private JsonEvent readBeanStartEvent() throws IOException {
         var event = input.readEvent();
         if (event == JsonEvent.COMMA) {
             event = input.readEvent();
         }
-        return parseBean(event, effectiveType);
+        return event;
     }
 
     private Object parseTypedSimple(Class<?> declaredType) throws IOException, ClassNotFoundException {
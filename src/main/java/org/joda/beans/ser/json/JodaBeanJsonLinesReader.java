@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability for a stream of Joda-Beans to be read from JSON Lines, also known as NDJSON.
+ * <p>
+ * The input consists of a sequence of JSON objects, each as defined by {@link JodaBeanJsonWriter}.
+ * Each object is typically on its own line, as written by {@link JodaBeanJsonLinesWriter},
+ * however any whitespace between the objects is accepted.
+ * <p>
+ * The same parser state is used for all the beans in the input.
+ * As such, the returned stream is sequential and must be consumed on a single thread.
+ * The input is not closed when the stream is closed.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * A new instance must be created for each input.
+ *
+ * @since 3.0.0
+ */
+public class JodaBeanJsonLinesReader extends AbstractJsonReader {
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings, not null
+     */
+    public JodaBeanJsonLinesReader(JodaBeanSer settings) {
+        super(settings);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses to a stream of beans.
+     * 
+     * @param input  the input string, not null
+     * @return the stream of beans, not null
+     * @throws UncheckedIOException if unable to read the stream
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    public Stream<Bean> read(String input) {
+        return read(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses to a stream of beans.
+     * 
+     * @param <T>  the root type
+     * @param input  the input string, not null
+     * @param rootType  the root type, not null
+     * @return the stream of beans, not null
+     * @throws UncheckedIOException if unable to read the stream
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    public <T> Stream<T> read(String input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        return read(new StringReader(input), rootType);
+    }
+
+    /**
+     * Reads and parses to a stream of beans.
+     * <p>
+     * The input is decoded as UTF-8.
+     * 
+     * @param <T>  the root type
+     * @param input  the input stream, not null
+     * @param rootType  the root type, not null
+     * @return the stream of beans, not null
+     * @throws UncheckedIOException if unable to read the stream
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    public <T> Stream<T> read(InputStream input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        return read(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), rootType);
+    }
+
+    /**
+     * Reads and parses to a stream of beans.
+     * 
+     * @param <T>  the root type
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @return the stream of beans, not null
+     * @throws UncheckedIOException if unable to read the stream
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    public <T> Stream<T> read(Reader input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        var jsonInput = new JsonInput(input);
+        var spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (jsonInput.isEndOfInput()) {
+                        return false;
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                action.accept(parseRoot(jsonInput, rootType));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+}
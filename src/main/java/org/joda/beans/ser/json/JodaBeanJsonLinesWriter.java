@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.IOException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability for a stream of Joda-Beans to be written to JSON Lines, also known as NDJSON.
+ * <p>
+ * Each bean is written in the format defined by {@link JodaBeanJsonWriter}, followed by a new line.
+ * The indent and new line of the settings are ignored, with each bean always written in compact form.
+ * Each line is self-contained, thus the output can be split at new lines and each line parsed separately.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @since 3.0.0
+ */
+public class JodaBeanJsonLinesWriter {
+
+    /**
+     * The underlying writer.
+     */
+    private final JodaBeanJsonWriter writer;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings to use, not null
+     */
+    public JodaBeanJsonLinesWriter(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.writer = new JodaBeanJsonWriter(settings.withIndent("").withNewLine(""));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean to the {@code Appendable} as a single line.
+     * <p>
+     * The type of the bean will be set in the message.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output appendable, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, Appendable output) throws IOException {
+        writer.write(bean, true, output);
+        output.append('\n');
+    }
+
+    /**
+     * Writes the beans to the {@code Appendable}, one line per bean.
+     * <p>
+     * The type of each bean will be set in the message.
+     * 
+     * @param beans  the beans to output, not null
+     * @param output  the output appendable, not null
+     * @throws IOException if an error occurs
+     */
+    public void writeAll(Iterable<? extends Bean> beans, Appendable output) throws IOException {
+        JodaBeanUtils.notNull(beans, "beans");
+        for (var bean : beans) {
+            write(bean, output);
+        }
+    }
+
+}
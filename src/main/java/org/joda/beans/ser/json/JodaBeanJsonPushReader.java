@@ -0,0 +1,296 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability for Joda-Beans to be read from JSON that arrives in chunks.
+ * <p>
+ * This reader is push-based and never blocks.
+ * Each chunk of input, which may split the JSON at any point, is passed to one of the {@code feed} methods.
+ * The bytes of the chunk are decoded as UTF-8 and consumed immediately.
+ * Malformed UTF-8, such as overlong forms and encoded surrogates, is rejected.
+ * When the chunk completes one or more root JSON objects, the beans are returned.
+ * Otherwise, an empty list is returned, indicating that more input is needed.
+ * <p>
+ * The input may contain any number of root JSON objects, separated by whitespace,
+ * each as defined by {@link JodaBeanJsonWriter}.
+ * The text of a single root object is held in memory until it is complete,
+ * and is then parsed directly from that buffer without being copied.
+ * <p>
+ * If the input is invalid after one or more beans have been completed by the same chunk,
+ * those beans are returned and the error is thrown by the next call to {@code feed} or {@code finish}.
+ * Once an error has occurred, the reader cannot be used further.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * A new instance must be created for each input.
+ *
+ * @param <T>  the root type
+ * @since 3.0.0
+ */
+public class JodaBeanJsonPushReader<T> extends AbstractJsonReader {
+
+    /**
+     * The root type.
+     */
+    private final Class<T> rootType;
+    /**
+     * The buffer holding the text of the current root object.
+     */
+    private final StringBuilder buf = new StringBuilder(1024);
+    /**
+     * The depth of nesting of objects and arrays.
+     */
+    private int depth;
+    /**
+     * Whether the input is within a string.
+     */
+    private boolean inString;
+    /**
+     * Whether the previous character was an escape within a string.
+     */
+    private boolean inEscape;
+    /**
+     * The decoder, which rejects malformed UTF-8 in the same way as the blocking readers.
+     */
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    /**
+     * The bytes of an incomplete UTF-8 sequence at the end of the last chunk.
+     */
+    private final ByteBuffer pendingBytes = ByteBuffer.allocate(4);
+    /**
+     * The decoded characters awaiting processing.
+     */
+    private final CharBuffer decoded = CharBuffer.allocate(256);
+    /**
+     * The error that occurred after beans were completed, thrown on next use.
+     */
+    private RuntimeException failure;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings, not null
+     * @param rootType  the root type, not null
+     */
+    public JodaBeanJsonPushReader(JodaBeanSer settings, Class<T> rootType) {
+        super(settings);
+        JodaBeanUtils.notNull(rootType, "rootType");
+        this.rootType = rootType;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Feeds a chunk of UTF-8 encoded bytes to the reader.
+     * <p>
+     * All the remaining bytes in the buffer are consumed.
+     * 
+     * @param input  the input bytes, not null
+     * @return the beans completed by this chunk, empty if more input is needed, not null
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    public List<T> feed(ByteBuffer input) {
+        JodaBeanUtils.notNull(input, "input");
+        checkNotFailed();
+        List<T> result = new ArrayList<>(1);
+        try {
+            feedBytes(input, result);
+        } catch (RuntimeException ex) {
+            return fail(ex, result);
+        }
+        return result;
+    }
+
+    // decodes the UTF-8 bytes, retaining an incomplete sequence at the end for the next chunk
+    private void feedBytes(ByteBuffer input, List<T> result) {
+        // complete a sequence split across chunks, one byte at a time
+        while (pendingBytes.position() > 0 && input.hasRemaining()) {
+            pendingBytes.put(input.get());
+            pendingBytes.flip();
+            decode(pendingBytes, result);
+            pendingBytes.compact();
+        }
+        if (pendingBytes.position() == 0) {
+            decode(input, result);
+            pendingBytes.put(input);
+        }
+    }
+
+    // decodes as much of the input as possible, leaving any incomplete sequence
+    private void decode(ByteBuffer input, List<T> result) {
+        while (true) {
+            var coderResult = decoder.decode(input, decoded, false);
+            decoded.flip();
+            while (decoded.hasRemaining()) {
+                accept(decoded.get(), result);
+            }
+            decoded.clear();
+            if (coderResult.isUnderflow()) {
+                return;
+            }
+            if (coderResult.isError()) {
+                throw new IllegalArgumentException("Invalid JSON data: Invalid UTF-8 sequence");
+            }
+        }
+    }
+
+    /**
+     * Feeds a chunk of text to the reader.
+     * 
+     * @param input  the input text, not null
+     * @return the beans completed by this chunk, empty if more input is needed, not null
+     * @throws IllegalArgumentException if unable to parse the JSON
+     */
+    public List<T> feed(CharSequence input) {
+        JodaBeanUtils.notNull(input, "input");
+        checkNotFailed();
+        if (pendingBytes.position() != 0) {
+            throw new IllegalArgumentException("Invalid JSON data: Incomplete UTF-8 sequence");
+        }
+        List<T> result = new ArrayList<>(1);
+        try {
+            for (var i = 0; i < input.length(); i++) {
+                accept(input.charAt(i), result);
+            }
+        } catch (RuntimeException ex) {
+            return fail(ex, result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the reader is part way through a root JSON object.
+     * <p>
+     * This returns false when the input so far consists of complete root JSON objects and whitespace.
+     * 
+     * @return true if more input is needed to complete the current bean
+     */
+    public boolean isIncomplete() {
+        return pendingBytes.position() != 0 || depth != 0;
+    }
+
+    /**
+     * Signals the end of the input.
+     * 
+     * @throws IllegalArgumentException if the input ended part way through a bean
+     */
+    public void finish() {
+        checkNotFailed();
+        if (isIncomplete()) {
+            throw new IllegalArgumentException("Invalid JSON data: End of file");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // throws the error retained by an earlier call
+    private void checkNotFailed() {
+        if (failure != null) {
+            throw new IllegalArgumentException(failure.getMessage(), failure);
+        }
+    }
+
+    // retains the error if beans were completed before it occurred
+    private List<T> fail(RuntimeException ex, List<T> result) {
+        failure = ex;
+        if (result.isEmpty()) {
+            throw ex;
+        }
+        return result;
+    }
+
+    // accepts a single character, parsing the root object when complete
+    private void accept(char ch, List<T> result) {
+        if (depth == 0) {
+            if (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r') {
+                return;
+            }
+            if (ch != '{') {
+                throw new IllegalArgumentException("Invalid JSON data: Expected JSON object but found '" + ch + "'");
+            }
+        }
+        buf.append(ch);
+        if (inString) {
+            if (inEscape) {
+                inEscape = false;
+            } else if (ch == '\\') {
+                inEscape = true;
+            } else if (ch == '"') {
+                inString = false;
+            }
+        } else if (ch == '"') {
+            inString = true;
+        } else if (ch == '{' || ch == '[') {
+            depth++;
+        } else if (ch == '}' || ch == ']') {
+            depth--;
+            if (depth == 0) {
+                try {
+                    result.add(parseRoot(new JsonInput(new BufferReader(buf)), rootType));
+                } finally {
+                    buf.setLength(0);
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the buffered text without copying it.
+     */
+    private static final class BufferReader extends Reader {
+        private final CharSequence text;
+        private int pos;
+
+        private BufferReader(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read() {
+            return pos < text.length() ? text.charAt(pos++) : -1;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (pos >= text.length()) {
+                return -1;
+            }
+            var count = Math.min(len, text.length() - pos);
+            for (var i = 0; i < count; i++) {
+                cbuf[off + i] = text.charAt(pos++);
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
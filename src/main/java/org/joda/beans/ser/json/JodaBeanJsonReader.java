@@ -22,6 +22,7 @@ import java.io.UncheckedIOException;
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanSink;
 
 /**
  * Provides the ability for a Joda-Bean to read from JSON.
@@ -99,4 +100,38 @@ public class JodaBeanJsonReader extends AbstractJsonReader {
         return parseRoot(jsonInput, rootType);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the JSON and transcodes it to the sink, without building the beans.
+     * <p>
+     * The sink is typically obtained from a writer of another format, such as {@code JodaBeanXmlWriter.sink()}.
+     * 
+     * @param input  the input string, not null
+     * @param sink  the sink to receive the bean, not null
+     * @throws UncheckedIOException if unable to read the stream or write to the sink
+     * @throws IllegalArgumentException if unable to parse the JSON
+     * @since 3.0.0
+     */
+    public void transcode(String input, SerBeanSink sink) {
+        JodaBeanUtils.notNull(input, "input");
+        transcode(new StringReader(input), sink);
+    }
+
+    /**
+     * Reads the JSON and transcodes it to the sink, without building the beans.
+     * <p>
+     * The sink is typically obtained from a writer of another format, such as {@code JodaBeanXmlWriter.sink()}.
+     * 
+     * @param input  the input reader, not null
+     * @param sink  the sink to receive the bean, not null
+     * @throws UncheckedIOException if unable to read the stream or write to the sink
+     * @throws IllegalArgumentException if unable to parse the JSON
+     * @since 3.0.0
+     */
+    public void transcode(Reader input, SerBeanSink sink) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(sink, "sink");
+        transcodeRoot(new JsonInput(input), Bean.class, sink);
+    }
+
 }
@@ -15,8 +15,13 @@
  */
 package org.joda.beans.ser.json;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -25,9 +30,15 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
 import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.ResolvedType;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanDefinitionCache;
+import org.joda.beans.ser.SerBeanSink;
+import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.collect.grid.Grid;
 import org.joda.collect.grid.ImmutableGrid;
@@ -94,6 +105,15 @@ public class JodaBeanJsonWriter {
      * JSON value attribute.
      */
     static final String VALUE = "value";
+    /**
+     * The size of the chunks used when writing to a stream.
+     */
+    static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The cached definitions of each bean type.
+     */
+    private static final SerBeanDefinitionCache<BeanDefinition> DEFINITIONS = new SerBeanDefinitionCache<>(BeanDefinition::new);
 
     // why is there an ugly ClassValue setup here?
     // because this is O(1) whereas switch with pattern match which is O(n)
@@ -210,6 +230,9 @@ public class JodaBeanJsonWriter {
 
     /**
      * Writes the bean to the {@code Appendable} specifying whether to include the type at the root.
+     * <p>
+     * The JSON is appended as the bean is traversed, thus a {@code Writer} receives the output without
+     * the whole document being held in memory.
      * 
      * @param bean  the bean to output, not null
      * @param includeRootType  true to output the root type
@@ -220,12 +243,67 @@ public class JodaBeanJsonWriter {
         JodaBeanUtils.notNull(bean, "bean");
         JodaBeanUtils.notNull(output, "output");
         this.output = new JsonOutput(output, settings.getJsonNumberFormat(), settings.getIndent(), settings.getNewLine());
+        this.basePackage = null;
+        this.knownTypes.clear();
         var rootType = includeRootType ? ResolvedType.OBJECT : ResolvedType.of(bean.getClass());
         // root always outputs the bean, not Joda-Convert form
         writeBean(rootType, bean, includeRootType);
         output.append(settings.getNewLine());
     }
 
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * <p>
+     * The JSON is encoded and written to the stream in fixed-size chunks as the bean is traversed,
+     * thus the memory required does not depend on the size of the bean.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     * @since 3.0.0
+     */
+    public void writeToStream(Bean bean, OutputStream output) throws IOException {
+        writeToStream(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8 specifying whether to include the type at the root.
+     * <p>
+     * The JSON is encoded and written to the stream in fixed-size chunks as the bean is traversed,
+     * thus the memory required does not depend on the size of the bean.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param includeRootType  true to output the root type
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     * @since 3.0.0
+     */
+    public void writeToStream(Bean bean, boolean includeRootType, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(output, "output");
+        var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), CHUNK_SIZE);
+        write(bean, includeRootType, writer);
+        writer.flush();
+    }
+
+    /**
+     * Creates a sink that writes a bean to the {@code Appendable} as it is transcoded from another format.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The JSON is the same as that written by {@link #write(Bean, Appendable)}, and is appended as the events are received.
+     * 
+     * @param output  the output appendable, not null
+     * @return the sink, not null
+     * @since 3.0.0
+     */
+    public SerBeanSink sink(Appendable output) {
+        JodaBeanUtils.notNull(output, "output");
+        return new JsonSink(output);
+    }
+
     //-----------------------------------------------------------------------
     // walk an object, by determining the runtime type
     void writeObject(ResolvedType declaredType, String propertyName, Object value) throws IOException {
@@ -251,36 +329,76 @@ public class JodaBeanJsonWriter {
     // writes a bean, with meta type information if necessary
     private void writeBean(ResolvedType declaredType, Bean bean, boolean isRoot) throws IOException {
         output.writeObjectStart();
-        writeBeanType(declaredType, bean, isRoot);
+        writeBeanType(declaredType, bean.getClass(), isRoot);
         writeBeanProperties(declaredType, bean);
         output.writeObjectEnd();
     }
 
     // optionally writes the type of the bean
-    void writeBeanType(ResolvedType declaredType, Bean bean, boolean includeRootType) throws IOException {
-        if (bean.getClass() != declaredType.getRawType()) {
-            var typeStr = SerTypeMapper.encodeType(bean.getClass(), settings, basePackage, knownTypes);
+    void writeBeanType(ResolvedType declaredType, Class<?> beanClass, boolean includeRootType) throws IOException {
+        if (beanClass != declaredType.getRawType()) {
+            var typeStr = SerTypeMapper.encodeType(beanClass, settings, basePackage, knownTypes);
             if (includeRootType) {
-                basePackage = bean.getClass().getPackage().getName() + ".";
+                basePackage = beanClass.getPackage().getName() + ".";
             }
             output.writeObjectKeyValue(BEAN, typeStr);
         }
     }
 
-    // optionally writes the type of the bean
+    // writes the properties of the bean
     private void writeBeanProperties(ResolvedType declaredType, Bean bean) throws IOException {
-        for (var metaProperty : bean.metaBean().metaPropertyIterable()) {
+        var definition = DEFINITIONS.find(bean);
+        if (definition == null) {
+            // dynamic beans are written directly from the meta-properties
+            for (var metaProperty : bean.metaBean().metaPropertyIterable()) {
+                if (settings.isSerialized(metaProperty)) {
+                    var value = metaProperty.get(bean);
+                    if (value != null) {
+                        var resolvedType = metaProperty.propertyResolvedType(bean.getClass());
+                        var handler = LOOKUP.get(value.getClass());
+                        handler.handleProperty(this, resolvedType, metaProperty.name(), null, value);
+                    }
+                }
+            }
+            return;
+        }
+        for (var property : definition.properties) {
+            var metaProperty = property.metaProperty;
             if (settings.isSerialized(metaProperty)) {
-                var value = metaProperty.get(bean);
-                if (value != null) {
-                    var resolvedType = metaProperty.propertyResolvedType(bean.getClass());
-                    var handler = LOOKUP.get(value.getClass());
-                    handler.handleProperty(this, resolvedType, metaProperty.name(), value);
+                // primitive properties are written without boxing
+                var propertyType = property.propertyType;
+                if (propertyType == double.class) {
+                    output.writeEncodedObjectKey(property.encodedName);
+                    output.writeDouble(metaProperty.getDouble(bean));
+                } else if (propertyType == long.class) {
+                    output.writeEncodedObjectKey(property.encodedName);
+                    output.writeLong(metaProperty.getLong(bean));
+                } else if (propertyType == int.class) {
+                    output.writeEncodedObjectKey(property.encodedName);
+                    output.writeInt(metaProperty.getInt(bean));
+                } else if (propertyType == boolean.class) {
+                    output.writeEncodedObjectKey(property.encodedName);
+                    output.writeBoolean(metaProperty.getBoolean(bean));
+                } else {
+                    var value = metaProperty.get(bean);
+                    if (value != null) {
+                        var handler = LOOKUP.get(value.getClass());
+                        handler.handleProperty(this, property.resolvedType, metaProperty.name(), property.encodedName, value);
+                    }
                 }
             }
         }
     }
 
+    // writes a property key, using the encoded form if available
+    private void writePropertyKey(String propertyName, String encodedName) throws IOException {
+        if (encodedName != null) {
+            output.writeEncodedObjectKey(encodedName);
+        } else {
+            output.writeObjectKey(propertyName);
+        }
+    }
+
     //-------------------------------------------------------------------------
     void writeLong(ResolvedType declaredType, Long val) throws IOException {
         if (declaredType.getRawType() == long.class) {
@@ -524,6 +642,99 @@ public class JodaBeanJsonWriter {
         }
     }
 
+    //-------------------------------------------------------------------------
+    // receives the events of a transcoded bean
+    private final class JsonSink implements SerBeanSink {
+        private final Appendable appendable;
+        private final ArrayDeque<Class<?>> beanTypes = new ArrayDeque<>();
+        private int skipDepth;
+
+        private JsonSink(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public boolean isStreamable(Class<?> beanType) {
+            return !DynamicBean.class.isAssignableFrom(beanType) && !settings.getConverter().isConvertible(beanType);
+        }
+
+        @Override
+        public void startBean(MetaProperty<?> metaProperty, Class<?> beanType) throws IOException {
+            if (beanTypes.isEmpty()) {
+                output = new JsonOutput(appendable, settings.getJsonNumberFormat(), settings.getIndent(), settings.getNewLine());
+                basePackage = null;
+                knownTypes.clear();
+                output.writeObjectStart();
+                writeBeanType(ResolvedType.OBJECT, beanType, true);
+            } else if (skipDepth > 0 || !settings.isSerialized(metaProperty)) {
+                skipDepth++;
+                return;
+            } else {
+                var declaredType = metaProperty.propertyResolvedType(beanTypes.peek());
+                output.writeObjectKey(metaProperty.name());
+                output.writeObjectStart();
+                writeBeanType(declaredType, beanType, false);
+            }
+            beanTypes.push(beanType);
+        }
+
+        @Override
+        public void property(MetaProperty<?> metaProperty, Object value) throws IOException {
+            if (skipDepth == 0 && settings.isSerialized(metaProperty)) {
+                var beanType = beanTypes.peek();
+                var propertyValue = SerOptional.wrapValue(metaProperty, beanType, value);
+                if (propertyValue != null) {
+                    var resolvedType = metaProperty.propertyResolvedType(beanType);
+                    LOOKUP.get(propertyValue.getClass())
+                            .handleProperty(JodaBeanJsonWriter.this, resolvedType, metaProperty.name(), null, propertyValue);
+                }
+            }
+        }
+
+        @Override
+        public void endBean() throws IOException {
+            if (skipDepth > 0) {
+                skipDepth--;
+                return;
+            }
+            output.writeObjectEnd();
+            beanTypes.pop();
+            if (beanTypes.isEmpty()) {
+                appendable.append(settings.getNewLine());
+            }
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    // the properties of a bean type, with the resolved type and encoded name of each property precomputed
+    // this avoids the need to resolve types and encode property names each time a bean is written
+    private static final class BeanDefinition {
+        private final PropertyDefinition[] properties;
+
+        private BeanDefinition(MetaBean metaBean, Class<?> beanType) {
+            this.properties = new PropertyDefinition[metaBean.metaPropertyCount()];
+            var i = 0;
+            for (var metaProperty : metaBean.metaPropertyIterable()) {
+                properties[i++] = new PropertyDefinition(metaProperty, metaProperty.propertyResolvedType(beanType));
+            }
+        }
+    }
+
+    // the definition of a single property
+    private static final class PropertyDefinition {
+        private final MetaProperty<?> metaProperty;
+        private final Class<?> propertyType;
+        private final ResolvedType resolvedType;
+        private final String encodedName;
+
+        private PropertyDefinition(MetaProperty<?> metaProperty, ResolvedType resolvedType) {
+            this.metaProperty = metaProperty;
+            this.propertyType = metaProperty.propertyType();
+            this.resolvedType = resolvedType;
+            this.encodedName = JsonOutput.encodeString(metaProperty.name());
+        }
+    }
+
     //-------------------------------------------------------------------------
     private static interface JsonHandler<T> {
         public abstract void handle(
@@ -532,13 +743,15 @@ public class JodaBeanJsonWriter {
                 String propertyName,
                 T obj) throws IOException;
 
+        // the encoded name is null if the name has not been encoded in advance
         public default void handleProperty(
                 JodaBeanJsonWriter writer,
                 ResolvedType declaredType,
                 String propertyName,
+                String encodedName,
                 T obj) throws IOException {
 
-            writer.output.writeObjectKey(propertyName);
+            writer.writePropertyKey(propertyName, encodedName);
             handle(writer, declaredType, propertyName, obj);
         }
 
@@ -579,6 +792,19 @@ public class JodaBeanJsonWriter {
                 return OptionalJsonHandler.INSTANCE;
             }
             if (type.isArray()) {
+                // common numeric arrays are written directly, avoiding boxing
+                if (type == int[].class) {
+                    return (CollectionJsonHandler<int[]>) BaseJsonHandlers::writeIntArray;
+                }
+                if (type == long[].class) {
+                    return (CollectionJsonHandler<long[]>) BaseJsonHandlers::writeLongArray;
+                }
+                if (type == double[].class) {
+                    return (CollectionJsonHandler<double[]>) BaseJsonHandlers::writeDoubleArray;
+                }
+                if (type == double[][].class) {
+                    return (CollectionJsonHandler<double[][]>) BaseJsonHandlers::writeDoubleMatrix;
+                }
                 var componentType = type.getComponentType();
                 if (componentType.isPrimitive()) {
                     if (componentType == byte.class) {
@@ -657,6 +883,95 @@ public class JodaBeanJsonWriter {
             writer.writeWithMetaType(contentHandler, metaTypeHandler);
         }
 
+        // writes an int array, with meta type information if necessary
+        private static void writeIntArray(
+                JodaBeanJsonWriter writer,
+                ResolvedType declaredType,
+                String propertyName,
+                int[] array) throws IOException {
+
+            ContentHandler contentHandler = () -> {
+                writer.output.writeArrayStart();
+                for (var item : array) {
+                    writer.output.writeArrayItemStart();
+                    writer.output.writeInt(item);
+                }
+                writer.output.writeArrayEnd();
+            };
+            writer.writeWithMetaType(contentHandler, arrayMetaTypeHandler(declaredType, array));
+        }
+
+        // writes a long array, with meta type information if necessary
+        private static void writeLongArray(
+                JodaBeanJsonWriter writer,
+                ResolvedType declaredType,
+                String propertyName,
+                long[] array) throws IOException {
+
+            ContentHandler contentHandler = () -> {
+                writer.output.writeArrayStart();
+                for (var item : array) {
+                    writer.output.writeArrayItemStart();
+                    writer.output.writeLong(item);
+                }
+                writer.output.writeArrayEnd();
+            };
+            writer.writeWithMetaType(contentHandler, arrayMetaTypeHandler(declaredType, array));
+        }
+
+        // writes a double array, with meta type information if necessary
+        private static void writeDoubleArray(
+                JodaBeanJsonWriter writer,
+                ResolvedType declaredType,
+                String propertyName,
+                double[] array) throws IOException {
+
+            ContentHandler contentHandler = () -> writeDoubleArrayContent(writer, array);
+            writer.writeWithMetaType(contentHandler, arrayMetaTypeHandler(declaredType, array));
+        }
+
+        // writes a double matrix, with meta type information if necessary
+        private static void writeDoubleMatrix(
+                JodaBeanJsonWriter writer,
+                ResolvedType declaredType,
+                String propertyName,
+                double[][] matrix) throws IOException {
+
+            ContentHandler contentHandler = () -> {
+                writer.output.writeArrayStart();
+                for (var row : matrix) {
+                    writer.output.writeArrayItemStart();
+                    if (row == null) {
+                        writer.output.writeNull();
+                    } else {
+                        writeDoubleArrayContent(writer, row);
+                    }
+                }
+                writer.output.writeArrayEnd();
+            };
+            writer.writeWithMetaType(contentHandler, arrayMetaTypeHandler(declaredType, matrix));
+        }
+
+        // writes the content of a double array
+        private static void writeDoubleArrayContent(JodaBeanJsonWriter writer, double[] array) throws IOException {
+            writer.output.writeArrayStart();
+            for (var item : array) {
+                writer.output.writeArrayItemStart();
+                writer.output.writeDouble(item);
+            }
+            writer.output.writeArrayEnd();
+        }
+
+        // checks the actual type of an array against the declared type
+        private static MetaTypeHandler arrayMetaTypeHandler(ResolvedType declaredType, Object array) {
+            return () -> {
+                if (declaredType.getRawType() != array.getClass()) {
+                    return metaTypeArrayName(array.getClass().getComponentType());
+                }
+                return null;
+            };
+        }
+
         // determines the meta type name to use
         private static String metaTypeArrayName(Class<?> valueType) {
             if (valueType.isArray()) {
@@ -905,12 +1220,13 @@ public class JodaBeanJsonWriter {
                 JodaBeanJsonWriter writer,
                 ResolvedType declaredType,
                 String propertyName,
+                String encodedName,
                 Optional<?> opt) throws IOException {
 
             var value = opt.orElse(null);
             if (value != null) {
                 var valueType = declaredType.getArgumentOrDefault(0).toRaw();
-                writer.output.writeObjectKey(propertyName);
+                writer.writePropertyKey(propertyName, encodedName);
                 writer.writeObject(valueType, propertyName, value);
             }
         }
@@ -938,12 +1254,13 @@ public class JodaBeanJsonWriter {
                 JodaBeanJsonWriter writer,
                 ResolvedType declaredType,
                 String propertyName,
+                String encodedName,
                 com.google.common.base.Optional<?> opt) throws IOException {
 
             var value = opt.orNull();
             if (value != null) {
                 var valueType = declaredType.getArgumentOrDefault(0).toRaw();
-                writer.output.writeObjectKey(propertyName);
+                writer.writePropertyKey(propertyName, encodedName);
                 writer.writeObject(valueType, propertyName, value);
             }
         }
@@ -16,6 +16,7 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Map;
 
@@ -91,9 +92,26 @@ public class JodaBeanSimpleJsonWriter extends JodaBeanJsonWriter {
         super.write(bean, false, output);
     }
 
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The JSON is encoded and written to the stream in fixed-size chunks as the bean is traversed,
+     * thus the memory required does not depend on the size of the bean.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     * @since 3.0.0
+     */
+    @Override
+    public void writeToStream(Bean bean, OutputStream output) throws IOException {
+        super.writeToStream(bean, false, output);
+    }
+
     //-------------------------------------------------------------------------
     @Override
-    void writeBeanType(ResolvedType declaredType, Bean bean, boolean includeRootType) throws IOException {
+    void writeBeanType(ResolvedType declaredType, Class<?> beanClass, boolean includeRootType) throws IOException {
         // do not write type
     }
 
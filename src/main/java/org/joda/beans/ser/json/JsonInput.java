@@ -330,6 +330,25 @@ final class JsonInput {
         return (char) next;
     }
 
+    // skips whitespace, returning true if the end of the input has been reached
+    boolean isEndOfInput() throws IOException {
+        int next;
+        if (cachedNext != null) {
+            next = cachedNext.charValue();
+            cachedNext = null;
+        } else {
+            next = input.read();
+        }
+        while (next == ' ' || next == '\t' || next == '\n' || next == '\r') {
+            next = input.read();
+        }
+        if (next == -1) {
+            return true;
+        }
+        pushBack((char) next);
+        return false;
+    }
+
     void skipData() throws IOException {
         skipData(readEvent());
     }
@@ -220,6 +220,22 @@ final class JsonOutput {
         output.append('"');
     }
 
+    /**
+     * Encodes a JSON string, including the quotes.
+     * 
+     * @param value  the value
+     * @return the encoded string, not null
+     */
+    static String encodeString(String value) {
+        var buf = new StringBuilder(value.length() + 2);
+        try {
+            new JsonOutput(buf).writeString(value);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return buf.toString();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Writes a JSON array start.
@@ -280,6 +296,26 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeObjectKey(String key) throws IOException {
+        writeObjectKeyStart();
+        writeString(key);
+        writeObjectKeyEnd();
+    }
+
+    /**
+     * Writes a JSON object key that has already been encoded.
+     * <p>
+     * This handles the comma and separator colon.
+     * 
+     * @param encodedKey  the item key, encoded using {@link #encodeString(String)}
+     * @throws IOException if an error occurs
+     */
+    void writeEncodedObjectKey(String encodedKey) throws IOException {
+        writeObjectKeyStart();
+        output.append(encodedKey);
+        writeObjectKeyEnd();
+    }
+
+    private void writeObjectKeyStart() throws IOException {
         if (commaState.get(commaDepth)) {
             output.append(',');
         } else {
@@ -287,7 +323,9 @@ final class JsonOutput {
         }
         output.append(newLine);
         output.append(currentIndent);
-        writeString(key);
+    }
+
+    private void writeObjectKeyEnd() throws IOException {
         output.append(':');
         if (!newLine.isEmpty()) {
             output.append(' ');
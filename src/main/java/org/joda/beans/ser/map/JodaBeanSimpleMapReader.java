@@ -15,24 +15,34 @@
  */
 package org.joda.beans.ser.map;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.joda.beans.Bean;
+import org.joda.beans.DynamicMetaBean;
 import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerIteratorFactory;
 import org.joda.beans.ser.SerOptional;
+import org.joda.convert.TypedStringConverter;
 
 /**
  * Provides the ability for a Joda-Bean to read from a JSON-like in memory {@code Map}.
  * <p>
  * The format is defined by {@link JodaBeanSimpleMapWriter}.
  * <p>
- * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * The first time a bean type is read, a binder is created that determines how each property is to be read.
+ * This includes whether the property is a bean, a collection or a simple type, and the converter to use.
+ * The binders are held by the reader, thus reusing a reader for many messages avoids repeating this work.
+ * The bulk methods, such as {@link #readAll(List, Class)}, are the most efficient way to read many beans.
+ * An instance may be used to read messages from multiple threads.
  */
 public class JodaBeanSimpleMapReader {
 
@@ -40,6 +50,10 @@ public class JodaBeanSimpleMapReader {
      * Settings.
      */
     private final JodaBeanSer settings;
+    /**
+     * The binders for each bean type.
+     */
+    private final Map<Class<?>, BeanBinder> binders = new ConcurrentHashMap<>();
 
     /**
      * Creates an instance.
@@ -72,6 +86,47 @@ public class JodaBeanSimpleMapReader {
         }
     }
 
+    /**
+     * Reads and parses a list of maps to a list of beans.
+     * <p>
+     * This is more efficient than calling {@link #read(Map, Class)} for each map.
+     * 
+     * @param <T>  the root type
+     * @param input  the list of maps, not null
+     * @param rootType  the root type, not null
+     * @return the list of beans, in the same order as the input, not null
+     * @since 3.0.0
+     */
+    public <T> List<T> readAll(List<? extends Map<String, Object>> input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        List<T> result = new ArrayList<>(input.size());
+        for (var map : input) {
+            result.add(read(map, rootType));
+        }
+        return result;
+    }
+
+    /**
+     * Reads and parses a list of maps to a list of beans in parallel.
+     * <p>
+     * The maps are read using a parallel stream, sharing the binders of this reader.
+     * This is intended for large lists, where the cost of parallelism is outweighed by the gain.
+     * 
+     * @param <T>  the root type
+     * @param input  the list of maps, not null
+     * @param rootType  the root type, not null
+     * @return the list of beans, in the same order as the input, not null
+     * @since 3.0.0
+     */
+    public <T> List<T> readAllParallel(List<? extends Map<String, Object>> input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        return input.parallelStream()
+                .map(map -> read(map, rootType))
+                .toList();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the root bean.
@@ -88,19 +143,24 @@ public class JodaBeanSimpleMapReader {
 
     // parse a bean, event after object start passed in
     private Object parseBean(Map<String, Object> input, Class<?> beanType) {
+        return parseBean(input, findBinder(beanType));
+    }
+
+    // parse a bean using the binder
+    private Object parseBean(Map<String, Object> input, BeanBinder binder) {
+        var beanType = binder.beanType;
         var propName = "";
         try {
-            var deser = settings.getDeserializers().findDeserializer(beanType);
-            var metaBean = deser.findMetaBean(beanType);
-            var builder = deser.createBuilder(beanType, metaBean);
+            var deser = binder.deser;
+            var builder = deser.createBuilder(beanType, binder.metaBean);
             for (var entry : input.entrySet()) {
                 // property name
                 propName = entry.getKey();
-                var metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                var property = binder.findProperty(propName);
                 // ignore unknown properties
-                if (metaProp != null && !metaProp.style().isDerived()) {
-                    var declaredType = SerOptional.extractType(metaProp, beanType);
-                    var value = parseProperty(entry.getValue(), declaredType, metaProp, beanType);
+                if (property != null) {
+                    var metaProp = property.metaProperty;
+                    var value = parseProperty(entry.getValue(), property);
                     deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
                 }
             }
@@ -112,24 +172,49 @@ public class JodaBeanSimpleMapReader {
         }
     }
 
-    // parse an object defined by a meta-property, event passed in
-    private Object parseProperty(
-            Object input,
-            Class<?> declaredType,
-            MetaProperty<?> metaProp,
-            Class<?> beanType) {
+    // finds the binder for the bean type
+    private BeanBinder findBinder(Class<?> beanType) {
+        return binders.computeIfAbsent(beanType, type -> new BeanBinder(settings, type));
+    }
 
-        // parse based on type
-        if (Bean.class.isAssignableFrom(declaredType)) {
-            return parseObjectAsBean(input, declaredType);
+    // parse an object defined by a meta-property, using the strategy of the binder
+    private Object parseProperty(Object input, PropertyBinder property) {
+        return switch (property.strategy) {
+            case BEAN -> parsePropertyBean(input, property);
+            case ITERABLE -> parsePropertyIterable(input, property);
+            case SIMPLE -> parsePropertySimple(input, property);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object parsePropertyBean(Object input, PropertyBinder property) {
+        if (input instanceof Map) {
+            // resolved on first use, as a bean type may refer to itself
+            var binder = property.beanBinder;
+            if (binder == null) {
+                binder = findBinder(property.declaredType);
+                property.beanBinder = binder;
+            }
+            return parseBean((Map<String, Object>) input, binder);
+        }
+        return parseSimple(input, property.declaredType);
+    }
+
+    private Object parsePropertyIterable(Object input, PropertyBinder property) {
+        if (input instanceof List || input instanceof Map) {
+            // the iterable accumulates the values, so a new one is needed each time
+            return parseIterable(input, property.iterableFactory.get());
+        }
+        return parseSimple(input, property.declaredType);
+    }
+
+    private Object parsePropertySimple(Object input, PropertyBinder property) {
+        if (input instanceof String str && property.converter != null) {
+            return property.converter.convertFromString(property.declaredType, str);
         } else if (input instanceof List || input instanceof Map) {
-            var childIterable = settings.getIteratorFactory().createIterable(metaProp, beanType, true);
-            return childIterable != null ?
-                    parseIterable(input, childIterable) :
-                    parseObjectAsCollection(input, declaredType);
-        } else {
-            return parseSimple(input, declaredType);
+            return parseObjectAsCollection(input, property.declaredType);
         }
+        return parseSimple(input, property.declaredType);
     }
 
     // parse an object within a collection
@@ -378,4 +463,116 @@ public class JodaBeanSimpleMapReader {
         }
     }
 
+    //-------------------------------------------------------------------------
+    // determines how to read each property of a bean type
+    private static final class BeanBinder {
+        private final JodaBeanSer settings;
+        private final Class<?> beanType;
+        private final SerDeserializer deser;
+        private final MetaBean metaBean;
+        // the properties of a dynamic bean can change, so they are not cached
+        private final boolean cacheable;
+        // the properties keyed by name, with SKIP for derived properties
+        // unknown names are not cached, as the input could contain any number of them
+        private final Map<String, PropertyBinder> properties = new ConcurrentHashMap<>();
+
+        private BeanBinder(JodaBeanSer settings, Class<?> beanType) {
+            this.settings = settings;
+            this.beanType = beanType;
+            this.deser = settings.getDeserializers().findDeserializer(beanType);
+            this.metaBean = deser.findMetaBean(beanType);
+            this.cacheable = !(metaBean instanceof DynamicMetaBean);
+            if (cacheable) {
+                for (MetaProperty<?> metaProperty : metaBean.metaPropertyIterable()) {
+                    properties.put(metaProperty.name(), createProperty(settings, metaProperty.name()));
+                }
+            }
+        }
+
+        // finds the property, null if the property is to be ignored
+        private PropertyBinder findProperty(String propName) {
+            if (!cacheable) {
+                return nullIfSkip(createProperty(settings, propName));
+            }
+            var property = properties.get(propName);
+            if (property == null) {
+                property = createProperty(settings, propName);
+                if (property == PropertyBinder.SKIP) {
+                    return null;
+                }
+                properties.putIfAbsent(propName, property);
+            }
+            return nullIfSkip(property);
+        }
+
+        private PropertyBinder createProperty(JodaBeanSer settings, String propName) {
+            var metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+            if (metaProp == null || metaProp.style().isDerived()) {
+                return PropertyBinder.SKIP;
+            }
+            return PropertyBinder.of(settings, metaProp, beanType);
+        }
+
+        private static PropertyBinder nullIfSkip(PropertyBinder property) {
+            return property == PropertyBinder.SKIP ? null : property;
+        }
+    }
+
+    // the approach used to read a property
+    private static enum PropertyStrategy {
+        // a bean, read using the binder of the declared type
+        BEAN,
+        // a collection-like type, read using an iterable from the iterator factory
+        ITERABLE,
+        // a simple type, with text read using the converter if necessary
+        SIMPLE
+    }
+
+    // determines how to read a single property
+    private static final class PropertyBinder {
+        private static final PropertyBinder SKIP = new PropertyBinder(null, Object.class, PropertyStrategy.SIMPLE, null, null);
+
+        private final MetaProperty<?> metaProperty;
+        private final Class<?> declaredType;
+        private final PropertyStrategy strategy;
+        // the factory of iterables for a collection-like property, null if not collection-like
+        private final Supplier<SerIterable> iterableFactory;
+        // the converter for text input, null if the text is used directly
+        private final TypedStringConverter<Object> converter;
+        // the binder of a bean property, set on first use
+        private BeanBinder beanBinder;
+
+        private PropertyBinder(
+                MetaProperty<?> metaProperty,
+                Class<?> declaredType,
+                PropertyStrategy strategy,
+                Supplier<SerIterable> iterableFactory,
+                TypedStringConverter<Object> converter) {
+
+            this.metaProperty = metaProperty;
+            this.declaredType = declaredType;
+            this.strategy = strategy;
+            this.iterableFactory = iterableFactory;
+            this.converter = converter;
+        }
+
+        private static PropertyBinder of(JodaBeanSer settings, MetaProperty<?> metaProperty, Class<?> beanType) {
+            var declaredType = SerOptional.extractType(metaProperty, beanType);
+            if (Bean.class.isAssignableFrom(declaredType)) {
+                return new PropertyBinder(metaProperty, declaredType, PropertyStrategy.BEAN, null, null);
+            }
+            var iteratorFactory = settings.getIteratorFactory();
+            if (iteratorFactory.createIterable(metaProperty, beanType, true) != null) {
+                Supplier<SerIterable> iterableFactory = () -> iteratorFactory.createIterable(metaProperty, beanType, true);
+                return new PropertyBinder(metaProperty, declaredType, PropertyStrategy.ITERABLE, iterableFactory, null);
+            }
+            var converter = declaredType == Object.class ||
+                    declaredType.isAssignableFrom(String.class) ||
+                    !settings.getConverter().isConvertible(declaredType) ?
+                            null :
+                            settings.getConverter().findTypedConverterNoGenerics(declaredType);
+            return new PropertyBinder(metaProperty, declaredType, PropertyStrategy.SIMPLE, null, converter);
+        }
+    }
+
 }
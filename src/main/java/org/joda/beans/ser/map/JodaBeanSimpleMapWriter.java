@@ -15,11 +15,16 @@
  */
 package org.joda.beans.ser.map;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
@@ -47,6 +52,9 @@ import org.joda.beans.ser.SerOptional;
  * <p>
  * Collections are output using lists, Maps as maps, with other collection types
  * having a complex list-based format.
+ * <p>
+ * The {@link #writeLazy(Bean)} method provides an alternative where the bean is not copied.
+ * Instead, a read-only view is returned that converts each value when it is accessed.
  */
 public class JodaBeanSimpleMapWriter {
 
@@ -54,6 +62,10 @@ public class JodaBeanSimpleMapWriter {
      * The settings to use.
      */
     private final JodaBeanSer settings;
+    /**
+     * Whether nested beans are output as lazy views.
+     */
+    private final boolean lazy;
 
     /**
      * Creates an instance.
@@ -61,8 +73,14 @@ public class JodaBeanSimpleMapWriter {
      * @param settings  the settings to use, not null
      */
     public JodaBeanSimpleMapWriter(JodaBeanSer settings) {
+        this(settings, false);
+    }
+
+    // creates an instance
+    private JodaBeanSimpleMapWriter(JodaBeanSer settings, boolean lazy) {
         JodaBeanUtils.notNull(settings, "settings");
         this.settings = settings;
+        this.lazy = lazy;
     }
 
     //-----------------------------------------------------------------------
@@ -77,38 +95,66 @@ public class JodaBeanSimpleMapWriter {
         return writeBean(bean, bean.getClass());
     }
 
+    /**
+     * Writes the bean to a lazy read-only view.
+     * <p>
+     * The returned map is backed directly by the bean, with no data copied.
+     * Each value is converted only when it is accessed, and is converted again on each access.
+     * Nested beans, including those in collections, are returned as further lazy views.
+     * Collections are converted in full when the property is accessed.
+     * <p>
+     * The content of the view is the same as that of the map returned by {@link #write(Bean)}.
+     * As such, this is efficient when only a small number of the properties will be accessed.
+     * If the bean is mutable, changes to the bean are visible in the view.
+     * 
+     * @param bean  the bean to output, not null
+     * @return the lazy view of the bean, not null
+     * @since 3.0.0
+     */
+    public Map<String, Object> writeLazy(Bean bean) {
+        JodaBeanUtils.notNull(bean, "bean");
+        var writer = lazy ? this : new JodaBeanSimpleMapWriter(settings, true);
+        return writer.new LazyBeanMap(bean);
+    }
+
     //-----------------------------------------------------------------------
     // write a bean as a JSON object
     private Map<String, Object> writeBean(Bean bean, Class<?> declaredType) {
+        if (lazy) {
+            return new LazyBeanMap(bean);
+        }
         Map<String, Object> result = new LinkedHashMap<>();
         // property information
         for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
+            if (settings.isSerialized(prop)) {
                 var value = SerOptional.extractValue(prop, bean);
                 if (value != null) {
-                    Object outputValue;
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean beanValue) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            outputValue = writeSimple(propType, value);
-                        } else {
-                            outputValue = writeBean(beanValue, propType);
-                        }
-                    } else {
-                        var itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass(), true);
-                        if (itemIterator != null) {
-                            outputValue = writeElements(itemIterator);
-                        } else {
-                            outputValue = writeSimple(propType, value);
-                        }
-                    }
-                    result.put(prop.name(), outputValue);
+                    result.put(prop.name(), writeProperty(bean, prop, value));
                 }
             }
         }
         return result;
     }
 
+    // write the non-null value of a property
+    private Object writeProperty(Bean bean, MetaProperty<?> prop, Object value) {
+        Class<?> propType = SerOptional.extractType(prop, bean.getClass());
+        if (value instanceof Bean beanValue) {
+            if (settings.getConverter().isConvertible(value.getClass())) {
+                return writeSimple(propType, value);
+            } else {
+                return writeBean(beanValue, propType);
+            }
+        } else {
+            var itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass(), true);
+            if (itemIterator != null) {
+                return writeElements(itemIterator);
+            } else {
+                return writeSimple(propType, value);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // write a collection
     private Object writeElements(SerIterator itemIterator) {
@@ -268,4 +314,94 @@ public class JodaBeanSimpleMapWriter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // a read-only view of a bean, converting values on access
+    private final class LazyBeanMap extends AbstractMap<String, Object> {
+        private final Bean bean;
+
+        private LazyBeanMap(Bean bean) {
+            this.bean = bean;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return findProperty(key) != null;
+        }
+
+        @Override
+        public Object get(Object key) {
+            var prop = findProperty(key);
+            if (prop == null) {
+                return null;
+            }
+            return writeProperty(bean, prop, SerOptional.extractValue(prop, bean));
+        }
+
+        // finds the property if it is output and has a non-null value
+        private MetaProperty<?> findProperty(Object key) {
+            if (key instanceof String name && bean.metaBean().metaPropertyExists(name)) {
+                var prop = bean.metaBean().metaProperty(name);
+                if (prop.name().equals(name) && settings.isSerialized(prop) && SerOptional.extractValue(prop, bean) != null) {
+                    return prop;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    var size = 0;
+                    for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
+                        if (settings.isSerialized(prop) && SerOptional.extractValue(prop, bean) != null) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    var it = bean.metaBean().metaPropertyIterable().iterator();
+                    return new Iterator<>() {
+                        private Object nextValue;
+                        private MetaProperty<?> nextProp = findNext();
+
+                        private MetaProperty<?> findNext() {
+                            while (it.hasNext()) {
+                                var prop = it.next();
+                                if (settings.isSerialized(prop)) {
+                                    var value = SerOptional.extractValue(prop, bean);
+                                    if (value != null) {
+                                        nextValue = value;
+                                        return prop;
+                                    }
+                                }
+                            }
+                            return null;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return nextProp != null;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (nextProp == null) {
+                                throw new NoSuchElementException();
+                            }
+                            var prop = nextProp;
+                            var value = nextValue;
+                            nextProp = findNext();
+                            return new SimpleImmutableEntry<>(prop.name(), writeProperty(bean, prop, value));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
 }
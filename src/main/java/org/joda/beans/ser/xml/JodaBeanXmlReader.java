@@ -34,17 +34,29 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanSink;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
@@ -55,7 +67,8 @@ import org.joda.beans.ser.SerTypeMapper;
  * The XML format is defined by {@link JodaBeanXmlWriter}.
  * <p>
  * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * An instance may be reused to read a number of messages one after another,
+ * which allows the lookup of properties from element names to be cached between messages.
  */
 public class JodaBeanXmlReader {
 
@@ -89,6 +102,14 @@ public class JodaBeanXmlReader {
      * The known types.
      */
     private final Map<String, Class<?>> knownTypes = new HashMap<>();
+    /**
+     * The properties of each bean type keyed by element name, cached across messages.
+     */
+    private final Map<Class<?>, Map<String, PropertyEntry>> properties = new HashMap<>();
+    /**
+     * The buffer used to collect text content.
+     */
+    private final StringBuilder textBuf = new StringBuilder(64);
 
     /**
      * Creates an instance.
@@ -192,6 +213,347 @@ public class JodaBeanXmlReader {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses a sequence of beans.
+     * <p>
+     * The input consists of a root wrapper element, which may have any name,
+     * containing a sequence of 'bean' elements, each in the form of the root element
+     * defined by {@link JodaBeanXmlWriter}.
+     * The beans are parsed lazily as the stream is consumed, thus the memory required
+     * is proportional to the size of a single bean, not the size of the document.
+     * <p>
+     * The returned stream is sequential and must be consumed on a single thread.
+     * This reader must not be used for anything else until the stream is consumed or closed.
+     * 
+     * @param <T>  the root type
+     * @param input  the input stream, not null
+     * @param rootType  the root type, not null
+     * @return the stream of beans, not null
+     * @since 3.0.0
+     */
+    public <T> Stream<T> readAll(final InputStream input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        try {
+            return readAll(XML_FACTORY.createXMLEventReader(input), rootType);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Reads and parses a sequence of beans.
+     * <p>
+     * The input consists of a root wrapper element, which may have any name,
+     * containing a sequence of 'bean' elements, each in the form of the root element
+     * defined by {@link JodaBeanXmlWriter}.
+     * The beans are parsed lazily as the stream is consumed, thus the memory required
+     * is proportional to the size of a single bean, not the size of the document.
+     * <p>
+     * The returned stream is sequential and must be consumed on a single thread.
+     * This reader must not be used for anything else until the stream is consumed or closed.
+     * 
+     * @param <T>  the root type
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @return the stream of beans, not null
+     * @since 3.0.0
+     */
+    public <T> Stream<T> readAll(final Reader input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        try {
+            return readAll(XML_FACTORY.createXMLEventReader(input), rootType);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Reads and parses a sequence of beans from elements with the specified name.
+     * <p>
+     * This is intended for large documents where a bean is repeated many times under one or more wrapper elements.
+     * The document is walked and each element with the specified local name, at any depth, is parsed as a bean.
+     * Each bean is in the form of a property element defined by {@link JodaBeanXmlWriter}, thus no 'type'
+     * attribute is needed unless the element is a subclass of the specified bean type.
+     * All other elements are descended into, but are otherwise ignored.
+     * <p>
+     * Each bean is returned as soon as it has been parsed, thus the memory required
+     * is proportional to the size of a single bean, not the size of the document.
+     * <p>
+     * The returned stream is sequential and must be consumed on a single thread.
+     * This reader must not be used for anything else until the stream is consumed or closed.
+     * 
+     * @param <T>  the bean type
+     * @param input  the input stream, not null
+     * @param elementName  the local name of the elements to parse, not null
+     * @param beanType  the bean type, not null
+     * @return the stream of beans, not null
+     * @since 3.0.0
+     */
+    public <T> Stream<T> readAll(final InputStream input, String elementName, Class<T> beanType) {
+        JodaBeanUtils.notNull(input, "input");
+        try {
+            return readAll(XML_FACTORY.createXMLEventReader(input), elementName, beanType);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Reads and parses a sequence of beans from elements with the specified name.
+     * <p>
+     * This is intended for large documents where a bean is repeated many times under one or more wrapper elements.
+     * The document is walked and each element with the specified local name, at any depth, is parsed as a bean.
+     * Each bean is in the form of a property element defined by {@link JodaBeanXmlWriter}, thus no 'type'
+     * attribute is needed unless the element is a subclass of the specified bean type.
+     * All other elements are descended into, but are otherwise ignored.
+     * <p>
+     * Each bean is returned as soon as it has been parsed, thus the memory required
+     * is proportional to the size of a single bean, not the size of the document.
+     * <p>
+     * The returned stream is sequential and must be consumed on a single thread.
+     * This reader must not be used for anything else until the stream is consumed or closed.
+     * 
+     * @param <T>  the bean type
+     * @param input  the input reader, not null
+     * @param elementName  the local name of the elements to parse, not null
+     * @param beanType  the bean type, not null
+     * @return the stream of beans, not null
+     * @since 3.0.0
+     */
+    public <T> Stream<T> readAll(final Reader input, String elementName, Class<T> beanType) {
+        JodaBeanUtils.notNull(input, "input");
+        try {
+            return readAll(XML_FACTORY.createXMLEventReader(input), elementName, beanType);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // parses the children of the wrapper element as root beans
+    private <T> Stream<T> readAll(XMLEventReader eventReader, Class<T> rootType) throws Exception {
+        reader = eventReader;
+        advanceToStartElement();
+        return stream(eventReader, () -> {
+            while (reader.hasNext()) {
+                var event = nextEvent("seq   ");
+                if (event.isStartElement()) {
+                    return parseRoot(event.asStartElement(), rootType);
+                } else if (event.isEndElement()) {
+                    break;
+                }
+            }
+            return null;
+        });
+    }
+
+    // parses each matching element as a bean
+    private <T> Stream<T> readAll(XMLEventReader eventReader, String elementName, Class<T> beanType) {
+        JodaBeanUtils.notNull(elementName, "elementName");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        reader = eventReader;
+        return stream(eventReader, () -> {
+            while (reader.hasNext()) {
+                var event = nextEvent("match ");
+                if (event.isStartElement() && event.asStartElement().getName().getLocalPart().equals(elementName)) {
+                    var packageName = beanType.getPackageName();
+                    basePackage = packageName.isEmpty() ? null : packageName + ".";
+                    knownTypes.clear();
+                    var childType = parseTypeAttribute(event.asStartElement(), beanType);
+                    if (!beanType.isAssignableFrom(childType)) {
+                        throw new IllegalArgumentException(
+                                "Specified bean type is incompatible with XML type: " + beanType.getName() + " and " + childType.getName());
+                    }
+                    return beanType.cast(parseBean(childType));
+                }
+            }
+            return null;
+        });
+    }
+
+    // creates a lazy stream, where the parser returns null at the end of the input
+    private <T> Stream<T> stream(XMLEventReader eventReader, Callable<T> parser) {
+        var spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean ended;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (ended) {
+                    return false;
+                }
+                try {
+                    var parsed = parser.call();
+                    if (parsed != null) {
+                        action.accept(parsed);
+                        return true;
+                    }
+                    ended = true;
+                    eventReader.close();
+                    return false;
+                } catch (RuntimeException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                eventReader.close();
+            } catch (XMLStreamException ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the XML and transcodes it to the sink, without building the beans.
+     * <p>
+     * The sink is typically obtained from a writer of another format, such as {@code JodaBeanJsonWriter.sink()}.
+     * 
+     * @param input  the input string, not null
+     * @param sink  the sink to receive the bean, not null
+     * @since 3.0.0
+     */
+    public void transcode(final String input, SerBeanSink sink) {
+        JodaBeanUtils.notNull(input, "input");
+        transcode(new StringReader(input), sink);
+    }
+
+    /**
+     * Reads the XML and transcodes it to the sink, without building the beans.
+     * <p>
+     * The sink is typically obtained from a writer of another format, such as {@code JodaBeanJsonWriter.sink()}.
+     * 
+     * @param input  the input stream, not null
+     * @param sink  the sink to receive the bean, not null
+     * @since 3.0.0
+     */
+    public void transcode(final InputStream input, SerBeanSink sink) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(sink, "sink");
+        try {
+            try {
+                reader = XML_FACTORY.createXMLEventReader(input);
+                transcodeRoot(sink);
+            } finally {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Reads the XML and transcodes it to the sink, without building the beans.
+     * <p>
+     * The sink is typically obtained from a writer of another format, such as {@code JodaBeanJsonWriter.sink()}.
+     * 
+     * @param input  the input reader, not null
+     * @param sink  the sink to receive the bean, not null
+     * @since 3.0.0
+     */
+    public void transcode(final Reader input, SerBeanSink sink) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(sink, "sink");
+        try {
+            try {
+                reader = XML_FACTORY.createXMLEventReader(input);
+                transcodeRoot(sink);
+            } finally {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Transcodes the root bean to the sink.
+     * 
+     * @param sink  the sink to receive the bean, not null
+     * @throws Exception if an error occurs
+     */
+    private void transcodeRoot(final SerBeanSink sink) throws Exception {
+        var start = advanceToStartElement();
+        var effectiveType = parseRootType(start, Bean.class);
+        if (!isStreamable(effectiveType, sink)) {
+            throw new IllegalArgumentException("Root type cannot be transcoded: " + effectiveType.getName());
+        }
+        sink.startBean(null, effectiveType);
+        transcodeBean(effectiveType, sink);
+        sink.endBean();
+    }
+
+    /**
+     * Transcodes a logical bean in the input XML to the sink.
+     * <p>
+     * Property values that are beans are streamed to the sink where possible, other values are parsed.
+     * 
+     * @param beanType  the bean type, not null
+     * @param sink  the sink to receive the bean, not null
+     */
+    private void transcodeBean(final Class<?> beanType, final SerBeanSink sink) {
+        var propName = "";
+        try {
+            var deser = settings.getDeserializers().findDeserializer(beanType);
+            var metaBean = deser.findMetaBean(beanType);
+            var beanProperties = properties.computeIfAbsent(beanType, k -> new HashMap<>());
+            var event = nextEvent(">bean ");
+            while (!event.isEndElement()) {
+                if (event.isStartElement()) {
+                    var start = event.asStartElement();
+                    propName = start.getName().getLocalPart();
+                    var entry = findProperty(beanProperties, deser, beanType, metaBean, propName);
+                    if (entry == null) {
+                        skipElement();
+                    } else {
+                        var metaProp = entry.metaProperty;
+                        Class<?> childType = parseTypeAttribute(start, entry.propertyType);
+                        // optional beans are parsed, as the bean must be wrapped
+                        if (entry.propertyType == metaProp.propertyType() && isStreamable(childType, sink)) {
+                            sink.startBean(metaProp, childType);
+                            transcodeBean(childType, sink);
+                            sink.endBean();
+                        } else {
+                            sink.property(metaProp, parseProperty(start, metaProp, beanType, childType));
+                        }
+                    }
+                    propName = "";
+                }
+                event = nextEvent(".bean ");
+            }
+        } catch (Exception ex) {
+            throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    // checks if the bean can be streamed, which requires the default deserializer
+    private boolean isStreamable(Class<?> type, SerBeanSink sink) {
+        return Bean.class.isAssignableFrom(type) &&
+                settings.getDeserializers().isDefaultDeserializer(type) &&
+                sink.isStreamable(type);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the root bean.
@@ -202,6 +564,32 @@ public class JodaBeanXmlReader {
      */
     private <T> T read(final Class<T> rootType) throws Exception {
         var start = advanceToStartElement();
+        return parseRoot(start, rootType);
+    }
+
+    /**
+     * Parses a root bean element.
+     * 
+     * @param start  the start element of the root bean, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     * @throws Exception if an error occurs
+     */
+    private <T> T parseRoot(final StartElement start, final Class<T> rootType) throws Exception {
+        var parsed = parseBean(parseRootType(start, rootType));
+        return rootType.cast(parsed);
+    }
+
+    /**
+     * Parses the type of a root bean element.
+     * 
+     * @param start  the start element of the root bean, not null
+     * @param rootType  the root type, not null
+     * @return the effective type of the root bean, not null
+     */
+    private Class<?> parseRootType(final StartElement start, final Class<?> rootType) throws Exception {
+        basePackage = null;
+        knownTypes.clear();
         if (!start.getName().equals(BEAN_QNAME)) {
             throw new IllegalArgumentException("Expected root element 'bean' but found '" + start.getName() + "'");
         }
@@ -221,8 +609,7 @@ public class JodaBeanXmlReader {
             throw new IllegalArgumentException("Root type is not a Joda-Bean: " + effectiveType.getName());
         }
         basePackage = effectiveType.getPackage().getName() + ".";
-        var parsed = parseBean(effectiveType);
-        return rootType.cast(parsed);
+        return effectiveType;
     }
 
     /**
@@ -240,7 +627,8 @@ public class JodaBeanXmlReader {
             XMLEvent event = null;
             // handle case where whole bean is Joda-Convert string
             if (settings.getConverter().isConvertible(beanType)) {
-                var buf = new StringBuilder();
+                var buf = textBuf;
+                buf.setLength(0);
                 while (reader.hasNext()) {
                     event = nextEvent(">btxt ");
                     if (event.isCharacters()) {
@@ -260,48 +648,19 @@ public class JodaBeanXmlReader {
             var deser = settings.getDeserializers().findDeserializer(beanType);
             var metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            var beanProperties = properties.computeIfAbsent(beanType, k -> new HashMap<>());
             // handle beans with structure
             while (!event.isEndElement()) {
                 if (event.isStartElement()) {
                     var start = event.asStartElement();
                     propName = start.getName().getLocalPart();
-                    MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
-                    if (metaProp == null || metaProp.style().isDerived()) {
-                        var depth = 0;
-                        event = nextEvent(" skip ");
-                        while (!event.isEndElement() || depth > 0) {
-                            if (event.isStartElement()) {
-                                depth++;
-                            } else if (event.isEndElement()) {
-                                depth--;
-                            }
-                            event = nextEvent(" skip ");
-                        }
-                        // skip elements
+                    var entry = findProperty(beanProperties, deser, beanType, metaBean, propName);
+                    if (entry == null) {
+                        skipElement();
                     } else {
-                        Class<?> childType = parseTypeAttribute(start, SerOptional.extractType(metaProp, beanType));
-                        Object value;
-                        if (Bean.class.isAssignableFrom(childType)) {
-                            value = parseBean(childType);
-                        } else {
-                            var iterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
-                            if (iterable != null) {
-                                value = parseIterable(start, iterable);
-                            } else {
-                                // metatype
-                                var metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
-                                if (metaTypeAttr != null) {
-                                    iterable = settings.getIteratorFactory().createIterable(metaTypeAttr.getValue(), settings, knownTypes);
-                                    if (iterable == null) {
-                                        throw new IllegalArgumentException("Invalid metaType");
-                                    }
-                                    value = parseIterable(start, iterable);
-                                } else {
-                                    var text = advanceAndParseText();
-                                    value = settings.getConverter().convertFromString(childType, text);
-                                }
-                            }
-                        }
+                        var metaProp = entry.metaProperty;
+                        Class<?> childType = parseTypeAttribute(start, entry.propertyType);
+                        var value = parseProperty(start, metaProp, beanType, childType);
                         deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
                     }
                     propName = "";
@@ -314,6 +673,66 @@ public class JodaBeanXmlReader {
         }
     }
 
+    // parses the value of a property, start element already consumed
+    private Object parseProperty(StartElement start, MetaProperty<?> metaProp, Class<?> beanType, Class<?> childType) throws Exception {
+        if (Bean.class.isAssignableFrom(childType)) {
+            return parseBean(childType);
+        }
+        var iterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
+        if (iterable != null) {
+            return parseIterable(start, iterable);
+        }
+        // metatype
+        var metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
+        if (metaTypeAttr != null) {
+            iterable = settings.getIteratorFactory().createIterable(metaTypeAttr.getValue(), settings, knownTypes);
+            if (iterable == null) {
+                throw new IllegalArgumentException("Invalid metaType");
+            }
+            return parseIterable(start, iterable);
+        }
+        var text = advanceAndParseText();
+        return settings.getConverter().convertFromString(childType, text);
+    }
+
+    // skips an element and its children, start element already consumed
+    private void skipElement() throws Exception {
+        var depth = 0;
+        var event = nextEvent(" skip ");
+        while (!event.isEndElement() || depth > 0) {
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+            event = nextEvent(" skip ");
+        }
+    }
+
+    // finds the property for the element name, null if the element is to be skipped
+    private PropertyEntry findProperty(
+            Map<String, PropertyEntry> beanProperties,
+            SerDeserializer deser,
+            Class<?> beanType,
+            MetaBean metaBean,
+            String propName) {
+
+        var entry = beanProperties.get(propName);
+        if (entry != null) {
+            return entry;
+        }
+        MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+        if (metaProp == null || metaProp.style().isDerived()) {
+            return null;
+        }
+        entry = new PropertyEntry(metaProp, SerOptional.extractType(metaProp, beanType));
+        // the properties of a dynamic bean can change, so they are not cached
+        if (!(metaBean instanceof DynamicMetaBean)) {
+            beanProperties.put(propName, entry);
+        }
+        return entry;
+    }
+
     /**
      * Parses to a collection wrapper.
      * 
@@ -485,7 +904,8 @@ public class JodaBeanXmlReader {
 
     // reader must be at StartElement
     private String advanceAndParseText() throws Exception {
-        var buf = new StringBuilder();
+        var buf = textBuf;
+        buf.setLength(0);
         while (reader.hasNext()) {
             var event = nextEvent("text  ");
             if (event.isCharacters()) {
@@ -506,4 +926,16 @@ public class JodaBeanXmlReader {
         return event;
     }
 
+    //-----------------------------------------------------------------------
+    // a property matched by element name, with the type to parse precomputed
+    private static final class PropertyEntry {
+        private final MetaProperty<?> metaProperty;
+        private final Class<?> propertyType;
+
+        private PropertyEntry(MetaProperty<?> metaProperty, Class<?> propertyType) {
+            this.metaProperty = metaProperty;
+            this.propertyType = propertyType;
+        }
+    }
+
 }
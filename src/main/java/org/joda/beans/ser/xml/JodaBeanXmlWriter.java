@@ -28,14 +28,24 @@ import static org.joda.beans.ser.xml.JodaBeanXml.ROW;
 import static org.joda.beans.ser.xml.JodaBeanXml.ROWS;
 import static org.joda.beans.ser.xml.JodaBeanXml.TYPE;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanDefinitionCache;
+import org.joda.beans.ser.SerBeanSink;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
 import org.joda.beans.ser.SerOptional;
@@ -67,6 +77,23 @@ import org.joda.convert.StringConverter;
  */
 public class JodaBeanXmlWriter {
 
+    /**
+     * The size of the chunks written to an output stream.
+     */
+    private static final int CHUNK_SIZE = 8192;
+    /**
+     * The tag for an item.
+     */
+    private static final XmlTag ITEM_TAG = new XmlTag(ITEM);
+    /**
+     * The tag for an entry.
+     */
+    private static final XmlTag ENTRY_TAG = new XmlTag(ENTRY);
+    /**
+     * The tag for the root bean.
+     */
+    private static final XmlTag BEAN_TAG = new XmlTag(BEAN);
+
     /**
      * The settings to use.
      */
@@ -147,6 +174,9 @@ public class JodaBeanXmlWriter {
      * Writes the bean to the {@code Appendable}.
      * <p>
      * The type of the bean will be set in the message.
+     * <p>
+     * The XML is appended to the output as the bean is traversed.
+     * Passing a {@code Writer} allows the XML to be streamed without being held in memory.
      *
      * @param bean  the bean to output, not null
      * @param output  the output appendable, not null
@@ -176,71 +206,144 @@ public class JodaBeanXmlWriter {
             appendAttribute(output, TYPE, type);
         }
         output.append('>').append(settings.getNewLine());
-        writeBean(rootBean, settings.getIndent());
+        writeBean(rootBean, BeanDefinition.of(rootBean), settings.getIndent());
         output.append('<').append('/').append(BEAN).append('>').append(settings.getNewLine());
     }
 
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * <p>
+     * The XML is encoded and written to the stream in fixed-size chunks as the bean is traversed,
+     * thus the memory required does not depend on the size of the bean.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     * @since 3.0.0
+     */
+    public void writeToStream(Bean bean, OutputStream output) throws IOException {
+        writeToStream(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The XML is encoded and written to the stream in fixed-size chunks as the bean is traversed,
+     * thus the memory required does not depend on the size of the bean.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     * @since 3.0.0
+     */
+    public void writeToStream(Bean bean, boolean rootType, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(output, "output");
+        var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), CHUNK_SIZE);
+        write(bean, rootType, writer);
+        writer.flush();
+    }
+
+    /**
+     * Creates a sink that writes a bean to the {@code Appendable} as it is transcoded from another format.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The XML is the same as that written by {@link #write(Bean, Appendable)}, and is appended as the events are received.
+     * 
+     * @param output  the output appendable, not null
+     * @return the sink, not null
+     * @since 3.0.0
+     */
+    public SerBeanSink sink(Appendable output) {
+        JodaBeanUtils.notNull(output, "output");
+        return new XmlSink(output);
+    }
+
     private void writeHeader() throws IOException {
         output.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").append(settings.getNewLine());
     }
 
     //-----------------------------------------------------------------------
-    private boolean willWriteBean(Bean bean) {
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
+    private boolean willWriteBean(BeanDefinition definition) {
+        for (var property : definition.properties) {
+            if (settings.isSerialized(property.metaProperty)) {
                 return true;
             }
         }
         return false;
     }
 
-    private void writeBean(Bean bean, String currentIndent) throws IOException {
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
+    private void writeBean(Bean bean, BeanDefinition definition, String currentIndent) throws IOException {
+        for (var property : definition.properties) {
+            var prop = property.metaProperty;
+            if (settings.isSerialized(prop)) {
                 var value = SerOptional.extractValue(prop, bean);
                 if (value != null) {
-                    var propName = prop.name();
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean beanValue) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        } else {
-                            writeBean(currentIndent, propName, new StringBuilder(), propType, beanValue);
-                        }
-                    } else {
-                        var itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(currentIndent, propName, new StringBuilder(), itemIterator);
-                        } else {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        }
-                    }
+                    writeProperty(currentIndent, property, bean.getClass(), value);
                 }
             }
         }
     }
 
+    private void writeProperty(String currentIndent, PropertyDefinition property, Class<?> beanClass, Object value) throws IOException {
+        var propType = property.propertyType;
+        if (value instanceof Bean beanValue) {
+            if (settings.getConverter().isConvertible(value.getClass())) {
+                writeSimple(currentIndent, property.tag, new StringBuilder(), propType, value);
+            } else {
+                writeBean(currentIndent, property.tag, new StringBuilder(), propType, beanValue);
+            }
+        } else {
+            var itemIterator = settings.getIteratorFactory().create(value, property.metaProperty, beanClass);
+            if (itemIterator != null) {
+                writeElements(currentIndent, property.tag, new StringBuilder(), itemIterator);
+            } else {
+                writeSimple(currentIndent, property.tag, new StringBuilder(), propType, value);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
-    private void writeBean(String currentIndent, String tagName, StringBuilder attrs, Class<?> propType, Bean value) throws IOException {
+    private void writeBean(String currentIndent, XmlTag tag, StringBuilder attrs, Class<?> propType, Bean value) throws IOException {
         if (value == null) {
             throw new IllegalArgumentException("Bean cannot be null");
         }
-        output.append(currentIndent).append('<').append(tagName).append(attrs);
-        if (value.getClass() != propType) {
-            var typeStr = SerTypeMapper.encodeType(value.getClass(), settings, basePackage, knownTypes);
+        var definition = BeanDefinition.of(value);
+        if (writeBeanStart(currentIndent, tag, attrs, propType, value.getClass(), definition)) {
+            writeBean(value, definition, currentIndent + settings.getIndent());
+            output.append(currentIndent).append(tag.end).append(settings.getNewLine());
+        }
+    }
+
+    // writes the start element of a bean, returning false if the element was closed as the bean has no properties
+    private boolean writeBeanStart(
+            String currentIndent,
+            XmlTag tag,
+            StringBuilder attrs,
+            Class<?> propType,
+            Class<?> beanClass,
+            BeanDefinition definition) throws IOException {
+
+        output.append(currentIndent).append(tag.start).append(attrs);
+        if (beanClass != propType) {
+            var typeStr = SerTypeMapper.encodeType(beanClass, settings, basePackage, knownTypes);
             appendAttribute(output, TYPE, typeStr);
         }
-        if (willWriteBean(value)) {
+        if (willWriteBean(definition)) {
             output.append('>').append(settings.getNewLine());
-            writeBean(value, currentIndent + settings.getIndent());
-            output.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            return true;
         } else {
             output.append('/').append('>').append(settings.getNewLine());
+            return false;
         }
     }
 
     //-----------------------------------------------------------------------
-    private void writeElements(String currentIndent, String tagName, StringBuilder attrs, SerIterator itemIterator) throws IOException {
+    private void writeElements(String currentIndent, XmlTag tag, StringBuilder attrs, SerIterator itemIterator) throws IOException {
         if (itemIterator.metaTypeRequired()) {
             appendAttribute(attrs, METATYPE, itemIterator.metaTypeName());
         }
@@ -249,11 +352,11 @@ public class JodaBeanXmlWriter {
             appendAttribute(attrs, COLS, Integer.toString(itemIterator.dimensionSize(1)));
         }
         if (itemIterator.size() == 0) {
-            output.append(currentIndent).append('<').append(tagName).append(attrs).append('/').append('>').append(settings.getNewLine());
+            output.append(currentIndent).append(tag.start).append(attrs).append('/').append('>').append(settings.getNewLine());
         } else {
-            output.append(currentIndent).append('<').append(tagName).append(attrs).append('>').append(settings.getNewLine());
+            output.append(currentIndent).append(tag.start).append(attrs).append('>').append(settings.getNewLine());
             writeElements(currentIndent + settings.getIndent(), itemIterator);
-            output.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            output.append(currentIndent).append(tag.end).append(settings.getNewLine());
         }
     }
 
@@ -301,13 +404,13 @@ public class JodaBeanXmlWriter {
             }
             if (keyBean) {
                 var key = itemIterator.key();
-                output.append(currentIndent).append('<').append(ENTRY).append(attr).append('>').append(settings.getNewLine());
+                output.append(currentIndent).append(ENTRY_TAG.start).append(attr).append('>').append(settings.getNewLine());
                 writeKeyElement(currentIndent + settings.getIndent(), key, itemIterator);
-                writeValueElement(currentIndent + settings.getIndent(), ITEM, new StringBuilder(), itemIterator);
-                output.append(currentIndent).append('<').append('/').append(ENTRY).append('>').append(settings.getNewLine());
+                writeValueElement(currentIndent + settings.getIndent(), ITEM_TAG, new StringBuilder(), itemIterator);
+                output.append(currentIndent).append(ENTRY_TAG.end).append(settings.getNewLine());
             } else {
-                var tagName = itemIterator.category() == SerCategory.MAP ? ENTRY : ITEM;
-                writeValueElement(currentIndent, tagName, attr, itemIterator);
+                var tag = itemIterator.category() == SerCategory.MAP ? ENTRY_TAG : ITEM_TAG;
+                writeValueElement(currentIndent, tag, attr, itemIterator);
             }
         }
     }
@@ -329,43 +432,43 @@ public class JodaBeanXmlWriter {
         }
         // if key type is known and convertible use short key format
         if (settings.getConverter().isConvertible(itemIterator.keyType())) {
-            writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
+            writeSimple(currentIndent, ITEM_TAG, new StringBuilder(), Object.class, key);
         } else if (key instanceof Bean bean) {
-            writeBean(currentIndent, ITEM, new StringBuilder(), itemIterator.keyType(), bean);
+            writeBean(currentIndent, ITEM_TAG, new StringBuilder(), itemIterator.keyType(), bean);
         } else {
             // this case covers where the key type is not known, such as an Object meta-property
             try {
-                writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
+                writeSimple(currentIndent, ITEM_TAG, new StringBuilder(), Object.class, key);
             } catch (RuntimeException ex) {
                 throw new IllegalArgumentException("Unable to write map as declared key type is neither a bean nor a simple type: " + itemIterator.keyType().getName(), ex);
             }
         }
     }
 
-    private void writeValueElement(String currentIndent, String tagName, StringBuilder attrs, SerIterator itemIterator) throws IOException {
+    private void writeValueElement(String currentIndent, XmlTag tag, StringBuilder attrs, SerIterator itemIterator) throws IOException {
         var value = itemIterator.value();
         Class<?> valueType = itemIterator.valueType();
         if (value == null) {
             appendAttribute(attrs, NULL, "true");
-            output.append(currentIndent).append('<').append(tagName).append(attrs).append("/>").append(settings.getNewLine());
+            output.append(currentIndent).append(tag.start).append(attrs).append("/>").append(settings.getNewLine());
         } else if (value instanceof Bean bean) {
             if (settings.getConverter().isConvertible(value.getClass())) {
-                writeSimple(currentIndent, tagName, attrs, valueType, value);
+                writeSimple(currentIndent, tag, attrs, valueType, value);
             } else {
-                writeBean(currentIndent, tagName, attrs, valueType, bean);
+                writeBean(currentIndent, tag, attrs, valueType, bean);
             }
         } else {
             var childIterator = settings.getIteratorFactory().createChild(value, itemIterator);
             if (childIterator != null) {
-                writeElements(currentIndent, tagName, attrs, childIterator);
+                writeElements(currentIndent, tag, attrs, childIterator);
             } else {
-                writeSimple(currentIndent, tagName, attrs, valueType, value);
+                writeSimple(currentIndent, tag, attrs, valueType, value);
             }
         }
     }
 
     //-----------------------------------------------------------------------
-    private void writeSimple(String currentIndent, String tagName, StringBuilder attrs, Class<?> declaredType, Object value) throws IOException {
+    private void writeSimple(String currentIndent, XmlTag tag, StringBuilder attrs, Class<?> declaredType, Object value) throws IOException {
         Class<?> effectiveType;
         if (declaredType == Object.class) {
             Class<?> realType = value.getClass();
@@ -388,9 +491,9 @@ public class JodaBeanXmlWriter {
             if (converted == null) {
                 throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
             }
-            output.append(currentIndent).append('<').append(tagName).append(attrs).append('>');
+            output.append(currentIndent).append(tag.start).append(attrs).append('>');
             appendEncoded(converted);
-            output.append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            output.append(tag.end).append(settings.getNewLine());
         } catch (RuntimeException ex) {
             throw new IllegalArgumentException("Unable to convert type " + effectiveType.getName() + " declared as " + declaredType.getName(), ex);
         }
@@ -475,4 +578,135 @@ public class JodaBeanXmlWriter {
         return builder;
     }
 
+    //-------------------------------------------------------------------------
+    // receives the events of a transcoded bean
+    private final class XmlSink implements SerBeanSink {
+        private final Appendable appendable;
+        private final ArrayDeque<SinkFrame> frames = new ArrayDeque<>();
+        private int skipDepth;
+
+        private XmlSink(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public boolean isStreamable(Class<?> beanType) {
+            return !DynamicBean.class.isAssignableFrom(beanType) && !settings.getConverter().isConvertible(beanType);
+        }
+
+        @Override
+        public void startBean(MetaProperty<?> metaProperty, Class<?> beanType) throws IOException {
+            if (frames.isEmpty()) {
+                output = appendable;
+                rootBean = null;
+                basePackage = beanType.getPackage().getName() + ".";
+                knownTypes.clear();
+                writeHeader();
+                output.append('<').append(BEAN);
+                appendAttribute(output, TYPE, beanType.getName());
+                output.append('>').append(settings.getNewLine());
+                frames.push(new SinkFrame(beanType, BEAN_TAG, "", settings.getIndent()));
+            } else if (skipDepth > 0 || !settings.isSerialized(metaProperty)) {
+                skipDepth++;
+            } else {
+                var parent = frames.peek();
+                var property = new PropertyDefinition(metaProperty, SerOptional.extractType(metaProperty, parent.beanType));
+                var open = writeBeanStart(
+                        parent.indent, property.tag, new StringBuilder(), property.propertyType, beanType, BeanDefinition.of(beanType));
+                var indent = parent.indent + settings.getIndent();
+                frames.push(new SinkFrame(beanType, open ? property.tag : null, parent.indent, indent));
+            }
+        }
+
+        @Override
+        public void property(MetaProperty<?> metaProperty, Object value) throws IOException {
+            if (skipDepth == 0 && value != null && settings.isSerialized(metaProperty)) {
+                var frame = frames.peek();
+                var property = new PropertyDefinition(metaProperty, SerOptional.extractType(metaProperty, frame.beanType));
+                writeProperty(frame.indent, property, frame.beanType, value);
+            }
+        }
+
+        @Override
+        public void endBean() throws IOException {
+            if (skipDepth > 0) {
+                skipDepth--;
+                return;
+            }
+            var frame = frames.pop();
+            if (frame.tag != null) {
+                output.append(frame.parentIndent).append(frame.tag.end).append(settings.getNewLine());
+            }
+        }
+    }
+
+    // the state of a bean being received by the sink
+    private static final class SinkFrame {
+        private final Class<?> beanType;
+        private final XmlTag tag;
+        private final String parentIndent;
+        private final String indent;
+
+        private SinkFrame(Class<?> beanType, XmlTag tag, String parentIndent, String indent) {
+            this.beanType = beanType;
+            this.tag = tag;
+            this.parentIndent = parentIndent;
+            this.indent = indent;
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    // the properties of a bean type, with the type and element tags of each property precomputed
+    // this avoids the need to extract types and build element names each time a bean is written
+    private static final class BeanDefinition {
+
+        private static final SerBeanDefinitionCache<BeanDefinition> DEFINITIONS = new SerBeanDefinitionCache<>(BeanDefinition::new);
+
+        private final PropertyDefinition[] properties;
+
+        private BeanDefinition(MetaBean metaBean, Class<?> beanType) {
+            this.properties = new PropertyDefinition[metaBean.metaPropertyCount()];
+            var i = 0;
+            for (var metaProperty : metaBean.metaPropertyIterable()) {
+                properties[i++] = new PropertyDefinition(metaProperty, SerOptional.extractType(metaProperty, beanType));
+            }
+        }
+
+        // finds the definition of a bean type, which is only cached where the meta-bean is fixed for the bean type
+        private static BeanDefinition of(Class<?> beanType) {
+            var definition = DEFINITIONS.find(beanType);
+            return definition != null ? definition : new BeanDefinition(MetaBean.of(beanType), beanType);
+        }
+
+        // finds the definition of a bean, which is only cached where the meta-bean is fixed for the bean type
+        private static BeanDefinition of(Bean bean) {
+            var definition = DEFINITIONS.find(bean);
+            return definition != null ? definition : new BeanDefinition(bean.metaBean(), bean.getClass());
+        }
+    }
+
+    // the definition of a single property
+    private static final class PropertyDefinition {
+        private final MetaProperty<?> metaProperty;
+        private final Class<?> propertyType;
+        private final XmlTag tag;
+
+        private PropertyDefinition(MetaProperty<?> metaProperty, Class<?> propertyType) {
+            this.metaProperty = metaProperty;
+            this.propertyType = propertyType;
+            this.tag = new XmlTag(metaProperty.name());
+        }
+    }
+
+    // the start and end text of an element, property names are valid XML names so need no escaping
+    private static final class XmlTag {
+        private final String start;
+        private final String end;
+
+        private XmlTag(String name) {
+            this.start = "<" + name;
+            this.end = "</" + name + ">";
+        }
+    }
+
 }
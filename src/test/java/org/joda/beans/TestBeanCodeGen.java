@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.joda.beans.gen.BeanCodeGen;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link BeanCodeGen}.
+ */
+class TestBeanCodeGen {
+
+    @Test
+    void test_index() throws Exception {
+        var root = Files.createTempDirectory("joda-beans");
+        try {
+            var dir = Files.createDirectories(root.resolve("org/joda/beans/sample"));
+            for (var name : new String[] {"Address.java", "ImmAddress.java", "FieldNamesLight.java"}) {
+                Files.copy(Path.of("src/test/java/org/joda/beans/sample", name), dir.resolve(name));
+            }
+            var args = new String[] {"-R", "-verbose=0", "-index=org.joda.beans.index.TestIndex", root.toString()};
+            var changed = BeanCodeGen.createFromArgs(args).processFiles();
+            var indexFile = root.resolve("org/joda/beans/index/TestIndex.java");
+            assertThat(changed).containsExactly(indexFile.toFile());
+            var index = Files.readString(indexFile);
+            assertThat(index)
+                    .contains("package org.joda.beans.index;")
+                    .contains("public final class TestIndex implements MetaBeanIndex {")
+                    .contains("case \"org.joda.beans.sample.Address\" -> org.joda.beans.sample.Address.meta();")
+                    .contains("case \"org.joda.beans.sample.ImmAddress\" -> org.joda.beans.sample.ImmAddress.meta();")
+                    .contains("case \"org.joda.beans.sample.FieldNamesLight\" -> org.joda.beans.sample.FieldNamesLight.meta();");
+            // unchanged when run again
+            assertThat(BeanCodeGen.createFromArgs(args).processFiles()).isEmpty();
+        } finally {
+            try (var paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void test_index_invalid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BeanCodeGen.createFromArgs(new String[] {"-index=TestIndex", "src/test/java"}));
+    }
+
+}
@@ -36,6 +36,8 @@ import org.joda.beans.sample.ImmGuava;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.Pair;
 import org.joda.beans.sample.Person;
+import org.joda.beans.sample.ReflectiveLookupMutable;
+import org.joda.beans.sample.ReflectiveMutable;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -165,6 +167,43 @@ class TestJodaBeanUtils {
         assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(b));
     }
 
+    @Test
+    void test_propertiesEqual_propertiesHashCode_metaProperties() {
+        Pair a = new Pair();
+        a.setFirst("A");
+        Pair b = new Pair();
+        b.setFirst("A");
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(b));
+        b.setSecond("B");
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isFalse();
+
+        // different meta-beans, same property names
+        ReflectiveMutable c = new ReflectiveMutable();
+        c.setStreet("Park Lane");
+        ReflectiveLookupMutable d = new ReflectiveLookupMutable();
+        d.setStreet("Park Lane");
+        assertThat(JodaBeanUtils.propertiesEqual(c, d)).isTrue();
+        assertThat(JodaBeanUtils.propertiesEqual(d, c)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(c)).isEqualTo(JodaBeanUtils.propertiesHashCode(d));
+        d.setNumber(2);
+        assertThat(JodaBeanUtils.propertiesEqual(c, d)).isFalse();
+        assertThat(JodaBeanUtils.propertiesEqual(a, c)).isFalse();
+    }
+
+    @Test
+    void test_propertiesToString() {
+        Pair a = new Pair();
+        a.setFirst("A");
+        assertThat(JodaBeanUtils.propertiesToString(a, "Pair")).isEqualTo("Pair{first=A, second=null}");
+        assertThat(JodaBeanUtils.propertiesToString(a, null)).isEqualTo("{first=A, second=null}");
+
+        FlexiBean b = new FlexiBean();
+        assertThat(JodaBeanUtils.propertiesToString(b, "Flexi")).isEqualTo("Flexi{}");
+        b.set("first", "A");
+        assertThat(JodaBeanUtils.propertiesToString(b, "Flexi")).isEqualTo("Flexi{first=A}");
+    }
+
     //-------------------------------------------------------------------------
     @Test
     void test_equal() {
@@ -18,11 +18,16 @@ package org.joda.beans;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Currency;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.impl.light.PropertyGetter;
+import org.joda.beans.impl.light.PropertySetter;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.LightImmutable;
 import org.joda.beans.sample.LightMutable;
@@ -213,4 +218,84 @@ class TestLight {
                 .isThrownBy(() -> LightImmutable.meta().builder().set(mp3, "Nothing"));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    void test_propertyGetterSetter_spun() throws Exception {
+        var lookup = MethodHandles.lookup();
+        var getHandle = lookup.findVirtual(LightMutable.class, "getNumber", MethodType.methodType(int.class));
+        var setHandle = lookup.findVirtual(LightMutable.class, "setNumber", MethodType.methodType(void.class, int.class));
+        var getter = PropertyGetter.of(lookup, getHandle);
+        var setter = PropertySetter.of(lookup, setHandle);
+        // spun classes are nestmates of the lookup class
+        assertThat(getter.getClass().getNestHost()).isEqualTo(TestLight.class);
+        assertThat(setter.getClass().getNestHost()).isEqualTo(TestLight.class);
+
+        var bean = mutable();
+        setter.set(bean, 12);
+        assertThat(bean.getNumber()).isEqualTo(12);
+        assertThat(getter.get(bean)).isEqualTo(12);
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> getter.get(new FlexiBean()));
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> setter.set(bean, "Twelve"));
+    }
+
+    @Test
+    void test_propertyGetterSetter_fieldHandle() throws Exception {
+        var lookup = MethodHandles.privateLookupIn(LightMutable.class, MethodHandles.lookup());
+        var getHandle = lookup.findGetter(LightMutable.class, "street", String.class);
+        var setHandle = lookup.findSetter(LightMutable.class, "street", String.class);
+        var getter = PropertyGetter.of(lookup, getHandle);
+        var setter = PropertySetter.of(lookup, setHandle);
+        // fields cannot be spun, so the handle is invoked
+        assertThat(getter.getClass().getNestHost()).isEqualTo(PropertyGetter.class);
+        assertThat(setter.getClass().getNestHost()).isEqualTo(PropertySetter.class);
+
+        var bean = mutable();
+        setter.set(bean, "Park Lane");
+        assertThat(getter.get(bean)).isEqualTo("Park Lane");
+    }
+
+    @Test
+    void test_propertyGetterSetter_primitiveSpun() throws Exception {
+        var lookup = MethodHandles.lookup();
+        var getHandle = lookup.findVirtual(LightMutable.class, "getNumber", MethodType.methodType(int.class));
+        var setHandle = lookup.findVirtual(LightMutable.class, "setNumber", MethodType.methodType(void.class, int.class));
+        var getter = PropertyGetter.ofInt(lookup, getHandle);
+        var setter = PropertySetter.ofInt(lookup, setHandle);
+        assertThat(getter.getClass().getNestHost()).isEqualTo(TestLight.class);
+        assertThat(setter.getClass().getNestHost()).isEqualTo(TestLight.class);
+
+        var bean = mutable();
+        setter.accept(bean, 12);
+        assertThat(getter.applyAsInt(bean)).isEqualTo(12);
+        var flagHandle = lookup.findVirtual(LightMutable.class, "isFlag", MethodType.methodType(boolean.class));
+        var flagGetter = PropertyGetter.ofBoolean(lookup, flagHandle);
+        assertThat(flagGetter.getClass().getNestHost()).isEqualTo(TestLight.class);
+        assertThat(flagGetter.test(bean)).isFalse();
+    }
+
+    @Test
+    void test_metaProperty_getSet_spun() {
+        var bean = mutable();
+        LightMutable.meta().metaProperty("number").set(bean, 6);
+        LightMutable.meta().metaProperty("flag").set(bean, true);
+        assertThat(LightMutable.meta().metaProperty("number").get(bean)).isEqualTo(6);
+        assertThat(LightMutable.meta().metaProperty("flag").get(bean)).isEqualTo(true);
+        assertThat(LightMutable.meta().metaProperty("address").get(bean)).isEqualTo(bean.getAddress());
+        // the boxed accessors of a primitive property delegate to the primitive accessors
+        var number = LightMutable.meta().<Integer>metaProperty("number");
+        number.setInt(bean, 7);
+        assertThat(number.get(bean)).isEqualTo(7);
+        number.set(bean, 8);
+        assertThat(number.getInt(bean)).isEqualTo(8);
+    }
+
+    private static LightMutable mutable() {
+        return LightMutable.meta().builder()
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+    }
+
 }
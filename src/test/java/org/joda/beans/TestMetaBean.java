@@ -16,13 +16,33 @@
 package org.joda.beans;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.List;
+
+import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
+import org.joda.beans.sample.AbstractResult;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.AddressResult;
 import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.ImmSubSubPersonFinal;
+import org.joda.beans.sample.LightImmutable;
+import org.joda.beans.sample.LightMutable;
 import org.joda.beans.sample.MetaBeanLoad;
+import org.joda.beans.sample.MinimalImmutable;
+import org.joda.beans.sample.MinimalMutable;
+import org.joda.beans.sample.Person;
+import org.joda.beans.sample.PrimitiveBean;
+import org.joda.beans.sample.RecordStrIntPair;
+import org.joda.beans.sample.ReflectiveMutable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.common.collect.ImmutableMultiset;
 
 /**
  * Test {@link MetaBean}.
@@ -63,4 +83,235 @@ class TestMetaBean {
                 .isThrownBy(() -> MetaBean.of(String.class));
     }
 
+    //-----------------------------------------------------------------------
+    static Object[][] data_metaBeans() {
+        return new Object[][] {
+            {Person.meta()},
+            {ImmPerson.meta()},
+            {ImmSubSubPersonFinal.meta()},
+            {MinimalImmutable.meta()},
+            {MinimalMutable.meta()},
+            {LightImmutable.meta()},
+            {LightMutable.meta()},
+            {MetaBean.of(RecordStrIntPair.class)},
+            {ReflectiveMutable.META_BEAN},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_metaBeans")
+    void test_metaProperty_index(MetaBean metaBean) {
+        var index = 0;
+        for (var mp : metaBean.metaPropertyIterable()) {
+            assertThat(mp.index()).isEqualTo(index);
+            assertThat(metaBean.<Object>metaProperty(index)).isSameAs(mp);
+            index++;
+        }
+        assertThat(index).isEqualTo(metaBean.metaPropertyCount());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> metaBean.metaProperty(-1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> metaBean.metaProperty(metaBean.metaPropertyCount()));
+    }
+
+    @Test
+    void test_metaProperty_index_directWithoutIndex() {
+        // meta-properties from code generated before the index was passed find the index by searching
+        var metaBean = ImmSubSubPersonFinal.meta();
+        var metaProperty = DirectMetaProperty.ofImmutable(
+                metaBean, "codeCounts", ImmSubSubPersonFinal.class, ImmutableMultiset.class);
+        assertThat(metaProperty.index()).isEqualTo(metaBean.codeCounts().index());
+        assertThat(metaBean.codeCounts().index()).isEqualTo(metaBean.metaPropertyCount() - 1);
+    }
+
+    @Test
+    void test_metaProperty_index_FlexiBean() {
+        var bean = new FlexiBean();
+        bean.set("a", "x");
+        bean.set("b", "y");
+        var metaBean = bean.metaBean();
+        assertThat(metaBean.metaProperty(1).name()).isEqualTo("b");
+        assertThat(metaBean.metaProperty("b").index()).isEqualTo(1);
+        assertThat(metaBean.metaProperty("c").index()).isEqualTo(-1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> metaBean.metaProperty(2));
+    }
+
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_metaBeans")
+    void test_cached(MetaBean metaBean) {
+        assertThat(metaBean.annotations()).isSameAs(metaBean.annotations());
+        for (var mp : metaBean.metaPropertyIterable()) {
+            assertThat(mp.annotations()).isSameAs(mp.annotations());
+            assertThat(mp.propertyResolvedType(Object.class)).isEqualTo(mp.propertyResolvedType(Object.class));
+            assertThat(mp.propertyResolvedType(metaBean.beanType()))
+                    .isEqualTo(ResolvedType.from(mp.propertyGenericType(), metaBean.beanType()));
+        }
+    }
+
+    @Test
+    void test_cached_subclassContext() {
+        var mp = AbstractResult.meta().docs();
+        var resolved = mp.propertyResolvedType(AddressResult.class);
+        assertThat(resolved).isEqualTo(ResolvedType.ofFlat(List.class, Address.class));
+        assertThat(mp.propertyResolvedType(AddressResult.class)).isSameAs(resolved);
+        // classes from another class loader are resolved but not cached
+        assertThat(mp.propertyResolvedType(Object.class)).isEqualTo(ResolvedType.ofFlat(List.class, Address.class));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    void test_primitive_direct() {
+        var bean = new PrimitiveBean();
+        bean.setValueDouble(1.5d);
+        bean.setValueLong(3L);
+        bean.setValueInt(4);
+        bean.setValueBoolean(true);
+        var metaBean = bean.metaBean();
+        assertThat(metaBean.metaProperty("valueDouble").getDouble(bean)).isEqualTo(1.5d);
+        assertThat(metaBean.metaProperty("valueLong").getLong(bean)).isEqualTo(3L);
+        assertThat(metaBean.metaProperty("valueInt").getInt(bean)).isEqualTo(4);
+        assertThat(metaBean.metaProperty("valueBoolean").getBoolean(bean)).isTrue();
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> metaBean.metaProperty("valueInt").getLong(bean));
+
+        metaBean.metaProperty("valueDouble").setDouble(bean, 2.5d);
+        metaBean.metaProperty("valueLong").setLong(bean, 6L);
+        metaBean.metaProperty("valueInt").setInt(bean, 8);
+        metaBean.metaProperty("valueBoolean").setBoolean(bean, false);
+        assertThat(bean.getValueDouble()).isEqualTo(2.5d);
+        assertThat(bean.getValueLong()).isEqualTo(6L);
+        assertThat(bean.getValueInt()).isEqualTo(8);
+        assertThat(bean.isValueBoolean()).isFalse();
+    }
+
+    @Test
+    void test_primitive_light() {
+        var bean = LightMutable.meta().builder()
+                .set("number", 12)
+                .set("flag", true)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+        var metaBean = bean.metaBean();
+        assertThat(metaBean.metaProperty("number").getInt(bean)).isEqualTo(12);
+        assertThat(metaBean.metaProperty("flag").getBoolean(bean)).isTrue();
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> metaBean.metaProperty("number").getDouble(bean));
+
+        metaBean.metaProperty("number").setInt(bean, 6);
+        metaBean.metaProperty("flag").setBoolean(bean, false);
+        assertThat(bean.getNumber()).isEqualTo(6);
+        assertThat(bean.isFlag()).isFalse();
+
+        var immutable = LightImmutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .set("owner", ImmPerson.builder().forename("John").surname("Doggett").build())
+                .set("list", List.of())
+                .set("valueLong", 7L)
+                .build();
+        assertThat(immutable.metaBean().metaProperty("valueLong").getLong(immutable)).isEqualTo(7L);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> immutable.metaBean().metaProperty("valueLong").setLong(immutable, 1L));
+    }
+
+    @Test
+    void test_primitive_record() {
+        var bean = new RecordStrIntPair("A", 2);
+        var metaBean = MetaBean.of(RecordStrIntPair.class);
+        assertThat(metaBean.metaProperty("second").getInt(bean)).isEqualTo(2);
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> metaBean.metaProperty("first").getInt(bean));
+    }
+
+    @Test
+    void test_primitive_flexi() {
+        var bean = new FlexiBean();
+        bean.set("a", 2d);
+        assertThat(bean.metaBean().metaProperty("a").getDouble(bean)).isEqualTo(2d);
+        bean.metaBean().metaProperty("a").setDouble(bean, 3d);
+        assertThat(bean.get("a")).isEqualTo(3d);
+    }
+
+    //-----------------------------------------------------------------------
+    static Object[][] data_beans() {
+        var person = new Person();
+        person.setForename("John");
+        person.setSurname("Doggett");
+        person.setNumberOfCars(2);
+        var primitive = new PrimitiveBean();
+        primitive.setValueDouble(1.5d);
+        primitive.setValueLong(3L);
+        var immSubSub = ImmSubSubPersonFinal.meta().builder()
+                .set("forename", "Bobby")
+                .set("middleName", "Joe")
+                .set("codeCounts", ImmutableMultiset.of())
+                .build();
+        var light = LightMutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+        var flexi = new FlexiBean();
+        flexi.set("a", "x");
+        return new Object[][] {
+            {person},
+            {primitive},
+            {immSubSub},
+            {light},
+            {new RecordStrIntPair("A", 2)},
+            {flexi},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_beans")
+    void test_getPropertyValues(Bean bean) {
+        var metaBean = bean.metaBean();
+        var values = new Object[metaBean.metaPropertyCount() + 1];
+        values[values.length - 1] = "Unchanged";
+        metaBean.getPropertyValues(bean, values);
+        var index = 0;
+        for (var mp : metaBean.metaPropertyIterable()) {
+            assertThat(values[index++]).isEqualTo(mp.get(bean));
+        }
+        assertThat(values[index]).isEqualTo("Unchanged");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> metaBean.getPropertyValues(bean, new Object[metaBean.metaPropertyCount() - 1]));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_beans")
+    void test_getPropertyValues_selected(Bean bean) {
+        var metaBean = bean.metaBean();
+        var last = metaBean.metaPropertyCount() - 1;
+        var values = new Object[2];
+        metaBean.getPropertyValues(bean, new int[] {last, 0}, values);
+        assertThat(values[0]).isEqualTo(metaBean.metaProperty(last).get(bean));
+        assertThat(values[1]).isEqualTo(metaBean.metaProperty(0).get(bean));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> metaBean.getPropertyValues(bean, new int[] {last + 1}, values));
+    }
+
+    @Test
+    void test_getPropertyValues_primitive() {
+        var bean = new PrimitiveBean();
+        bean.setValueDouble(1.5d);
+        bean.setValueLong(3L);
+        var metaBean = bean.metaBean();
+        var doubleIndex = metaBean.metaProperty("valueDouble").index();
+        var longIndex = metaBean.metaProperty("valueLong").index();
+        var doubles = new double[2];
+        metaBean.getPropertyValues(bean, new int[] {doubleIndex, doubleIndex}, doubles);
+        assertThat(doubles).containsExactly(1.5d, 1.5d);
+        var longs = new long[1];
+        metaBean.getPropertyValues(bean, new int[] {longIndex}, longs);
+        assertThat(longs).containsExactly(3L);
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> metaBean.getPropertyValues(bean, new int[] {longIndex}, doubles));
+    }
+
 }
@@ -16,10 +16,23 @@
 package org.joda.beans;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.joda.beans.impl.RecordBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.LightImmutable;
+import org.joda.beans.sample.MinimalImmutable;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTypeMapper;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -32,6 +45,80 @@ class TestMetaBeans {
     MetaBean metaBean = MetaBeans.lookup(AnnotatedBean.class);
     assertThat(metaBean).isInstanceOf(AnnotatedMetaBean.class);
   }
+
+  @Test
+  void test_preload() {
+    MetaBean.preload(List.of(ImmAddress.class, LightImmutable.class, MinimalImmutable.class, PreloadRecord.class));
+    assertThat(MetaBeans.lookup(ImmAddress.class)).isSameAs(ImmAddress.meta());
+    assertThat(MetaBeans.lookup(LightImmutable.class)).isSameAs(LightImmutable.meta());
+    assertThat(MetaBeans.lookup(PreloadRecord.class).beanType()).isEqualTo(PreloadRecord.class);
+  }
+
+  @Test
+  void test_lookup_concurrentRecord() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      var latch = new CountDownLatch(1);
+      var futures = new ArrayList<Future<MetaBean>>();
+      for (var i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          latch.await();
+          return MetaBeans.lookup(ConcurrentRecord.class);
+        }));
+      }
+      latch.countDown();
+      var first = futures.get(0).get();
+      for (var future : futures) {
+        assertThat(future.get()).isSameAs(first);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void test_index() throws Exception {
+    var requested = new ArrayList<String>();
+    MetaBeanIndex index = className -> {
+      requested.add(className);
+      return className.equals(ImmAddress.class.getName()) ? ImmAddress.meta() : null;
+    };
+    MetaBeans.registerIndex(index);
+    try {
+      assertThat(MetaBean.findIndexed(ImmAddress.class.getName())).hasValue(ImmAddress.meta());
+      assertThat(MetaBean.findIndexed("com.example.Unknown")).isEmpty();
+      requested.clear();
+      assertThat(SerTypeMapper.decodeType(ImmAddress.class.getName(), JodaBeanSer.COMPACT, null, null))
+          .isEqualTo(ImmAddress.class);
+      assertThat(SerTypeMapper.decodeType("ImmAddress", JodaBeanSer.COMPACT, "org.joda.beans.sample.", null))
+          .isEqualTo(ImmAddress.class);
+      assertThat(requested).containsExactly(ImmAddress.class.getName(), ImmAddress.class.getName());
+    } finally {
+      MetaBeans.removeIndex(index);
+    }
+    assertThat(MetaBean.findIndexed(ImmAddress.class.getName())).isEmpty();
+  }
+
+  @Test
+  void test_index_mismatchedName() throws Exception {
+    MetaBeanIndex index = className -> className.equals("com.example.IndexedAddress") ? ImmAddress.meta() : null;
+    MetaBeans.registerIndex(index);
+    try {
+      assertThat(MetaBean.findIndexed("com.example.IndexedAddress")).hasValue(ImmAddress.meta());
+      assertThatExceptionOfType(ClassNotFoundException.class)
+          .isThrownBy(() -> SerTypeMapper.decodeType("com.example.IndexedAddress", JodaBeanSer.COMPACT, null, null));
+      assertThat(SerTypeMapper.decodeType("com.example.IndexedAddress", JodaBeanSer.COMPACT, null, null, String.class))
+          .isEqualTo(String.class);
+    } finally {
+      MetaBeans.removeIndex(index);
+    }
+  }
+
+  record PreloadRecord(String value) implements RecordBean<PreloadRecord> {
+  }
+
+  record ConcurrentRecord(String value) implements RecordBean<ConcurrentRecord> {
+  }
 }
 
 // --------------------------------------------------------------------------------------------------
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.LinkedHashMap;
+
+import org.joda.beans.impl.MetaPropertyTable;
+import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.impl.light.LightMetaBean;
+import org.joda.beans.sample.LightImmutable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link MetaPropertyTable}.
+ */
+class TestMetaPropertyTable {
+
+    @Test
+    void test_lookup() {
+        var map = new LinkedHashMap<String, MetaProperty<?>>();
+        for (var i = 0; i < 100; i++) {
+            map.put("prop" + i, StandaloneMetaProperty.of("prop" + i, FlexiBean.meta(), String.class));
+        }
+        var test = MetaPropertyTable.of(map);
+        for (var i = 0; i < 100; i++) {
+            var name = new String("prop" + i);
+            assertThat(test.get(name)).isSameAs(map.get(name));
+            assertThat(test.containsProperty(name)).isTrue();
+        }
+        assertThat(test.get("prop100")).isNull();
+        assertThat(test.get(null)).isNull();
+        assertThat(test.containsProperty("prop100")).isFalse();
+        assertThat(test.containsProperty(null)).isFalse();
+    }
+
+    @Test
+    void test_lookup_sameHashCode() {
+        // "Aa" and "BB" have the same hash code
+        var map = new LinkedHashMap<String, MetaProperty<?>>();
+        map.put("Aa", StandaloneMetaProperty.of("Aa", FlexiBean.meta(), String.class));
+        map.put("BB", StandaloneMetaProperty.of("BB", FlexiBean.meta(), String.class));
+        var test = MetaPropertyTable.of(map);
+        assertThat(test.get("Aa")).isSameAs(map.get("Aa"));
+        assertThat(test.get("BB")).isSameAs(map.get("BB"));
+        assertThat(test.get("C#")).isNull();
+    }
+
+    @Test
+    void test_lookup_empty() {
+        var test = MetaPropertyTable.of(new LinkedHashMap<>());
+        assertThat(test.get("a")).isNull();
+        assertThat(test.containsProperty("a")).isFalse();
+    }
+
+    @Test
+    void test_withAlias() {
+        var map = new LinkedHashMap<String, MetaProperty<?>>();
+        map.put("a", StandaloneMetaProperty.of("a", FlexiBean.meta(), String.class));
+        map.put("b", StandaloneMetaProperty.of("b", FlexiBean.meta(), String.class));
+        var base = MetaPropertyTable.of(map);
+        var test = base.withAlias("x", "a").withAlias("x", "b").withAlias("a", "b");
+        assertThat(test.get("x")).isSameAs(map.get("b"));
+        // an alias takes precedence over a property of the same name
+        assertThat(test.get("a")).isSameAs(map.get("b"));
+        assertThat(test.get("b")).isSameAs(map.get("b"));
+        assertThat(test.containsProperty("x")).isFalse();
+        assertThat(test.containsProperty("a")).isTrue();
+        assertThat(base.get("x")).isNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> base.withAlias("y", "z"));
+    }
+
+    @Test
+    void test_metaBean_alias() {
+        var builder = LightImmutable.meta().builder();
+        builder.set("place", "London");
+        assertThat(builder.get("city")).isEqualTo("London");
+        assertThat(LightImmutable.meta().metaProperty("place").name()).isEqualTo("city");
+        assertThat(LightImmutable.meta().metaPropertyExists("place")).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void test_metaBean_aliasSameAsPropertyName() {
+        var meta = ((LightMetaBean<LightImmutable>) LightImmutable.meta()).withAlias("street", "city");
+        assertThat(meta.metaProperty("street").name()).isEqualTo("city");
+        assertThat(meta.metaPropertyExists("street")).isTrue();
+        var builder = meta.builder();
+        builder.set("street", "London");
+        assertThat(builder.get("city")).isEqualTo("London");
+    }
+
+}
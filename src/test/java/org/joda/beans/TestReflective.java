@@ -16,8 +16,12 @@
 package org.joda.beans;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.sample.ReflectiveLookupMutable;
 import org.joda.beans.sample.ReflectiveMutable;
 import org.joda.beans.ser.JodaBeanSer;
 import org.junit.jupiter.api.Test;
@@ -69,4 +73,75 @@ class TestReflective {
         assertThat(JodaBeanSer.PRETTY.xmlWriter().write(bean)).contains("<street>Park Lane<");
     }
 
+    @Test
+    void test_lookup() {
+        ReflectiveLookupMutable bean = ReflectiveLookupMutable.META_BEAN.builder()
+                .set("number", 12)
+                .set("flag", true)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+
+        assertThat(bean.getNumber()).isEqualTo(12);
+        assertThat(bean.isFlag()).isTrue();
+        assertThat(bean.getStreet()).isEqualTo("Park Lane");
+        assertThat(bean.getCity()).isEqualTo("Smallville");
+        assertThat(bean.metaBean().isBuildable()).isTrue();
+
+        MetaProperty<Object> mp = bean.metaBean().metaProperty("number");
+        assertThat(mp.propertyType()).isEqualTo(int.class);
+        assertThat(mp.get(bean)).isEqualTo(12);
+        assertThat(mp.style()).isEqualTo(PropertyStyle.READ_WRITE);
+        mp.set(bean, 6);
+        assertThat(bean.getNumber()).isEqualTo(6);
+
+        assertThat(JodaBeanSer.COMPACT.jsonWriter().write(bean)).contains("\"number\":6");
+    }
+
+    @Test
+    void test_lookup_setInvalid() {
+        var bean = new ReflectiveLookupMutable();
+        var metaBean = bean.metaBean();
+        assertThatNullPointerException()
+                .isThrownBy(() -> metaBean.metaProperty("number").set(bean, null))
+                .withMessageContaining("Cannot store null in primitive");
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> metaBean.metaProperty("number").set(bean, "Twelve"))
+                .withMessageContaining("Invalid type");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> metaBean.metaProperty("city").set(bean, null));
+    }
+
+    @Test
+    void test_lookup_wrongBeanType() {
+        var metaBean = ReflectiveLookupMutable.META_BEAN;
+        var other = new ReflectiveMutable();
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> metaBean.metaProperty("number").get(other));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> metaBean.metaProperty("number").set(other, 6));
+    }
+
+    @Test
+    void test_reflection_wrongBeanType() {
+        var metaBean = ReflectiveMutable.META_BEAN;
+        var other = new ReflectiveLookupMutable();
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> metaBean.metaProperty("number").get(other));
+    }
+
+    @Test
+    void test_reflection_setInvalid() {
+        var bean = new ReflectiveMutable();
+        var metaBean = bean.metaBean();
+        assertThatNullPointerException()
+                .isThrownBy(() -> metaBean.metaProperty("number").set(bean, null))
+                .withMessageContaining("Cannot store null in primitive");
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> metaBean.metaProperty("number").set(bean, "Twelve"))
+                .withMessageContaining("Invalid type");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> metaBean.metaProperty("city").set(bean, null));
+    }
+
 }
@@ -172,12 +172,12 @@ public abstract class AbstractResult<T extends Address> extends DirectBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> docs = DirectMetaProperty.ofReadWrite(
-                this, "docs", AbstractResult.class, (Class) List.class);
+                this, "docs", AbstractResult.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code resultType} property.
          */
         private final MetaProperty<String> resultType = DirectMetaProperty.ofDerived(
-                this, "resultType", AbstractResult.class, String.class);
+                this, "resultType", AbstractResult.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -253,6 +253,14 @@ public abstract class AbstractResult<T extends Address> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((AbstractResult<?>) bean).getDocs();
+            values[index++] = ((AbstractResult<?>) bean).getResultType();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -245,22 +245,22 @@ public class Address extends DirectBean {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofReadWrite(
-                this, "number", Address.class, Integer.TYPE);
+                this, "number", Address.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofReadWrite(
-                this, "street", Address.class, String.class);
+                this, "street", Address.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofReadWrite(
-                this, "city", Address.class, String.class);
+                this, "city", Address.class, String.class, 2);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<Person> owner = DirectMetaProperty.ofReadWrite(
-                this, "owner", Address.class, Person.class);
+                this, "owner", Address.class, Person.class, 3);
         /**
          * The meta-properties.
          */
@@ -356,6 +356,25 @@ public class Address extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((Address) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((Address) bean).getNumber();
+            values[index++] = ((Address) bean).getStreet();
+            values[index++] = ((Address) bean).getCity();
+            values[index++] = ((Address) bean).getOwner();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
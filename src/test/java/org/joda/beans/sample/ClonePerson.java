@@ -364,43 +364,43 @@ public class ClonePerson
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<String>> firstNames = DirectMetaProperty.ofReadWrite(
-                this, "firstNames", ClonePerson.class, (Class) List.class);
+                this, "firstNames", ClonePerson.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code middleNames} property.
          */
         private final MetaProperty<String[]> middleNames = DirectMetaProperty.ofReadWrite(
-                this, "middleNames", ClonePerson.class, String[].class);
+                this, "middleNames", ClonePerson.class, String[].class, 1);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", ClonePerson.class, String.class);
+                this, "surname", ClonePerson.class, String.class, 2);
         /**
          * The meta-property for the {@code dateOfBirth} property.
          */
         private final MetaProperty<Date> dateOfBirth = DirectMetaProperty.ofReadWrite(
-                this, "dateOfBirth", ClonePerson.class, Date.class);
+                this, "dateOfBirth", ClonePerson.class, Date.class, 3);
         /**
          * The meta-property for the {@code dateOfDeath} property.
          */
         private final MetaProperty<Date> dateOfDeath = DirectMetaProperty.ofReadWrite(
-                this, "dateOfDeath", ClonePerson.class, Date.class);
+                this, "dateOfDeath", ClonePerson.class, Date.class, 4);
         /**
          * The meta-property for the {@code addresses} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addresses = DirectMetaProperty.ofReadWrite(
-                this, "addresses", ClonePerson.class, (Class) List.class);
+                this, "addresses", ClonePerson.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code companies} property.
          */
         private final MetaProperty<Company[]> companies = DirectMetaProperty.ofReadWrite(
-                this, "companies", ClonePerson.class, Company[].class);
+                this, "companies", ClonePerson.class, Company[].class, 6);
         /**
          * The meta-property for the {@code amounts} property.
          */
         private final MetaProperty<int[]> amounts = DirectMetaProperty.ofReadWrite(
-                this, "amounts", ClonePerson.class, int[].class);
+                this, "amounts", ClonePerson.class, int[].class, 7);
         /**
          * The meta-properties.
          */
@@ -548,6 +548,20 @@ public class ClonePerson
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ClonePerson) bean).getFirstNames();
+            values[index++] = ((ClonePerson) bean).getMiddleNames();
+            values[index++] = ((ClonePerson) bean).getSurname();
+            values[index++] = ((ClonePerson) bean).getDateOfBirth();
+            values[index++] = ((ClonePerson) bean).getDateOfDeath();
+            values[index++] = ((ClonePerson) bean).getAddresses();
+            values[index++] = ((ClonePerson) bean).getCompanies();
+            values[index++] = ((ClonePerson) bean).getAmounts();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
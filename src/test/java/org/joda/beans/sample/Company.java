@@ -157,7 +157,7 @@ public class Company
          * The meta-property for the {@code companyName} property.
          */
         private final MetaProperty<String> companyName = DirectMetaProperty.ofReadWrite(
-                this, "companyName", Company.class, String.class);
+                this, "companyName", Company.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -214,6 +214,13 @@ public class Company
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((Company) bean).getCompanyName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
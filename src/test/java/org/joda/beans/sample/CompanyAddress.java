@@ -151,7 +151,7 @@ public class CompanyAddress extends Address {
          * The meta-property for the {@code companyName} property.
          */
         private final MetaProperty<String> companyName = DirectMetaProperty.ofReadWrite(
-                this, "companyName", CompanyAddress.class, String.class);
+                this, "companyName", CompanyAddress.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -208,6 +208,13 @@ public class CompanyAddress extends Address {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((CompanyAddress) bean).getCompanyName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -218,19 +218,19 @@ public class Documentation<T> extends DirectBean {
          * The meta-property for the {@code type} property.
          */
         private final MetaProperty<String> type = DirectMetaProperty.ofReadWrite(
-                this, "type", Documentation.class, String.class);
+                this, "type", Documentation.class, String.class, 0);
         /**
          * The meta-property for the {@code content} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> content = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "content", Documentation.class, Object.class);
+                this, "content", Documentation.class, Object.class, 1);
         /**
          * The meta-property for the {@code map} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, String>> map = DirectMetaProperty.ofReadWrite(
-                this, "map", Documentation.class, (Class) Map.class);
+                this, "map", Documentation.class, (Class) Map.class, 2);
         /**
          * The meta-properties.
          */
@@ -314,6 +314,15 @@ public class Documentation<T> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((Documentation<?>) bean).getType();
+            values[index++] = ((Documentation<?>) bean).getContent();
+            values[index++] = ((Documentation<?>) bean).getMap();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
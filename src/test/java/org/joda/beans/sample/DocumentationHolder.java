@@ -145,7 +145,7 @@ public class DocumentationHolder extends DirectBean{
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Documentation<?>> documentation = DirectMetaProperty.ofReadWrite(
-                this, "documentation", DocumentationHolder.class, (Class) Documentation.class);
+                this, "documentation", DocumentationHolder.class, (Class) Documentation.class, 0);
         /**
          * The meta-properties.
          */
@@ -202,6 +202,13 @@ public class DocumentationHolder extends DirectBean{
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DocumentationHolder) bean).getDocumentation();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -354,43 +354,43 @@ public class DoubleGenericsComplexExtendsSuperTwoGenerics<T extends Comparable<T
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsComplexExtendsSuperTwoGenerics.class, String.class);
+                this, "normalType", DoubleGenericsComplexExtendsSuperTwoGenerics.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class);
+                this, "typeT", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class, super.metaPropertyMap().size() + 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class);
+                this, "typeU", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class, super.metaPropertyMap().size() + 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class, super.metaPropertyMap().size() + 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class, super.metaPropertyMap().size() + 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class);
+                this, "typeTArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class, super.metaPropertyMap().size() + 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class);
+                this, "typeUArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class, super.metaPropertyMap().size() + 6);
         /**
          * The meta-properties.
          */
@@ -526,6 +526,19 @@ public class DoubleGenericsComplexExtendsSuperTwoGenerics<T extends Comparable<T
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getNormalType();
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeT();
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeU();
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeTList();
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeUList();
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeTArray();
+            values[index++] = ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeUArray();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
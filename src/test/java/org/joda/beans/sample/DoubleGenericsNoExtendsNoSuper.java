@@ -353,43 +353,43 @@ public class DoubleGenericsNoExtendsNoSuper<T, U>
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsNoExtendsNoSuper.class, String.class);
+                this, "normalType", DoubleGenericsNoExtendsNoSuper.class, String.class, 0);
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsNoExtendsNoSuper.class, Object.class);
+                this, "typeT", DoubleGenericsNoExtendsNoSuper.class, Object.class, 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsNoExtendsNoSuper.class, Object.class);
+                this, "typeU", DoubleGenericsNoExtendsNoSuper.class, Object.class, 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class);
+                this, "typeTArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class, 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class);
+                this, "typeUArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class, 6);
         /**
          * The meta-properties.
          */
@@ -525,6 +525,19 @@ public class DoubleGenericsNoExtendsNoSuper<T, U>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getNormalType();
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeT();
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeU();
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeTList();
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeUList();
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeTArray();
+            values[index++] = ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeUArray();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
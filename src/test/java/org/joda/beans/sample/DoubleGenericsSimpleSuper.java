@@ -228,19 +228,19 @@ public class DoubleGenericsSimpleSuper<T, U>
          * The meta-property for the {@code baseType} property.
          */
         private final MetaProperty<String> baseType = DirectMetaProperty.ofReadWrite(
-                this, "baseType", DoubleGenericsSimpleSuper.class, String.class);
+                this, "baseType", DoubleGenericsSimpleSuper.class, String.class, 0);
         /**
          * The meta-property for the {@code baseT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> baseT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "baseT", DoubleGenericsSimpleSuper.class, Object.class);
+                this, "baseT", DoubleGenericsSimpleSuper.class, Object.class, 1);
         /**
          * The meta-property for the {@code baseU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> baseU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "baseU", DoubleGenericsSimpleSuper.class, Object.class);
+                this, "baseU", DoubleGenericsSimpleSuper.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -324,6 +324,15 @@ public class DoubleGenericsSimpleSuper<T, U>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseType();
+            values[index++] = ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseT();
+            values[index++] = ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseU();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
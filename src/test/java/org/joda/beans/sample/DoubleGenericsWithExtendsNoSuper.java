@@ -416,55 +416,55 @@ public class DoubleGenericsWithExtendsNoSuper<T extends Serializable, U extends
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsWithExtendsNoSuper.class, String.class);
+                this, "normalType", DoubleGenericsWithExtendsNoSuper.class, String.class, 0);
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsWithExtendsNoSuper.class, Object.class);
+                this, "typeT", DoubleGenericsWithExtendsNoSuper.class, Object.class, 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsWithExtendsNoSuper.class, Object.class);
+                this, "typeU", DoubleGenericsWithExtendsNoSuper.class, Object.class, 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class);
+                this, "typeTArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class, 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class);
+                this, "typeUArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class, 6);
         /**
          * The meta-property for the {@code typeTArrayOfList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>[]> typeTArrayOfList = DirectMetaProperty.ofReadWrite(
-                this, "typeTArrayOfList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class);
+                this, "typeTArrayOfList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class, 7);
         /**
          * The meta-property for the {@code typeTArray2dOfList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>[][]> typeTArray2dOfList = DirectMetaProperty.ofReadWrite(
-                this, "typeTArray2dOfList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class);
+                this, "typeTArray2dOfList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class, 8);
         /**
          * The meta-properties.
          */
@@ -626,6 +626,21 @@ public class DoubleGenericsWithExtendsNoSuper<T extends Serializable, U extends
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getNormalType();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeT();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeU();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTList();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeUList();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTArray();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeUArray();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTArrayOfList();
+            values[index++] = ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTArray2dOfList();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
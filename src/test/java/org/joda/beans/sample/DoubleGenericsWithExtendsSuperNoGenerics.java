@@ -356,43 +356,43 @@ public class DoubleGenericsWithExtendsSuperNoGenerics<T extends Serializable, U
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsWithExtendsSuperNoGenerics.class, String.class);
+                this, "normalType", DoubleGenericsWithExtendsSuperNoGenerics.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsWithExtendsSuperNoGenerics.class, Object.class);
+                this, "typeT", DoubleGenericsWithExtendsSuperNoGenerics.class, Object.class, super.metaPropertyMap().size() + 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsWithExtendsSuperNoGenerics.class, Object.class);
+                this, "typeU", DoubleGenericsWithExtendsSuperNoGenerics.class, Object.class, super.metaPropertyMap().size() + 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsWithExtendsSuperNoGenerics.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsWithExtendsSuperNoGenerics.class, (Class) List.class, super.metaPropertyMap().size() + 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsWithExtendsSuperNoGenerics.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsWithExtendsSuperNoGenerics.class, (Class) List.class, super.metaPropertyMap().size() + 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsWithExtendsSuperNoGenerics.class, Object[].class);
+                this, "typeTArray", DoubleGenericsWithExtendsSuperNoGenerics.class, Object[].class, super.metaPropertyMap().size() + 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsWithExtendsSuperNoGenerics.class, Object[].class);
+                this, "typeUArray", DoubleGenericsWithExtendsSuperNoGenerics.class, Object[].class, super.metaPropertyMap().size() + 6);
         /**
          * The meta-properties.
          */
@@ -528,6 +528,19 @@ public class DoubleGenericsWithExtendsSuperNoGenerics<T extends Serializable, U
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getNormalType();
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeT();
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeU();
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeTList();
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeUList();
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeTArray();
+            values[index++] = ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeUArray();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -356,43 +356,43 @@ public class DoubleGenericsWithExtendsSuperOneGeneric<T extends Serializable, U
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsWithExtendsSuperOneGeneric.class, String.class);
+                this, "normalType", DoubleGenericsWithExtendsSuperOneGeneric.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class);
+                this, "typeT", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class, super.metaPropertyMap().size() + 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class);
+                this, "typeU", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class, super.metaPropertyMap().size() + 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class, super.metaPropertyMap().size() + 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class, super.metaPropertyMap().size() + 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class);
+                this, "typeTArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class, super.metaPropertyMap().size() + 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class);
+                this, "typeUArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class, super.metaPropertyMap().size() + 6);
         /**
          * The meta-properties.
          */
@@ -528,6 +528,19 @@ public class DoubleGenericsWithExtendsSuperOneGeneric<T extends Serializable, U
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getNormalType();
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeT();
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeU();
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeTList();
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeUList();
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeTArray();
+            values[index++] = ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeUArray();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -242,32 +242,32 @@ public final class FieldNamesImmutable implements ImmutableBean {
          * The meta-property for the {@code obj} property.
          */
         private final MetaProperty<String> obj = DirectMetaProperty.ofImmutable(
-                this, "obj", FieldNamesImmutable.class, String.class);
+                this, "obj", FieldNamesImmutable.class, String.class, 0);
         /**
          * The meta-property for the {@code other} property.
          */
         private final MetaProperty<String> other = DirectMetaProperty.ofImmutable(
-                this, "other", FieldNamesImmutable.class, String.class);
+                this, "other", FieldNamesImmutable.class, String.class, 1);
         /**
          * The meta-property for the {@code propertyName} property.
          */
         private final MetaProperty<String> propertyName = DirectMetaProperty.ofImmutable(
-                this, "propertyName", FieldNamesImmutable.class, String.class);
+                this, "propertyName", FieldNamesImmutable.class, String.class, 2);
         /**
          * The meta-property for the {@code newValue} property.
          */
         private final MetaProperty<String> newValue = DirectMetaProperty.ofImmutable(
-                this, "newValue", FieldNamesImmutable.class, String.class);
+                this, "newValue", FieldNamesImmutable.class, String.class, 3);
         /**
          * The meta-property for the {@code bean} property.
          */
         private final MetaProperty<String> bean = DirectMetaProperty.ofImmutable(
-                this, "bean", FieldNamesImmutable.class, String.class);
+                this, "bean", FieldNamesImmutable.class, String.class, 4);
         /**
          * The meta-property for the {@code beanToCopy} property.
          */
         private final MetaProperty<String> beanToCopy = DirectMetaProperty.ofImmutable(
-                this, "beanToCopy", FieldNamesImmutable.class, String.class);
+                this, "beanToCopy", FieldNamesImmutable.class, String.class, 5);
         /**
          * The meta-properties.
          */
@@ -389,6 +389,18 @@ public final class FieldNamesImmutable implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((FieldNamesImmutable) bean).getObj();
+            values[index++] = ((FieldNamesImmutable) bean).getOther();
+            values[index++] = ((FieldNamesImmutable) bean).getPropertyName();
+            values[index++] = ((FieldNamesImmutable) bean).getNewValue();
+            values[index++] = ((FieldNamesImmutable) bean).getBean();
+            values[index++] = ((FieldNamesImmutable) bean).getBeanToCopy();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
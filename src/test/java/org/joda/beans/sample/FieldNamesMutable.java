@@ -267,32 +267,32 @@ public final class FieldNamesMutable implements Bean {
          * The meta-property for the {@code obj} property.
          */
         private final MetaProperty<String> obj = DirectMetaProperty.ofReadWrite(
-                this, "obj", FieldNamesMutable.class, String.class);
+                this, "obj", FieldNamesMutable.class, String.class, 0);
         /**
          * The meta-property for the {@code other} property.
          */
         private final MetaProperty<String> other = DirectMetaProperty.ofReadWrite(
-                this, "other", FieldNamesMutable.class, String.class);
+                this, "other", FieldNamesMutable.class, String.class, 1);
         /**
          * The meta-property for the {@code propertyName} property.
          */
         private final MetaProperty<String> propertyName = DirectMetaProperty.ofReadWrite(
-                this, "propertyName", FieldNamesMutable.class, String.class);
+                this, "propertyName", FieldNamesMutable.class, String.class, 2);
         /**
          * The meta-property for the {@code newValue} property.
          */
         private final MetaProperty<String> newValue = DirectMetaProperty.ofReadWrite(
-                this, "newValue", FieldNamesMutable.class, String.class);
+                this, "newValue", FieldNamesMutable.class, String.class, 3);
         /**
          * The meta-property for the {@code bean} property.
          */
         private final MetaProperty<String> bean = DirectMetaProperty.ofReadWrite(
-                this, "bean", FieldNamesMutable.class, String.class);
+                this, "bean", FieldNamesMutable.class, String.class, 4);
         /**
          * The meta-property for the {@code beanToCopy} property.
          */
         private final MetaProperty<String> beanToCopy = DirectMetaProperty.ofReadWrite(
-                this, "beanToCopy", FieldNamesMutable.class, String.class);
+                this, "beanToCopy", FieldNamesMutable.class, String.class, 5);
         /**
          * The meta-properties.
          */
@@ -414,6 +414,18 @@ public final class FieldNamesMutable implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((FieldNamesMutable) bean).obj;
+            values[index++] = ((FieldNamesMutable) bean).other;
+            values[index++] = ((FieldNamesMutable) bean).propertyName;
+            values[index++] = ((FieldNamesMutable) bean).newValue;
+            values[index++] = ((FieldNamesMutable) bean).bean;
+            values[index++] = ((FieldNamesMutable) bean).beanToCopy;
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -283,28 +283,28 @@ public class FinalFieldBean extends DirectBean {
          * The meta-property for the {@code fieldFinal} property.
          */
         private final MetaProperty<String> fieldFinal = DirectMetaProperty.ofReadOnly(
-                this, "fieldFinal", FinalFieldBean.class, String.class);
+                this, "fieldFinal", FinalFieldBean.class, String.class, 0);
         /**
          * The meta-property for the {@code fieldNonFinal} property.
          */
         private final MetaProperty<String> fieldNonFinal = DirectMetaProperty.ofReadWrite(
-                this, "fieldNonFinal", FinalFieldBean.class, String.class);
+                this, "fieldNonFinal", FinalFieldBean.class, String.class, 1);
         /**
          * The meta-property for the {@code listFinal} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<String>> listFinal = DirectMetaProperty.ofReadWrite(
-                this, "listFinal", FinalFieldBean.class, (Class) List.class);
+                this, "listFinal", FinalFieldBean.class, (Class) List.class, 2);
         /**
          * The meta-property for the {@code flexiFinal} property.
          */
         private final MetaProperty<FlexiBean> flexiFinal = DirectMetaProperty.ofReadWrite(
-                this, "flexiFinal", FinalFieldBean.class, FlexiBean.class);
+                this, "flexiFinal", FinalFieldBean.class, FlexiBean.class, 3);
         /**
          * The meta-property for the {@code personFinal} property.
          */
         private final MetaProperty<Person> personFinal = DirectMetaProperty.ofReadOnly(
-                this, "personFinal", FinalFieldBean.class, Person.class);
+                this, "personFinal", FinalFieldBean.class, Person.class, 4);
         /**
          * The meta-properties.
          */
@@ -413,6 +413,17 @@ public class FinalFieldBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((FinalFieldBean) bean).getFieldFinal();
+            values[index++] = ((FinalFieldBean) bean).getFieldNonFinal();
+            values[index++] = ((FinalFieldBean) bean).getListFinal();
+            values[index++] = ((FinalFieldBean) bean).getFlexiFinal();
+            values[index++] = ((FinalFieldBean) bean).getPersonFinal();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -176,13 +176,13 @@ public class GenericAllFinal<T> implements Bean {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadOnly(
-                this, "name", GenericAllFinal.class, String.class);
+                this, "name", GenericAllFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code value} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofReadOnly(
-                this, "value", GenericAllFinal.class, Object.class);
+                this, "value", GenericAllFinal.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -253,6 +253,14 @@ public class GenericAllFinal<T> implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((GenericAllFinal<?>) bean).getName();
+            values[index++] = ((GenericAllFinal<?>) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -188,12 +188,12 @@ public class GenericArray<T extends Address> implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> values = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "values", GenericArray.class, Object[].class);
+                this, "values", GenericArray.class, Object[].class, 0);
         /**
          * The meta-property for the {@code intArray2d} property.
          */
         private final MetaProperty<int[][]> intArray2d = DirectMetaProperty.ofReadWrite(
-                this, "intArray2d", GenericArray.class, int[][].class);
+                this, "intArray2d", GenericArray.class, int[][].class, 1);
         /**
          * The meta-properties.
          */
@@ -264,6 +264,14 @@ public class GenericArray<T extends Address> implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((GenericArray<?>) bean).getValues();
+            values[index++] = ((GenericArray<?>) bean).getIntArray2d();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -159,7 +159,7 @@ public class GenericSubWrapper<T extends Address> extends Wrapper<T> {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", GenericSubWrapper.class, String.class);
+                this, "name", GenericSubWrapper.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -217,6 +217,13 @@ public class GenericSubWrapper<T extends Address> extends Wrapper<T> {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((GenericSubWrapper<?>) bean).getName();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -190,13 +190,13 @@ public class GenericUnionType<T extends Number & Serializable & Cloneable> imple
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", GenericUnionType.class, String.class);
+                this, "name", GenericUnionType.class, String.class, 0);
         /**
          * The meta-property for the {@code value} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "value", GenericUnionType.class, Object.class);
+                this, "value", GenericUnionType.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -267,6 +267,14 @@ public class GenericUnionType<T extends Number & Serializable & Cloneable> imple
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((GenericUnionType<?>) bean).getName();
+            values[index++] = ((GenericUnionType<?>) bean).getValue();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
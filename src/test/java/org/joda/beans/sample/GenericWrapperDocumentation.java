@@ -158,7 +158,7 @@ public class GenericWrapperDocumentation<T extends Address> extends Documentatio
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", GenericWrapperDocumentation.class, String.class);
+                this, "name", GenericWrapperDocumentation.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -216,6 +216,13 @@ public class GenericWrapperDocumentation<T extends Address> extends Documentatio
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((GenericWrapperDocumentation<?>) bean).getName();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
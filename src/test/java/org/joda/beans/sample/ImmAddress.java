@@ -645,144 +645,144 @@ public final class ImmAddress implements ImmutableBean, Serializable {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofImmutable(
-                this, "number", ImmAddress.class, Integer.TYPE);
+                this, "number", ImmAddress.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofImmutable(
-                this, "street", ImmAddress.class, String.class);
+                this, "street", ImmAddress.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofImmutable(
-                this, "city", ImmAddress.class, String.class);
+                this, "city", ImmAddress.class, String.class, 2);
         /**
          * The meta-property for the {@code abstractNumber} property.
          */
         private final MetaProperty<Number> abstractNumber = DirectMetaProperty.ofImmutable(
-                this, "abstractNumber", ImmAddress.class, Number.class);
+                this, "abstractNumber", ImmAddress.class, Number.class, 3);
         /**
          * The meta-property for the {@code data} property.
          */
         private final MetaProperty<byte[]> data = DirectMetaProperty.ofImmutable(
-                this, "data", ImmAddress.class, byte[].class);
+                this, "data", ImmAddress.class, byte[].class, 4);
         /**
          * The meta-property for the {@code array2d} property.
          */
         private final MetaProperty<String[][]> array2d = DirectMetaProperty.ofImmutable(
-                this, "array2d", ImmAddress.class, String[][].class);
+                this, "array2d", ImmAddress.class, String[][].class, 5);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<ImmPerson> owner = DirectMetaProperty.ofImmutable(
-                this, "owner", ImmAddress.class, ImmPerson.class);
+                this, "owner", ImmAddress.class, ImmPerson.class, 6);
         /**
          * The meta-property for the {@code object1} property.
          */
         private final MetaProperty<Object> object1 = DirectMetaProperty.ofImmutable(
-                this, "object1", ImmAddress.class, Object.class);
+                this, "object1", ImmAddress.class, Object.class, 7);
         /**
          * The meta-property for the {@code object2} property.
          */
         private final MetaProperty<Object> object2 = DirectMetaProperty.ofImmutable(
-                this, "object2", ImmAddress.class, Object.class);
+                this, "object2", ImmAddress.class, Object.class, 8);
         /**
          * The meta-property for the {@code risk} property.
          */
         private final MetaProperty<Risk> risk = DirectMetaProperty.ofImmutable(
-                this, "risk", ImmAddress.class, Risk.class);
+                this, "risk", ImmAddress.class, Risk.class, 9);
         /**
          * The meta-property for the {@code riskLevel} property.
          */
         private final MetaProperty<RiskLevel> riskLevel = DirectMetaProperty.ofImmutable(
-                this, "riskLevel", ImmAddress.class, RiskLevel.class);
+                this, "riskLevel", ImmAddress.class, RiskLevel.class, 10);
         /**
          * The meta-property for the {@code riskLevels} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<EnumSet<RiskLevel>> riskLevels = DirectMetaProperty.ofImmutable(
-                this, "riskLevels", ImmAddress.class, (Class) EnumSet.class);
+                this, "riskLevels", ImmAddress.class, (Class) EnumSet.class, 11);
         /**
          * The meta-property for the {@code serializable} property.
          */
         private final MetaProperty<Serializable> serializable = DirectMetaProperty.ofImmutable(
-                this, "serializable", ImmAddress.class, Serializable.class);
+                this, "serializable", ImmAddress.class, Serializable.class, 12);
         /**
          * The meta-property for the {@code objectInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, Object>> objectInMap = DirectMetaProperty.ofImmutable(
-                this, "objectInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "objectInMap", ImmAddress.class, (Class) ImmutableMap.class, 13);
         /**
          * The meta-property for the {@code listInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<String>>> listInMap = DirectMetaProperty.ofImmutable(
-                this, "listInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "listInMap", ImmAddress.class, (Class) ImmutableMap.class, 14);
         /**
          * The meta-property for the {@code listNumericInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<Integer>>> listNumericInMap = DirectMetaProperty.ofImmutable(
-                this, "listNumericInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "listNumericInMap", ImmAddress.class, (Class) ImmutableMap.class, 15);
         /**
          * The meta-property for the {@code listInListInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<List<Integer>>>> listInListInMap = DirectMetaProperty.ofImmutable(
-                this, "listInListInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "listInListInMap", ImmAddress.class, (Class) ImmutableMap.class, 16);
         /**
          * The meta-property for the {@code objectListInListInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<List<Object>>>> objectListInListInMap = DirectMetaProperty.ofImmutable(
-                this, "objectListInListInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "objectListInListInMap", ImmAddress.class, (Class) ImmutableMap.class, 17);
         /**
          * The meta-property for the {@code mapInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<ImmPerson, Map<String, ImmPerson>>> mapInMap = DirectMetaProperty.ofImmutable(
-                this, "mapInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "mapInMap", ImmAddress.class, (Class) ImmutableMap.class, 18);
         /**
          * The meta-property for the {@code simpleTable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableTable<Integer, Integer, String>> simpleTable = DirectMetaProperty.ofImmutable(
-                this, "simpleTable", ImmAddress.class, (Class) ImmutableTable.class);
+                this, "simpleTable", ImmAddress.class, (Class) ImmutableTable.class, 19);
         /**
          * The meta-property for the {@code compoundTable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableTable<Integer, Integer, ImmPerson>> compoundTable = DirectMetaProperty.ofImmutable(
-                this, "compoundTable", ImmAddress.class, (Class) ImmutableTable.class);
+                this, "compoundTable", ImmAddress.class, (Class) ImmutableTable.class, 20);
         /**
          * The meta-property for the {@code sparseGrid} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableGrid<ImmPerson>> sparseGrid = DirectMetaProperty.ofImmutable(
-                this, "sparseGrid", ImmAddress.class, (Class) ImmutableGrid.class);
+                this, "sparseGrid", ImmAddress.class, (Class) ImmutableGrid.class, 21);
         /**
          * The meta-property for the {@code denseGrid} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableGrid<ImmPerson>> denseGrid = DirectMetaProperty.ofImmutable(
-                this, "denseGrid", ImmAddress.class, (Class) ImmutableGrid.class);
+                this, "denseGrid", ImmAddress.class, (Class) ImmutableGrid.class, 22);
         /**
          * The meta-property for the {@code beanBeanMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<ImmPerson, ImmAddress>> beanBeanMap = DirectMetaProperty.ofImmutable(
-                this, "beanBeanMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "beanBeanMap", ImmAddress.class, (Class) ImmutableMap.class, 23);
         /**
          * The meta-property for the {@code doubleVector} property.
          */
         private final MetaProperty<double[]> doubleVector = DirectMetaProperty.ofImmutable(
-                this, "doubleVector", ImmAddress.class, double[].class);
+                this, "doubleVector", ImmAddress.class, double[].class, 24);
         /**
          * The meta-property for the {@code matrix} property.
          */
         private final MetaProperty<double[][]> matrix = DirectMetaProperty.ofImmutable(
-                this, "matrix", ImmAddress.class, double[][].class);
+                this, "matrix", ImmAddress.class, double[][].class, 25);
         /**
          * The meta-properties.
          */
@@ -1164,6 +1164,47 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((ImmAddress) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmAddress) bean).getNumber();
+            values[index++] = ((ImmAddress) bean).getStreet();
+            values[index++] = ((ImmAddress) bean).getCity();
+            values[index++] = ((ImmAddress) bean).getAbstractNumber();
+            values[index++] = ((ImmAddress) bean).getData();
+            values[index++] = ((ImmAddress) bean).getArray2d();
+            values[index++] = ((ImmAddress) bean).getOwner();
+            values[index++] = ((ImmAddress) bean).getObject1();
+            values[index++] = ((ImmAddress) bean).getObject2();
+            values[index++] = ((ImmAddress) bean).getRisk();
+            values[index++] = ((ImmAddress) bean).getRiskLevel();
+            values[index++] = ((ImmAddress) bean).getRiskLevels();
+            values[index++] = ((ImmAddress) bean).getSerializable();
+            values[index++] = ((ImmAddress) bean).getObjectInMap();
+            values[index++] = ((ImmAddress) bean).getListInMap();
+            values[index++] = ((ImmAddress) bean).getListNumericInMap();
+            values[index++] = ((ImmAddress) bean).getListInListInMap();
+            values[index++] = ((ImmAddress) bean).getObjectListInListInMap();
+            values[index++] = ((ImmAddress) bean).getMapInMap();
+            values[index++] = ((ImmAddress) bean).getSimpleTable();
+            values[index++] = ((ImmAddress) bean).getCompoundTable();
+            values[index++] = ((ImmAddress) bean).getSparseGrid();
+            values[index++] = ((ImmAddress) bean).getDenseGrid();
+            values[index++] = ((ImmAddress) bean).getBeanBeanMap();
+            values[index++] = ((ImmAddress) bean).getDoubleVector();
+            values[index++] = ((ImmAddress) bean).getMatrix();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
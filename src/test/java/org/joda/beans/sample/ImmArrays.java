@@ -238,32 +238,32 @@ public final class ImmArrays implements ImmutableBean {
          * The meta-property for the {@code intArray} property.
          */
         private final MetaProperty<int[]> intArray = DirectMetaProperty.ofImmutable(
-                this, "intArray", ImmArrays.class, int[].class);
+                this, "intArray", ImmArrays.class, int[].class, 0);
         /**
          * The meta-property for the {@code longArray} property.
          */
         private final MetaProperty<long[]> longArray = DirectMetaProperty.ofImmutable(
-                this, "longArray", ImmArrays.class, long[].class);
+                this, "longArray", ImmArrays.class, long[].class, 1);
         /**
          * The meta-property for the {@code doubleArray} property.
          */
         private final MetaProperty<double[]> doubleArray = DirectMetaProperty.ofImmutable(
-                this, "doubleArray", ImmArrays.class, double[].class);
+                this, "doubleArray", ImmArrays.class, double[].class, 2);
         /**
          * The meta-property for the {@code booleanArray} property.
          */
         private final MetaProperty<boolean[]> booleanArray = DirectMetaProperty.ofImmutable(
-                this, "booleanArray", ImmArrays.class, boolean[].class);
+                this, "booleanArray", ImmArrays.class, boolean[].class, 3);
         /**
          * The meta-property for the {@code intArray2d} property.
          */
         private final MetaProperty<int[][]> intArray2d = DirectMetaProperty.ofImmutable(
-                this, "intArray2d", ImmArrays.class, int[][].class);
+                this, "intArray2d", ImmArrays.class, int[][].class, 4);
         /**
          * The meta-property for the {@code booleanArray2d} property.
          */
         private final MetaProperty<boolean[][]> booleanArray2d = DirectMetaProperty.ofImmutable(
-                this, "booleanArray2d", ImmArrays.class, boolean[][].class);
+                this, "booleanArray2d", ImmArrays.class, boolean[][].class, 5);
         /**
          * The meta-properties.
          */
@@ -385,6 +385,18 @@ public final class ImmArrays implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmArrays) bean).getIntArray();
+            values[index++] = ((ImmArrays) bean).getLongArray();
+            values[index++] = ((ImmArrays) bean).getDoubleArray();
+            values[index++] = ((ImmArrays) bean).getBooleanArray();
+            values[index++] = ((ImmArrays) bean).getIntArray2d();
+            values[index++] = ((ImmArrays) bean).getBooleanArray2d();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -258,42 +258,42 @@ public final class ImmClone implements ImmutableBean, Serializable{
          * The meta-property for the {@code date} property.
          */
         private final MetaProperty<Date> date = DirectMetaProperty.ofImmutable(
-                this, "date", ImmClone.class, Date.class);
+                this, "date", ImmClone.class, Date.class, 0);
         /**
          * The meta-property for the {@code array1} property.
          */
         private final MetaProperty<String[]> array1 = DirectMetaProperty.ofImmutable(
-                this, "array1", ImmClone.class, String[].class);
+                this, "array1", ImmClone.class, String[].class, 1);
         /**
          * The meta-property for the {@code array2} property.
          */
         private final MetaProperty<String[]> array2 = DirectMetaProperty.ofImmutable(
-                this, "array2", ImmClone.class, String[].class);
+                this, "array2", ImmClone.class, String[].class, 2);
         /**
          * The meta-property for the {@code array3} property.
          */
         private final MetaProperty<String[]> array3 = DirectMetaProperty.ofImmutable(
-                this, "array3", ImmClone.class, String[].class);
+                this, "array3", ImmClone.class, String[].class, 3);
         /**
          * The meta-property for the {@code dateNullable} property.
          */
         private final MetaProperty<Date> dateNullable = DirectMetaProperty.ofImmutable(
-                this, "dateNullable", ImmClone.class, Date.class);
+                this, "dateNullable", ImmClone.class, Date.class, 4);
         /**
          * The meta-property for the {@code array1Nullable} property.
          */
         private final MetaProperty<String[]> array1Nullable = DirectMetaProperty.ofImmutable(
-                this, "array1Nullable", ImmClone.class, String[].class);
+                this, "array1Nullable", ImmClone.class, String[].class, 5);
         /**
          * The meta-property for the {@code array2Nullable} property.
          */
         private final MetaProperty<String[]> array2Nullable = DirectMetaProperty.ofImmutable(
-                this, "array2Nullable", ImmClone.class, String[].class);
+                this, "array2Nullable", ImmClone.class, String[].class, 6);
         /**
          * The meta-property for the {@code array3Nullable} property.
          */
         private final MetaProperty<String[]> array3Nullable = DirectMetaProperty.ofImmutable(
-                this, "array3Nullable", ImmClone.class, String[].class);
+                this, "array3Nullable", ImmClone.class, String[].class, 7);
         /**
          * The meta-properties.
          */
@@ -441,6 +441,20 @@ public final class ImmClone implements ImmutableBean, Serializable{
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmClone) bean).getDate();
+            values[index++] = ((ImmClone) bean).getArray1();
+            values[index++] = ((ImmClone) bean).getArray2();
+            values[index++] = ((ImmClone) bean).getArray3();
+            values[index++] = ((ImmClone) bean).getDateNullable();
+            values[index++] = ((ImmClone) bean).getArray1Nullable();
+            values[index++] = ((ImmClone) bean).getArray2Nullable();
+            values[index++] = ((ImmClone) bean).getArray3Nullable();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
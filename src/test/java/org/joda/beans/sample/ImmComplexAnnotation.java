@@ -164,7 +164,7 @@ public final class ImmComplexAnnotation
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<Double> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmComplexAnnotation.class, Double.TYPE);
+                this, "value", ImmComplexAnnotation.class, Double.TYPE, 0);
         /**
          * The meta-properties.
          */
@@ -221,6 +221,22 @@ public final class ImmComplexAnnotation
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 111972721:  // value
+                    return ((ImmComplexAnnotation) bean).getValue();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmComplexAnnotation) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
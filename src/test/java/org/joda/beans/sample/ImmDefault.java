@@ -151,7 +151,7 @@ public final class ImmDefault implements ImmutableBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<String> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmDefault.class, String.class);
+                this, "value", ImmDefault.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -208,6 +208,13 @@ public final class ImmDefault implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmDefault) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -203,22 +203,22 @@ public final class ImmDeprecated implements Cloneable, ImmutableBean {
          * The meta-property for the {@code deprecatedBoth} property.
          */
         private final MetaProperty<String> deprecatedBoth = DirectMetaProperty.ofImmutable(
-                this, "deprecatedBoth", ImmDeprecated.class, String.class);
+                this, "deprecatedBoth", ImmDeprecated.class, String.class, 0);
         /**
          * The meta-property for the {@code deprecatedJavadoc} property.
          */
         private final MetaProperty<String> deprecatedJavadoc = DirectMetaProperty.ofImmutable(
-                this, "deprecatedJavadoc", ImmDeprecated.class, String.class);
+                this, "deprecatedJavadoc", ImmDeprecated.class, String.class, 1);
         /**
          * The meta-property for the {@code deprecatedAnnotation} property.
          */
         private final MetaProperty<String> deprecatedAnnotation = DirectMetaProperty.ofImmutable(
-                this, "deprecatedAnnotation", ImmDeprecated.class, String.class);
+                this, "deprecatedAnnotation", ImmDeprecated.class, String.class, 2);
         /**
          * The meta-property for the {@code deprecatedOptional} property.
          */
         private final MetaProperty<String> deprecatedOptional = DirectMetaProperty.ofImmutable(
-                this, "deprecatedOptional", ImmDeprecated.class, String.class);
+                this, "deprecatedOptional", ImmDeprecated.class, String.class, 3);
         /**
          * The meta-properties.
          */
@@ -322,6 +322,16 @@ public final class ImmDeprecated implements Cloneable, ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmDeprecated) bean).getDeprecatedBoth();
+            values[index++] = ((ImmDeprecated) bean).getDeprecatedJavadoc();
+            values[index++] = ((ImmDeprecated) bean).getDeprecatedAnnotation();
+            values[index++] = ((ImmDeprecated) bean).deprecatedOptional;
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
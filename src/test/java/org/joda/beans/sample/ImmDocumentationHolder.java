@@ -158,7 +158,7 @@ public final class ImmDocumentationHolder<T>
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Documentation<T>> documentation = DirectMetaProperty.ofImmutable(
-                this, "documentation", ImmDocumentationHolder.class, (Class) Documentation.class);
+                this, "documentation", ImmDocumentationHolder.class, (Class) Documentation.class, 0);
         /**
          * The meta-properties.
          */
@@ -216,6 +216,13 @@ public final class ImmDocumentationHolder<T>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmDocumentationHolder<?>) bean).getDocumentation();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -152,7 +152,7 @@ public final class ImmDocumentationResult<T> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Documentation<T>> documentation = DirectMetaProperty.ofImmutable(
-                this, "documentation", ImmDocumentationResult.class, (Class) Documentation.class);
+                this, "documentation", ImmDocumentationResult.class, (Class) Documentation.class, 0);
         /**
          * The meta-properties.
          */
@@ -212,6 +212,13 @@ public final class ImmDocumentationResult<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmDocumentationResult<?>) bean).getDocumentation();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -172,12 +172,12 @@ public final class ImmDoubleArray<T> implements Serializable, ImmutableBean {
          * The meta-property for the {@code values} property.
          */
         private final MetaProperty<double[]> values = DirectMetaProperty.ofImmutable(
-                this, "values", ImmDoubleArray.class, double[].class);
+                this, "values", ImmDoubleArray.class, double[].class, 0);
         /**
          * The meta-property for the {@code values2} property.
          */
         private final MetaProperty<double[]> values2 = DirectMetaProperty.ofImmutable(
-                this, "values2", ImmDoubleArray.class, double[].class);
+                this, "values2", ImmDoubleArray.class, double[].class, 1);
         /**
          * The meta-properties.
          */
@@ -248,6 +248,14 @@ public final class ImmDoubleArray<T> implements Serializable, ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmDoubleArray<?>) bean).getValues();
+            values[index++] = ((ImmDoubleArray<?>) bean).getValues2();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
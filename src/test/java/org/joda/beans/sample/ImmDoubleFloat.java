@@ -146,12 +146,12 @@ public final class ImmDoubleFloat implements ImmutableBean {
          * The meta-property for the {@code a} property.
          */
         private final MetaProperty<Double> a = DirectMetaProperty.ofImmutable(
-                this, "a", ImmDoubleFloat.class, Double.TYPE);
+                this, "a", ImmDoubleFloat.class, Double.TYPE, 0);
         /**
          * The meta-property for the {@code b} property.
          */
         private final MetaProperty<Double> b = DirectMetaProperty.ofImmutable(
-                this, "b", ImmDoubleFloat.class, Double.TYPE);
+                this, "b", ImmDoubleFloat.class, Double.TYPE, 1);
         /**
          * The meta-properties.
          */
@@ -221,6 +221,25 @@ public final class ImmDoubleFloat implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 97:  // a
+                    return ((ImmDoubleFloat) bean).getA();
+                case 98:  // b
+                    return ((ImmDoubleFloat) bean).getB();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmDoubleFloat) bean).getA();
+            values[index++] = ((ImmDoubleFloat) bean).getB();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
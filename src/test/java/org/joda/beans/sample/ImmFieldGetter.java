@@ -146,7 +146,7 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<String> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmFieldGetter.class, String.class);
+                this, "value", ImmFieldGetter.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -204,6 +204,13 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmFieldGetter<?>) bean).value;
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
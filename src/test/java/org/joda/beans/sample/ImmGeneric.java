@@ -163,7 +163,7 @@ public final class ImmGeneric<T> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "value", ImmGeneric.class, Object.class);
+                this, "value", ImmGeneric.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -221,6 +221,13 @@ public final class ImmGeneric<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmGeneric<?>) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
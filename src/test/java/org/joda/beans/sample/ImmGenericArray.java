@@ -157,7 +157,7 @@ public final class ImmGenericArray<T>
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> values = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "values", ImmGenericArray.class, Object[].class);
+                this, "values", ImmGenericArray.class, Object[].class, 0);
         /**
          * The meta-properties.
          */
@@ -215,6 +215,13 @@ public final class ImmGenericArray<T>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmGenericArray<?>) bean).getValues();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
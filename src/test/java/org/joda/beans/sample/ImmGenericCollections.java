@@ -161,7 +161,7 @@ public class ImmGenericCollections<T> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, T>> map = DirectMetaProperty.ofImmutable(
-                this, "map", ImmGenericCollections.class, (Class) ImmutableMap.class);
+                this, "map", ImmGenericCollections.class, (Class) ImmutableMap.class, 0);
         /**
          * The meta-properties.
          */
@@ -219,6 +219,13 @@ public class ImmGenericCollections<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmGenericCollections<?>) bean).getMap();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
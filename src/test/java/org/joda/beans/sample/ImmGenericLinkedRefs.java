@@ -156,7 +156,7 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<A> value = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "value", ImmGenericLinkedRefs.class, Object.class);
+                this, "value", ImmGenericLinkedRefs.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -214,6 +214,13 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmGenericLinkedRefs<?, ?>) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
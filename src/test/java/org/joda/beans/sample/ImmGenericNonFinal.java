@@ -162,7 +162,7 @@ public class ImmGenericNonFinal<T extends Address> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "value", ImmGenericNonFinal.class, Object.class);
+                this, "value", ImmGenericNonFinal.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -220,6 +220,13 @@ public class ImmGenericNonFinal<T extends Address> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmGenericNonFinal<?>) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -808,211 +808,211 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableCollection<T>> collection = DirectMetaProperty.ofImmutable(
-                this, "collection", ImmGuava.class, (Class) ImmutableCollection.class);
+                this, "collection", ImmGuava.class, (Class) ImmutableCollection.class, 0);
         /**
          * The meta-property for the {@code list} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<T>> list = DirectMetaProperty.ofImmutable(
-                this, "list", ImmGuava.class, (Class) ImmutableList.class);
+                this, "list", ImmGuava.class, (Class) ImmutableList.class, 1);
         /**
          * The meta-property for the {@code set} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<T>> set = DirectMetaProperty.ofImmutable(
-                this, "set", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "set", ImmGuava.class, (Class) ImmutableSet.class, 2);
         /**
          * The meta-property for the {@code sortedSet} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSortedSet<T>> sortedSet = DirectMetaProperty.ofImmutable(
-                this, "sortedSet", ImmGuava.class, (Class) ImmutableSortedSet.class);
+                this, "sortedSet", ImmGuava.class, (Class) ImmutableSortedSet.class, 3);
         /**
          * The meta-property for the {@code map} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<T, String>> map = DirectMetaProperty.ofImmutable(
-                this, "map", ImmGuava.class, (Class) ImmutableMap.class);
+                this, "map", ImmGuava.class, (Class) ImmutableMap.class, 4);
         /**
          * The meta-property for the {@code sortedMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSortedMap<T, String>> sortedMap = DirectMetaProperty.ofImmutable(
-                this, "sortedMap", ImmGuava.class, (Class) ImmutableSortedMap.class);
+                this, "sortedMap", ImmGuava.class, (Class) ImmutableSortedMap.class, 5);
         /**
          * The meta-property for the {@code biMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableBiMap<T, String>> biMap = DirectMetaProperty.ofImmutable(
-                this, "biMap", ImmGuava.class, (Class) ImmutableBiMap.class);
+                this, "biMap", ImmGuava.class, (Class) ImmutableBiMap.class, 6);
         /**
          * The meta-property for the {@code multimap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultimap<T, String>> multimap = DirectMetaProperty.ofImmutable(
-                this, "multimap", ImmGuava.class, (Class) ImmutableMultimap.class);
+                this, "multimap", ImmGuava.class, (Class) ImmutableMultimap.class, 7);
         /**
          * The meta-property for the {@code listMultimap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableListMultimap<T, String>> listMultimap = DirectMetaProperty.ofImmutable(
-                this, "listMultimap", ImmGuava.class, (Class) ImmutableListMultimap.class);
+                this, "listMultimap", ImmGuava.class, (Class) ImmutableListMultimap.class, 8);
         /**
          * The meta-property for the {@code setMultimap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSetMultimap<T, String>> setMultimap = DirectMetaProperty.ofImmutable(
-                this, "setMultimap", ImmGuava.class, (Class) ImmutableSetMultimap.class);
+                this, "setMultimap", ImmGuava.class, (Class) ImmutableSetMultimap.class, 9);
         /**
          * The meta-property for the {@code multiset} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultiset<T>> multiset = DirectMetaProperty.ofImmutable(
-                this, "multiset", ImmGuava.class, (Class) ImmutableMultiset.class);
+                this, "multiset", ImmGuava.class, (Class) ImmutableMultiset.class, 10);
         /**
          * The meta-property for the {@code sortedMultiset} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSortedMultiset<T>> sortedMultiset = DirectMetaProperty.ofImmutable(
-                this, "sortedMultiset", ImmGuava.class, (Class) ImmutableSortedMultiset.class);
+                this, "sortedMultiset", ImmGuava.class, (Class) ImmutableSortedMultiset.class, 11);
         /**
          * The meta-property for the {@code collectionInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Collection<T>> collectionInterface = DirectMetaProperty.ofImmutable(
-                this, "collectionInterface", ImmGuava.class, (Class) Collection.class);
+                this, "collectionInterface", ImmGuava.class, (Class) Collection.class, 12);
         /**
          * The meta-property for the {@code listInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> listInterface = DirectMetaProperty.ofImmutable(
-                this, "listInterface", ImmGuava.class, (Class) List.class);
+                this, "listInterface", ImmGuava.class, (Class) List.class, 13);
         /**
          * The meta-property for the {@code setInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Set<T>> setInterface = DirectMetaProperty.ofImmutable(
-                this, "setInterface", ImmGuava.class, (Class) Set.class);
+                this, "setInterface", ImmGuava.class, (Class) Set.class, 14);
         /**
          * The meta-property for the {@code sortedSetInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SortedSet<T>> sortedSetInterface = DirectMetaProperty.ofImmutable(
-                this, "sortedSetInterface", ImmGuava.class, (Class) SortedSet.class);
+                this, "sortedSetInterface", ImmGuava.class, (Class) SortedSet.class, 15);
         /**
          * The meta-property for the {@code mapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<T, String>> mapInterface = DirectMetaProperty.ofImmutable(
-                this, "mapInterface", ImmGuava.class, (Class) Map.class);
+                this, "mapInterface", ImmGuava.class, (Class) Map.class, 16);
         /**
          * The meta-property for the {@code sortedMapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SortedMap<T, String>> sortedMapInterface = DirectMetaProperty.ofImmutable(
-                this, "sortedMapInterface", ImmGuava.class, (Class) SortedMap.class);
+                this, "sortedMapInterface", ImmGuava.class, (Class) SortedMap.class, 17);
         /**
          * The meta-property for the {@code biMapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<BiMap<T, String>> biMapInterface = DirectMetaProperty.ofImmutable(
-                this, "biMapInterface", ImmGuava.class, (Class) BiMap.class);
+                this, "biMapInterface", ImmGuava.class, (Class) BiMap.class, 18);
         /**
          * The meta-property for the {@code multimapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Multimap<T, String>> multimapInterface = DirectMetaProperty.ofImmutable(
-                this, "multimapInterface", ImmGuava.class, (Class) Multimap.class);
+                this, "multimapInterface", ImmGuava.class, (Class) Multimap.class, 19);
         /**
          * The meta-property for the {@code listMultimapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ListMultimap<T, String>> listMultimapInterface = DirectMetaProperty.ofImmutable(
-                this, "listMultimapInterface", ImmGuava.class, (Class) ListMultimap.class);
+                this, "listMultimapInterface", ImmGuava.class, (Class) ListMultimap.class, 20);
         /**
          * The meta-property for the {@code setMultimapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SetMultimap<T, String>> setMultimapInterface = DirectMetaProperty.ofImmutable(
-                this, "setMultimapInterface", ImmGuava.class, (Class) SetMultimap.class);
+                this, "setMultimapInterface", ImmGuava.class, (Class) SetMultimap.class, 21);
         /**
          * The meta-property for the {@code multisetInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Multiset<T>> multisetInterface = DirectMetaProperty.ofImmutable(
-                this, "multisetInterface", ImmGuava.class, (Class) Multiset.class);
+                this, "multisetInterface", ImmGuava.class, (Class) Multiset.class, 22);
         /**
          * The meta-property for the {@code sortedMultisetInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SortedMultiset<T>> sortedMultisetInterface = DirectMetaProperty.ofImmutable(
-                this, "sortedMultisetInterface", ImmGuava.class, (Class) SortedMultiset.class);
+                this, "sortedMultisetInterface", ImmGuava.class, (Class) SortedMultiset.class, 23);
         /**
          * The meta-property for the {@code listWildExtendsT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<? extends T>> listWildExtendsT = DirectMetaProperty.ofImmutable(
-                this, "listWildExtendsT", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildExtendsT", ImmGuava.class, (Class) ImmutableList.class, 24);
         /**
          * The meta-property for the {@code listWildExtendsNumber} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<? extends Number>> listWildExtendsNumber = DirectMetaProperty.ofImmutable(
-                this, "listWildExtendsNumber", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildExtendsNumber", ImmGuava.class, (Class) ImmutableList.class, 25);
         /**
          * The meta-property for the {@code listWildExtendsComparable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<? extends Comparable<?>>> listWildExtendsComparable = DirectMetaProperty.ofImmutable(
-                this, "listWildExtendsComparable", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildExtendsComparable", ImmGuava.class, (Class) ImmutableList.class, 26);
         /**
          * The meta-property for the {@code setWildExtendsT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<? extends T>> setWildExtendsT = DirectMetaProperty.ofImmutable(
-                this, "setWildExtendsT", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "setWildExtendsT", ImmGuava.class, (Class) ImmutableSet.class, 27);
         /**
          * The meta-property for the {@code setWildExtendsNumber} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<? extends Number>> setWildExtendsNumber = DirectMetaProperty.ofImmutable(
-                this, "setWildExtendsNumber", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "setWildExtendsNumber", ImmGuava.class, (Class) ImmutableSet.class, 28);
         /**
          * The meta-property for the {@code setWildExtendsComparable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<? extends Comparable<?>>> setWildExtendsComparable = DirectMetaProperty.ofImmutable(
-                this, "setWildExtendsComparable", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "setWildExtendsComparable", ImmGuava.class, (Class) ImmutableSet.class, 29);
         /**
          * The meta-property for the {@code listWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Object>> listWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder1", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildBuilder1", ImmGuava.class, (Class) ImmutableList.class, 30);
         /**
          * The meta-property for the {@code listWildBuilder2} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Address>> listWildBuilder2 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder2", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildBuilder2", ImmGuava.class, (Class) ImmutableList.class, 31);
         /**
          * The meta-property for the {@code mapWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, Address>> mapWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "mapWildBuilder1", ImmGuava.class, (Class) ImmutableMap.class);
+                this, "mapWildBuilder1", ImmGuava.class, (Class) ImmutableMap.class, 32);
         /**
          * The meta-property for the {@code mapWildKey} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<? extends Number, String>> mapWildKey = DirectMetaProperty.ofImmutable(
-                this, "mapWildKey", ImmGuava.class, (Class) ImmutableMap.class);
+                this, "mapWildKey", ImmGuava.class, (Class) ImmutableMap.class, 33);
         /**
          * The meta-property for the {@code table} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableTable<String, Integer, String>> table = DirectMetaProperty.ofImmutable(
-                this, "table", ImmGuava.class, (Class) ImmutableTable.class);
+                this, "table", ImmGuava.class, (Class) ImmutableTable.class, 34);
         /**
          * The meta-properties.
          */
@@ -1512,6 +1512,47 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmGuava<?>) bean).getCollection();
+            values[index++] = ((ImmGuava<?>) bean).getList();
+            values[index++] = ((ImmGuava<?>) bean).getSet();
+            values[index++] = ((ImmGuava<?>) bean).getSortedSet();
+            values[index++] = ((ImmGuava<?>) bean).getMap();
+            values[index++] = ((ImmGuava<?>) bean).getSortedMap();
+            values[index++] = ((ImmGuava<?>) bean).getBiMap();
+            values[index++] = ((ImmGuava<?>) bean).getMultimap();
+            values[index++] = ((ImmGuava<?>) bean).getListMultimap();
+            values[index++] = ((ImmGuava<?>) bean).getSetMultimap();
+            values[index++] = ((ImmGuava<?>) bean).getMultiset();
+            values[index++] = ((ImmGuava<?>) bean).getSortedMultiset();
+            values[index++] = ((ImmGuava<?>) bean).getCollectionInterface();
+            values[index++] = ((ImmGuava<?>) bean).getListInterface();
+            values[index++] = ((ImmGuava<?>) bean).getSetInterface();
+            values[index++] = ((ImmGuava<?>) bean).getSortedSetInterface();
+            values[index++] = ((ImmGuava<?>) bean).getMapInterface();
+            values[index++] = ((ImmGuava<?>) bean).getSortedMapInterface();
+            values[index++] = ((ImmGuava<?>) bean).getBiMapInterface();
+            values[index++] = ((ImmGuava<?>) bean).getMultimapInterface();
+            values[index++] = ((ImmGuava<?>) bean).getListMultimapInterface();
+            values[index++] = ((ImmGuava<?>) bean).getSetMultimapInterface();
+            values[index++] = ((ImmGuava<?>) bean).getMultisetInterface();
+            values[index++] = ((ImmGuava<?>) bean).getSortedMultisetInterface();
+            values[index++] = ((ImmGuava<?>) bean).getListWildExtendsT();
+            values[index++] = ((ImmGuava<?>) bean).getListWildExtendsNumber();
+            values[index++] = ((ImmGuava<?>) bean).getListWildExtendsComparable();
+            values[index++] = ((ImmGuava<?>) bean).getSetWildExtendsT();
+            values[index++] = ((ImmGuava<?>) bean).getSetWildExtendsNumber();
+            values[index++] = ((ImmGuava<?>) bean).getSetWildExtendsComparable();
+            values[index++] = ((ImmGuava<?>) bean).getListWildBuilder1();
+            values[index++] = ((ImmGuava<?>) bean).getListWildBuilder2();
+            values[index++] = ((ImmGuava<?>) bean).getMapWildBuilder1();
+            values[index++] = ((ImmGuava<?>) bean).getMapWildKey();
+            values[index++] = ((ImmGuava<?>) bean).getTable();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
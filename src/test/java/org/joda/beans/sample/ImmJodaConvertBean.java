@@ -165,12 +165,12 @@ public final class ImmJodaConvertBean implements ImmutableBean {
          * The meta-property for the {@code base} property.
          */
         private final MetaProperty<String> base = DirectMetaProperty.ofImmutable(
-                this, "base", ImmJodaConvertBean.class, String.class);
+                this, "base", ImmJodaConvertBean.class, String.class, 0);
         /**
          * The meta-property for the {@code extra} property.
          */
         private final MetaProperty<Integer> extra = DirectMetaProperty.ofImmutable(
-                this, "extra", ImmJodaConvertBean.class, Integer.TYPE);
+                this, "extra", ImmJodaConvertBean.class, Integer.TYPE, 1);
         /**
          * The meta-properties.
          */
@@ -240,6 +240,23 @@ public final class ImmJodaConvertBean implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    return ((ImmJodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmJodaConvertBean) bean).getBase();
+            values[index++] = ((ImmJodaConvertBean) bean).getExtra();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -166,12 +166,12 @@ public final class ImmJodaConvertWrapper implements ImmutableBean {
          * The meta-property for the {@code bean} property.
          */
         private final MetaProperty<ImmJodaConvertBean> bean = DirectMetaProperty.ofImmutable(
-                this, "bean", ImmJodaConvertWrapper.class, ImmJodaConvertBean.class);
+                this, "bean", ImmJodaConvertWrapper.class, ImmJodaConvertBean.class, 0);
         /**
          * The meta-property for the {@code description} property.
          */
         private final MetaProperty<String> description = DirectMetaProperty.ofImmutable(
-                this, "description", ImmJodaConvertWrapper.class, String.class);
+                this, "description", ImmJodaConvertWrapper.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -241,6 +241,14 @@ public final class ImmJodaConvertWrapper implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmJodaConvertWrapper) bean).getBean();
+            values[index++] = ((ImmJodaConvertWrapper) bean).getDescription();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
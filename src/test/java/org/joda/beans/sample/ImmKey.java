@@ -151,7 +151,7 @@ public final class ImmKey implements ImmutableBean, IKey, Serializable {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
-                this, "name", ImmKey.class, String.class);
+                this, "name", ImmKey.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -208,6 +208,13 @@ public final class ImmKey implements ImmutableBean, IKey, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmKey) bean).getName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -143,7 +143,7 @@ public final class ImmKeyHolder implements ImmutableBean, Serializable {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<ImmKey> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmKeyHolder.class, ImmKey.class);
+                this, "value", ImmKeyHolder.class, ImmKey.class, 0);
         /**
          * The meta-properties.
          */
@@ -200,6 +200,13 @@ public final class ImmKeyHolder implements ImmutableBean, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmKeyHolder) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
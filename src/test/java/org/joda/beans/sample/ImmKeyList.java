@@ -144,7 +144,7 @@ public final class ImmKeyList implements ImmutableBean, Serializable {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<IKey>> keys = DirectMetaProperty.ofImmutable(
-                this, "keys", ImmKeyList.class, (Class) ImmutableList.class);
+                this, "keys", ImmKeyList.class, (Class) ImmutableList.class, 0);
         /**
          * The meta-properties.
          */
@@ -201,6 +201,13 @@ public final class ImmKeyList implements ImmutableBean, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmKeyList) bean).getKeys();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -149,7 +149,7 @@ public final class ImmMappedKey
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<IKey, Object>> data = DirectMetaProperty.ofImmutable(
-                this, "data", ImmMappedKey.class, (Class) ImmutableMap.class);
+                this, "data", ImmMappedKey.class, (Class) ImmutableMap.class, 0);
         /**
          * The meta-properties.
          */
@@ -206,6 +206,13 @@ public final class ImmMappedKey
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmMappedKey) bean).getData();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -152,7 +152,7 @@ public final class ImmNamedKey implements ImmutableBean, INamedKey, Serializable
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
-                this, "name", ImmNamedKey.class, String.class);
+                this, "name", ImmNamedKey.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -209,6 +209,13 @@ public final class ImmNamedKey implements ImmutableBean, INamedKey, Serializable
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmNamedKey) bean).getName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
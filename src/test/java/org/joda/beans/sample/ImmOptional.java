@@ -258,38 +258,38 @@ public final class ImmOptional implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Optional<String>> optString = DirectMetaProperty.ofImmutable(
-                this, "optString", ImmOptional.class, (Class) Optional.class);
+                this, "optString", ImmOptional.class, (Class) Optional.class, 0);
         /**
          * The meta-property for the {@code optStringEmpty} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Optional<String>> optStringEmpty = DirectMetaProperty.ofImmutable(
-                this, "optStringEmpty", ImmOptional.class, (Class) Optional.class);
+                this, "optStringEmpty", ImmOptional.class, (Class) Optional.class, 1);
         /**
          * The meta-property for the {@code optStringGetter} property.
          */
         private final MetaProperty<String> optStringGetter = DirectMetaProperty.ofImmutable(
-                this, "optStringGetter", ImmOptional.class, String.class);
+                this, "optStringGetter", ImmOptional.class, String.class, 2);
         /**
          * The meta-property for the {@code optLongGetter} property.
          */
         private final MetaProperty<Long> optLongGetter = DirectMetaProperty.ofImmutable(
-                this, "optLongGetter", ImmOptional.class, Long.class);
+                this, "optLongGetter", ImmOptional.class, Long.class, 3);
         /**
          * The meta-property for the {@code optIntGetter} property.
          */
         private final MetaProperty<Integer> optIntGetter = DirectMetaProperty.ofImmutable(
-                this, "optIntGetter", ImmOptional.class, Integer.class);
+                this, "optIntGetter", ImmOptional.class, Integer.class, 4);
         /**
          * The meta-property for the {@code optDoubleGetter} property.
          */
         private final MetaProperty<Double> optDoubleGetter = DirectMetaProperty.ofImmutable(
-                this, "optDoubleGetter", ImmOptional.class, Double.class);
+                this, "optDoubleGetter", ImmOptional.class, Double.class, 5);
         /**
          * The meta-property for the {@code twelve} property.
          */
         private final MetaProperty<Integer> twelve = DirectMetaProperty.ofDerived(
-                this, "twelve", ImmOptional.class, Integer.TYPE);
+                this, "twelve", ImmOptional.class, Integer.TYPE, 6);
         /**
          * The meta-properties.
          */
@@ -424,6 +424,28 @@ public final class ImmOptional implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -860970343:  // twelve
+                    return ((ImmOptional) bean).getTwelve();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmOptional) bean).getOptString();
+            values[index++] = ((ImmOptional) bean).getOptStringEmpty();
+            values[index++] = ((ImmOptional) bean).optStringGetter;
+            values[index++] = ((ImmOptional) bean).optLongGetter;
+            values[index++] = ((ImmOptional) bean).optIntGetter;
+            values[index++] = ((ImmOptional) bean).optDoubleGetter;
+            values[index++] = ((ImmOptional) bean).getTwelve();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
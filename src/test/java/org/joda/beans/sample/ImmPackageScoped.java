@@ -137,7 +137,7 @@ final class ImmPackageScoped implements ImmutableBean {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
-                this, "name", ImmPackageScoped.class, String.class);
+                this, "name", ImmPackageScoped.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -194,6 +194,13 @@ final class ImmPackageScoped implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmPackageScoped) bean).getName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -334,61 +334,61 @@ public final class ImmPerson implements ImmutableBean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofImmutable(
-                this, "forename", ImmPerson.class, String.class);
+                this, "forename", ImmPerson.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofImmutable(
-                this, "surname", ImmPerson.class, String.class);
+                this, "surname", ImmPerson.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofImmutable(
-                this, "numberOfCars", ImmPerson.class, Integer.TYPE);
+                this, "numberOfCars", ImmPerson.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code dateOfBirth} property.
          */
         private final MetaProperty<Date> dateOfBirth = DirectMetaProperty.ofImmutable(
-                this, "dateOfBirth", ImmPerson.class, Date.class);
+                this, "dateOfBirth", ImmPerson.class, Date.class, 3);
         /**
          * The meta-property for the {@code middleNames} property.
          */
         private final MetaProperty<String[]> middleNames = DirectMetaProperty.ofImmutable(
-                this, "middleNames", ImmPerson.class, String[].class);
+                this, "middleNames", ImmPerson.class, String[].class, 4);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Address>> addressList = DirectMetaProperty.ofImmutable(
-                this, "addressList", ImmPerson.class, (Class) ImmutableList.class);
+                this, "addressList", ImmPerson.class, (Class) ImmutableList.class, 5);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofImmutable(
-                this, "otherAddressMap", ImmPerson.class, (Class) Map.class);
+                this, "otherAddressMap", ImmPerson.class, (Class) Map.class, 6);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofImmutable(
-                this, "addressesList", ImmPerson.class, (Class) List.class);
+                this, "addressesList", ImmPerson.class, (Class) List.class, 7);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<ImmAddress> mainAddress = DirectMetaProperty.ofImmutable(
-                this, "mainAddress", ImmPerson.class, ImmAddress.class);
+                this, "mainAddress", ImmPerson.class, ImmAddress.class, 8);
         /**
          * The meta-property for the {@code codeCounts} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultiset<String>> codeCounts = DirectMetaProperty.ofImmutable(
-                this, "codeCounts", ImmPerson.class, (Class) ImmutableMultiset.class);
+                this, "codeCounts", ImmPerson.class, (Class) ImmutableMultiset.class, 9);
         /**
          * The meta-property for the {@code age} property.
          */
         private final MetaProperty<Integer> age = DirectMetaProperty.ofDerived(
-                this, "age", ImmPerson.class, Integer.TYPE);
+                this, "age", ImmPerson.class, Integer.TYPE, 10);
         /**
          * The meta-properties.
          */
@@ -575,6 +575,34 @@ public final class ImmPerson implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((ImmPerson) bean).getNumberOfCars();
+                case 96511:  // age
+                    return ((ImmPerson) bean).getAge();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmPerson) bean).getForename();
+            values[index++] = ((ImmPerson) bean).getSurname();
+            values[index++] = ((ImmPerson) bean).getNumberOfCars();
+            values[index++] = ((ImmPerson) bean).getDateOfBirth();
+            values[index++] = ((ImmPerson) bean).getMiddleNames();
+            values[index++] = ((ImmPerson) bean).getAddressList();
+            values[index++] = ((ImmPerson) bean).getOtherAddressMap();
+            values[index++] = ((ImmPerson) bean).getAddressesList();
+            values[index++] = ((ImmPerson) bean).getMainAddress();
+            values[index++] = ((ImmPerson) bean).getCodeCounts();
+            values[index++] = ((ImmPerson) bean).getAge();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -169,17 +169,17 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofImmutable(
-                this, "forename", ImmPersonAbstract.class, String.class);
+                this, "forename", ImmPersonAbstract.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofImmutable(
-                this, "surname", ImmPersonAbstract.class, String.class);
+                this, "surname", ImmPersonAbstract.class, String.class, 1);
         /**
          * The meta-property for the {@code age} property.
          */
         private final MetaProperty<Integer> age = DirectMetaProperty.ofDerived(
-                this, "age", ImmPersonAbstract.class, Integer.TYPE);
+                this, "age", ImmPersonAbstract.class, Integer.TYPE, 2);
         /**
          * The meta-properties.
          */
@@ -267,6 +267,24 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96511:  // age
+                    return ((ImmPersonAbstract) bean).getAge();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmPersonAbstract) bean).getForename();
+            values[index++] = ((ImmPersonAbstract) bean).getSurname();
+            values[index++] = ((ImmPersonAbstract) bean).getAge();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
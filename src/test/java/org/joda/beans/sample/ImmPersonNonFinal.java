@@ -179,17 +179,17 @@ public class ImmPersonNonFinal implements ImmutableBean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofImmutable(
-                this, "forename", ImmPersonNonFinal.class, String.class);
+                this, "forename", ImmPersonNonFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofImmutable(
-                this, "surname", ImmPersonNonFinal.class, String.class);
+                this, "surname", ImmPersonNonFinal.class, String.class, 1);
         /**
          * The meta-property for the {@code age} property.
          */
         private final MetaProperty<Integer> age = DirectMetaProperty.ofDerived(
-                this, "age", ImmPersonNonFinal.class, Integer.TYPE);
+                this, "age", ImmPersonNonFinal.class, Integer.TYPE, 2);
         /**
          * The meta-properties.
          */
@@ -272,6 +272,24 @@ public class ImmPersonNonFinal implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96511:  // age
+                    return ((ImmPersonNonFinal) bean).getAge();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmPersonNonFinal) bean).getForename();
+            values[index++] = ((ImmPersonNonFinal) bean).getSurname();
+            values[index++] = ((ImmPersonNonFinal) bean).getAge();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
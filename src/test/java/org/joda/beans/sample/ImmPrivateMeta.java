@@ -195,22 +195,22 @@ public final class ImmPrivateMeta implements ImmutableBean {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofImmutable(
-                this, "number", ImmPrivateMeta.class, Integer.TYPE);
+                this, "number", ImmPrivateMeta.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofImmutable(
-                this, "street", ImmPrivateMeta.class, String.class);
+                this, "street", ImmPrivateMeta.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofImmutable(
-                this, "city", ImmPrivateMeta.class, String.class);
+                this, "city", ImmPrivateMeta.class, String.class, 2);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<ImmPerson> owner = DirectMetaProperty.ofImmutable(
-                this, "owner", ImmPrivateMeta.class, ImmPerson.class);
+                this, "owner", ImmPrivateMeta.class, ImmPerson.class, 3);
         /**
          * The meta-properties.
          */
@@ -273,6 +273,25 @@ public final class ImmPrivateMeta implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((ImmPrivateMeta) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmPrivateMeta) bean).getNumber();
+            values[index++] = ((ImmPrivateMeta) bean).getStreet();
+            values[index++] = ((ImmPrivateMeta) bean).getCity();
+            values[index++] = ((ImmPrivateMeta) bean).getOwner();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
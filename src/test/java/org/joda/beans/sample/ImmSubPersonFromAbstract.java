@@ -164,13 +164,13 @@ public class ImmSubPersonFromAbstract extends ImmPersonAbstract {
          * The meta-property for the {@code middleName} property.
          */
         private final MetaProperty<String> middleName = DirectMetaProperty.ofImmutable(
-                this, "middleName", ImmSubPersonFromAbstract.class, String.class);
+                this, "middleName", ImmSubPersonFromAbstract.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Address>> addressList = DirectMetaProperty.ofImmutable(
-                this, "addressList", ImmSubPersonFromAbstract.class, (Class) ImmutableList.class);
+                this, "addressList", ImmSubPersonFromAbstract.class, (Class) ImmutableList.class, super.metaPropertyMap().size() + 1);
         /**
          * The meta-properties.
          */
@@ -240,6 +240,14 @@ public class ImmSubPersonFromAbstract extends ImmPersonAbstract {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmSubPersonFromAbstract) bean).getMiddleName();
+            values[index++] = ((ImmSubPersonFromAbstract) bean).getAddressList();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
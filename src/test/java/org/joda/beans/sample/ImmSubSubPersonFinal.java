@@ -158,7 +158,7 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultiset<String>> codeCounts = DirectMetaProperty.ofImmutable(
-                this, "codeCounts", ImmSubSubPersonFinal.class, (Class) ImmutableMultiset.class);
+                this, "codeCounts", ImmSubSubPersonFinal.class, (Class) ImmutableMultiset.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -215,6 +215,13 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmSubSubPersonFinal) bean).getCodeCounts();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -171,12 +171,12 @@ public final class ImmTolerance implements ImmutableBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<Double> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmTolerance.class, Double.TYPE);
+                this, "value", ImmTolerance.class, Double.TYPE, 0);
         /**
          * The meta-property for the {@code array} property.
          */
         private final MetaProperty<double[]> array = DirectMetaProperty.ofImmutable(
-                this, "array", ImmTolerance.class, double[].class);
+                this, "array", ImmTolerance.class, double[].class, 1);
         /**
          * The meta-properties.
          */
@@ -246,6 +246,23 @@ public final class ImmTolerance implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 111972721:  // value
+                    return ((ImmTolerance) bean).getValue();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmTolerance) bean).getValue();
+            values[index++] = ((ImmTolerance) bean).getArray();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
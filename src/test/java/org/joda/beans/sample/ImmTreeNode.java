@@ -241,28 +241,28 @@ public final class ImmTreeNode implements ImmutableBean{
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
-                this, "name", ImmTreeNode.class, String.class);
+                this, "name", ImmTreeNode.class, String.class, 0);
         /**
          * The meta-property for the {@code child1} property.
          */
         private final MetaProperty<ImmTreeNode> child1 = DirectMetaProperty.ofImmutable(
-                this, "child1", ImmTreeNode.class, ImmTreeNode.class);
+                this, "child1", ImmTreeNode.class, ImmTreeNode.class, 1);
         /**
          * The meta-property for the {@code child2} property.
          */
         private final MetaProperty<ImmTreeNode> child2 = DirectMetaProperty.ofImmutable(
-                this, "child2", ImmTreeNode.class, ImmTreeNode.class);
+                this, "child2", ImmTreeNode.class, ImmTreeNode.class, 2);
         /**
          * The meta-property for the {@code child3} property.
          */
         private final MetaProperty<ImmTreeNode> child3 = DirectMetaProperty.ofImmutable(
-                this, "child3", ImmTreeNode.class, ImmTreeNode.class);
+                this, "child3", ImmTreeNode.class, ImmTreeNode.class, 3);
         /**
          * The meta-property for the {@code childList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<ImmTreeNode>> childList = DirectMetaProperty.ofImmutable(
-                this, "childList", ImmTreeNode.class, (Class) List.class);
+                this, "childList", ImmTreeNode.class, (Class) List.class, 4);
         /**
          * The meta-properties.
          */
@@ -371,6 +371,17 @@ public final class ImmTreeNode implements ImmutableBean{
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmTreeNode) bean).getName();
+            values[index++] = ((ImmTreeNode) bean).getChild1();
+            values[index++] = ((ImmTreeNode) bean).getChild2();
+            values[index++] = ((ImmTreeNode) bean).getChild3();
+            values[index++] = ((ImmTreeNode) bean).getChildList();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
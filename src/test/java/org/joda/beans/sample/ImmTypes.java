@@ -267,37 +267,37 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<?>> listWild = DirectMetaProperty.ofImmutable(
-                this, "listWild", ImmTypes.class, (Class) ImmutableList.class);
+                this, "listWild", ImmTypes.class, (Class) ImmutableList.class, 0);
         /**
          * The meta-property for the {@code listWildPublic1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<?>> listWildPublic1 = DirectMetaProperty.ofImmutable(
-                this, "listWildPublic1", ImmTypes.class, (Class) List.class);
+                this, "listWildPublic1", ImmTypes.class, (Class) List.class, 1);
         /**
          * The meta-property for the {@code listWildPublic2} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<?>> listWildPublic2 = DirectMetaProperty.ofImmutable(
-                this, "listWildPublic2", ImmTypes.class, (Class) ImmutableList.class);
+                this, "listWildPublic2", ImmTypes.class, (Class) ImmutableList.class, 2);
         /**
          * The meta-property for the {@code listWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Object>> listWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder1", ImmTypes.class, (Class) List.class);
+                this, "listWildBuilder1", ImmTypes.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code listWildBuilder2} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> listWildBuilder2 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder2", ImmTypes.class, (Class) List.class);
+                this, "listWildBuilder2", ImmTypes.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code mapWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> mapWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "mapWildBuilder1", ImmTypes.class, (Class) Map.class);
+                this, "mapWildBuilder1", ImmTypes.class, (Class) Map.class, 5);
         /**
          * The meta-properties.
          */
@@ -420,6 +420,18 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmTypes<?>) bean).getListWild();
+            values[index++] = ((ImmTypes<?>) bean).getListWildPublic1();
+            values[index++] = ((ImmTypes<?>) bean).getListWildPublic2();
+            values[index++] = ((ImmTypes<?>) bean).getListWildBuilder1();
+            values[index++] = ((ImmTypes<?>) bean).getListWildBuilder2();
+            values[index++] = ((ImmTypes<?>) bean).getMapWildBuilder1();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -161,7 +161,7 @@ public final class ImmUnusedGeneric<T> implements ImmutableBean {
          * The meta-property for the {@code errorMessage} property.
          */
         private final MetaProperty<String> errorMessage = DirectMetaProperty.ofImmutable(
-                this, "errorMessage", ImmUnusedGeneric.class, String.class);
+                this, "errorMessage", ImmUnusedGeneric.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -219,6 +219,13 @@ public final class ImmUnusedGeneric<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ImmUnusedGeneric<?>) bean).getErrorMessage();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -193,12 +193,12 @@ public class JodaConvertBean extends DirectBean {
          * The meta-property for the {@code base} property.
          */
         private final MetaProperty<String> base = DirectMetaProperty.ofReadWrite(
-                this, "base", JodaConvertBean.class, String.class);
+                this, "base", JodaConvertBean.class, String.class, 0);
         /**
          * The meta-property for the {@code extra} property.
          */
         private final MetaProperty<Integer> extra = DirectMetaProperty.ofReadWrite(
-                this, "extra", JodaConvertBean.class, Integer.TYPE);
+                this, "extra", JodaConvertBean.class, Integer.TYPE, 1);
         /**
          * The meta-properties.
          */
@@ -268,6 +268,23 @@ public class JodaConvertBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    return ((JodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((JodaConvertBean) bean).getBase();
+            values[index++] = ((JodaConvertBean) bean).getExtra();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
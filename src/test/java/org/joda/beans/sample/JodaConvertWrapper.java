@@ -180,12 +180,12 @@ public class JodaConvertWrapper extends DirectBean {
          * The meta-property for the {@code bean} property.
          */
         private final MetaProperty<JodaConvertBean> bean = DirectMetaProperty.ofReadWrite(
-                this, "bean", JodaConvertWrapper.class, JodaConvertBean.class);
+                this, "bean", JodaConvertWrapper.class, JodaConvertBean.class, 0);
         /**
          * The meta-property for the {@code description} property.
          */
         private final MetaProperty<String> description = DirectMetaProperty.ofReadWrite(
-                this, "description", JodaConvertWrapper.class, String.class);
+                this, "description", JodaConvertWrapper.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -255,6 +255,14 @@ public class JodaConvertWrapper extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((JodaConvertWrapper) bean).getBean();
+            values[index++] = ((JodaConvertWrapper) bean).getDescription();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
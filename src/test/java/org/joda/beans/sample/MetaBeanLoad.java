@@ -157,7 +157,7 @@ public class MetaBeanLoad
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", MetaBeanLoad.class, String.class);
+                this, "name", MetaBeanLoad.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -214,6 +214,13 @@ public class MetaBeanLoad
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MetaBeanLoad) bean).getName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
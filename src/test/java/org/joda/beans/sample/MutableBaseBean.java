@@ -162,7 +162,7 @@ public class MutableBaseBean implements Bean {
          * The meta-property for the {@code baseBeanString} property.
          */
         private final MetaProperty<String> baseBeanString = DirectMetaProperty.ofReadWrite(
-                this, "baseBeanString", MutableBaseBean.class, String.class);
+                this, "baseBeanString", MutableBaseBean.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -219,6 +219,13 @@ public class MutableBaseBean implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableBaseBean) bean).getBaseBeanString();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
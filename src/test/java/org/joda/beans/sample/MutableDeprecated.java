@@ -261,22 +261,22 @@ public final class MutableDeprecated implements Cloneable, Bean {
          * The meta-property for the {@code deprecatedBoth} property.
          */
         private final MetaProperty<String> deprecatedBoth = DirectMetaProperty.ofReadWrite(
-                this, "deprecatedBoth", MutableDeprecated.class, String.class);
+                this, "deprecatedBoth", MutableDeprecated.class, String.class, 0);
         /**
          * The meta-property for the {@code deprecatedJavadoc} property.
          */
         private final MetaProperty<String> deprecatedJavadoc = DirectMetaProperty.ofReadWrite(
-                this, "deprecatedJavadoc", MutableDeprecated.class, String.class);
+                this, "deprecatedJavadoc", MutableDeprecated.class, String.class, 1);
         /**
          * The meta-property for the {@code deprecatedAnnotation} property.
          */
         private final MetaProperty<String> deprecatedAnnotation = DirectMetaProperty.ofReadWrite(
-                this, "deprecatedAnnotation", MutableDeprecated.class, String.class);
+                this, "deprecatedAnnotation", MutableDeprecated.class, String.class, 2);
         /**
          * The meta-property for the {@code deprecatedOptional} property.
          */
         private final MetaProperty<String> deprecatedOptional = DirectMetaProperty.ofReadWrite(
-                this, "deprecatedOptional", MutableDeprecated.class, String.class);
+                this, "deprecatedOptional", MutableDeprecated.class, String.class, 3);
         /**
          * The meta-properties.
          */
@@ -380,6 +380,16 @@ public final class MutableDeprecated implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableDeprecated) bean).getDeprecatedBoth();
+            values[index++] = ((MutableDeprecated) bean).getDeprecatedJavadoc();
+            values[index++] = ((MutableDeprecated) bean).getDeprecatedAnnotation();
+            values[index++] = ((MutableDeprecated) bean).deprecatedOptional;
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -156,7 +156,7 @@ public class MutableDerived extends MutableEmptyBase {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadOnlyBuildable(
-                this, "name", MutableDerived.class, String.class);
+                this, "name", MutableDerived.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -213,6 +213,13 @@ public class MutableDerived extends MutableEmptyBase {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableDerived) bean).getName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -193,13 +193,13 @@ public final class MutableListFinalBean implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<String>> strings = DirectMetaProperty.ofReadWrite(
-                this, "strings", MutableListFinalBean.class, (Class) List.class);
+                this, "strings", MutableListFinalBean.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code numberMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Integer>> numberMap = DirectMetaProperty.ofReadWrite(
-                this, "numberMap", MutableListFinalBean.class, (Class) Map.class);
+                this, "numberMap", MutableListFinalBean.class, (Class) Map.class, 1);
         /**
          * The meta-properties.
          */
@@ -269,6 +269,14 @@ public final class MutableListFinalBean implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableListFinalBean) bean).getStrings();
+            values[index++] = ((MutableListFinalBean) bean).getNumberMap();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -201,13 +201,13 @@ public class MutableListNonFinalBean implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<String>> strings = DirectMetaProperty.ofReadWrite(
-                this, "strings", MutableListNonFinalBean.class, (Class) List.class);
+                this, "strings", MutableListNonFinalBean.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code numberMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Integer>> numberMap = DirectMetaProperty.ofReadWrite(
-                this, "numberMap", MutableListNonFinalBean.class, (Class) Map.class);
+                this, "numberMap", MutableListNonFinalBean.class, (Class) Map.class, 1);
         /**
          * The meta-properties.
          */
@@ -277,6 +277,14 @@ public class MutableListNonFinalBean implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableListNonFinalBean) bean).getStrings();
+            values[index++] = ((MutableListNonFinalBean) bean).getNumberMap();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
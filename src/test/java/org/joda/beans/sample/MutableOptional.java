@@ -167,12 +167,12 @@ public final class MutableOptional implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Optional<String>> optString = DirectMetaProperty.ofReadWrite(
-                this, "optString", MutableOptional.class, (Class) Optional.class);
+                this, "optString", MutableOptional.class, (Class) Optional.class, 0);
         /**
          * The meta-property for the {@code optStringGetter} property.
          */
         private final MetaProperty<String> optStringGetter = DirectMetaProperty.ofReadWrite(
-                this, "optStringGetter", MutableOptional.class, String.class);
+                this, "optStringGetter", MutableOptional.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -242,6 +242,14 @@ public final class MutableOptional implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableOptional) bean).getOptString();
+            values[index++] = ((MutableOptional) bean).optStringGetter;
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
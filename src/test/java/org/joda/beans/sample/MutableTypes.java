@@ -185,13 +185,13 @@ public final class MutableTypes<T extends Comparable<T>> implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<?>> listWildNullable = DirectMetaProperty.ofReadWrite(
-                this, "listWildNullable", MutableTypes.class, (Class) List.class);
+                this, "listWildNullable", MutableTypes.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code listWildPublic} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<?>> listWildPublic = DirectMetaProperty.ofReadWrite(
-                this, "listWildPublic", MutableTypes.class, (Class) List.class);
+                this, "listWildPublic", MutableTypes.class, (Class) List.class, 1);
         /**
          * The meta-properties.
          */
@@ -262,6 +262,14 @@ public final class MutableTypes<T extends Comparable<T>> implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((MutableTypes<?>) bean).getListWildNullable();
+            values[index++] = ((MutableTypes<?>) bean).getListWildPublic();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -139,7 +139,7 @@ public class NoClone
          * The meta-property for the {@code dummyProperty} property.
          */
         private final MetaProperty<String> dummyProperty = DirectMetaProperty.ofReadWrite(
-                this, "dummyProperty", NoClone.class, String.class);
+                this, "dummyProperty", NoClone.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -196,6 +196,13 @@ public class NoClone
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((NoClone) bean).getDummyProperty();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -125,7 +125,7 @@ public final class NoGenEquals extends DirectBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<Object> value = DirectMetaProperty.ofReadWrite(
-                this, "value", NoGenEquals.class, Object.class);
+                this, "value", NoGenEquals.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -182,6 +182,13 @@ public final class NoGenEquals extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((NoGenEquals) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -132,7 +132,7 @@ public class NoGenToString extends DirectBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<Object> value = DirectMetaProperty.ofReadWrite(
-                this, "value", NoGenToString.class, Object.class);
+                this, "value", NoGenToString.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -189,6 +189,13 @@ public class NoGenToString extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((NoGenToString) bean).getValue();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -178,12 +178,12 @@ public class Pair  extends  DirectBean {
          * The meta-property for the {@code first} property.
          */
         private final MetaProperty<Object> first = DirectMetaProperty.ofReadWrite(
-                this, "first", Pair.class, Object.class);
+                this, "first", Pair.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         private final MetaProperty<Object> second = DirectMetaProperty.ofReadWrite(
-                this, "second", Pair.class, Object.class);
+                this, "second", Pair.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -253,6 +253,14 @@ public class Pair  extends  DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((Pair) bean).getFirst();
+            values[index++] = ((Pair) bean).getSecond();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -152,12 +152,12 @@ public final class PairManualInnerBuilder implements ImmutableBean {
          * The meta-property for the {@code first} property.
          */
         private final MetaProperty<String> first = DirectMetaProperty.ofImmutable(
-                this, "first", PairManualInnerBuilder.class, String.class);
+                this, "first", PairManualInnerBuilder.class, String.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         private final MetaProperty<String> second = DirectMetaProperty.ofImmutable(
-                this, "second", PairManualInnerBuilder.class, String.class);
+                this, "second", PairManualInnerBuilder.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -227,6 +227,14 @@ public final class PairManualInnerBuilder implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((PairManualInnerBuilder) bean).getFirst();
+            values[index++] = ((PairManualInnerBuilder) bean).getSecond();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
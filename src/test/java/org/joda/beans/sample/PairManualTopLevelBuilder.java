@@ -155,12 +155,12 @@ public final class PairManualTopLevelBuilder implements ImmutableBean {
          * The meta-property for the {@code first} property.
          */
         private final MetaProperty<String> first = DirectMetaProperty.ofImmutable(
-                this, "first", PairManualTopLevelBuilder.class, String.class);
+                this, "first", PairManualTopLevelBuilder.class, String.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         private final MetaProperty<String> second = DirectMetaProperty.ofImmutable(
-                this, "second", PairManualTopLevelBuilder.class, String.class);
+                this, "second", PairManualTopLevelBuilder.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -230,6 +230,14 @@ public final class PairManualTopLevelBuilder implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((PairManualTopLevelBuilder) bean).getFirst();
+            values[index++] = ((PairManualTopLevelBuilder) bean).getSecond();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
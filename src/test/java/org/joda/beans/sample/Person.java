@@ -371,45 +371,45 @@ public final class Person extends DirectBean implements IPerson,
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", Person.class, String.class);
+                this, "forename", Person.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", Person.class, String.class);
+                this, "surname", Person.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", Person.class, Integer.TYPE);
+                this, "numberOfCars", Person.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", Person.class, (Class) List.class);
+                this, "addressList", Person.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", Person.class, (Class) Map.class);
+                this, "otherAddressMap", Person.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", Person.class, (Class) List.class);
+                this, "addressesList", Person.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", Person.class, Address.class);
+                this, "mainAddress", Person.class, Address.class, 6);
         /**
          * The meta-property for the {@code extensions} property.
          */
         private final MetaProperty<FlexiBean> extensions = DirectMetaProperty.ofReadWrite(
-                this, "extensions", Person.class, FlexiBean.class);
+                this, "extensions", Person.class, FlexiBean.class, 7);
         /**
          * The meta-properties.
          */
@@ -557,6 +557,29 @@ public final class Person extends DirectBean implements IPerson,
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((Person) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((Person) bean).getForename();
+            values[index++] = ((Person) bean).getSurname();
+            values[index++] = ((Person) bean).getNumberOfCars();
+            values[index++] = ((Person) bean).getAddressList();
+            values[index++] = ((Person) bean).getOtherAddressMap();
+            values[index++] = ((Person) bean).getAddressesList();
+            values[index++] = ((Person) bean).getMainAddress();
+            values[index++] = ((Person) bean).getExtensions();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
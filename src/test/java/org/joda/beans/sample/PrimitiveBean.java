@@ -351,42 +351,42 @@ public class PrimitiveBean extends DirectBean {
          * The meta-property for the {@code valueLong} property.
          */
         private final MetaProperty<Long> valueLong = DirectMetaProperty.ofReadWrite(
-                this, "valueLong", PrimitiveBean.class, Long.TYPE);
+                this, "valueLong", PrimitiveBean.class, Long.TYPE, 0);
         /**
          * The meta-property for the {@code valueInt} property.
          */
         private final MetaProperty<Integer> valueInt = DirectMetaProperty.ofReadWrite(
-                this, "valueInt", PrimitiveBean.class, Integer.TYPE);
+                this, "valueInt", PrimitiveBean.class, Integer.TYPE, 1);
         /**
          * The meta-property for the {@code valueShort} property.
          */
         private final MetaProperty<Short> valueShort = DirectMetaProperty.ofReadWrite(
-                this, "valueShort", PrimitiveBean.class, Short.TYPE);
+                this, "valueShort", PrimitiveBean.class, Short.TYPE, 2);
         /**
          * The meta-property for the {@code valueByte} property.
          */
         private final MetaProperty<Byte> valueByte = DirectMetaProperty.ofReadWrite(
-                this, "valueByte", PrimitiveBean.class, Byte.TYPE);
+                this, "valueByte", PrimitiveBean.class, Byte.TYPE, 3);
         /**
          * The meta-property for the {@code valueDouble} property.
          */
         private final MetaProperty<Double> valueDouble = DirectMetaProperty.ofReadWrite(
-                this, "valueDouble", PrimitiveBean.class, Double.TYPE);
+                this, "valueDouble", PrimitiveBean.class, Double.TYPE, 4);
         /**
          * The meta-property for the {@code valueFloat} property.
          */
         private final MetaProperty<Float> valueFloat = DirectMetaProperty.ofReadWrite(
-                this, "valueFloat", PrimitiveBean.class, Float.TYPE);
+                this, "valueFloat", PrimitiveBean.class, Float.TYPE, 5);
         /**
          * The meta-property for the {@code valueChar} property.
          */
         private final MetaProperty<Character> valueChar = DirectMetaProperty.ofReadWrite(
-                this, "valueChar", PrimitiveBean.class, Character.TYPE);
+                this, "valueChar", PrimitiveBean.class, Character.TYPE, 6);
         /**
          * The meta-property for the {@code valueBoolean} property.
          */
         private final MetaProperty<Boolean> valueBoolean = DirectMetaProperty.ofReadWrite(
-                this, "valueBoolean", PrimitiveBean.class, Boolean.TYPE);
+                this, "valueBoolean", PrimitiveBean.class, Boolean.TYPE, 7);
         /**
          * The meta-properties.
          */
@@ -534,6 +534,56 @@ public class PrimitiveBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1858576222:  // valueDouble
+                    return ((PrimitiveBean) bean).getValueDouble();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected long propertyGetLong(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -765940851:  // valueLong
+                    return ((PrimitiveBean) bean).getValueLong();
+            }
+            return super.propertyGetLong(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1410184002:  // valueInt
+                    return ((PrimitiveBean) bean).getValueInt();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected boolean propertyGetBoolean(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 733421943:  // valueBoolean
+                    return ((PrimitiveBean) bean).isValueBoolean();
+            }
+            return super.propertyGetBoolean(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((PrimitiveBean) bean).getValueLong();
+            values[index++] = ((PrimitiveBean) bean).getValueInt();
+            values[index++] = ((PrimitiveBean) bean).getValueShort();
+            values[index++] = ((PrimitiveBean) bean).getValueByte();
+            values[index++] = ((PrimitiveBean) bean).getValueDouble();
+            values[index++] = ((PrimitiveBean) bean).getValueFloat();
+            values[index++] = ((PrimitiveBean) bean).getValueChar();
+            values[index++] = ((PrimitiveBean) bean).isValueBoolean();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
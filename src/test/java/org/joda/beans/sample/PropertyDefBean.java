@@ -385,54 +385,54 @@ public final class PropertyDefBean implements Bean {
          * The meta-property for the {@code stringAsCharSequence} property.
          */
         private final MetaProperty<CharSequence> stringAsCharSequence = DirectMetaProperty.ofReadWrite(
-                this, "stringAsCharSequence", PropertyDefBean.class, CharSequence.class);
+                this, "stringAsCharSequence", PropertyDefBean.class, CharSequence.class, 0);
         /**
          * The meta-property for the {@code intAsInteger} property.
          */
         private final MetaProperty<Integer> intAsInteger = DirectMetaProperty.ofReadWrite(
-                this, "intAsInteger", PropertyDefBean.class, Integer.class);
+                this, "intAsInteger", PropertyDefBean.class, Integer.class, 1);
         /**
          * The meta-property for the {@code listCopyOfCollection} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Collection<Address>> listCopyOfCollection = DirectMetaProperty.ofReadWrite(
-                this, "listCopyOfCollection", PropertyDefBean.class, (Class) Collection.class);
+                this, "listCopyOfCollection", PropertyDefBean.class, (Class) Collection.class, 2);
         /**
          * The meta-property for the {@code arrayListSmart} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ArrayList<Address>> arrayListSmart = DirectMetaProperty.ofReadWrite(
-                this, "arrayListSmart", PropertyDefBean.class, (Class) ArrayList.class);
+                this, "arrayListSmart", PropertyDefBean.class, (Class) ArrayList.class, 3);
         /**
          * The meta-property for the {@code arrayListExposed} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ArrayList<Address>> arrayListExposed = DirectMetaProperty.ofReadWrite(
-                this, "arrayListExposed", PropertyDefBean.class, (Class) ArrayList.class);
+                this, "arrayListExposed", PropertyDefBean.class, (Class) ArrayList.class, 4);
         /**
          * The meta-property for the {@code arrayListAsCollection} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Collection<Address>> arrayListAsCollection = DirectMetaProperty.ofReadWrite(
-                this, "arrayListAsCollection", PropertyDefBean.class, (Class) Collection.class);
+                this, "arrayListAsCollection", PropertyDefBean.class, (Class) Collection.class, 5);
         /**
          * The meta-property for the {@code arrayList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ArrayList<Address>> arrayList = DirectMetaProperty.ofReadWrite(
-                this, "arrayList", PropertyDefBean.class, (Class) ArrayList.class);
+                this, "arrayList", PropertyDefBean.class, (Class) ArrayList.class, 6);
         /**
          * The meta-property for the {@code listAsIterable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Iterable<Address>> listAsIterable = DirectMetaProperty.ofReadWrite(
-                this, "listAsIterable", PropertyDefBean.class, (Class) Iterable.class);
+                this, "listAsIterable", PropertyDefBean.class, (Class) Iterable.class, 7);
         /**
          * The meta-property for the {@code listAsIterableNoField} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Iterable<Address>> listAsIterableNoField = DirectMetaProperty.ofReadWrite(
-                this, "listAsIterableNoField", PropertyDefBean.class, (Class) Iterable.class);
+                this, "listAsIterableNoField", PropertyDefBean.class, (Class) Iterable.class, 8);
         /**
          * The meta-properties.
          */
@@ -593,6 +593,21 @@ public final class PropertyDefBean implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((PropertyDefBean) bean).getStringAsCharSequence();
+            values[index++] = ((PropertyDefBean) bean).getIntAsInteger();
+            values[index++] = ((PropertyDefBean) bean).getListCopyOfCollection();
+            values[index++] = ((PropertyDefBean) bean).getArrayListSmart();
+            values[index++] = ((PropertyDefBean) bean).getArrayListExposed();
+            values[index++] = ((PropertyDefBean) bean).getArrayListAsCollection();
+            values[index++] = ((PropertyDefBean) bean).getArrayList();
+            values[index++] = ((PropertyDefBean) bean).getListAsIterable();
+            values[index++] = ((PropertyDefBean) bean).getListAsIterableNoField();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
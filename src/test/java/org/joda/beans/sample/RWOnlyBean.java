@@ -350,47 +350,47 @@ public class RWOnlyBean extends DirectBean {
          * The meta-property for the {@code ro} property.
          */
         private final MetaProperty<Object> ro = DirectMetaProperty.ofReadOnly(
-                this, "ro", RWOnlyBean.class, Object.class);
+                this, "ro", RWOnlyBean.class, Object.class, 0);
         /**
          * The meta-property for the {@code wo} property.
          */
         private final MetaProperty<Object> wo = DirectMetaProperty.ofWriteOnly(
-                this, "wo", RWOnlyBean.class, Object.class);
+                this, "wo", RWOnlyBean.class, Object.class, 1);
         /**
          * The meta-property for the {@code fin} property.
          */
         private final MetaProperty<Object> fin = DirectMetaProperty.ofReadOnly(
-                this, "fin", RWOnlyBean.class, Object.class);
+                this, "fin", RWOnlyBean.class, Object.class, 2);
         /**
          * The meta-property for the {@code priv} property.
          */
         private final MetaProperty<String> priv = DirectMetaProperty.ofReadWrite(
-                this, "priv", RWOnlyBean.class, String.class);
+                this, "priv", RWOnlyBean.class, String.class, 3);
         /**
          * The meta-property for the {@code pkg} property.
          */
         private final MetaProperty<String> pkg = DirectMetaProperty.ofReadWrite(
-                this, "pkg", RWOnlyBean.class, String.class);
+                this, "pkg", RWOnlyBean.class, String.class, 4);
         /**
          * The meta-property for the {@code prot} property.
          */
         private final MetaProperty<String> prot = DirectMetaProperty.ofReadWrite(
-                this, "prot", RWOnlyBean.class, String.class);
+                this, "prot", RWOnlyBean.class, String.class, 5);
         /**
          * The meta-property for the {@code field} property.
          */
         private final MetaProperty<String> field = DirectMetaProperty.ofReadWrite(
-                this, "field", RWOnlyBean.class, String.class);
+                this, "field", RWOnlyBean.class, String.class, 6);
         /**
          * The meta-property for the {@code manualGet} property.
          */
         private final MetaProperty<String> manualGet = DirectMetaProperty.ofReadOnly(
-                this, "manualGet", RWOnlyBean.class, String.class);
+                this, "manualGet", RWOnlyBean.class, String.class, 7);
         /**
          * The meta-property for the {@code derived} property.
          */
         private final MetaProperty<String> derived = DirectMetaProperty.ofDerived(
-                this, "derived", RWOnlyBean.class, String.class);
+                this, "derived", RWOnlyBean.class, String.class, 8);
         /**
          * The meta-properties.
          */
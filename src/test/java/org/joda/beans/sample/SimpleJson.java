@@ -562,146 +562,146 @@ public final class SimpleJson implements ImmutableBean, Serializable {
          * The meta-property for the {@code primitiveChar} property.
          */
         private final MetaProperty<Character> primitiveChar = DirectMetaProperty.ofImmutable(
-                this, "primitiveChar", SimpleJson.class, Character.TYPE);
+                this, "primitiveChar", SimpleJson.class, Character.TYPE, 0);
         /**
          * The meta-property for the {@code primitiveByte} property.
          */
         private final MetaProperty<Byte> primitiveByte = DirectMetaProperty.ofImmutable(
-                this, "primitiveByte", SimpleJson.class, Byte.TYPE);
+                this, "primitiveByte", SimpleJson.class, Byte.TYPE, 1);
         /**
          * The meta-property for the {@code primitiveShort} property.
          */
         private final MetaProperty<Short> primitiveShort = DirectMetaProperty.ofImmutable(
-                this, "primitiveShort", SimpleJson.class, Short.TYPE);
+                this, "primitiveShort", SimpleJson.class, Short.TYPE, 2);
         /**
          * The meta-property for the {@code primitiveInt} property.
          */
         private final MetaProperty<Integer> primitiveInt = DirectMetaProperty.ofImmutable(
-                this, "primitiveInt", SimpleJson.class, Integer.TYPE);
+                this, "primitiveInt", SimpleJson.class, Integer.TYPE, 3);
         /**
          * The meta-property for the {@code primitiveLong} property.
          */
         private final MetaProperty<Long> primitiveLong = DirectMetaProperty.ofImmutable(
-                this, "primitiveLong", SimpleJson.class, Long.TYPE);
+                this, "primitiveLong", SimpleJson.class, Long.TYPE, 4);
         /**
          * The meta-property for the {@code primitiveFloat} property.
          */
         private final MetaProperty<Float> primitiveFloat = DirectMetaProperty.ofImmutable(
-                this, "primitiveFloat", SimpleJson.class, Float.TYPE);
+                this, "primitiveFloat", SimpleJson.class, Float.TYPE, 5);
         /**
          * The meta-property for the {@code primitiveDouble} property.
          */
         private final MetaProperty<Double> primitiveDouble = DirectMetaProperty.ofImmutable(
-                this, "primitiveDouble", SimpleJson.class, Double.TYPE);
+                this, "primitiveDouble", SimpleJson.class, Double.TYPE, 6);
         /**
          * The meta-property for the {@code primitiveDoubleNaN} property.
          */
         private final MetaProperty<Double> primitiveDoubleNaN = DirectMetaProperty.ofImmutable(
-                this, "primitiveDoubleNaN", SimpleJson.class, Double.TYPE);
+                this, "primitiveDoubleNaN", SimpleJson.class, Double.TYPE, 7);
         /**
          * The meta-property for the {@code primitiveDoubleInf} property.
          */
         private final MetaProperty<Double> primitiveDoubleInf = DirectMetaProperty.ofImmutable(
-                this, "primitiveDoubleInf", SimpleJson.class, Double.TYPE);
+                this, "primitiveDoubleInf", SimpleJson.class, Double.TYPE, 8);
         /**
          * The meta-property for the {@code abstractNumber} property.
          */
         private final MetaProperty<Number> abstractNumber = DirectMetaProperty.ofImmutable(
-                this, "abstractNumber", SimpleJson.class, Number.class);
+                this, "abstractNumber", SimpleJson.class, Number.class, 9);
         /**
          * The meta-property for the {@code arrayByte} property.
          */
         private final MetaProperty<byte[]> arrayByte = DirectMetaProperty.ofImmutable(
-                this, "arrayByte", SimpleJson.class, byte[].class);
+                this, "arrayByte", SimpleJson.class, byte[].class, 10);
         /**
          * The meta-property for the {@code array2d} property.
          */
         private final MetaProperty<String[][]> array2d = DirectMetaProperty.ofImmutable(
-                this, "array2d", SimpleJson.class, String[][].class);
+                this, "array2d", SimpleJson.class, String[][].class, 11);
         /**
          * The meta-property for the {@code string} property.
          */
         private final MetaProperty<String> string = DirectMetaProperty.ofImmutable(
-                this, "string", SimpleJson.class, String.class);
+                this, "string", SimpleJson.class, String.class, 12);
         /**
          * The meta-property for the {@code bean} property.
          */
         private final MetaProperty<ImmKey> bean = DirectMetaProperty.ofImmutable(
-                this, "bean", SimpleJson.class, ImmKey.class);
+                this, "bean", SimpleJson.class, ImmKey.class, 13);
         /**
          * The meta-property for the {@code object1} property.
          */
         private final MetaProperty<Object> object1 = DirectMetaProperty.ofImmutable(
-                this, "object1", SimpleJson.class, Object.class);
+                this, "object1", SimpleJson.class, Object.class, 14);
         /**
          * The meta-property for the {@code object2} property.
          */
         private final MetaProperty<Object> object2 = DirectMetaProperty.ofImmutable(
-                this, "object2", SimpleJson.class, Object.class);
+                this, "object2", SimpleJson.class, Object.class, 15);
         /**
          * The meta-property for the {@code risk} property.
          */
         private final MetaProperty<Risk> risk = DirectMetaProperty.ofImmutable(
-                this, "risk", SimpleJson.class, Risk.class);
+                this, "risk", SimpleJson.class, Risk.class, 16);
         /**
          * The meta-property for the {@code riskLevel} property.
          */
         private final MetaProperty<RiskLevel> riskLevel = DirectMetaProperty.ofImmutable(
-                this, "riskLevel", SimpleJson.class, RiskLevel.class);
+                this, "riskLevel", SimpleJson.class, RiskLevel.class, 17);
         /**
          * The meta-property for the {@code riskLevels} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<EnumSet<RiskLevel>> riskLevels = DirectMetaProperty.ofImmutable(
-                this, "riskLevels", SimpleJson.class, (Class) EnumSet.class);
+                this, "riskLevels", SimpleJson.class, (Class) EnumSet.class, 18);
         /**
          * The meta-property for the {@code stringList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<String>> stringList = DirectMetaProperty.ofImmutable(
-                this, "stringList", SimpleJson.class, (Class) ImmutableList.class);
+                this, "stringList", SimpleJson.class, (Class) ImmutableList.class, 19);
         /**
          * The meta-property for the {@code beanList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<ImmKey>> beanList = DirectMetaProperty.ofImmutable(
-                this, "beanList", SimpleJson.class, (Class) ImmutableList.class);
+                this, "beanList", SimpleJson.class, (Class) ImmutableList.class, 20);
         /**
          * The meta-property for the {@code stringMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, String>> stringMap = DirectMetaProperty.ofImmutable(
-                this, "stringMap", SimpleJson.class, (Class) ImmutableMap.class);
+                this, "stringMap", SimpleJson.class, (Class) ImmutableMap.class, 21);
         /**
          * The meta-property for the {@code intKeyMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<Integer, String>> intKeyMap = DirectMetaProperty.ofImmutable(
-                this, "intKeyMap", SimpleJson.class, (Class) ImmutableMap.class);
+                this, "intKeyMap", SimpleJson.class, (Class) ImmutableMap.class, 22);
         /**
          * The meta-property for the {@code beanMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, ImmKey>> beanMap = DirectMetaProperty.ofImmutable(
-                this, "beanMap", SimpleJson.class, (Class) ImmutableMap.class);
+                this, "beanMap", SimpleJson.class, (Class) ImmutableMap.class, 23);
         /**
          * The meta-property for the {@code listInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<String>>> listInMap = DirectMetaProperty.ofImmutable(
-                this, "listInMap", SimpleJson.class, (Class) ImmutableMap.class);
+                this, "listInMap", SimpleJson.class, (Class) ImmutableMap.class, 24);
         /**
          * The meta-property for the {@code listNumericInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<Integer>>> listNumericInMap = DirectMetaProperty.ofImmutable(
-                this, "listNumericInMap", SimpleJson.class, (Class) ImmutableMap.class);
+                this, "listNumericInMap", SimpleJson.class, (Class) ImmutableMap.class, 25);
         /**
          * The meta-property for the {@code objectInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, Object>> objectInMap = DirectMetaProperty.ofImmutable(
-                this, "objectInMap", SimpleJson.class, (Class) ImmutableMap.class);
+                this, "objectInMap", SimpleJson.class, (Class) ImmutableMap.class, 26);
         /**
          * The meta-properties.
          */
@@ -1096,6 +1096,70 @@ public final class SimpleJson implements ImmutableBean, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -851055720:  // primitiveDouble
+                    return ((SimpleJson) bean).getPrimitiveDouble();
+                case -608928189:  // primitiveDoubleNaN
+                    return ((SimpleJson) bean).getPrimitiveDoubleNaN();
+                case -608932567:  // primitiveDoubleInf
+                    return ((SimpleJson) bean).getPrimitiveDoubleInf();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected long propertyGetLong(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 1058569219:  // primitiveLong
+                    return ((SimpleJson) bean).getPrimitiveLong();
+            }
+            return super.propertyGetLong(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 1281070472:  // primitiveInt
+                    return ((SimpleJson) bean).getPrimitiveInt();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimpleJson) bean).getPrimitiveChar();
+            values[index++] = ((SimpleJson) bean).getPrimitiveByte();
+            values[index++] = ((SimpleJson) bean).getPrimitiveShort();
+            values[index++] = ((SimpleJson) bean).getPrimitiveInt();
+            values[index++] = ((SimpleJson) bean).getPrimitiveLong();
+            values[index++] = ((SimpleJson) bean).getPrimitiveFloat();
+            values[index++] = ((SimpleJson) bean).getPrimitiveDouble();
+            values[index++] = ((SimpleJson) bean).getPrimitiveDoubleNaN();
+            values[index++] = ((SimpleJson) bean).getPrimitiveDoubleInf();
+            values[index++] = ((SimpleJson) bean).getAbstractNumber();
+            values[index++] = ((SimpleJson) bean).getArrayByte();
+            values[index++] = ((SimpleJson) bean).getArray2d();
+            values[index++] = ((SimpleJson) bean).getString();
+            values[index++] = ((SimpleJson) bean).getBean();
+            values[index++] = ((SimpleJson) bean).getObject1();
+            values[index++] = ((SimpleJson) bean).getObject2();
+            values[index++] = ((SimpleJson) bean).getRisk();
+            values[index++] = ((SimpleJson) bean).getRiskLevel();
+            values[index++] = ((SimpleJson) bean).getRiskLevels();
+            values[index++] = ((SimpleJson) bean).getStringList();
+            values[index++] = ((SimpleJson) bean).getBeanList();
+            values[index++] = ((SimpleJson) bean).getStringMap();
+            values[index++] = ((SimpleJson) bean).getIntKeyMap();
+            values[index++] = ((SimpleJson) bean).getBeanMap();
+            values[index++] = ((SimpleJson) bean).getListInMap();
+            values[index++] = ((SimpleJson) bean).getListNumericInMap();
+            values[index++] = ((SimpleJson) bean).getObjectInMap();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -210,17 +210,17 @@ public class SimpleName
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimpleName.class, String.class);
+                this, "forename", SimpleName.class, String.class, 0);
         /**
          * The meta-property for the {@code middleNames} property.
          */
         private final MetaProperty<String[]> middleNames = DirectMetaProperty.ofReadWrite(
-                this, "middleNames", SimpleName.class, String[].class);
+                this, "middleNames", SimpleName.class, String[].class, 1);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", SimpleName.class, String.class);
+                this, "surname", SimpleName.class, String.class, 2);
         /**
          * The meta-properties.
          */
@@ -307,6 +307,15 @@ public class SimpleName
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimpleName) bean).getForename();
+            values[index++] = ((SimpleName) bean).getMiddleNames();
+            values[index++] = ((SimpleName) bean).getSurname();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -391,51 +391,51 @@ public final class SimplePerson implements Cloneable, Bean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimplePerson.class, String.class);
+                this, "forename", SimplePerson.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", SimplePerson.class, String.class);
+                this, "surname", SimplePerson.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", SimplePerson.class, Integer.TYPE);
+                this, "numberOfCars", SimplePerson.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", SimplePerson.class, (Class) List.class);
+                this, "addressList", SimplePerson.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", SimplePerson.class, (Class) Map.class);
+                this, "otherAddressMap", SimplePerson.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", SimplePerson.class, (Class) List.class);
+                this, "addressesList", SimplePerson.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", SimplePerson.class, Address.class);
+                this, "mainAddress", SimplePerson.class, Address.class, 6);
         /**
          * The meta-property for the {@code propDefAnnotationSecondDeprecated} property.
          */
         private final MetaProperty<FlexiBean> propDefAnnotationSecondDeprecated = DirectMetaProperty.ofReadWrite(
-                this, "propDefAnnotationSecondDeprecated", SimplePerson.class, FlexiBean.class);
+                this, "propDefAnnotationSecondDeprecated", SimplePerson.class, FlexiBean.class, 7);
         /**
          * The meta-property for the {@code propDefAnnotationSecondManual} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, String>> propDefAnnotationSecondManual = DirectMetaProperty.ofReadWrite(
-                this, "propDefAnnotationSecondManual", SimplePerson.class, (Class) Map.class);
+                this, "propDefAnnotationSecondManual", SimplePerson.class, (Class) Map.class, 8);
         /**
          * The meta-properties.
          */
@@ -598,6 +598,30 @@ public final class SimplePerson implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePerson) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimplePerson) bean).getForename();
+            values[index++] = ((SimplePerson) bean).getSurname();
+            values[index++] = ((SimplePerson) bean).getNumberOfCars();
+            values[index++] = ((SimplePerson) bean).getAddressList();
+            values[index++] = ((SimplePerson) bean).getOtherAddressMap();
+            values[index++] = ((SimplePerson) bean).getAddressesList();
+            values[index++] = ((SimplePerson) bean).getMainAddress();
+            values[index++] = ((SimplePerson) bean).getPropDefAnnotationSecondDeprecated();
+            values[index++] = ((SimplePerson) bean).getPropDefAnnotationSecondManual();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
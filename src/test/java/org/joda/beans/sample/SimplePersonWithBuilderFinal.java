@@ -384,45 +384,45 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimplePersonWithBuilderFinal.class, String.class);
+                this, "forename", SimplePersonWithBuilderFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadOnlyBuildable(
-                this, "surname", SimplePersonWithBuilderFinal.class, String.class);
+                this, "surname", SimplePersonWithBuilderFinal.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", SimplePersonWithBuilderFinal.class, Integer.TYPE);
+                this, "numberOfCars", SimplePersonWithBuilderFinal.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", SimplePersonWithBuilderFinal.class, (Class) List.class);
+                this, "addressList", SimplePersonWithBuilderFinal.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", SimplePersonWithBuilderFinal.class, (Class) Map.class);
+                this, "otherAddressMap", SimplePersonWithBuilderFinal.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", SimplePersonWithBuilderFinal.class, (Class) List.class);
+                this, "addressesList", SimplePersonWithBuilderFinal.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", SimplePersonWithBuilderFinal.class, Address.class);
+                this, "mainAddress", SimplePersonWithBuilderFinal.class, Address.class, 6);
         /**
          * The meta-property for the {@code tags} property.
          */
         private final MetaProperty<String[]> tags = DirectMetaProperty.ofReadWrite(
-                this, "tags", SimplePersonWithBuilderFinal.class, String[].class);
+                this, "tags", SimplePersonWithBuilderFinal.class, String[].class, 7);
         /**
          * The meta-properties.
          */
@@ -570,6 +570,29 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getForename();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getSurname();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getAddressList();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getOtherAddressMap();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getAddressesList();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getMainAddress();
+            values[index++] = ((SimplePersonWithBuilderFinal) bean).getTags();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
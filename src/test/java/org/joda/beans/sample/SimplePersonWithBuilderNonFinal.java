@@ -361,40 +361,40 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimplePersonWithBuilderNonFinal.class, String.class);
+                this, "forename", SimplePersonWithBuilderNonFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadOnlyBuildable(
-                this, "surname", SimplePersonWithBuilderNonFinal.class, String.class);
+                this, "surname", SimplePersonWithBuilderNonFinal.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", SimplePersonWithBuilderNonFinal.class, Integer.TYPE);
+                this, "numberOfCars", SimplePersonWithBuilderNonFinal.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", SimplePersonWithBuilderNonFinal.class, (Class) List.class);
+                this, "addressList", SimplePersonWithBuilderNonFinal.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", SimplePersonWithBuilderNonFinal.class, (Class) Map.class);
+                this, "otherAddressMap", SimplePersonWithBuilderNonFinal.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", SimplePersonWithBuilderNonFinal.class, (Class) List.class);
+                this, "addressesList", SimplePersonWithBuilderNonFinal.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", SimplePersonWithBuilderNonFinal.class, Address.class);
+                this, "mainAddress", SimplePersonWithBuilderNonFinal.class, Address.class, 6);
         /**
          * The meta-properties.
          */
@@ -529,6 +529,28 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePersonWithBuilderNonFinal) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getForename();
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getSurname();
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getNumberOfCars();
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getAddressList();
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getOtherAddressMap();
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getAddressesList();
+            values[index++] = ((SimplePersonWithBuilderNonFinal) bean).getMainAddress();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -167,7 +167,7 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
          * The meta-property for the {@code middleName} property.
          */
         private final MetaProperty<String> middleName = DirectMetaProperty.ofReadWrite(
-                this, "middleName", SimpleSubPersonWithBuilderFinal.class, String.class);
+                this, "middleName", SimpleSubPersonWithBuilderFinal.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -224,6 +224,13 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimpleSubPersonWithBuilderFinal) bean).getMiddleName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
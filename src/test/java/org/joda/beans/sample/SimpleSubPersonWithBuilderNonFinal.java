@@ -167,7 +167,7 @@ public class SimpleSubPersonWithBuilderNonFinal extends SimplePersonWithBuilderN
          * The meta-property for the {@code middleName} property.
          */
         private final MetaProperty<String> middleName = DirectMetaProperty.ofReadWrite(
-                this, "middleName", SimpleSubPersonWithBuilderNonFinal.class, String.class);
+                this, "middleName", SimpleSubPersonWithBuilderNonFinal.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -224,6 +224,13 @@ public class SimpleSubPersonWithBuilderNonFinal extends SimplePersonWithBuilderN
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SimpleSubPersonWithBuilderNonFinal) bean).getMiddleName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -149,7 +149,7 @@ public class SubValidateBean extends ValidateBean {
          * The meta-property for the {@code sub} property.
          */
         private final MetaProperty<String> sub = DirectMetaProperty.ofReadWrite(
-                this, "sub", SubValidateBean.class, String.class);
+                this, "sub", SubValidateBean.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -206,6 +206,13 @@ public class SubValidateBean extends ValidateBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SubValidateBean) bean).getSub();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -143,7 +143,7 @@ public class SubWrapper extends Wrapper<CompanyAddress> {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", SubWrapper.class, String.class);
+                this, "name", SubWrapper.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -200,6 +200,13 @@ public class SubWrapper extends Wrapper<CompanyAddress> {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((SubWrapper) bean).getName();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
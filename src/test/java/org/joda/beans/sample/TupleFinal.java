@@ -252,19 +252,19 @@ public final class TupleFinal<X, Y, Z> implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<X> first = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "first", TupleFinal.class, Object.class);
+                this, "first", TupleFinal.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Y> second = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "second", TupleFinal.class, Object.class);
+                this, "second", TupleFinal.class, Object.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Z> third = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "third", TupleFinal.class, Object.class);
+                this, "third", TupleFinal.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -348,6 +348,15 @@ public final class TupleFinal<X, Y, Z> implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((TupleFinal<?, ?, ?>) bean).getFirst();
+            values[index++] = ((TupleFinal<?, ?, ?>) bean).getSecond();
+            values[index++] = ((TupleFinal<?, ?, ?>) bean).getThird();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -198,19 +198,19 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<X> first = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "first", TupleImmutable.class, Object.class);
+                this, "first", TupleImmutable.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Y> second = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "second", TupleImmutable.class, Object.class);
+                this, "second", TupleImmutable.class, Object.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Z> third = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "third", TupleImmutable.class, Object.class);
+                this, "third", TupleImmutable.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -294,6 +294,15 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((TupleImmutable<?, ?, ?>) bean).getFirst();
+            values[index++] = ((TupleImmutable<?, ?, ?>) bean).getSecond();
+            values[index++] = ((TupleImmutable<?, ?, ?>) bean).getThird();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
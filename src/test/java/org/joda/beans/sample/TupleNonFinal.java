@@ -232,19 +232,19 @@ public class TupleNonFinal<X, Y, Z> extends DirectBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<X> first = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "first", TupleNonFinal.class, Object.class);
+                this, "first", TupleNonFinal.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Y> second = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "second", TupleNonFinal.class, Object.class);
+                this, "second", TupleNonFinal.class, Object.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Z> third = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "third", TupleNonFinal.class, Object.class);
+                this, "third", TupleNonFinal.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -328,6 +328,15 @@ public class TupleNonFinal<X, Y, Z> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((TupleNonFinal<?, ?, ?>) bean).getFirst();
+            values[index++] = ((TupleNonFinal<?, ?, ?>) bean).getSecond();
+            values[index++] = ((TupleNonFinal<?, ?, ?>) bean).getThird();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -163,7 +163,7 @@ public final class TupleSub<X extends Number, Y extends Number, Z> extends Tuple
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", TupleSub.class, String.class);
+                this, "name", TupleSub.class, String.class, super.metaPropertyMap().size());
         /**
          * The meta-properties.
          */
@@ -221,6 +221,13 @@ public final class TupleSub<X extends Number, Y extends Number, Z> extends Tuple
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((TupleSub<?, ?, ?>) bean).getName();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
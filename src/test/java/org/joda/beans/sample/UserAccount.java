@@ -236,22 +236,22 @@ public final class UserAccount implements Bean {
          * The meta-property for the {@code userId} property.
          */
         private final MetaProperty<String> userId = DirectMetaProperty.ofReadWrite(
-                this, "userId", UserAccount.class, String.class);
+                this, "userId", UserAccount.class, String.class, 0);
         /**
          * The meta-property for the {@code emailAddress} property.
          */
         private final MetaProperty<String> emailAddress = DirectMetaProperty.ofReadWrite(
-                this, "emailAddress", UserAccount.class, String.class);
+                this, "emailAddress", UserAccount.class, String.class, 1);
         /**
          * The meta-property for the {@code numberLogins} property.
          */
         private final MetaProperty<Integer> numberLogins = DirectMetaProperty.ofReadWrite(
-                this, "numberLogins", UserAccount.class, Integer.TYPE);
+                this, "numberLogins", UserAccount.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code lastLogin} property.
          */
         private final MetaProperty<Date> lastLogin = DirectMetaProperty.ofReadWrite(
-                this, "lastLogin", UserAccount.class, Date.class);
+                this, "lastLogin", UserAccount.class, Date.class, 3);
         /**
          * The meta-properties.
          */
@@ -347,6 +347,25 @@ public final class UserAccount implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 850160339:  // numberLogins
+                    return ((UserAccount) bean).getNumberLogins();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((UserAccount) bean).getUserId();
+            values[index++] = ((UserAccount) bean).getEmailAddress();
+            values[index++] = ((UserAccount) bean).getNumberLogins();
+            values[index++] = ((UserAccount) bean).getLastLogin();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
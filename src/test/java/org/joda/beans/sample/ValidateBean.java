@@ -290,27 +290,27 @@ public class ValidateBean extends DirectBean {
          * The meta-property for the {@code first} property.
          */
         private final MetaProperty<String> first = DirectMetaProperty.ofReadWrite(
-                this, "first", ValidateBean.class, String.class);
+                this, "first", ValidateBean.class, String.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         private final MetaProperty<String> second = DirectMetaProperty.ofReadWrite(
-                this, "second", ValidateBean.class, String.class);
+                this, "second", ValidateBean.class, String.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         private final MetaProperty<String> third = DirectMetaProperty.ofReadWrite(
-                this, "third", ValidateBean.class, String.class);
+                this, "third", ValidateBean.class, String.class, 2);
         /**
          * The meta-property for the {@code fourth} property.
          */
         private final MetaProperty<String> fourth = DirectMetaProperty.ofReadWrite(
-                this, "fourth", ValidateBean.class, String.class);
+                this, "fourth", ValidateBean.class, String.class, 3);
         /**
          * The meta-property for the {@code fifth} property.
          */
         private final MetaProperty<String> fifth = DirectMetaProperty.ofReadWrite(
-                this, "fifth", ValidateBean.class, String.class);
+                this, "fifth", ValidateBean.class, String.class, 4);
         /**
          * The meta-properties.
          */
@@ -419,6 +419,17 @@ public class ValidateBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((ValidateBean) bean).getFirst();
+            values[index++] = ((ValidateBean) bean).getSecond();
+            values[index++] = ((ValidateBean) bean).getThird();
+            values[index++] = ((ValidateBean) bean).getFourth();
+            values[index++] = ((ValidateBean) bean).getFifth();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
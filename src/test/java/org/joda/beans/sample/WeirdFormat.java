@@ -267,27 +267,27 @@ public class WeirdFormat
          * The meta-property for the {@code forename1} property.
          */
         private final MetaProperty<String> forename1 = DirectMetaProperty.ofReadWrite(
-                this, "forename1", WeirdFormat.class, String.class);
+                this, "forename1", WeirdFormat.class, String.class, 0);
         /**
          * The meta-property for the {@code forename2} property.
          */
         private final MetaProperty<String> forename2 = DirectMetaProperty.ofReadWrite(
-                this, "forename2", WeirdFormat.class, String.class);
+                this, "forename2", WeirdFormat.class, String.class, 1);
         /**
          * The meta-property for the {@code forename3} property.
          */
         private final MetaProperty<String> forename3 = DirectMetaProperty.ofReadWrite(
-                this, "forename3", WeirdFormat.class, String.class);
+                this, "forename3", WeirdFormat.class, String.class, 2);
         /**
          * The meta-property for the {@code forename4} property.
          */
         private final MetaProperty<String> forename4 = DirectMetaProperty.ofReadWrite(
-                this, "forename4", WeirdFormat.class, String.class);
+                this, "forename4", WeirdFormat.class, String.class, 3);
         /**
          * The meta-property for the {@code forename5} property.
          */
         private final MetaProperty<String> forename5 = DirectMetaProperty.ofReadWrite(
-                this, "forename5", WeirdFormat.class, String.class);
+                this, "forename5", WeirdFormat.class, String.class, 4);
         /**
          * The meta-properties.
          */
@@ -396,6 +396,17 @@ public class WeirdFormat
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((WeirdFormat) bean).getForename1();
+            values[index++] = ((WeirdFormat) bean).getForename2();
+            values[index++] = ((WeirdFormat) bean).getForename3();
+            values[index++] = ((WeirdFormat) bean).getForename4();
+            values[index++] = ((WeirdFormat) bean).getForename5();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -187,13 +187,13 @@ public abstract class Wrapper<T extends Address> extends DirectBean {
          * The meta-property for the {@code type} property.
          */
         private final MetaProperty<String> type = DirectMetaProperty.ofReadWrite(
-                this, "type", Wrapper.class, String.class);
+                this, "type", Wrapper.class, String.class, 0);
         /**
          * The meta-property for the {@code content} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> content = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "content", Wrapper.class, Object.class);
+                this, "content", Wrapper.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -269,6 +269,14 @@ public abstract class Wrapper<T extends Address> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((Wrapper<?>) bean).getType();
+            values[index++] = ((Wrapper<?>) bean).getContent();
+            return index;
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -164,7 +164,7 @@ public class WrapperToDoubleGenerics<T extends DoubleGenericsSimpleSuper<String,
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> base = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "base", WrapperToDoubleGenerics.class, Object.class);
+                this, "base", WrapperToDoubleGenerics.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -222,6 +222,13 @@ public class WrapperToDoubleGenerics<T extends DoubleGenericsSimpleSuper<String,
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected int propertyGetAll(Bean bean, Object[] values) {
+            int index = super.propertyGetAll(bean, values);
+            values[index++] = ((WrapperToDoubleGenerics<?>) bean).getBase();
+            return index;
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.joda.beans.MetaBean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link SerBeanDefinitionCache}.
+ */
+class TestSerBeanDefinitionCache {
+
+    @Test
+    void test_find_fixedMetaBean() {
+        var count = new AtomicInteger();
+        var test = new SerBeanDefinitionCache<String>((metaBean, beanType) -> {
+            count.incrementAndGet();
+            return metaBean.beanName() + ":" + beanType.getSimpleName();
+        });
+        var bean = SerTestHelper.testImmAddress(false);
+        assertThat(test.find(bean)).isEqualTo(ImmAddress.class.getName() + ":ImmAddress");
+        assertThat(test.find(ImmAddress.class)).isEqualTo(ImmAddress.class.getName() + ":ImmAddress");
+        assertThat(count.get()).isEqualTo(1);
+    }
+
+    @Test
+    void test_find_dynamicBean() {
+        var test = new SerBeanDefinitionCache<MetaBean>((metaBean, beanType) -> metaBean);
+        assertThat(test.find(new FlexiBean())).isNull();
+        assertThat(test.find(FlexiBean.class)).isNull();
+        assertThat(test.find(String.class)).isNull();
+    }
+
+}
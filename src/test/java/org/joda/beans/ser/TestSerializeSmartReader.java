@@ -18,8 +18,12 @@ package org.joda.beans.ser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -29,6 +33,7 @@ import org.joda.beans.sample.ImmEmpty;
 import org.joda.beans.sample.ImmGuava;
 import org.joda.beans.sample.ImmOptional;
 import org.joda.beans.sample.SimpleJson;
+import org.joda.beans.ser.bin.JodaBeanBinFormat;
 import org.joda.beans.test.BeanAssert;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -90,6 +95,50 @@ class TestSerializeSmartReader {
         BeanAssert.assertBeanEquals(bean, roundtrip);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    void test_binaryPacked_immAddress() throws IOException {
+        ImmAddress bean = SerTestHelper.testImmAddress(false);
+        byte[] bytes = JodaBeanSer.PRETTY.binWriter(JodaBeanBinFormat.PACKED).write(bean);
+        assertThat(JodaBeanSer.PRETTY.smartReader().isKnownFormat(bytes)).isTrue();
+        Bean roundtrip = JodaBeanSer.PRETTY.smartReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, roundtrip);
+    }
+
+    @Test
+    void test_binaryPacked_collections() throws IOException {
+        ImmGuava<String> bean = SerTestHelper.testCollections(true);
+        byte[] bytes = JodaBeanSer.PRETTY.binWriter(JodaBeanBinFormat.PACKED).write(bean);
+        Bean roundtrip = JodaBeanSer.PRETTY.smartReader().read(new ByteArrayInputStream(bytes));
+        BeanAssert.assertBeanEquals(bean, roundtrip);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    void test_gzip_binary() throws IOException {
+        ImmAddress bean = SerTestHelper.testImmAddress(false);
+        byte[] bytes = gzip(JodaBeanSer.PRETTY.binWriter().write(bean));
+        assertThat(JodaBeanSer.PRETTY.smartReader().isKnownFormat(bytes)).isTrue();
+        assertThat(JodaBeanSer.PRETTY.smartReader().isKnownFormat(Arrays.copyOf(bytes, 128))).isTrue();
+        BeanAssert.assertBeanEquals(bean, JodaBeanSer.PRETTY.smartReader().read(bytes));
+        BeanAssert.assertBeanEquals(bean, JodaBeanSer.PRETTY.smartReader().read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void test_gzip_xml() throws IOException {
+        ImmAddress bean = SerTestHelper.testImmAddress(false);
+        byte[] bytes = gzip(JodaBeanSer.PRETTY.xmlWriter().write(bean).getBytes(StandardCharsets.UTF_8));
+        assertThat(JodaBeanSer.PRETTY.smartReader().isKnownFormat(bytes)).isTrue();
+        BeanAssert.assertBeanEquals(bean, JodaBeanSer.PRETTY.smartReader().read(bytes, ImmAddress.class));
+    }
+
+    @Test
+    void test_gzip_unknown() throws IOException {
+        byte[] bytes = gzip("Not a bean".getBytes(StandardCharsets.UTF_8));
+        assertThat(JodaBeanSer.PRETTY.smartReader().isKnownFormat(bytes)).isFalse();
+        assertThat(JodaBeanSer.PRETTY.smartReader().isKnownFormat(new byte[] {0x1f, (byte) 0x8b, 0x08})).isFalse();
+    }
+
     //-----------------------------------------------------------------------
     @Test
     void test_json_address() throws IOException {
@@ -190,7 +239,21 @@ class TestSerializeSmartReader {
         assertThat(JodaBeanSer.COMPACT.smartReader().isKnownFormat(bytes)).isTrue();
     }
 
+    @Test
+    void test_xml_beanBeyondPrefix() throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\"?>" + " ".repeat(128) + "<bean></bean>").getBytes(StandardCharsets.UTF_8);
+        assertThat(JodaBeanSer.COMPACT.smartReader().isKnownFormat(bytes)).isFalse();
+    }
+
     //-----------------------------------------------------------------------
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var out = new GZIPOutputStream(baos)) {
+            out.write(bytes);
+        }
+        return baos.toByteArray();
+    }
+
     private static <T extends Bean> void assertCharsets(JodaBeanSer settings, String text, T bean, Class<T> type) {
         byte[] json8Bytes = text.getBytes(StandardCharsets.UTF_8);
         assertThat(settings.smartReader().isKnownFormat(json8Bytes)).isTrue();
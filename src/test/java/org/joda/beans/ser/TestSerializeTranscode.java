@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.bin.JodaBeanBinFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test transcoding between formats using {@link SerBeanSink}.
+ */
+class TestSerializeTranscode {
+
+    static List<Bean> data_beans() {
+        return List.of(
+                SerTestHelper.testAddress(),
+                SerTestHelper.testImmOptional(),
+                SerTestHelper.testCollections(true),
+                SerTestHelper.testGenericInterfaces(),
+                SerTestHelper.testIntermediateInterfaces(),
+                SerTestHelper.testTree());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_beans")
+    void test_jsonToXml(Bean bean) {
+        var json = JodaBeanSer.PRETTY.jsonWriter().write(bean);
+        var buf = new StringBuilder();
+        JodaBeanSer.PRETTY.jsonReader().transcode(json, JodaBeanSer.PRETTY.xmlWriter().sink(buf));
+        assertThat(buf.toString()).isEqualTo(JodaBeanSer.PRETTY.xmlWriter().write(bean));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_beans")
+    void test_xmlToJson(Bean bean) {
+        var xml = JodaBeanSer.PRETTY.xmlWriter().write(bean);
+        var buf = new StringBuilder();
+        JodaBeanSer.PRETTY.xmlReader().transcode(xml, JodaBeanSer.PRETTY.jsonWriter().sink(buf));
+        assertThat(buf.toString()).isEqualTo(JodaBeanSer.PRETTY.jsonWriter().write(bean));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_beans")
+    void test_jsonToPacked(Bean bean) {
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        var binWriter = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.PACKED);
+        var baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.jsonReader().transcode(json, binWriter.sink(baos));
+        assertThat(baos.toByteArray()).isEqualTo(binWriter.write(bean));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_beans")
+    void test_xmlToPacked(Bean bean) {
+        var xml = JodaBeanSer.COMPACT.xmlWriter().write(bean);
+        var binWriter = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.PACKED);
+        var baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.xmlReader().transcode(xml, binWriter.sink(baos));
+        assertThat(baos.toByteArray()).isEqualTo(binWriter.write(bean));
+    }
+
+    @Test
+    void test_rootNotStreamable() {
+        var bean = new FlexiBean();
+        bean.set("a", "b");
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        var xml = JodaBeanSer.COMPACT.xmlWriter().write(bean);
+        var sink = JodaBeanSer.COMPACT.jsonWriter().sink(new StringBuilder());
+        assertThatIllegalArgumentException().isThrownBy(() -> JodaBeanSer.COMPACT.jsonReader().transcode(json, sink));
+        assertThatIllegalArgumentException().isThrownBy(() -> JodaBeanSer.COMPACT.xmlReader().transcode(xml, sink));
+    }
+
+    @Test
+    void test_jsonToPacked_outOfOrder() {
+        var json = "{\"@bean\":\"org.joda.beans.sample.Address\",\"street\":\"Park Street\",\"number\":1}";
+        var sink = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.PACKED).sink(new ByteArrayOutputStream());
+        assertThatIllegalArgumentException().isThrownBy(() -> JodaBeanSer.COMPACT.jsonReader().transcode(json, sink));
+    }
+
+    @Test
+    void test_binFormatNotSupported() {
+        var binWriter = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.STANDARD);
+        assertThatIllegalArgumentException().isThrownBy(() -> binWriter.sink(new ByteArrayOutputStream()));
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmKey;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link JodaBeanBinFileWriter} and {@link JodaBeanBinFileReader}.
+ */
+class TestBinFile {
+
+    @Test
+    void test_writeRead() throws IOException {
+        var address = SerTestHelper.testAddress();
+        var file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            var positions = new ArrayList<CompletableFuture<Long>>();
+            try (var writer = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.PACKED).fileWriter(file, 3)) {
+                for (var i = 0; i < 10; i++) {
+                    positions.add(writer.write(address));
+                }
+                positions.add(writer.write(ImmKey.builder().name("A").build()));
+                writer.flush().join();
+                assertThat(positions).allMatch(CompletableFuture::isDone);
+            }
+            assertThat(positions.get(0).join()).isZero();
+            assertThat(positions.get(1).join()).isGreaterThan(0);
+
+            try (var reader = JodaBeanSer.COMPACT.binReader().fileReader(file)) {
+                var beans = reader.readAll(Object.class).toList();
+                assertThat(beans).hasSize(11);
+                BeanAssert.assertBeanEquals(address, (Address) beans.get(9));
+                assertThat(beans.get(10)).isEqualTo(ImmKey.builder().name("A").build());
+                BeanAssert.assertBeanEquals(address, reader.read(positions.get(5).join(), Address.class));
+                assertThat(reader.read(positions.get(10).join(), ImmKey.class).getName()).isEqualTo("A");
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void test_append_largeBean() throws IOException {
+        var bean = ImmKey.builder().name("A".repeat(20_000)).build();
+        var file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            try (var writer = JodaBeanSer.COMPACT.binWriter().fileWriter(file, 1)) {
+                assertThat(writer.write(bean).join()).isZero();
+            }
+            long second;
+            try (var writer = JodaBeanSer.COMPACT.binWriter().fileWriter(file, 1)) {
+                second = writer.write(bean).join();
+            }
+            assertThat(second).isEqualTo(Files.size(file) / 2);
+            try (var reader = JodaBeanSer.COMPACT.binReader().fileReader(file)) {
+                assertThat(reader.readAll(Object.class).count()).isEqualTo(2);
+                assertThat(reader.read(second, ImmKey.class)).isEqualTo(bean);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void test_closed() throws IOException {
+        var file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            var writer = JodaBeanSer.COMPACT.binWriter().fileWriter(file, 1);
+            writer.close();
+            writer.close();
+            assertThatIllegalStateException().isThrownBy(() -> writer.write(SerTestHelper.testAddress()));
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> JodaBeanSer.COMPACT.binWriter().fileWriter(file, 0));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void test_read_truncated() throws IOException {
+        var file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            try (var writer = JodaBeanSer.COMPACT.binWriter().fileWriter(file, 1)) {
+                writer.write(SerTestHelper.testAddress());
+            }
+            var bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            try (var reader = JodaBeanSer.COMPACT.binReader().fileReader(file)) {
+                assertThatIllegalArgumentException().isThrownBy(() -> reader.readAll(Object.class).toList());
+                assertThatIllegalArgumentException().isThrownBy(() -> reader.read(bytes.length, Object.class));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void test_write_failure() throws IOException {
+        // writes to /dev/full fail with no space left on the device
+        var file = Path.of("/dev/full");
+        assumeTrue(Files.isWritable(file));
+        var writer = JodaBeanSer.COMPACT.binWriter().fileWriter(file, 100);
+        var first = writer.write(SerTestHelper.testAddress());
+        var second = writer.write(SerTestHelper.testAddress());
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> writer.flush().join());
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        // the writer rejects further records once a write has failed
+        assertThat(writer.write(SerTestHelper.testAddress())).isCompletedExceptionally();
+        assertThatIOException().isThrownBy(writer::close);
+    }
+
+    @Test
+    void test_read_lengthBeyondEndOfFile() throws IOException {
+        var file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            Files.write(file, new byte[] {0x7F, -1, -1, -1, 1, 2, 3});
+            try (var reader = JodaBeanSer.COMPACT.binReader().fileReader(file)) {
+                assertThatIllegalArgumentException()
+                        .isThrownBy(() -> reader.read(0, Object.class))
+                        .withMessageContaining("exceeds the end of the file");
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.joda.beans.sample.ImmKey;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.PrimitiveBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.ser.column.BeanColumnType;
+import org.joda.beans.test.BeanAssert;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Optional;
+
+/**
+ * Test roundtrip using the column-wise binary format.
+ */
+class TestSerializeColumnBin {
+
+    private static List<PrimitiveBean> primitiveBeans(int size) {
+        List<PrimitiveBean> beans = new ArrayList<>();
+        for (var i = 0; i < size; i++) {
+            var bean = new PrimitiveBean();
+            bean.setValueLong(1_700_000_000_000L + i * 1000L);
+            bean.setValueInt(i / 10);
+            bean.setValueShort((short) (i % 3));
+            bean.setValueByte((byte) -1);
+            bean.setValueDouble(i * 1.5d);
+            bean.setValueFloat(2.25f);
+            bean.setValueChar((char) ('a' + i % 26));
+            bean.setValueBoolean(i < size / 2);
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    @Test
+    void test_primitives() {
+        var beans = primitiveBeans(1000);
+        var bytes = JodaBeanSer.COMPACT.columnBinWriter().write(PrimitiveBean.meta(), beans);
+        var packed = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.PACKED).write(beans.get(0));
+        assertThat(bytes.length).isLessThan(packed.length * 1000 / 4);
+
+        var parsed = JodaBeanSer.COMPACT.columnBinReader().read(bytes, PrimitiveBean.class);
+        assertThat(parsed).hasSize(1000);
+        for (var i = 0; i < 1000; i++) {
+            BeanAssert.assertBeanEquals(beans.get(i), parsed.get(i));
+        }
+    }
+
+    @Test
+    void test_extremes() {
+        List<PrimitiveBean> beans = new ArrayList<>();
+        for (var value : new long[] {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, Long.MIN_VALUE, 1L << 40}) {
+            var bean = new PrimitiveBean();
+            bean.setValueLong(value);
+            bean.setValueInt((int) value);
+            bean.setValueDouble(Double.longBitsToDouble(value));
+            beans.add(bean);
+        }
+        var bytes = JodaBeanSer.COMPACT.columnBinWriter().write(PrimitiveBean.meta(), beans);
+        var parsed = JodaBeanSer.COMPACT.columnBinReader().read(bytes, PrimitiveBean.class);
+        for (var i = 0; i < beans.size(); i++) {
+            BeanAssert.assertBeanEquals(beans.get(i), parsed.get(i));
+        }
+    }
+
+    @Test
+    void test_dictionaryAndOptional() {
+        var keys = List.of(
+                ImmKey.builder().name("A").build(),
+                ImmKey.builder().name("B").build(),
+                ImmKey.builder().name("A").build());
+        var keyBytes = JodaBeanSer.COMPACT.columnBinWriter().write(ImmKey.meta(), keys);
+        assertThat(JodaBeanSer.COMPACT.columnBinReader().read(keyBytes, ImmKey.class)).isEqualTo(keys);
+
+        var bean1 = SerTestHelper.testImmOptional();
+        var bean2 = ImmOptional.builder().optString(Optional.of("B")).optLongGetter(6L).build();
+        var bytes = JodaBeanSer.COMPACT.columnBinWriter().write(ImmOptional.meta(), List.of(bean1, bean2));
+        var parsed = JodaBeanSer.COMPACT.columnBinReader().read(bytes, ImmOptional.class);
+        BeanAssert.assertBeanEquals(bean1, parsed.get(0));
+        BeanAssert.assertBeanEquals(bean2, parsed.get(1));
+    }
+
+    @Test
+    void test_projection() {
+        var beans = primitiveBeans(100);
+        var bytes = JodaBeanSer.COMPACT.columnBinWriter().write(PrimitiveBean.meta(), beans);
+        var columns = JodaBeanSer.COMPACT.columnBinReader().readColumns(bytes, List.of("valueInt", "valueLong"));
+        assertThat(columns.rowCount()).isEqualTo(100);
+        assertThat(columns.columns()).hasSize(2);
+        assertThat(columns.columns().get(0).name()).isEqualTo("valueLong");
+        assertThat(columns.column("valueInt").ints()[55]).isEqualTo(5);
+        assertThat(columns.column("valueLong").longs()[99]).isEqualTo(1_700_000_099_000L);
+        assertThat(columns.columnExists("valueDouble")).isFalse();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().readColumns(bytes, Set.of("unknown")));
+    }
+
+    @Test
+    void test_projection_channel() throws IOException {
+        var beans = primitiveBeans(100);
+        var file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            Files.write(file, JodaBeanSer.COMPACT.columnBinWriter().write(PrimitiveBean.meta(), beans));
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                var columns = JodaBeanSer.COMPACT.columnBinReader().readColumns(channel, Set.of("valueDouble"));
+                assertThat(columns.columns()).hasSize(1);
+                assertThat(columns.column("valueDouble").type()).isEqualTo(BeanColumnType.DOUBLE);
+                assertThat(columns.column("valueDouble").doubles()[3]).isEqualTo(4.5d);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void test_empty() {
+        var bytes = JodaBeanSer.COMPACT.columnBinWriter().write(ImmKey.meta(), List.of());
+        assertThat(JodaBeanSer.COMPACT.columnBinReader().read(bytes, ImmKey.class)).isEmpty();
+    }
+
+    @Test
+    void test_invalid() {
+        var bytes = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.PACKED).write(ImmKey.builder().name("A").build());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().readColumns(bytes));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().readColumns(new byte[3]));
+    }
+
+    @Test
+    void test_invalid_negativeDictionarySize() {
+        var keys = List.of(ImmKey.builder().name("A").build(), ImmKey.builder().name("B").build());
+        var bytes = JodaBeanSer.COMPACT.columnBinWriter().write(ImmKey.meta(), keys);
+        // replace the dictionary header, fixed array of size 2 before strings "A" and "B", with a negative 32-bit size
+        var header = new byte[] {(byte) (BeanPack.MIN_FIX_ARRAY + 2), (byte) (BeanPack.MIN_FIX_STR + 1), 'A'};
+        var pos = indexOf(bytes, header);
+        assertThat(pos).isNotNegative();
+        var corrupt = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, corrupt, 0, pos);
+        corrupt[pos] = (byte) BeanPack.ARRAY_32;
+        Arrays.fill(corrupt, pos + 1, pos + 5, (byte) 0xFF);
+        System.arraycopy(bytes, pos + 1, corrupt, pos + 5, bytes.length - pos - 1);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().read(corrupt, ImmKey.class))
+                .withMessageContaining("Negative size");
+    }
+
+    @Test
+    void test_invalid_footerRowCount() {
+        var keys = List.of(ImmKey.builder().name("A").build(), ImmKey.builder().name("B").build());
+        var keyBytes = JodaBeanSer.COMPACT.columnBinWriter().write(ImmKey.meta(), keys);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().readColumns(withRowCount(keyBytes, -1)))
+                .withMessageContaining("Negative size");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().readColumns(withRowCount(keyBytes, Integer.MAX_VALUE)))
+                .withMessageContaining("Size exceeds column block");
+
+        var primitiveBytes = JodaBeanSer.COMPACT.columnBinWriter().write(PrimitiveBean.meta(), primitiveBeans(10));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnBinReader().readColumns(withRowCount(primitiveBytes, Integer.MAX_VALUE)));
+    }
+
+    // replaces the single byte row count at the start of the footer with a 32-bit row count
+    private static byte[] withRowCount(byte[] bytes, int rowCount) {
+        var buf = ByteBuffer.wrap(bytes);
+        var footerLength = buf.getInt(bytes.length - 4);
+        var rowCountPos = bytes.length - 4 - footerLength + 1;
+        var corrupt = ByteBuffer.allocate(bytes.length + 4);
+        corrupt.put(bytes, 0, rowCountPos);
+        corrupt.put((byte) BeanPack.INT_32);
+        corrupt.putInt(rowCount);
+        corrupt.put(bytes, rowCountPos + 1, bytes.length - 4 - rowCountPos - 1);
+        corrupt.putInt(footerLength + 4);
+        return corrupt.array();
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (var i = 0; i <= bytes.length - target.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
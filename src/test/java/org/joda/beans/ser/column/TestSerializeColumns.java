@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.column;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.sample.ImmKey;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.PrimitiveBean;
+import org.joda.beans.sample.SimpleJson;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Optional;
+
+/**
+ * Test roundtrip using columns.
+ */
+class TestSerializeColumns {
+
+    @Test
+    void test_primitives() {
+        List<PrimitiveBean> beans = new ArrayList<>();
+        for (var i = 0; i < 5; i++) {
+            var bean = new PrimitiveBean();
+            bean.setValueLong(i * 1000L);
+            bean.setValueInt(i);
+            bean.setValueShort((short) (i + 1));
+            bean.setValueByte((byte) (i + 2));
+            bean.setValueDouble(i + 0.5d);
+            bean.setValueFloat(i + 0.25f);
+            bean.setValueChar((char) ('a' + i));
+            bean.setValueBoolean(i % 2 == 0);
+            beans.add(bean);
+        }
+        var columns = JodaBeanSer.COMPACT.columnWriter().write(PrimitiveBean.meta(), beans);
+        assertThat(columns.rowCount()).isEqualTo(5);
+        assertThat(columns.columns()).hasSize(8);
+        assertThat(columns.column("valueLong").longs()).containsExactly(0, 1000, 2000, 3000, 4000);
+        assertThat(columns.column("valueInt").ints()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(columns.column("valueDouble").doubles()).containsExactly(0.5d, 1.5d, 2.5d, 3.5d, 4.5d);
+        assertThat(columns.column("valueFloat").type()).isEqualTo(BeanColumnType.DOUBLE);
+        assertThat(columns.column("valueChar").ints()).containsExactly('a', 'b', 'c', 'd', 'e');
+        assertThat(columns.column("valueBoolean").ints()).containsExactly(1, 0, 1, 0, 1);
+        assertThatIllegalStateException().isThrownBy(() -> columns.column("valueInt").doubles());
+
+        var parsed = JodaBeanSer.COMPACT.columnReader().read(columns, PrimitiveBean.class);
+        assertThat(parsed).hasSize(5);
+        for (var i = 0; i < 5; i++) {
+            BeanAssert.assertBeanEquals(beans.get(i), parsed.get(i));
+        }
+    }
+
+    @Test
+    void test_dictionary() {
+        var beans = List.of(
+                ImmKey.builder().name("A").build(),
+                ImmKey.builder().name("B").build(),
+                ImmKey.builder().name("A").build());
+        var columns = JodaBeanSer.COMPACT.columnWriter().write(ImmKey.meta(), beans);
+        var column = columns.column("name");
+        assertThat(column.type()).isEqualTo(BeanColumnType.DICTIONARY);
+        assertThat(column.dictionary()).containsExactly("A", "B");
+        assertThat(column.codes()).containsExactly(0, 1, 0);
+
+        var parsed = JodaBeanSer.COMPACT.columnReader().read(columns, ImmKey.class);
+        assertThat(parsed).isEqualTo(beans);
+    }
+
+    @Test
+    void test_optional() {
+        var bean1 = SerTestHelper.testImmOptional();
+        var bean2 = ImmOptional.builder().optString(Optional.of("B")).optLongGetter(6L).build();
+        var columns = JodaBeanSer.COMPACT.columnWriter().write(ImmOptional.meta(), List.of(bean1, bean2));
+        assertThat(columns.column("optString").codes()).containsExactly(0, 1);
+        assertThat(columns.column("optStringEmpty").codes()).containsExactly(-1, -1);
+
+        var parsed = JodaBeanSer.COMPACT.columnReader().read(columns, ImmOptional.class);
+        BeanAssert.assertBeanEquals(bean1, parsed.get(0));
+        BeanAssert.assertBeanEquals(bean2, parsed.get(1));
+    }
+
+    @Test
+    void test_empty() {
+        var columns = JodaBeanSer.COMPACT.columnWriter().write(ImmKey.meta(), List.of());
+        assertThat(columns.rowCount()).isEqualTo(0);
+        assertThat(JodaBeanSer.COMPACT.columnReader().read(columns, ImmKey.class)).isEmpty();
+    }
+
+    @Test
+    void test_invalid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnWriter().write(SimpleJson.meta(), List.of(SerTestHelper.testSimpleJson())));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnWriter().write(ImmKey.meta(), List.of(SerTestHelper.testImmOptional())));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BeanColumns.of(2, List.of(BeanColumn.ofInts("a", new int[1]))));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BeanColumn.ofDictionary("a", new String[] {"A"}, new int[] {1}));
+    }
+
+    @Test
+    void test_typeMismatch() {
+        var columns = BeanColumns.of(1, List.of(BeanColumn.ofDoubles("valueInt", new double[] {1.5d})));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnReader().read(columns, PrimitiveBean.class))
+                .withMessageContaining("valueInt")
+                .withMessageContaining("DOUBLE")
+                .withMessageContaining("int");
+        var longColumns = BeanColumns.of(1, List.of(BeanColumn.ofLongs("valueShort", new long[] {1L})));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.columnReader().read(longColumns, PrimitiveBean.class));
+    }
+
+}
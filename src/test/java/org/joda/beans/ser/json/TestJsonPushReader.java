@@ -0,0 +1,155 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test {@link JodaBeanJsonPushReader}.
+ */
+class TestJsonPushReader {
+
+    @Test
+    void test_feed_singleBytes() {
+        var bean = SerTestHelper.testImmAddress(false);
+        var json = JodaBeanSer.PRETTY.jsonWriter().write(bean).trim();
+        var bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(ImmAddress.class);
+        List<ImmAddress> parsed = new ArrayList<>();
+        for (var b : bytes) {
+            assertThat(parsed).isEmpty();
+            parsed.addAll(reader.feed(ByteBuffer.wrap(new byte[] {b})));
+        }
+        assertThat(parsed).hasSize(1);
+        BeanAssert.assertBeanEquals(bean, parsed.get(0));
+        assertThat(reader.isIncomplete()).isFalse();
+        reader.finish();
+    }
+
+    @Test
+    void test_feed_multipleBeansInChunks() {
+        var bean = new FlexiBean();
+        bean.set("text", "Aé€😀 \"}]{[\\");
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        var bytes = (json + json + "  " + json).getBytes(StandardCharsets.UTF_8);
+
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(Bean.class);
+        List<Bean> parsed = new ArrayList<>();
+        for (var i = 0; i < bytes.length; i += 7) {
+            parsed.addAll(reader.feed(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i))));
+        }
+        reader.finish();
+        assertThat(parsed).hasSize(3);
+        for (var item : parsed) {
+            BeanAssert.assertBeanEquals(bean, item);
+        }
+    }
+
+    @Test
+    void test_feed_text() {
+        var bean = SerTestHelper.testImmAddress(false);
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(ImmAddress.class);
+        assertThat(reader.feed(json.substring(0, 20))).isEmpty();
+        assertThat(reader.isIncomplete()).isTrue();
+        assertThatIllegalArgumentException().isThrownBy(reader::finish);
+        var parsed = reader.feed(json.substring(20));
+        assertThat(parsed).hasSize(1);
+        BeanAssert.assertBeanEquals(bean, parsed.get(0));
+    }
+
+    @Test
+    void test_feed_invalid() {
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(Bean.class);
+        assertThatIllegalArgumentException().isThrownBy(() -> reader.feed("[]"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.jsonPushReader(Bean.class).feed(ByteBuffer.wrap(new byte[] {(byte) 0xFF})));
+    }
+
+    public static Object[][] data_invalidUtf8() {
+        return new Object[][] {
+                {new byte[] {(byte) 0xC0, (byte) 0xA2}},  // overlong quote
+                {new byte[] {(byte) 0xC0, (byte) 0x80}},  // overlong NUL
+                {new byte[] {(byte) 0xE0, (byte) 0x80, (byte) 0xA2}},  // overlong quote
+                {new byte[] {(byte) 0xED, (byte) 0xA0, (byte) 0x80}},  // surrogate
+                {new byte[] {(byte) 0xED, (byte) 0xBF, (byte) 0xBF}},  // surrogate
+                {new byte[] {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}},  // above U+10FFFF
+                {new byte[] {(byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80}},  // above U+10FFFF
+                {new byte[] {(byte) 0xF7, (byte) 0xBF, (byte) 0xBF, (byte) 0xBF}},  // above U+10FFFF
+                {new byte[] {(byte) 0x80}},  // unexpected continuation
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalidUtf8")
+    void test_feed_invalidUtf8(byte[] invalid) {
+        var start = "{\"a\":\"".getBytes(StandardCharsets.UTF_8);
+        var end = "\"}".getBytes(StandardCharsets.UTF_8);
+        var bytes = new byte[start.length + invalid.length + end.length];
+        System.arraycopy(start, 0, bytes, 0, start.length);
+        System.arraycopy(invalid, 0, bytes, start.length, invalid.length);
+        System.arraycopy(end, 0, bytes, start.length + invalid.length, end.length);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.jsonPushReader(Bean.class).feed(ByteBuffer.wrap(bytes)));
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(Bean.class);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> {
+                    for (var b : bytes) {
+                        reader.feed(ByteBuffer.wrap(new byte[] {b}));
+                    }
+                });
+    }
+
+    @Test
+    void test_feed_incompleteUtf8() {
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(Bean.class);
+        assertThat(reader.feed(ByteBuffer.wrap(new byte[] {(byte) 0xE2, (byte) 0x82}))).isEmpty();
+        assertThat(reader.isIncomplete()).isTrue();
+        assertThatIllegalArgumentException().isThrownBy(reader::finish);
+    }
+
+    @Test
+    void test_feed_invalidAfterCompletedBeans() {
+        var bean = new FlexiBean();
+        bean.set("a", "b");
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        var reader = JodaBeanSer.COMPACT.jsonPushReader(Bean.class);
+        var parsed = reader.feed(json + json + "{\"a\":}");
+        assertThat(parsed).hasSize(2);
+        BeanAssert.assertBeanEquals(bean, parsed.get(0));
+        BeanAssert.assertBeanEquals(bean, parsed.get(1));
+        assertThatIllegalArgumentException().isThrownBy(() -> reader.feed(json));
+        assertThatIllegalArgumentException().isThrownBy(reader::finish);
+    }
+
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
@@ -113,6 +114,52 @@ class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, oldParsed);
     }
 
+    @Test
+    void test_readWrite_numericArrays() {
+        var bean = ImmArrays.of(
+                new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17},
+                new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE},
+                new double[] {1.5, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0d, 3},
+                new boolean[] {},
+                new int[][] {},
+                new boolean[][] {});
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        assertThat(json).contains("\"intArray\":[-2147483648,0,2147483647,4,");
+        assertThat(json).contains("\"doubleArray\":[1.5,\"NaN\",\"Infinity\",\"-Infinity\",-0.0,3.0]");
+        var parsed = JodaBeanSer.COMPACT.jsonReader().read(json, ImmArrays.class);
+        BeanAssert.assertBeanEquals(bean, parsed);
+
+        var literalJson = JodaBeanSer.COMPACT.withJsonNumberFormat(JodaBeanJsonNumberFormat.LITERAL).jsonWriter().write(bean);
+        var literalParsed = JodaBeanSer.COMPACT.jsonReader().read(literalJson, ImmArrays.class);
+        BeanAssert.assertBeanEquals(bean, literalParsed);
+
+        var nullIntJson = json.replace("\"intArray\":[-2147483648,", "\"intArray\":[null,");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.jsonReader().read(nullIntJson, ImmArrays.class))
+                .withMessageContaining("Expected int, but was null");
+        var nullLongJson = json.replace("\"longArray\":[-9223372036854775808,", "\"longArray\":[null,");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.jsonReader().read(nullLongJson, ImmArrays.class))
+                .withMessageContaining("Expected long, but was null");
+    }
+
+    @Test
+    void test_readWrite_doubleMatrix() {
+        var matrix = new double[][] {{1.1, 2.2, 3.3}, {4.4, 5.5, 6.6}, null, {}};
+        var bean = SerTestHelper.testImmAddress(false).toBuilder().matrix(matrix).build();
+        var json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        assertThat(json).contains("\"matrix\":[[1.1,2.2,3.3],[4.4,5.5,6.6],null,[]]");
+        var parsed = JodaBeanSer.COMPACT.jsonReader().read(json, ImmAddress.class);
+        assertThat(parsed.getMatrix()).isDeepEqualTo(matrix);
+
+        var flexi = new FlexiBean();
+        flexi.set("matrix", matrix);
+        var flexiJson = JodaBeanSer.COMPACT.jsonWriter().write(flexi);
+        assertThat(flexiJson).contains("{\"@meta\":\"double[][]\",\"value\":[[1.1,2.2,3.3],[4.4,5.5,6.6],null,[]]}");
+        var flexiParsed = (FlexiBean) JodaBeanSer.COMPACT.jsonReader().read(flexiJson);
+        assertThat((double[][]) flexiParsed.get("matrix")).isDeepEqualTo(matrix);
+    }
+
     @Test
     void test_writeCollections() throws IOException {
         var bean = SerTestHelper.testCollections(true);
@@ -138,6 +185,21 @@ class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    @Test
+    void test_write_outputStream() throws IOException {
+        var bean = SerTestHelper.testImmAddress(false);
+        var out = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.jsonWriter().writeToStream(bean, out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(JodaBeanSer.PRETTY.jsonWriter().write(bean));
+
+        var compactOut = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.jsonWriter().writeToStream(bean, compactOut);
+        assertThat(compactOut.toString(StandardCharsets.UTF_8)).isEqualTo(JodaBeanSer.COMPACT.jsonWriter().write(bean));
+
+        var parsed = JodaBeanSer.COMPACT.jsonReader().read(new StringReader(compactOut.toString(StandardCharsets.UTF_8)));
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
     private void assertEqualsSerialization(String json, String expectedResource) throws IOException {
         var url = TestSerializeJson.class.getResource(expectedResource);
         var expected = Resources.asCharSource(url, StandardCharsets.UTF_8).read();
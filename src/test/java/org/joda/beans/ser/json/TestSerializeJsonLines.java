@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.joda.beans.Bean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test roundtrip using JSON Lines.
+ */
+class TestSerializeJsonLines {
+
+    @Test
+    void test_roundTrip() throws IOException {
+        var address = SerTestHelper.testAddress();
+        var immAddress = SerTestHelper.testImmAddress(false);
+        var buf = new StringBuilder();
+        JodaBeanSer.PRETTY.jsonLinesWriter().writeAll(List.of(address, immAddress, address), buf);
+        var json = buf.toString();
+        var lines = json.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo(lines[2]);
+
+        var parsed = JodaBeanSer.COMPACT.jsonLinesReader().read(json).toList();
+        assertThat(parsed).hasSize(3);
+        BeanAssert.assertBeanEquals(address, parsed.get(0));
+        BeanAssert.assertBeanEquals(immAddress, parsed.get(1));
+        BeanAssert.assertBeanEquals(address, parsed.get(2));
+
+        // each line can be parsed independently
+        var line = JodaBeanSer.COMPACT.jsonReader().read(lines[1], ImmAddress.class);
+        BeanAssert.assertBeanEquals(immAddress, line);
+    }
+
+    @Test
+    void test_read_inputStream() throws IOException {
+        var address = SerTestHelper.testAddress();
+        var buf = new StringBuilder();
+        var writer = JodaBeanSer.COMPACT.jsonLinesWriter();
+        writer.write(address, buf);
+        writer.write(address, buf);
+        var bytes = ("\n" + buf + "\r\n  \n").getBytes(StandardCharsets.UTF_8);
+
+        var parsed = JodaBeanSer.COMPACT.jsonLinesReader()
+                .read(new ByteArrayInputStream(bytes), Address.class)
+                .toList();
+        assertThat(parsed).hasSize(2);
+        BeanAssert.assertBeanEquals(address, parsed.get(0));
+        BeanAssert.assertBeanEquals(address, parsed.get(1));
+    }
+
+    @Test
+    void test_read_empty() {
+        assertThat(JodaBeanSer.COMPACT.jsonLinesReader().read("")).isEmpty();
+        assertThat(JodaBeanSer.COMPACT.jsonLinesReader().read(" \n\n")).isEmpty();
+    }
+
+    @Test
+    void test_read_lazy() throws IOException {
+        var buf = new StringBuilder();
+        JodaBeanSer.COMPACT.jsonLinesWriter().write(SerTestHelper.testAddress(), buf);
+        var json = buf + "{\"@bean\":";
+        var first = JodaBeanSer.COMPACT.jsonLinesReader().read(json, Bean.class).findFirst();
+        assertThat(first).isPresent();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.COMPACT.jsonLinesReader().read(json, Bean.class).toList());
+    }
+
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
@@ -133,6 +134,17 @@ class TestSerializeJsonSimple {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    @Test
+    void test_write_outputStream() throws IOException {
+        var bean = SerTestHelper.testSimpleJson();
+        var out = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.simpleJsonWriter().writeToStream(bean, out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(JodaBeanSer.PRETTY.simpleJsonWriter().write(bean));
+
+        var parsed = JodaBeanSer.PRETTY.simpleJsonReader().read(out.toString(StandardCharsets.UTF_8), SimpleJson.class);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
     private void assertEqualsSerialization(String json, String expectedResource) throws IOException {
         var url = TestSerializeJson.class.getResource(expectedResource);
         var expected = Resources.asCharSource(url, StandardCharsets.UTF_8).read();
@@ -16,10 +16,14 @@
 package org.joda.beans.ser.map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -74,6 +78,113 @@ class TestSerializeSimpleMap {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    void test_writeLazy() {
+        SimpleJson bean = SerTestHelper.testSimpleJson();
+        Map<String, Object> eager = JodaBeanSer.PRETTY.simpleMapWriter().write(bean);
+        Map<String, Object> lazy = JodaBeanSer.PRETTY.simpleMapWriter().writeLazy(bean);
+        assertThat(lazy).isEqualTo(eager);
+        assertThat(eager).isEqualTo(lazy);
+        assertThat(lazy.hashCode()).isEqualTo(eager.hashCode());
+        assertThat(lazy.keySet()).containsExactlyElementsOf(eager.keySet());
+        assertThat(lazy.get("primitiveInt")).isEqualTo(eager.get("primitiveInt"));
+        assertThat(lazy.get("unknown")).isNull();
+        assertThat(lazy.containsKey("unknown")).isFalse();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> lazy.put("primitiveInt", 1));
+
+        SimpleJson parsed = JodaBeanSer.PRETTY.simpleMapReader().read(lazy, SimpleJson.class);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    @Test
+    void test_writeLazy_nested() {
+        var bean = SerTestHelper.testAddress();
+        Map<String, Object> eager = JodaBeanSer.PRETTY.simpleMapWriter().write(bean);
+        Map<String, Object> lazy = JodaBeanSer.PRETTY.simpleMapWriter().writeLazy(bean);
+        assertThat(lazy).isEqualTo(eager);
+        assertThat(lazy.get("owner")).isInstanceOf(Map.class).isNotInstanceOf(LinkedHashMap.class);
+        assertThat(lazy.get("owner")).isEqualTo(eager.get("owner"));
+    }
+
+    @Test
+    void test_writeLazy_mutable() {
+        FlexiBean bean = new FlexiBean();
+        Map<String, Object> lazy = JodaBeanSer.PRETTY.simpleMapWriter().writeLazy(bean);
+        assertThat(lazy).isEmpty();
+        bean.set("name", "Stephen");
+        assertThat(lazy).containsExactly(entry("name", "Stephen"));
+        bean.set("name", null);
+        assertThat(lazy).isEmpty();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    void test_readAll() {
+        var writer = JodaBeanSer.PRETTY.simpleMapWriter();
+        List<SimpleJson> beans = new ArrayList<>();
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (var i = 0; i < 100; i++) {
+            var bean = SerTestHelper.testSimpleJson().toBuilder().primitiveInt(i).build();
+            beans.add(bean);
+            maps.add(writer.write(bean));
+        }
+        var reader = JodaBeanSer.PRETTY.simpleMapReader();
+        var parsed = reader.readAll(maps, SimpleJson.class);
+        var parsedParallel = reader.readAllParallel(maps, SimpleJson.class);
+        assertThat(parsed).hasSize(100);
+        assertThat(parsedParallel).hasSize(100);
+        for (var i = 0; i < 100; i++) {
+            BeanAssert.assertBeanEquals(beans.get(i), parsed.get(i));
+            BeanAssert.assertBeanEquals(beans.get(i), parsedParallel.get(i));
+        }
+    }
+
+    @Test
+    void test_readAll_reuseReader() {
+        var reader = JodaBeanSer.PRETTY.simpleMapReader();
+        var flexi1 = new FlexiBean();
+        flexi1.set("a", "x");
+        var flexi2 = new FlexiBean();
+        flexi2.set("b", "y");
+        var parsed = reader.readAll(List.of(Map.of("a", "x"), Map.of("b", "y")), FlexiBean.class);
+        BeanAssert.assertBeanEquals(flexi1, parsed.get(0));
+        BeanAssert.assertBeanEquals(flexi2, parsed.get(1));
+
+        var bean = SerTestHelper.testSimpleJson();
+        var map = JodaBeanSer.PRETTY.simpleMapWriter().write(bean);
+        for (var i = 0; i < 2; i++) {
+            BeanAssert.assertBeanEquals(bean, reader.read(map, SimpleJson.class));
+        }
+    }
+
+    @Test
+    void test_readAll_nestedBeansAndCollections() {
+        var writer = JodaBeanSer.PRETTY.simpleMapWriter();
+        var reader = JodaBeanSer.PRETTY.simpleMapReader();
+        var homeAddress = new Address();
+        homeAddress.setNumber(65432);
+        homeAddress.setStreet("Big Road");
+        var person = new Person();
+        person.setSurname("Colebourne");
+        person.setNumberOfCars(2);
+        person.getAddressList().add(homeAddress);
+        var address = new Address();
+        address.setNumber(251);
+        address.setOwner(person);
+        var addressMap = writer.write(address);
+        var parsedAddresses = reader.readAll(List.of(addressMap, addressMap), Address.class);
+        BeanAssert.assertBeanEquals(address, parsedAddresses.get(0));
+        BeanAssert.assertBeanEquals(address, parsedAddresses.get(1));
+
+        var collections = SerTestHelper.testCollections(false);
+        var collectionsMap = writer.write(collections);
+        @SuppressWarnings("rawtypes")
+        var parsedCollections = reader.readAll(List.of(collectionsMap, collectionsMap), ImmGuava.class);
+        BeanAssert.assertBeanEquals(collections, parsedCollections.get(0));
+        BeanAssert.assertBeanEquals(collections, parsedCollections.get(1));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     void test_readWriteBeanEmptyChild() {
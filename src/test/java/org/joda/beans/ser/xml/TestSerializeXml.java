@@ -19,8 +19,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 
 import org.joda.beans.Bean;
@@ -76,6 +79,18 @@ class TestSerializeXml {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    @Test
+    void test_writeToStream() throws IOException {
+        var bean = SerTestHelper.testImmAddress(false);
+        var baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.xmlWriter().writeToStream(bean, baos);
+        var xml = baos.toString(StandardCharsets.UTF_8);
+        assertThat(xml).isEqualTo(JodaBeanSer.PRETTY.xmlWriter().write(bean));
+
+        var parsed = JodaBeanSer.PRETTY.xmlReader().read(new ByteArrayInputStream(baos.toByteArray()), ImmAddress.class);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
     @Test
     void test_writeImmAddress() throws IOException {
         var bean = SerTestHelper.testImmAddress(false);
@@ -190,6 +205,96 @@ class TestSerializeXml {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    @Test
+    void test_read_reuseReader() {
+        var reader = JodaBeanSer.PRETTY.xmlReader();
+        var address = SerTestHelper.testAddress();
+        var immAddress = SerTestHelper.testImmAddress(false);
+        for (var i = 0; i < 2; i++) {
+            BeanAssert.assertBeanEquals(address, reader.read(JodaBeanSer.PRETTY.xmlWriter().write(address)));
+            BeanAssert.assertBeanEquals(immAddress, reader.read(JodaBeanSer.PRETTY.xmlWriter().write(immAddress)));
+        }
+        var flexi = new FlexiBean();
+        flexi.set("a", "x");
+        BeanAssert.assertBeanEquals(flexi, reader.read(JodaBeanSer.PRETTY.xmlWriter().write(flexi)));
+        var flexi2 = new FlexiBean();
+        flexi2.set("b", "y");
+        BeanAssert.assertBeanEquals(flexi2, reader.read(JodaBeanSer.PRETTY.xmlWriter().write(flexi2)));
+    }
+
+    @Test
+    void test_readAll() {
+        var address = SerTestHelper.testAddress();
+        var immAddress = SerTestHelper.testImmAddress(false);
+        var xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans>\n" +
+                stripHeader(JodaBeanSer.PRETTY.xmlWriter().write(address)) +
+                "<!-- comment -->\n" +
+                stripHeader(JodaBeanSer.PRETTY.xmlWriter().write(immAddress)) +
+                stripHeader(JodaBeanSer.PRETTY.xmlWriter().write(address)) +
+                "</beans>\n";
+
+        var parsed = JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader(xml), Bean.class).toList();
+        assertThat(parsed).hasSize(3);
+        BeanAssert.assertBeanEquals(address, parsed.get(0));
+        BeanAssert.assertBeanEquals(immAddress, parsed.get(1));
+        BeanAssert.assertBeanEquals(address, parsed.get(2));
+
+        var bytes = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+        try (var stream = JodaBeanSer.PRETTY.xmlReader().readAll(bytes, Bean.class)) {
+            assertThat(stream.findFirst()).hasValueSatisfying(bean -> BeanAssert.assertBeanEquals(address, bean));
+        }
+    }
+
+    @Test
+    void test_readAll_empty() {
+        assertThat(JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader("<beans/>"), Bean.class)).isEmpty();
+        assertThat(JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader("<beans></beans>"), Bean.class)).isEmpty();
+    }
+
+    @Test
+    void test_readAll_invalid() {
+        var xml = "<beans><item/></beans>";
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader(xml), Bean.class).toList());
+    }
+
+    @Test
+    void test_readAll_elementName() {
+        var address1 = SerTestHelper.testImmAddress(false);
+        var address2 = SerTestHelper.testImmAddress(true);
+        var xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<doc>\n<header><count>2</count></header>\n<addresses>\n" +
+                asElement(address1, "address") +
+                "<!-- comment -->\n" +
+                asElement(address2, "address") +
+                "</addresses>\n</doc>\n";
+
+        var parsed = JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader(xml), "address", ImmAddress.class).toList();
+        assertThat(parsed).hasSize(2);
+        BeanAssert.assertBeanEquals(address1, parsed.get(0));
+        BeanAssert.assertBeanEquals(address2, parsed.get(1));
+
+        var bytes = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+        assertThat(JodaBeanSer.PRETTY.xmlReader().readAll(bytes, "address", ImmAddress.class).count()).isEqualTo(2);
+        assertThat(JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader(xml), "other", ImmAddress.class)).isEmpty();
+    }
+
+    @Test
+    void test_readAll_elementName_incompatibleType() {
+        var xml = "<doc><address type=\"org.joda.beans.sample.ImmPerson\"/></doc>";
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> JodaBeanSer.PRETTY.xmlReader().readAll(new StringReader(xml), "address", ImmAddress.class).toList());
+    }
+
+    private static String asElement(Bean bean, String elementName) {
+        return stripHeader(JodaBeanSer.PRETTY.xmlWriter().write(bean, false))
+                .replace("<bean>", "<" + elementName + ">")
+                .replace("</bean>", "</" + elementName + ">");
+    }
+
+    private static String stripHeader(String xml) {
+        return xml.substring(xml.indexOf("?>") + 2).trim() + "\n";
+    }
+
     @Test
     void test_read_primitiveTypeChanged() throws IOException {
         var xml = "<bean><a>6</a><b>5</b></bean>";